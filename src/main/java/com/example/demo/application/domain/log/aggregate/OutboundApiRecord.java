@@ -106,12 +106,31 @@ public class OutboundApiRecord {
 	 * <li>SAVED: 初始建立，尚未呼叫</li>
 	 * <li>SUCCESS: 成功</li>
 	 * <li>FAILED: 失敗</li>
+	 * <li>SHORT_CIRCUITED: 斷路器開啟，未呼叫外部系統</li>
+	 * <li>REJECTED: 超過並行上限，未呼叫外部系統</li>
+	 * <li>CANCELLED: 其他呼叫先成功，本次呼叫被取消</li>
+	 * <li>DEADLINE_EXCEEDED: 超過 Inbound 請求期限</li>
 	 * </ul>
 	 */
 	@Enumerated(EnumType.STRING)
 	@Column(name = "status")
 	private OutboundApiStatus status;
 
+	/**
+	 * 上層紀錄 ID
+	 * <p>
+	 * 同一次邏輯呼叫送出多次實際呼叫時（例如對沖請求），後續呼叫指向第一次呼叫的紀錄
+	 * </p>
+	 */
+	@Column(name = "parent_record_id")
+	private Long parentRecordId;
+
+	/**
+	 * 單次呼叫耗時（毫秒），自請求送出至取得回應
+	 */
+	@Column(name = "duration_millis")
+	private Long durationMillis;
+
 	// ------------------- Methods -------------------
 
 	/**
@@ -143,11 +162,22 @@ public class OutboundApiRecord {
 	 * @param command {@link RecordFailedOutboundApiCommand}
 	 */
 	public void markFailed(RecordFailedOutboundApiCommand command) {
-		this.status = OutboundApiStatus.FAILED;
+		this.status = failedStatusOf(command);
 		this.responseBody = command.getResponseBody();
 		this.errorMessage = command.getErrorMessage();
 		this.apiPath = command.getApiPath();
 		this.httpMethod = command.getHttpMethod();
+		this.durationMillis = command.getDurationMillis();
+	}
+
+	/**
+	 * 失敗結果對應的狀態：因 Inbound 請求期限耗盡而失敗為 DEADLINE_EXCEEDED，其餘為 FAILED。
+	 *
+	 * @param command {@link RecordFailedOutboundApiCommand}
+	 * @return 失敗狀態
+	 */
+	public static OutboundApiStatus failedStatusOf(RecordFailedOutboundApiCommand command) {
+		return command.isDeadlineExceeded() ? OutboundApiStatus.DEADLINE_EXCEEDED : OutboundApiStatus.FAILED;
 	}
 
 	/**
@@ -164,6 +194,68 @@ public class OutboundApiRecord {
 		this.responseBody = command.getResponseBody();
 		this.apiPath = command.getApiPath();
 		this.httpMethod = command.getHttpMethod();
+		this.durationMillis = command.getDurationMillis();
+	}
+
+	/**
+	 * 標註外部 API 呼叫被斷路器短路。
+	 *
+	 * <p>
+	 * 未實際呼叫外部系統，僅保留 Request 與短路原因。
+	 * </p>
+	 *
+	 * @param reason 短路原因
+	 */
+	public void markShortCircuited(String reason) {
+		this.status = OutboundApiStatus.SHORT_CIRCUITED;
+		this.errorMessage = reason;
+	}
+
+	/**
+	 * 標註外部 API 呼叫因超過並行上限被拒絕。
+	 *
+	 * <p>
+	 * 未實際呼叫外部系統，僅保留 Request 與拒絕原因。
+	 * </p>
+	 *
+	 * @param reason 拒絕原因
+	 */
+	public void markRejected(String reason) {
+		this.status = OutboundApiStatus.REJECTED;
+		this.errorMessage = reason;
+	}
+
+	/**
+	 * 標註外部 API 呼叫因 Inbound 請求期限已過而略過。
+	 *
+	 * <p>
+	 * 未實際呼叫外部系統，僅保留 Request 與略過原因。
+	 * </p>
+	 *
+	 * @param reason 略過原因
+	 */
+	public void markDeadlineExceeded(String reason) {
+		this.status = OutboundApiStatus.DEADLINE_EXCEEDED;
+		this.errorMessage = reason;
+	}
+
+	/**
+	 * 連結到同一次邏輯呼叫的第一次呼叫紀錄。
+	 *
+	 * @param parentRecordId 上層紀錄 ID
+	 */
+	public void linkTo(Long parentRecordId) {
+		this.parentRecordId = parentRecordId;
+	}
+
+	/**
+	 * 標註外部 API 呼叫被取消（其他呼叫先成功）。
+	 *
+	 * @param reason 取消原因
+	 */
+	public void markCancelled(String reason) {
+		this.status = OutboundApiStatus.CANCELLED;
+		this.errorMessage = reason;
 	}
 
 }
@@ -21,5 +21,25 @@ public enum OutboundApiStatus {
 	/**
 	 * 外部 API 呼叫失敗完成。
 	 */
-	FAILED
+	FAILED,
+
+	/**
+	 * 斷路器開啟，未呼叫外部系統即失敗。
+	 */
+	SHORT_CIRCUITED,
+
+	/**
+	 * 超過外部系統並行上限，未呼叫外部系統即拒絕。
+	 */
+	REJECTED,
+
+	/**
+	 * 同一次邏輯呼叫中其他呼叫先成功（例如對沖請求），本次呼叫被取消。
+	 */
+	CANCELLED,
+
+	/**
+	 * 超過 Inbound 請求期限：剩餘時間不足未呼叫外部系統，或呼叫因剩餘時間耗盡而逾時。
+	 */
+	DEADLINE_EXCEEDED
 }
@@ -50,4 +50,14 @@ public class RecordFailedOutboundApiCommand {
 	 * HTTP 呼叫方法（GET / POST / PUT / PATCH / DELETE）。
 	 */
 	private String httpMethod;
+
+	/**
+	 * 單次呼叫耗時（毫秒），自請求送出起算。
+	 */
+	private Long durationMillis;
+
+	/**
+	 * 是否因 Inbound 請求期限耗盡而失敗（紀錄為 DEADLINE_EXCEEDED）。
+	 */
+	private boolean deadlineExceeded;
 }
@@ -50,5 +50,9 @@ public class RecordOutboundApiSucceededEvent extends BaseEvent {
 		 * 外部系統回傳的 Response Body。
 		 */
 		private String responseBody;
+		/**
+		 * 單次呼叫耗時（毫秒），自請求送出起算。
+		 */
+		private Long durationMillis;
 	}
 }
@@ -2,6 +2,7 @@ package com.example.demo.application.factory;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -68,10 +69,16 @@ public class OutboundApiRequestHandlerFactory {
 	 * @throws IllegalStateException 若查無對應 Handler
 	 */
 	public OutboundApiRequestHandlerPort getHandler(String system) {
-		OutboundApiRequestHandlerPort handler = handlerMap.get(system);
-		if (handler == null) {
-			throw new IllegalStateException("No OutboundApiRequestHandler for system: " + system);
-		}
-		return handler;
+		return find(system).orElseThrow(() -> new IllegalStateException("No OutboundApiRequestHandler for system: " + system));
+	}
+
+	/**
+	 * 依外部系統代碼查詢對應的 Handler。
+	 *
+	 * @param system 外部系統代碼
+	 * @return 對應的 Handler，查無時為空
+	 */
+	public Optional<OutboundApiRequestHandlerPort> find(String system) {
+		return Optional.ofNullable(handlerMap.get(system));
 	}
 }
@@ -2,6 +2,7 @@ package com.example.demo.application.factory;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -67,10 +68,16 @@ public class OutboundApiResponseHandlerFactory {
 	 * @throws IllegalStateException 若查無對應 Handler
 	 */
 	public OutboundApiResponseHandlerPort getHandler(String system) {
-		OutboundApiResponseHandlerPort handler = handlerMap.get(system);
-		if (handler == null) {
-			throw new IllegalStateException("No ExternalApiResponseHandler for system: " + system);
-		}
-		return handler;
+		return find(system).orElseThrow(() -> new IllegalStateException("No ExternalApiResponseHandler for system: " + system));
+	}
+
+	/**
+	 * 依外部系統代碼查詢對應的 Handler。
+	 *
+	 * @param system 外部系統代碼
+	 * @return 對應的 Handler，查無時為空
+	 */
+	public Optional<OutboundApiResponseHandlerPort> find(String system) {
+		return Optional.ofNullable(handlerMap.get(system));
 	}
 }
@@ -19,6 +19,21 @@ import com.example.demo.infra.context.element.OutboundApiRequestInfo;
 @Component
 public class OutboundApiResponseValidatorFactory {
 
+	/**
+	 * 預設 Validator：什麼都不做（共用同一個實例）
+	 */
+	private static final OutboundApiResponseValidatorPort DEFAULT_VALIDATOR = new OutboundApiResponseValidatorPort() {
+		@Override
+		public String supportSystem() {
+			return "DEFAULT";
+		}
+
+		@Override
+		public void validate(Object response, OutboundApiRequestInfo context) {
+			// 放行
+		}
+	};
+
 	private final Map<String, OutboundApiResponseValidatorPort> validatorMap;
 
 	/**
@@ -39,23 +54,6 @@ public class OutboundApiResponseValidatorFactory {
 	 * @return 對應 Validator；找不到回傳預設放行 Validator
 	 */
 	public OutboundApiResponseValidatorPort get(String system) {
-		return validatorMap.getOrDefault(system, defaultValidator());
-	}
-
-	/**
-	 * 預設 Validator：什麼都不做
-	 */
-	private OutboundApiResponseValidatorPort defaultValidator() {
-		return new OutboundApiResponseValidatorPort() {
-			@Override
-			public String supportSystem() {
-				return "DEFAULT";
-			}
-
-			@Override
-			public void validate(Object response, OutboundApiRequestInfo context) {
-				// 放行
-			}
-		};
+		return validatorMap.getOrDefault(system, DEFAULT_VALIDATOR);
 	}
 }
@@ -1,5 +1,7 @@
 package com.example.demo.application.port;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.example.demo.application.shared.outbound.auth.command.GetJwTokenCommand;
 import com.example.demo.application.shared.outbound.auth.dto.JwTokenGettenData;
 import com.example.demo.application.shared.outbound.auth.dto.PermissionGettenData;
@@ -23,4 +25,28 @@ public interface AuthSerivceClientPort {
 	 * @param username 使用者帳號
 	 */
 	public PermissionGettenData getPermissionList(String username);
+
+	/**
+	 * 取得個人權限（非同步）
+	 *
+	 * <p>
+	 * 呼叫於背景執行緒進行，Outbound API 紀錄於 Future 完成時寫入。
+	 * </p>
+	 *
+	 * @param username 使用者帳號
+	 * @return 權限資料 Future
+	 */
+	public CompletableFuture<PermissionGettenData> getPermissionListAsync(String username);
+
+	/**
+	 * 取得個人權限（大量查詢用）
+	 *
+	 * <p>
+	 * 與 {@link #getPermissionList(String)} 相同，但 Outbound API 紀錄於呼叫完成後批次寫入。
+	 * </p>
+	 *
+	 * @param username 使用者帳號
+	 * @return 權限資料
+	 */
+	public PermissionGettenData getPermissionListInBulk(String username);
 }
@@ -0,0 +1,33 @@
+package com.example.demo.application.port;
+
+import java.util.function.Supplier;
+
+import com.example.demo.application.shared.outbound.auth.command.GetJwTokenCommand;
+import com.example.demo.application.shared.outbound.auth.dto.JwTokenGettenData;
+
+/**
+ * AuthService 登入 Token 快取 Port
+ */
+public interface JwTokenCachePort {
+
+	/**
+	 * 取得 Token，必要時透過 loader 重新登入。
+	 *
+	 * <p>
+	 * 登入遭拒（401 / 403）時由實作清除該帳號的快取，並拋出原例外。
+	 * </p>
+	 *
+	 * @param command 登入資訊
+	 * @param loader  實際呼叫 AuthService 登入 API 的方法
+	 * @return Token 資料
+	 */
+	public JwTokenGettenData get(GetJwTokenCommand command, Supplier<JwTokenGettenData> loader);
+
+	/**
+	 * 使持有指定 Token 的快取失效（Token 使用端收到 401 時呼叫）。
+	 *
+	 * @param token 登入取得的 Token
+	 * @return 是否有快取項目被清除
+	 */
+	public boolean invalidateToken(String token);
+}
@@ -1,5 +1,7 @@
 package com.example.demo.application.port;
 
+import java.util.List;
+
 import com.example.demo.application.domain.log.command.RecordFailedOutboundApiCommand;
 import com.example.demo.application.domain.log.command.RecordSuccessOutboundApiCommand;
 
@@ -85,4 +87,30 @@ public interface OutboundApiResponseHandlerPort {
 	 */
 	void handleFailure(RecordFailedOutboundApiCommand command);
 
+	/**
+	 * 批次處理多筆成功結果（例如 Outbox 批次派送）。
+	 *
+	 * <p>
+	 * 預設逐筆呼叫 {@link #handleSuccess}，實作可覆寫為批次寫入以減少資料庫往返。
+	 * </p>
+	 *
+	 * @param commands 成功回應結果，依事件順序排列
+	 */
+	default void handleSuccessInBatch(List<RecordSuccessOutboundApiCommand> commands) {
+		commands.forEach(this::handleSuccess);
+	}
+
+	/**
+	 * 批次處理多筆失敗結果（例如 Outbox 批次派送）。
+	 *
+	 * <p>
+	 * 預設逐筆呼叫 {@link #handleFailure}，實作可覆寫為批次寫入以減少資料庫往返。
+	 * </p>
+	 *
+	 * @param commands 失敗結果，依事件順序排列
+	 */
+	default void handleFailureInBatch(List<RecordFailedOutboundApiCommand> commands) {
+		commands.forEach(this::handleFailure);
+	}
+
 }
@@ -0,0 +1,26 @@
+package com.example.demo.application.port;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 外部 API 並行呼叫（Fan-out）Port
+ */
+public interface OutboundFanOutPort {
+
+	/**
+	 * 以預設並行上限執行所有呼叫，全部完成後返回。
+	 *
+	 * <p>
+	 * 每筆結果於完成時立即回呼（完成順序），回呼可能由多個執行緒同時呼叫。
+	 * </p>
+	 *
+	 * @param inputs    呼叫參數
+	 * @param call      單筆呼叫
+	 * @param onSuccess 單筆成功回呼
+	 * @param onFailure 單筆失敗回呼
+	 */
+	public <T, R> void execute(Collection<T> inputs, Function<T, R> call, BiConsumer<T, R> onSuccess,
+			BiConsumer<T, Throwable> onFailure);
+}
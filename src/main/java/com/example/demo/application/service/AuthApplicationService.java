@@ -1,11 +1,23 @@
 package com.example.demo.application.service;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
 import org.springframework.stereotype.Service;
 
 import com.example.demo.application.port.AuthSerivceClientPort;
+import com.example.demo.application.port.JwTokenCachePort;
+import com.example.demo.application.port.OutboundFanOutPort;
 import com.example.demo.application.shared.outbound.auth.command.GetJwTokenCommand;
 import com.example.demo.application.shared.outbound.auth.dto.JwTokenGettenData;
 import com.example.demo.application.shared.outbound.auth.dto.PermissionGettenData;
+import com.example.demo.application.shared.outbound.auth.dto.UserPermissionGettenData;
+import com.example.demo.shared.exception.CodedError;
 
 import lombok.AllArgsConstructor;
 
@@ -15,14 +27,36 @@ public class AuthApplicationService {
 
 	private AuthSerivceClientPort authSerivceClient;
 
+	private JwTokenCachePort jwTokenCache;
+
+	private OutboundFanOutPort fanOut;
+
 	/**
 	 * 向 Auth Service 取得 JWToken
+	 *
+	 * <p>
+	 * 同一組帳號密碼在 Token 到期前會直接回傳快取，並於到期前背景更新； AuthService 回應 401 / 403 時清除該帳號的快取。
+	 * </p>
 	 * 
 	 * @param command GetJwTokenCommand
 	 * @return Token 資料
 	 */
 	public JwTokenGettenData getJwToken(GetJwTokenCommand command) {
-		return authSerivceClient.getJwToken(command);
+		return jwTokenCache.get(command, () -> authSerivceClient.getJwToken(command));
+	}
+
+	/**
+	 * 清除 Token 快取（Token 使用端收到 401，例如 Token 遭撤銷或密碼已變更）
+	 *
+	 * <p>
+	 * 下次以相同帳號密碼取得 Token 時會同步向 AuthService 重新登入。
+	 * </p>
+	 *
+	 * @param token 登入取得的 Token
+	 * @return 是否有快取被清除
+	 */
+	public boolean invalidateJwToken(String token) {
+		return jwTokenCache.invalidateToken(token);
 	}
 
 	/**
@@ -34,4 +68,43 @@ public class AuthApplicationService {
 	public PermissionGettenData getPermissionList(String username) {
 		return authSerivceClient.getPermissionList(username);
 	}
+
+	/**
+	 * 非同步取得使用者的 Permission 清單
+	 *
+	 * @param username 使用者帳號
+	 * @return Permission 清單 Future
+	 */
+	public CompletableFuture<PermissionGettenData> getPermissionListAsync(String username) {
+		return authSerivceClient.getPermissionListAsync(username);
+	}
+
+	/**
+	 * 大量取得使用者的 Permission 清單
+	 *
+	 * <p>
+	 * 帳號去除空白與重複後並行查詢（並行上限為 {@code outbound.fan-out.max-concurrency}），
+	 * 每筆完成即交給 {@code sink}（完成順序），單筆失敗不影響其他帳號。全部完成後才返回。
+	 * </p>
+	 *
+	 * @param usernames 使用者帳號
+	 * @param sink      單筆結果處理（可能由多個執行緒同時呼叫）
+	 */
+	public void getPermissionLists(Collection<String> usernames, Consumer<UserPermissionGettenData> sink) {
+		Set<String> distinct = usernames == null ? Set.of()
+				: usernames.stream().filter(Objects::nonNull).map(String::trim).filter(u -> !u.isEmpty())
+						.collect(Collectors.toCollection(LinkedHashSet::new));
+
+		fanOut.execute(distinct, authSerivceClient::getPermissionListInBulk,
+				(username, data) -> sink.accept(new UserPermissionGettenData(username, "200", "Success",
+						data == null ? null : data.getPermissionList())),
+				(username, e) -> sink.accept(failed(username, e)));
+	}
+
+	private static UserPermissionGettenData failed(String username, Throwable e) {
+		if (e instanceof CodedError error) {
+			return new UserPermissionGettenData(username, error.getCode(), error.getMessage(), null);
+		}
+		return new UserPermissionGettenData(username, "500", e.getMessage(), null);
+	}
 }
@@ -1,23 +1,26 @@
 package com.example.demo.application.service;
 
 import java.util.UUID;
+import java.util.function.BooleanSupplier;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.springframework.stereotype.Service;
 
 import com.example.demo.application.domain.log.aggregate.OutboundApiRecord;
+import com.example.demo.application.domain.log.command.RecordFailedOutboundApiCommand;
+import com.example.demo.application.domain.log.command.RecordSuccessOutboundApiCommand;
 import com.example.demo.application.domain.log.event.RecordOutboundApiFailedEvent;
 import com.example.demo.application.domain.log.event.RecordOutboundApiFailedEvent.RecordOutboundApiFailedEventData;
 import com.example.demo.application.domain.log.event.RecordOutboundApiSucceededEvent;
 import com.example.demo.application.domain.log.event.RecordOutboundApiSucceededEvent.RecordOutboundApiEventData;
 import com.example.demo.application.domain.log.outbound.RecordOutboundApiRequestCommand;
-import com.example.demo.application.factory.OutboundApiRequestHandlerFactory;
-import com.example.demo.application.factory.OutboundApiResponseValidatorFactory;
 import com.example.demo.application.port.EventPublisherPort;
 import com.example.demo.application.port.OutboundApiRequestHandlerPort;
 import com.example.demo.application.port.OutboundApiResponseValidatorPort;
 import com.example.demo.infra.context.ContextHolder;
 import com.example.demo.infra.context.element.OutboundApiRequestInfo;
+import com.example.demo.infra.outbound.recording.OutboundApiRecordBatcher;
+import com.example.demo.infra.outbound.registry.OutboundSystemRegistry;
 import com.example.demo.infra.persistence.OutboundApiRecordRepository;
 import com.example.demo.util.JsonParseUtil;
 
@@ -44,9 +47,9 @@ import lombok.AllArgsConstructor;
 public class OutboundApiRecordApplicationService {
 
 	/**
-	 * Request Handler 工廠，用於取得 RequestHandler ，來解析 API 呼叫參數
+	 * 外部系統元件登錄表，用於取得 RequestHandler（解析 API 呼叫參數）與 Response Validator（回應驗證）
 	 */
-	private final OutboundApiRequestHandlerFactory outboundApiRequestHandlerFactory;
+	private final OutboundSystemRegistry systemRegistry;
 
 	/**
 	 * Outbound API 紀錄 Repository
@@ -54,14 +57,14 @@ public class OutboundApiRecordApplicationService {
 	private final OutboundApiRecordRepository outboundApiRecordRepository;
 
 	/**
-	 * Response Validator 工廠，用於取得 Response Validator ，來解析回應驗證
+	 * Event Publisher
 	 */
-	private final OutboundApiResponseValidatorFactory validatorFactory;
+	private final EventPublisherPort eventPublisher;
 
 	/**
-	 * Event Publisher
+	 * 批次紀錄寫入器
 	 */
-	private final EventPublisherPort eventPublisher;
+	private final OutboundApiRecordBatcher recordBatcher;
 
 	/**
 	 * 外部 API 呼叫前處理
@@ -76,8 +79,25 @@ public class OutboundApiRecordApplicationService {
 	 * @return 儲存後的 {@link OutboundApiRecord} 實體
 	 */
 	public OutboundApiRecord preExecutingOutboundApi(String system, ProceedingJoinPoint joinPoint) {
+		return preExecutingOutboundApi(system, joinPoint, null);
+	}
+
+	/**
+	 * 外部 API 呼叫前處理（連結上層紀錄）
+	 *
+	 * <p>
+	 * 同一次邏輯呼叫送出多次實際呼叫時（例如對沖請求），後續呼叫的紀錄以 {@code parentRecordId} 連結第一次呼叫。
+	 * </p>
+	 *
+	 * @param system         外部系統代碼
+	 * @param joinPoint      AOP 切入點，包含方法參數與目標方法
+	 * @param parentRecordId 上層紀錄 ID，第一次呼叫為 null
+	 * @return 儲存後的 {@link OutboundApiRecord} 實體
+	 */
+	public OutboundApiRecord preExecutingOutboundApi(String system, ProceedingJoinPoint joinPoint,
+			Long parentRecordId) {
 		// 取得 Request Handler
-		OutboundApiRequestHandlerPort requestHandler = outboundApiRequestHandlerFactory.getHandler(system);
+		OutboundApiRequestHandlerPort requestHandler = systemRegistry.profile(system).getRequestHandler();
 
 		// 將方法參數轉換為 Request Command
 		RecordOutboundApiRequestCommand command = requestHandler.resolveRequest(joinPoint);
@@ -85,6 +105,7 @@ public class OutboundApiRecordApplicationService {
 		// 建立 OutboundApiRecord 並儲存
 		OutboundApiRecord outboundApiRecord = new OutboundApiRecord();
 		outboundApiRecord.create(command);
+		outboundApiRecord.linkTo(parentRecordId);
 		return outboundApiRecordRepository.save(outboundApiRecord);
 	}
 
@@ -118,14 +139,59 @@ public class OutboundApiRecordApplicationService {
 	 * @param saved   對應的 OutboundApiRecord
 	 */
 	public void afterExecutingOutboundApi(String system, Object proceed, OutboundApiRecord saved) {
-
 		// 取得當前請求的外部 API 呼叫上下文（URL、HTTP Method 等）
-		OutboundApiRequestInfo feignContext = ContextHolder.getFeignContext();
+		afterExecutingOutboundApi(system, proceed, saved, ContextHolder.getFeignContext());
+	}
+
+	/**
+	 * 外部 API 呼叫後處理（同一次邏輯呼叫送出多次時）
+	 *
+	 * <p>
+	 * 回應驗證通過後才以 {@code accept} 爭取結果（例如對沖呼叫中先成功者勝出）；驗證失敗的回應不會佔用結果，
+	 * 其他呼叫仍可勝出。未取得結果時不發送成功事件，由呼叫端另行紀錄。
+	 * </p>
+	 *
+	 * @param system  外部系統代碼
+	 * @param proceed 原方法執行後回傳的 Response 物件
+	 * @param saved   對應的 OutboundApiRecord
+	 * @param accept  驗證通過後爭取結果，回傳 false 表示結果不被採用
+	 * @return 結果是否被採用
+	 */
+	public boolean afterExecutingOutboundApi(String system, Object proceed, OutboundApiRecord saved,
+			BooleanSupplier accept) {
+		return afterExecutingOutboundApi(system, proceed, saved, ContextHolder.getFeignContext(), accept);
+	}
+
+	/**
+	 * 外部 API 呼叫後處理（指定呼叫上下文）
+	 *
+	 * <p>
+	 * 供非同步呼叫使用：Future 完成時已不在發起呼叫的執行緒上，需由呼叫端傳入該次呼叫的上下文。
+	 * </p>
+	 *
+	 * @param system       外部系統代碼
+	 * @param proceed      原方法執行後回傳的 Response 物件
+	 * @param saved        對應的 OutboundApiRecord
+	 * @param feignContext 該次外部 API 呼叫上下文
+	 */
+	public void afterExecutingOutboundApi(String system, Object proceed, OutboundApiRecord saved,
+			OutboundApiRequestInfo feignContext) {
+		afterExecutingOutboundApi(system, proceed, saved, feignContext, () -> true);
+	}
+
+	private boolean afterExecutingOutboundApi(String system, Object proceed, OutboundApiRecord saved,
+			OutboundApiRequestInfo feignContext, BooleanSupplier accept) {
+
+		// 呼叫耗時（不含回應驗證）
+		Long durationMillis = feignContext.elapsedMillis();
 
 		// 回應驗證（可能拋出例外以中斷主流程）
 		// Validator 僅負責規則檢查，不處理任何 side effect
-		OutboundApiResponseValidatorPort validator = validatorFactory.get(system);
-		validator.validate(proceed, feignContext);
+		validateResponse(system, proceed, feignContext);
+
+		if (!accept.getAsBoolean()) {
+			return false;
+		}
 
 		// 建立「外部 API 成功」事件
 		RecordOutboundApiSucceededEvent event = RecordOutboundApiSucceededEvent.builder().system(system)
@@ -133,11 +199,12 @@ public class OutboundApiRecordApplicationService {
 				.targetId(UUID.randomUUID().toString()) // 事件目標識別（供追蹤使用）
 				.data(RecordOutboundApiEventData.builder().savedId(saved.getId()).apiPath(feignContext.getUrl())
 						.httpMethod(feignContext.getHttpMethod()).responseBody(JsonParseUtil.serialize(proceed))
-						.build())
+						.durationMillis(durationMillis).build())
 				.build();
 
 		// 發送 Domain Event，由 Listener 處理後續流程
 		eventPublisher.publish(event);
+		return true;
 	}
 
 	/**
@@ -166,20 +233,194 @@ public class OutboundApiRecordApplicationService {
 	 * @param exceptionMessage 發生的例外訊息
 	 */
 	public void handleException(String system, OutboundApiRecord saved, String exceptionMessage) {
-
 		// 取得當前請求的外部 API 呼叫上下文
-		OutboundApiRequestInfo feignContext = ContextHolder.getFeignContext();
+		handleException(system, saved, exceptionMessage, ContextHolder.getFeignContext());
+	}
+
+	/**
+	 * 外部 API 呼叫例外處理（指定呼叫上下文）
+	 *
+	 * @param system           外部系統代碼
+	 * @param saved            對應的 OutboundApiRecord
+	 * @param exceptionMessage 發生的例外訊息
+	 * @param feignContext     該次外部 API 呼叫上下文
+	 */
+	public void handleException(String system, OutboundApiRecord saved, String exceptionMessage,
+			OutboundApiRequestInfo feignContext) {
+		handleException(system, saved, exceptionMessage, feignContext, false);
+	}
+
+	/**
+	 * 外部 API 呼叫例外處理（指定呼叫上下文，並標示是否因 Inbound 請求期限耗盡而失敗）
+	 *
+	 * @param system           外部系統代碼
+	 * @param saved            對應的 OutboundApiRecord
+	 * @param exceptionMessage 發生的例外訊息
+	 * @param feignContext     該次外部 API 呼叫上下文
+	 * @param deadlineExceeded 是否因請求期限耗盡而失敗，是則紀錄為 DEADLINE_EXCEEDED
+	 */
+	public void handleException(String system, OutboundApiRecord saved, String exceptionMessage,
+			OutboundApiRequestInfo feignContext, boolean deadlineExceeded) {
 
 		// 建立「外部 API 失敗」事件
 		RecordOutboundApiFailedEvent event = RecordOutboundApiFailedEvent.builder().system(system)
 				.eventLogUuid(UUID.randomUUID().toString()) // 事件唯一識別
 				.targetId(UUID.randomUUID().toString())
-				.data(RecordOutboundApiFailedEventData.builder().savedId(saved.getId()).apiPath(feignContext.getUrl())
-						.httpMethod(feignContext.getHttpMethod()).errorMessage(exceptionMessage).build())
+				.data(RecordOutboundApiFailedEventData.builder().savedId(saved.getId())
+						// 呼叫未送出前即失敗（例如執行緒池拒絕）時沒有上下文
+						.apiPath(feignContext == null ? null : feignContext.getUrl())
+						.httpMethod(feignContext == null ? null : feignContext.getHttpMethod())
+						.durationMillis(feignContext == null ? null : feignContext.elapsedMillis())
+						.errorMessage(exceptionMessage).deadlineExceeded(deadlineExceeded).build())
 				.build();
 
 		// 發送失敗事件，由 Listener 負責實際錯誤處理
 		eventPublisher.publish(event);
 	}
 
+	/**
+	 * 外部 API 呼叫成功（批次紀錄版本）
+	 *
+	 * <p>
+	 * 驗證回應後直接建立 SUCCESS 紀錄並交由 {@link OutboundApiRecordBatcher} 批次寫入，不發送事件；
+	 * 驗證失敗時拋出例外，由呼叫端改以 {@link #recordFailureInBatch} 紀錄。
+	 * </p>
+	 *
+	 * @param system       外部系統代碼
+	 * @param joinPoint    AOP 切入點，包含方法參數與目標方法
+	 * @param proceed      原方法執行後回傳的 Response 物件
+	 * @param feignContext 該次外部 API 呼叫上下文
+	 */
+	public void recordSuccessInBatch(String system, ProceedingJoinPoint joinPoint, Object proceed,
+			OutboundApiRequestInfo feignContext) {
+
+		Long durationMillis = feignContext.elapsedMillis();
+		validateResponse(system, proceed, feignContext);
+
+		OutboundApiRecord outboundApiRecord = createRecord(system, joinPoint);
+		outboundApiRecord.markSuccess(RecordSuccessOutboundApiCommand.builder().apiPath(feignContext.getUrl())
+				.httpMethod(feignContext.getHttpMethod()).responseBody(JsonParseUtil.serialize(proceed))
+				.durationMillis(durationMillis).build());
+		recordBatcher.add(outboundApiRecord);
+	}
+
+	/**
+	 * 外部 API 呼叫失敗（批次紀錄版本）
+	 *
+	 * @param system           外部系統代碼
+	 * @param joinPoint        AOP 切入點，包含方法參數與目標方法
+	 * @param exceptionMessage 發生的例外訊息
+	 * @param feignContext     該次外部 API 呼叫上下文，呼叫未送出時為 null
+	 */
+	public void recordFailureInBatch(String system, ProceedingJoinPoint joinPoint, String exceptionMessage,
+			OutboundApiRequestInfo feignContext) {
+		recordFailureInBatch(system, joinPoint, exceptionMessage, feignContext, false);
+	}
+
+	/**
+	 * 外部 API 呼叫失敗（批次紀錄版本，並標示是否因 Inbound 請求期限耗盡而失敗）
+	 *
+	 * @param system           外部系統代碼
+	 * @param joinPoint        AOP 切入點，包含方法參數與目標方法
+	 * @param exceptionMessage 發生的例外訊息
+	 * @param feignContext     該次外部 API 呼叫上下文，呼叫未送出時為 null
+	 * @param deadlineExceeded 是否因請求期限耗盡而失敗，是則紀錄為 DEADLINE_EXCEEDED
+	 */
+	public void recordFailureInBatch(String system, ProceedingJoinPoint joinPoint, String exceptionMessage,
+			OutboundApiRequestInfo feignContext, boolean deadlineExceeded) {
+
+		OutboundApiRecord outboundApiRecord = createRecord(system, joinPoint);
+		outboundApiRecord.markFailed(RecordFailedOutboundApiCommand.builder()
+				.apiPath(feignContext == null ? outboundApiRecord.getApiPath() : feignContext.getUrl())
+				.httpMethod(feignContext == null ? outboundApiRecord.getHttpMethod() : feignContext.getHttpMethod())
+				.durationMillis(feignContext == null ? null : feignContext.elapsedMillis())
+				.errorMessage(exceptionMessage).deadlineExceeded(deadlineExceeded).build());
+		recordBatcher.add(outboundApiRecord);
+	}
+
+	/**
+	 * 外部 API 呼叫被斷路器短路
+	 *
+	 * <p>
+	 * 直接建立 SHORT_CIRCUITED 紀錄並批次寫入（單筆新增、不發送事件），外部系統故障期間不會因紀錄拖慢短路。
+	 * </p>
+	 *
+	 * @param system    外部系統代碼
+	 * @param joinPoint AOP 切入點，包含方法參數與目標方法
+	 * @param reason    短路原因
+	 */
+	public void recordShortCircuited(String system, ProceedingJoinPoint joinPoint, String reason) {
+		OutboundApiRecord outboundApiRecord = createRecord(system, joinPoint);
+		outboundApiRecord.markShortCircuited(reason);
+		recordBatcher.add(outboundApiRecord);
+	}
+
+	/**
+	 * 外部 API 呼叫被取消（同一次邏輯呼叫中其他呼叫先成功）
+	 *
+	 * <p>
+	 * 不發送事件，直接以條件式 UPDATE 將 PENDING 紀錄更新為 CANCELLED（已完成的紀錄不受影響）。
+	 * </p>
+	 *
+	 * @param saved  對應的 OutboundApiRecord
+	 * @param reason 取消原因
+	 */
+	public void recordCancelled(OutboundApiRecord saved, String reason) {
+		saved.markCancelled(reason);
+		outboundApiRecordRepository.markCancelled(saved.getId(), reason);
+	}
+
+	/**
+	 * 外部 API 呼叫超過並行上限被拒絕
+	 *
+	 * <p>
+	 * 與短路相同，直接建立 REJECTED 紀錄並批次寫入（單筆新增、不發送事件）。
+	 * </p>
+	 *
+	 * @param system    外部系統代碼
+	 * @param joinPoint AOP 切入點，包含方法參數與目標方法
+	 * @param reason    拒絕原因
+	 */
+	public void recordRejected(String system, ProceedingJoinPoint joinPoint, String reason) {
+		OutboundApiRecord outboundApiRecord = createRecord(system, joinPoint);
+		outboundApiRecord.markRejected(reason);
+		recordBatcher.add(outboundApiRecord);
+	}
+
+	/**
+	 * 外部 API 呼叫因 Inbound 請求期限已過而略過
+	 *
+	 * <p>
+	 * 與短路相同，直接建立 DEADLINE_EXCEEDED 紀錄並批次寫入（單筆新增、不發送事件）。
+	 * </p>
+	 *
+	 * @param system    外部系統代碼
+	 * @param joinPoint AOP 切入點，包含方法參數與目標方法
+	 * @param reason    略過原因
+	 */
+	public void recordDeadlineExceeded(String system, ProceedingJoinPoint joinPoint, String reason) {
+		OutboundApiRecord outboundApiRecord = createRecord(system, joinPoint);
+		outboundApiRecord.markDeadlineExceeded(reason);
+		recordBatcher.add(outboundApiRecord);
+	}
+
+	/**
+	 * 回應驗證：先拋出解碼時宣告式規則的違規結果，再執行系統的 Validator
+	 */
+	private void validateResponse(String system, Object proceed, OutboundApiRequestInfo feignContext) {
+		if (feignContext.getResponseViolation() != null) {
+			throw feignContext.getResponseViolation();
+		}
+		OutboundApiResponseValidatorPort validator = systemRegistry.profile(system).getValidator();
+		validator.validate(proceed, feignContext);
+	}
+
+	private OutboundApiRecord createRecord(String system, ProceedingJoinPoint joinPoint) {
+		RecordOutboundApiRequestCommand command = systemRegistry.profile(system).getRequestHandler()
+				.resolveRequest(joinPoint);
+		OutboundApiRecord outboundApiRecord = new OutboundApiRecord();
+		outboundApiRecord.create(command);
+		return outboundApiRecord;
+	}
+
 }
@@ -0,0 +1,24 @@
+package com.example.demo.application.shared.outbound.auth.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 大量查詢時單一使用者的權限結果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPermissionGettenData {
+
+	private String username;
+
+	private String code;
+
+	private String message;
+
+	private List<String> permissionList;
+}
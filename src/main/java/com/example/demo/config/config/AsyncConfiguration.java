@@ -1,10 +1,24 @@
 package com.example.demo.config.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 
+import com.example.demo.infra.context.ContextHolder;
+
 @EnableAsync
 @Configuration
 public class AsyncConfiguration {
 
+	/**
+	 * 套用至 Spring Boot 預設的 {@code applicationTaskExecutor}，將 {@link ContextHolder}
+	 * 上下文帶到非同步執行緒（含非同步外部 API 呼叫）。
+	 *
+	 * @return TaskDecorator
+	 */
+	@Bean
+	public TaskDecorator outboundContextTaskDecorator() {
+		return ContextHolder::propagate;
+	}
 }
@@ -7,41 +7,50 @@ import java.security.NoSuchAlgorithmException;
 import javax.net.ssl.SSLContext;
 
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.example.demo.infra.context.ContextHolder;
+import com.example.demo.infra.context.Deadline;
+import com.example.demo.infra.context.OutboundContextScope;
 import com.example.demo.infra.context.element.OutboundApiRequestInfo;
+import com.example.demo.infra.outbound.credential.factory.OutboundCredentialProviderFactory;
+import com.example.demo.infra.outbound.credential.provider.OutboundCredentialProvider;
+import com.example.demo.infra.outbound.feign.playback.PlaybackClientDecorator;
+import com.example.demo.infra.outbound.http.OutboundHttpClientFactory;
 import com.example.demo.shared.constant.JwtConstants;
+import com.example.demo.shared.constant.OutboundConstants;
 
 import feign.Client;
 import feign.Logger;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
-import feign.httpclient.ApacheHttpClient;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Configuration
 public class AuthFeignConfiguration {
 
-	@Value("${auth.service.endpoint.jwt.token}")
-	private String token;
-
 	@Value("${auth.service.endpoint}")
 	private String endpoint;
 
 	/**
 	 * 定義一個 Feign 的請求攔截器，用於在每次發送請求時增加 Header 資料。
 	 *
+	 * <p>
+	 * Authorization Header 由 {@link OutboundCredentialProvider} 提供已組好的完整值，
+	 * 憑證會於背景自動更新，請求路徑上不需再組字串。
+	 * </p>
+	 *
+	 * @param credentialProviderFactory 外部系統憑證提供者 Factory
 	 * @return 請求攔截器
 	 */
 	@Bean
-	public RequestInterceptor requestTokenInterceptor() {
+	public RequestInterceptor requestTokenInterceptor(OutboundCredentialProviderFactory credentialProviderFactory) {
+
+		OutboundCredentialProvider credentialProvider = credentialProviderFactory.get("AuthService").orElse(null);
 
 		return new RequestInterceptor() {
 			@Override
@@ -56,14 +65,29 @@ public class AuthFeignConfiguration {
 				OutboundApiRequestInfo context = OutboundApiRequestInfo.builder().system("AuthService") // 對應系統名稱
 						.httpMethod(method).url(String.format("%s%s", endpoint, url)) // 組成完整 url
 						.api(url)
+						.startedAtNanos(System.nanoTime()) // 單次呼叫耗時起算點
 						.build();
 
 				log.info("Outbound ERP API Context: {}, Method:{}, Url:{}", context, method, url);
 
-				// 將請求資訊放入 ThreadLocal，供同一請求生命週期使用
+				// 將請求資訊寫入本次呼叫的上下文範圍，供紀錄流程使用
 				ContextHolder.setFeignContext(context);
+				// 以呼叫識別碼標記請求，讓 ErrorDecoder 等元件能找回所屬呼叫的上下文
+				OutboundContextScope scope = ContextHolder.currentScope();
+				if (scope != null) {
+					requestTemplate.header(OutboundConstants.INVOCATION_ID_HEADER.getValue(), scope.getInvocationId());
+				}
+				// 轉送 Inbound 請求的剩餘時間，讓外部系統可放棄已無人等待的處理
+				Deadline deadline = ContextHolder.getDeadline();
+				if (deadline != null) {
+					requestTemplate.header(OutboundConstants.DEADLINE_HEADER.getValue(),
+							String.valueOf(Math.max(deadline.remainingMillis(), 0)));
+				}
 				// 在此處新增 JWToken Request Header
-				requestTemplate.header(JwtConstants.JWT_HEADER.getValue(), JwtConstants.JWT_PREFIX.getValue() + token);
+				String authorization = credentialProvider == null ? null : credentialProvider.authorizationHeader();
+				if (authorization != null) {
+					requestTemplate.header(JwtConstants.JWT_HEADER.getValue(), authorization);
+				}
 			}
 		};
 	}
@@ -71,24 +95,40 @@ public class AuthFeignConfiguration {
 	/**
 	 * 使用 ApacheHttpClient 覆蓋底層預設的 HttpURLConnection 因為 HttpURLConnection 不支援 Patch
 	 * 方法。
+	 *
+	 * <p>
+	 * 若啟用錄製 / 回放模式（{@code outbound.playback.mode}），會再由 {@link PlaybackClientDecorator}
+	 * 包裝，回放時不會連線外部系統。
+	 * </p>
+	 *
+	 * <p>
+	 * 底層 HttpClient 由 {@link OutboundHttpClientFactory} 建立，使用 AuthService 專屬連線池（{@code outbound.http.*}），
+	 * 並可透過 {@code outbound.http.systems.AuthService.backend=JDK} 改用 HTTP/2。
+	 * </p>
 	 * 
+	 * @param playbackClientDecorator 錄製 / 回放 Client 包裝器
+	 * @param httpClientFactory       外部系統 HttpClient 工廠
 	 * @throws KeyStoreException
 	 * @throws NoSuchAlgorithmException
 	 * @throws KeyManagementException
 	 */
 	@Bean
-	public Client feignClient() throws KeyManagementException, NoSuchAlgorithmException, KeyStoreException {
+	public Client feignClient(PlaybackClientDecorator playbackClientDecorator,
+			OutboundHttpClientFactory httpClientFactory)
+			throws KeyManagementException, NoSuchAlgorithmException, KeyStoreException {
 
 		SSLContext sslContext = SSLContextBuilder.create().loadTrustMaterial((chain, authType) -> true).build();
 
-		CloseableHttpClient httpClient = HttpClients.custom().setSSLContext(sslContext)
-				.setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE).build();
-		return new ApacheHttpClient(httpClient);
+		return playbackClientDecorator.decorate("AuthService",
+				httpClientFactory.getOrCreate("AuthService", sslContext, NoopHostnameVerifier.INSTANCE));
 	}
 
+	/**
+	 * AuthService Feign Log 等級，與全域設定共用 {@code outbound.feign.logger-level}
+	 */
 	@Bean
-	public Logger.Level authFeignLoggerLevel() {
-		return Logger.Level.FULL;
+	public Logger.Level authFeignLoggerLevel(@Value("${outbound.feign.logger-level:BASIC}") Logger.Level level) {
+		return level;
 	}
 	
 
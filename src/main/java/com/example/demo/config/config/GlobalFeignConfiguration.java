@@ -1,14 +1,35 @@
 package com.example.demo.config.config;
 
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import com.example.demo.application.factory.OutboundApiResponseValidatorFactory;
+import com.example.demo.config.properties.OutboundCircuitBreakerProperties;
+import com.example.demo.config.properties.OutboundDeadLetterProperties;
+import com.example.demo.config.properties.OutboundHttpClientProperties;
+import com.example.demo.config.properties.OutboundRecordingLaneProperties;
+import com.example.demo.config.properties.OutboundRetryProperties;
+import com.example.demo.config.properties.OutboundValidationProperties;
+import com.example.demo.infra.outbound.credential.factory.OutboundCredentialProviderFactory;
 import com.example.demo.infra.outbound.exception.mapper.ExternalExceptionMapper;
 import com.example.demo.infra.outbound.feign.decoder.FeignErrorDecoder;
+import com.example.demo.infra.outbound.feign.decoder.ResponseValidatingDecoder;
+import com.example.demo.infra.outbound.registry.OutboundSystemRegistry;
+import com.example.demo.infra.outbound.validation.rule.ResponseRuleRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import feign.Logger;
+import feign.Retryer;
+import feign.codec.Decoder;
 import feign.codec.ErrorDecoder;
+import feign.optionals.OptionalDecoder;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -27,6 +48,12 @@ import lombok.extern.slf4j.Slf4j;
  * <ul>
  * <li>註冊全域 {@link feign.codec.ErrorDecoder}</li>
  * <li>統一外部 API 呼叫失敗時的 Exception 轉換行為</li>
+ * <li>註冊全域 {@link Decoder}，解碼時套用宣告式回應驗證規則 {@link OutboundValidationProperties}</li>
+ * <li>啟用外部系統連線池設定 {@link OutboundHttpClientProperties}</li>
+ * <li>啟用外部系統斷路器設定 {@link OutboundCircuitBreakerProperties}</li>
+ * <li>啟用紀錄事件分區通道設定 {@link OutboundRecordingLaneProperties}（{@code outbound.recording.publisher=lanes}）</li>
+ * <li>啟用紀錄更新失敗的 Dead Letter 設定 {@link OutboundDeadLetterProperties}</li>
+ * <li>停用 Feign 內建重試，重試統一由 {@code @OutboundRetry} 處理（{@link OutboundRetryProperties}），每次呼叫皆有紀錄</li>
  * </ul>
  * </p>
  *
@@ -47,16 +74,44 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @Configuration
+@EnableConfigurationProperties({ OutboundHttpClientProperties.class, OutboundCircuitBreakerProperties.class,
+		OutboundRetryProperties.class, OutboundValidationProperties.class, OutboundRecordingLaneProperties.class,
+		OutboundDeadLetterProperties.class })
 public class GlobalFeignConfiguration {
 	
 
     @Bean
-    public ErrorDecoder feignErrorDecoder(OutboundApiResponseValidatorFactory validatorFactory) {
-        return new FeignErrorDecoder(validatorFactory);
+    public ErrorDecoder feignErrorDecoder(OutboundSystemRegistry systemRegistry,
+            OutboundCredentialProviderFactory credentialProviderFactory,
+            @Value("${outbound.error-body.max-bytes:8192}") int maxBodyBytes,
+            @Value("${outbound.error-body.drain-max-bytes:65536}") long drainMaxBytes) {
+        return new FeignErrorDecoder(systemRegistry, credentialProviderFactory, maxBodyBytes, drainMaxBytes);
     }
 
+    /**
+     * 沿用 Spring Cloud OpenFeign 預設的 Decoder 鏈，外層加上宣告式回應驗證（沒有規則的 API 直接交由預設 Decoder）。
+     */
     @Bean
-    public Logger.Level feignLoggerLevel() {
-        return Logger.Level.FULL;
+    public Decoder feignDecoder(ObjectFactory<HttpMessageConverters> messageConverters,
+            ObjectProvider<HttpMessageConverterCustomizer> customizers, ResponseRuleRegistry ruleRegistry,
+            ObjectMapper objectMapper) {
+        return new ResponseValidatingDecoder(
+                new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(messageConverters, customizers))),
+                ruleRegistry, objectMapper);
+    }
+
+    @Bean
+    public Retryer feignRetryer() {
+        // Feign 內建重試對紀錄流程不可見，改由 @OutboundRetry 逐次紀錄
+        return Retryer.NEVER_RETRY;
+    }
+
+    /**
+     * Feign Log 等級（預設 BASIC）；FULL 且 Client Logger 為 DEBUG 時，Feign 會先將整個 Response Body 讀入記憶體再記錄，
+     * 錯誤回應的讀取上限將不生效，僅於 dev profile（{@code application-dev.properties}）開啟。
+     */
+    @Bean
+    public Logger.Level feignLoggerLevel(@Value("${outbound.feign.logger-level:BASIC}") Logger.Level level) {
+        return level;
     }
 }
@@ -0,0 +1,65 @@
+package com.example.demo.config.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.demo.iface.interceptor.InboundDeadlineInterceptor;
+import com.example.demo.infra.context.ContextHolder;
+
+@Configuration
+public class WebMvcConfiguration implements WebMvcConfigurer, DisposableBean {
+
+	private final InboundDeadlineInterceptor inboundDeadlineInterceptor;
+
+	/**
+	 * 串流回應（{@code StreamingResponseBody}，例如大量權限查詢）專用的有界執行緒池。
+	 *
+	 * <p>
+	 * 不註冊為 Bean，避免取代 Spring Boot 預設的 {@code applicationTaskExecutor}；也不使用 MVC 預設的
+	 * {@code SimpleAsyncTaskExecutor}（每個請求新建執行緒、無上限）。佇列已滿時拒絕新的串流請求。
+	 * 逾時由 {@code spring.mvc.async.request-timeout} 控制。
+	 * </p>
+	 */
+	private final ThreadPoolTaskExecutor streamingExecutor;
+
+	public WebMvcConfiguration(InboundDeadlineInterceptor inboundDeadlineInterceptor,
+			@Value("${inbound.streaming.max-threads:8}") int maxThreads,
+			@Value("${inbound.streaming.queue-capacity:50}") int queueCapacity) {
+		this.inboundDeadlineInterceptor = inboundDeadlineInterceptor;
+		this.streamingExecutor = new ThreadPoolTaskExecutor();
+		this.streamingExecutor.setCorePoolSize(maxThreads);
+		this.streamingExecutor.setMaxPoolSize(maxThreads);
+		this.streamingExecutor.setQueueCapacity(queueCapacity);
+		this.streamingExecutor.setAllowCoreThreadTimeOut(true);
+		this.streamingExecutor.setThreadNamePrefix("inbound-streaming-");
+		// 將 Inbound 請求期限帶到串流執行緒，串流中的外部 API 呼叫同樣受期限限制
+		this.streamingExecutor.setTaskDecorator(ContextHolder::propagate);
+		this.streamingExecutor.initialize();
+	}
+
+	/**
+	 * 註冊 Inbound 請求期限攔截器，讓外部 API 呼叫依請求剩餘時間限制逾時。
+	 */
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(inboundDeadlineInterceptor);
+	}
+
+	/**
+	 * 非同步 / 串流回應改用專屬執行緒池。
+	 */
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setTaskExecutor(streamingExecutor);
+	}
+
+	@Override
+	public void destroy() {
+		streamingExecutor.shutdown();
+	}
+}
@@ -0,0 +1,109 @@
+package com.example.demo.config.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 外部系統斷路器設定。
+ *
+ * <p>
+ * {@code outbound.circuit-breaker.defaults.*} 為所有外部系統的預設值，
+ * {@code outbound.circuit-breaker.systems.<system>.*} 可針對個別系統覆寫（未設定的欄位沿用預設值）。
+ * 斷路器以「system + API 方法」為單位，同一系統的不同 API 各自獨立計算。
+ * </p>
+ *
+ * <pre>
+ * outbound.circuit-breaker.defaults.failure-rate-threshold=50
+ * outbound.circuit-breaker.systems.AuthService.wait-in-open-millis=10000
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "outbound.circuit-breaker")
+public class OutboundCircuitBreakerProperties {
+
+	/**
+	 * 是否啟用斷路器
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 預設設定
+	 */
+	private Settings defaults = new Settings(50, 80, 3_000L, 100, 20, 30_000L, 5);
+
+	/**
+	 * 各外部系統的覆寫設定（key 為 system）
+	 */
+	private Map<String, Settings> systems = new HashMap<>();
+
+	/**
+	 * 取得指定外部系統的完整設定（未覆寫欄位沿用預設值）
+	 *
+	 * @param system 外部系統代碼
+	 * @return 完整設定
+	 */
+	public Settings resolve(String system) {
+		Settings override = systems.get(system);
+		if (override == null) {
+			return defaults;
+		}
+		return new Settings(pick(override.failureRateThreshold, defaults.failureRateThreshold),
+				pick(override.slowCallRateThreshold, defaults.slowCallRateThreshold),
+				pick(override.slowCallDurationMillis, defaults.slowCallDurationMillis),
+				pick(override.slidingWindowSize, defaults.slidingWindowSize),
+				pick(override.minimumNumberOfCalls, defaults.minimumNumberOfCalls),
+				pick(override.waitInOpenMillis, defaults.waitInOpenMillis),
+				pick(override.permittedCallsInHalfOpen, defaults.permittedCallsInHalfOpen));
+	}
+
+	private static <T> T pick(T value, T fallback) {
+		return value != null ? value : fallback;
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Settings {
+
+		/**
+		 * 失敗率門檻（%），達到即開路
+		 */
+		private Integer failureRateThreshold;
+
+		/**
+		 * 慢呼叫比例門檻（%），達到即開路
+		 */
+		private Integer slowCallRateThreshold;
+
+		/**
+		 * 超過此時間（毫秒）視為慢呼叫
+		 */
+		private Long slowCallDurationMillis;
+
+		/**
+		 * 滑動視窗大小（最近 N 次呼叫）
+		 */
+		private Integer slidingWindowSize;
+
+		/**
+		 * 視窗內至少累積幾次呼叫才計算比例
+		 */
+		private Integer minimumNumberOfCalls;
+
+		/**
+		 * 開路後等待多久（毫秒）進入半開
+		 */
+		private Long waitInOpenMillis;
+
+		/**
+		 * 半開狀態允許的試探呼叫數，全部成功才關路
+		 */
+		private Integer permittedCallsInHalfOpen;
+	}
+}
@@ -0,0 +1,53 @@
+package com.example.demo.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * 紀錄更新失敗的 Dead Letter 設定（{@code outbound.recording.dead-letter.*}）。
+ *
+ * <p>
+ * 紀錄狀態更新失敗（例如資料庫鎖定、逾時）的任務先保存於記憶體，超過 {@code max-in-memory} 筆時寫入
+ * {@code spill-file}；依指數退避自動重試，達 {@code max-attempts} 次後停止自動重試，等待人工重送。
+ * </p>
+ */
+@Data
+@ConfigurationProperties(prefix = "outbound.recording.dead-letter")
+public class OutboundDeadLetterProperties {
+
+	/**
+	 * 記憶體中最多保留的筆數，超過即寫入磁碟
+	 */
+	private int maxInMemory = 10_000;
+
+	/**
+	 * 溢出檔案（每行一筆 JSON），重新啟動後仍會載入重試；記憶體中的任務僅於正常停機時寫入
+	 */
+	private String spillFile = "data/outbound-dead-letters.jsonl";
+
+	/**
+	 * 自動重試掃描間隔（毫秒）
+	 */
+	private long retryIntervalMillis = 1_000L;
+
+	/**
+	 * 第一次重試前的等待時間（毫秒）
+	 */
+	private long initialBackoffMillis = 1_000L;
+
+	/**
+	 * 重試等待時間上限（毫秒）
+	 */
+	private long maxBackoffMillis = 300_000L;
+
+	/**
+	 * 每次重試等待時間的倍數
+	 */
+	private double backoffMultiplier = 2.0;
+
+	/**
+	 * 自動重試次數上限（含第一次失敗）
+	 */
+	private int maxAttempts = 10;
+}
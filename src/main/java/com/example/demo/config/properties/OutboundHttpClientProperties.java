@@ -0,0 +1,131 @@
+package com.example.demo.config.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 外部系統 HTTP Client 設定。
+ *
+ * <p>
+ * {@code outbound.http.defaults.*} 為所有外部系統的預設值， {@code outbound.http.systems.<system>.*}
+ * 可針對個別系統覆寫（未設定的欄位沿用預設值）。
+ * </p>
+ *
+ * <pre>
+ * outbound.http.defaults.max-total=200
+ * outbound.http.systems.AuthService.max-per-route=50
+ * outbound.http.systems.AuthService.backend=JDK
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpClientProperties {
+
+	/**
+	 * 預設設定
+	 */
+	private Settings defaults = new Settings(Backend.APACHE, 200, 50, 30_000L, 60_000L, 300_000L, 2_000L,
+			5_000L, 10_000L);
+
+	/**
+	 * 各外部系統的覆寫設定（key 為 system）
+	 */
+	private Map<String, Settings> systems = new HashMap<>();
+
+	/**
+	 * 取得指定外部系統的完整設定（未覆寫欄位沿用預設值）
+	 *
+	 * @param system 外部系統代碼
+	 * @return 完整設定
+	 */
+	public Settings resolve(String system) {
+		Settings override = systems.get(system);
+		if (override == null) {
+			return defaults;
+		}
+		return new Settings(pick(override.backend, defaults.backend), pick(override.maxTotal, defaults.maxTotal), pick(override.maxPerRoute, defaults.maxPerRoute),
+				pick(override.keepAliveMillis, defaults.keepAliveMillis),
+				pick(override.idleEvictMillis, defaults.idleEvictMillis),
+				pick(override.timeToLiveMillis, defaults.timeToLiveMillis),
+				pick(override.validateAfterInactivityMillis, defaults.validateAfterInactivityMillis),
+				pick(override.leaseTimeoutMillis, defaults.leaseTimeoutMillis),
+				pick(override.connectTimeoutMillis, defaults.connectTimeoutMillis));
+	}
+
+	private static <T> T pick(T value, T fallback) {
+		return value != null ? value : fallback;
+	}
+
+	/**
+	 * 底層 HTTP Client 實作
+	 */
+	public enum Backend {
+
+		/**
+		 * Apache HttpClient 4（HTTP/1.1，連線池）
+		 */
+		APACHE,
+
+		/**
+		 * JDK {@link java.net.http.HttpClient}（HTTP/2 多工，無法協商時退回 HTTP/1.1）
+		 */
+		JDK
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Settings {
+
+		/**
+		 * 底層 HTTP Client 實作
+		 */
+		private Backend backend;
+
+		/**
+		 * 連線池總連線數上限
+		 */
+		private Integer maxTotal;
+
+		/**
+		 * 每個 Route（host:port）的連線數上限
+		 */
+		private Integer maxPerRoute;
+
+		/**
+		 * Keep-Alive 上限（毫秒），外部系統回傳的 Keep-Alive 較短時以外部系統為準
+		 */
+		private Long keepAliveMillis;
+
+		/**
+		 * 閒置超過此時間（毫秒）的連線將被背景回收
+		 */
+		private Long idleEvictMillis;
+
+		/**
+		 * 連線存活時間上限（毫秒），到期後不再重用
+		 */
+		private Long timeToLiveMillis;
+
+		/**
+		 * 連線閒置超過此時間（毫秒）後，重用前先檢查是否仍可用
+		 */
+		private Long validateAfterInactivityMillis;
+
+		/**
+		 * 向連線池租用連線的等待上限（毫秒），超過即視為呼叫失敗
+		 */
+		private Long leaseTimeoutMillis;
+
+		/**
+		 * 建立連線逾時（毫秒），兩種實作皆以此值覆寫 Feign 的 connectTimeout（JDK 實作須固定，否則 Feign 會另建 Client）
+		 */
+		private Long connectTimeoutMillis;
+	}
+}
@@ -0,0 +1,90 @@
+package com.example.demo.config.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outbound API 紀錄事件分區處理設定（{@code outbound.recording.publisher=lanes} 時使用）。
+ *
+ * <p>
+ * 每個外部系統擁有獨立的一組處理通道（lane），事件依紀錄 ID 雜湊分配至通道，
+ * 同一筆紀錄的事件依序處理；{@code outbound.recording.lanes.systems.<system>.*} 可針對個別系統覆寫：
+ * </p>
+ *
+ * <pre>
+ * outbound.recording.lanes.defaults.lanes=2
+ * outbound.recording.lanes.systems.AuthService.lanes=4
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "outbound.recording.lanes")
+public class OutboundRecordingLaneProperties {
+
+	/**
+	 * 預設設定
+	 */
+	private Settings defaults = new Settings(2, 4096, 200, 1000L, 5000L);
+
+	/**
+	 * 各外部系統的覆寫設定（key 為 system）
+	 */
+	private Map<String, Settings> systems = new HashMap<>();
+
+	/**
+	 * 取得指定外部系統的完整設定（未覆寫欄位沿用預設值）
+	 *
+	 * @param system 外部系統代碼
+	 * @return 完整設定
+	 */
+	public Settings resolve(String system) {
+		Settings override = systems.get(system);
+		if (override == null) {
+			return defaults;
+		}
+		return new Settings(pick(override.lanes, defaults.lanes), pick(override.capacity, defaults.capacity),
+				pick(override.batchSize, defaults.batchSize),
+				pick(override.warnIntervalMillis, defaults.warnIntervalMillis),
+				pick(override.maxBlockMillis, defaults.maxBlockMillis));
+	}
+
+	private static <T> T pick(T value, T fallback) {
+		return value != null ? value : fallback;
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Settings {
+
+		/**
+		 * 通道數（每個通道一個處理執行緒）
+		 */
+		private Integer lanes;
+
+		/**
+		 * 每個通道的緩衝容量（事件數）
+		 */
+		private Integer capacity;
+
+		/**
+		 * 每次最多取出處理的事件數
+		 */
+		private Integer batchSize;
+
+		/**
+		 * 通道已滿時發佈端阻塞等待空間，每等待此時間（毫秒）記錄一次警告後繼續等待
+		 */
+		private Long warnIntervalMillis;
+
+		/**
+		 * 通道已滿時發佈端最長阻塞時間（毫秒），逾時的事件改交由 Dead Letter 重試
+		 */
+		private Long maxBlockMillis;
+	}
+}
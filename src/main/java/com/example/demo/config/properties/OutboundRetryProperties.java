@@ -0,0 +1,102 @@
+package com.example.demo.config.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 外部系統重試設定（供標註 {@code @OutboundRetry} 的方法使用）。
+ *
+ * <p>
+ * {@code outbound.retry.defaults.*} 為所有外部系統的預設值，
+ * {@code outbound.retry.systems.<system>.*} 可針對個別系統覆寫（未設定的欄位沿用預設值）。
+ * 重試額度以系統為單位，由該系統所有呼叫端共用。
+ * </p>
+ *
+ * <pre>
+ * outbound.retry.defaults.max-attempts=3
+ * outbound.retry.systems.AuthService.budget-percent=10
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "outbound.retry")
+public class OutboundRetryProperties {
+
+	/**
+	 * 是否啟用重試
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 預設設定
+	 */
+	private Settings defaults = new Settings(3, 100L, 2_000L, 2.0, 20, 10);
+
+	/**
+	 * 各外部系統的覆寫設定（key 為 system）
+	 */
+	private Map<String, Settings> systems = new HashMap<>();
+
+	/**
+	 * 取得指定外部系統的完整設定（未覆寫欄位沿用預設值）
+	 *
+	 * @param system 外部系統代碼
+	 * @return 完整設定
+	 */
+	public Settings resolve(String system) {
+		Settings override = systems.get(system);
+		if (override == null) {
+			return defaults;
+		}
+		return new Settings(pick(override.maxAttempts, defaults.maxAttempts),
+				pick(override.initialBackoffMillis, defaults.initialBackoffMillis),
+				pick(override.maxBackoffMillis, defaults.maxBackoffMillis),
+				pick(override.backoffMultiplier, defaults.backoffMultiplier),
+				pick(override.budgetPercent, defaults.budgetPercent), pick(override.budgetBurst, defaults.budgetBurst));
+	}
+
+	private static <T> T pick(T value, T fallback) {
+		return value != null ? value : fallback;
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Settings {
+
+		/**
+		 * 最多呼叫次數（含第一次）
+		 */
+		private Integer maxAttempts;
+
+		/**
+		 * 第一次重試前的等待時間（毫秒）
+		 */
+		private Long initialBackoffMillis;
+
+		/**
+		 * 重試等待時間上限（毫秒）
+		 */
+		private Long maxBackoffMillis;
+
+		/**
+		 * 每次重試等待時間的倍數
+		 */
+		private Double backoffMultiplier;
+
+		/**
+		 * 重試次數佔一般呼叫數的比例上限（%）
+		 */
+		private Integer budgetPercent;
+
+		/**
+		 * 可連續重試的次數上限（額度累積上限）
+		 */
+		private Integer budgetBurst;
+	}
+}
@@ -0,0 +1,81 @@
+package com.example.demo.config.properties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * 外部 API 宣告式回應驗證規則（{@code outbound.validation.*}）。
+ *
+ * <p>
+ * 規則依「系統 + API 路徑樣式（+ HTTP Method）」套用，於 Feign 解碼回應時以串流方式檢查，不需撰寫程式：
+ * 
+ * <pre>
+ * outbound.validation.systems.AuthService[0].api=/api/v1/login
+ * outbound.validation.systems.AuthService[0].http-method=POST
+ * outbound.validation.systems.AuthService[0].required-paths=token,refreshToken
+ * outbound.validation.systems.AuthService[0].allowed-values[data.status]=ACTIVE,LOCKED
+ * outbound.validation.systems.AuthService[0].error-code-path=code
+ * outbound.validation.systems.AuthService[0].success-codes=200
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * 路徑以 {@code .} 分隔欄位名稱，陣列元素以 {@code []} 表示（例如 {@code data.permissionList[]}）；
+ * 陣列中的必填路徑只需任一元素具備即可。
+ * </p>
+ */
+@Data
+@ConfigurationProperties(prefix = "outbound.validation")
+public class OutboundValidationProperties {
+
+	/**
+	 * 是否啟用宣告式回應驗證
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 各外部系統的驗證規則（key 為 system）
+	 */
+	private Map<String, List<Rule>> systems = new HashMap<>();
+
+	@Data
+	public static class Rule {
+
+		/**
+		 * API 路徑樣式（支援 {@code {id}}、{@code *}、{@code **}）
+		 */
+		private String api;
+
+		/**
+		 * HTTP Method，未設定表示不限
+		 */
+		private String httpMethod;
+
+		/**
+		 * 必填路徑：須存在且不為 null
+		 */
+		private List<String> requiredPaths = new ArrayList<>();
+
+		/**
+		 * 路徑 → 允許值（純量以文字比對），路徑不存在時不檢查
+		 */
+		private Map<String, List<String>> allowedValues = new LinkedHashMap<>();
+
+		/**
+		 * 外部系統業務錯誤碼所在路徑
+		 */
+		private String errorCodePath;
+
+		/**
+		 * 視為成功的錯誤碼，錯誤碼不在其中即為失敗
+		 */
+		private List<String> successCodes = new ArrayList<>();
+	}
+}
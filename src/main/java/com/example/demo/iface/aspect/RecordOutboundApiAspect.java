@@ -1,15 +1,47 @@
 package com.example.demo.iface.aspect;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
 import com.example.demo.application.domain.log.aggregate.OutboundApiRecord;
 import com.example.demo.application.service.OutboundApiRecordApplicationService;
-import com.example.demo.infra.annotation.ExternalApiClient;
+import com.example.demo.infra.annotation.OutboundBatchRecording;
+import com.example.demo.infra.annotation.OutboundCacheable;
+import com.example.demo.infra.annotation.OutboundCoalescing;
+import com.example.demo.infra.annotation.OutboundHedging;
+import com.example.demo.infra.annotation.OutboundRetry;
 import com.example.demo.infra.context.ContextHolder;
+import com.example.demo.infra.context.Deadline;
+import com.example.demo.infra.context.OutboundContextScope;
+import com.example.demo.infra.context.element.OutboundApiRequestInfo;
+import com.example.demo.infra.outbound.cache.OutboundResponseCache;
+import com.example.demo.infra.outbound.circuitbreaker.OutboundCircuitBreaker;
+import com.example.demo.infra.outbound.circuitbreaker.OutboundCircuitBreakerRegistry;
+import com.example.demo.infra.outbound.coalescing.OutboundSingleFlight;
+import com.example.demo.infra.outbound.hedging.OutboundHedgingExecutor;
+import com.example.demo.infra.outbound.limiter.OutboundConcurrencyLimiter;
+import com.example.demo.infra.outbound.limiter.OutboundConcurrencyLimiterRegistry;
+import com.example.demo.infra.outbound.registry.OutboundClientProfile;
+import com.example.demo.infra.outbound.registry.OutboundMethodProfile;
+import com.example.demo.infra.outbound.registry.OutboundSystemRegistry;
+import com.example.demo.infra.outbound.retry.OutboundRetryExecutor;
+import com.example.demo.infra.outbound.shared.exception.CustomFeignException;
+import com.example.demo.infra.outbound.shared.exception.OutboundErrorClassifier;
+import com.example.demo.infra.outbound.shared.invocation.OutboundAttempt;
+import com.example.demo.infra.outbound.shared.invocation.OutboundInvocation;
+import com.example.demo.infra.outbound.shared.invocation.OutboundInvocationKey;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,41 +54,448 @@ public class RecordOutboundApiAspect {
 
 	private final OutboundApiRecordApplicationService applicationService;
 
-	@Pointcut("@within(com.example.demo.config.annotation.ExternalApiClient)")
+	private final OutboundResponseCache responseCache;
+
+	private final OutboundSingleFlight singleFlight;
+
+	private final OutboundCircuitBreakerRegistry circuitBreakerRegistry;
+
+	private final OutboundConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+
+	private final OutboundHedgingExecutor hedgingExecutor;
+
+	private final OutboundRetryExecutor retryExecutor;
+
+	private final OutboundSystemRegistry systemRegistry;
+
+	@Pointcut("@within(com.example.demo.infra.annotation.ExternalApiClient)")
 	public void pointCut() {
 	}
 
 	@Around("pointCut()")
 	public Object recordApi(ProceedingJoinPoint joinPoint) throws Throwable {
 
-		// 取得 @ExternalApiClient 標註的 system
-		Class<?> targetClass = joinPoint.getTarget().getClass();
-		ExternalApiClient externalApiClient = targetClass.getAnnotation(ExternalApiClient.class);
-		String system = externalApiClient.system();
+		// 取得 @ExternalApiClient 實作類別與方法的預先解析設定（啟動時建立，此處僅查表）
+		OutboundClientProfile client = systemRegistry.client(joinPoint.getTarget().getClass());
+		OutboundMethodProfile profile = client.method(((MethodSignature) joinPoint.getSignature()).getMethod());
+		String system = client.getSystem();
 
 		Object[] args = joinPoint.getArgs();
 		String methodName = joinPoint.getSignature().getName();
 		log.info("[RecordOutboundApiAspect] system: {}, Method: {}, Args: {}", system, methodName, args);
 
-		// 外部 API 呼叫前處理
-		OutboundApiRecord saved = applicationService.preExecutingOutboundApi(system, joinPoint);
+		Method method = profile.getMethod();
+		OutboundCacheable cacheable = profile.getCacheable();
+		OutboundCoalescing coalescing = profile.getCoalescing();
+
+		OutboundHedging hedging = profile.getHedging();
+		OutboundRetry retry = profile.getRetry();
+		OutboundConcurrencyLimiter limiter = client.getLimiter();
+		OutboundCircuitBreaker circuitBreaker = profile.getCircuitBreaker();
+
+		// 讀取逾時：方法宣告優先於系統宣告，實際值再以 Inbound 請求剩餘時間為上限
+		long readTimeoutMillis = profile.getReadTimeoutMillis();
 
+		OutboundInvocation invocation;
+		if (profile.isAsync()) {
+			invocation = guard(system, method, joinPoint, limiter, circuitBreaker,
+					() -> invokeAndRecordAsync(system, joinPoint, readTimeoutMillis));
+		} else if (profile.isBatchRecording()) {
+			invocation = guard(system, method, joinPoint, limiter, circuitBreaker,
+					() -> invokeAndRecordInBatch(system, joinPoint, readTimeoutMillis));
+		} else if (hedging == null && retry == null) {
+			invocation = guard(system, method, joinPoint, limiter, circuitBreaker,
+					() -> invokeAndRecord(system, joinPoint, null, readTimeoutMillis));
+		} else {
+			// 對沖 / 重試：每次實際呼叫各自經過保護機制並寫入紀錄，以 parent_record_id 連結第一次呼叫
+			Function<OutboundAttempt, OutboundInvocation> attempts = attempt -> guard(system, method, joinPoint,
+					limiter, circuitBreaker, () -> invokeAndRecord(system, joinPoint, attempt, readTimeoutMillis));
+			if (hedging != null) {
+				Function<OutboundAttempt, OutboundInvocation> single = attempts;
+				attempts = attempt -> () -> hedgingExecutor.execute(system, method, hedging, attempt, single);
+			}
+			Function<OutboundAttempt, OutboundInvocation> logical = attempts;
+			invocation = retry != null ? () -> retryExecutor.execute(system, method, retry, logical)
+					: () -> logical.apply(OutboundAttempt.first()).proceed();
+		}
+
+		if (cacheable == null && coalescing == null) {
+			return invocation.proceed();
+		}
+
+		OutboundInvocationKey key = OutboundInvocationKey.of(system, methodName, args);
+
+		// 標註 @OutboundCoalescing：同時發生的相同請求僅由 Leader 呼叫並紀錄
+		if (coalescing != null) {
+			OutboundInvocation recorded = invocation;
+			invocation = () -> singleFlight.execute(key, method, recorded);
+		}
+
+		// 標註 @OutboundCacheable：先查快取，命中時不呼叫外部系統也不寫紀錄
+		if (cacheable != null) {
+			return responseCache.get(key, method, cacheable, invocation);
+		}
+		return invocation.proceed();
+	}
+
+	/**
+	 * 以保護機制包裝單次外部 API 呼叫。
+	 *
+	 * <ul>
+	 * <li>並行上限：同一系統進行中的呼叫數達上限時直接拒絕，僅寫入拒絕紀錄</li>
+	 * <li>斷路器：開路時不連線外部系統，僅寫入短路紀錄（在並行上限之外，短路的呼叫不佔用並行額度）</li>
+	 * <li>請求期限：Inbound 請求期限已過時不連線外部系統，僅寫入 DEADLINE_EXCEEDED 紀錄（最外層，不佔用任何額度）</li>
+	 * </ul>
+	 */
+	private OutboundInvocation guard(String system, Method method, ProceedingJoinPoint joinPoint,
+			OutboundConcurrencyLimiter limiter, OutboundCircuitBreaker circuitBreaker, OutboundInvocation invocation) {
+		OutboundInvocation guarded = invocation;
+		if (limiter != null) {
+			OutboundInvocation limited = guarded;
+			guarded = () -> invokeWithConcurrencyLimit(system, method, limiter, joinPoint, limited);
+		}
+		if (circuitBreaker != null) {
+			OutboundInvocation breaking = guarded;
+			guarded = () -> invokeWithCircuitBreaker(system, method, circuitBreaker, joinPoint, breaking);
+		}
+		OutboundInvocation deadlined = guarded;
+		return () -> invokeWithinDeadline(system, method, joinPoint, deadlined);
+	}
+
+	/**
+	 * 於 Inbound 請求期限內執行外部 API 呼叫。
+	 *
+	 * <p>
+	 * 期限已過時直接失敗（{@code DEADLINE_EXCEEDED}），並寫入 DEADLINE_EXCEEDED 紀錄；無期限或仍有剩餘時間時正常呼叫。
+	 * </p>
+	 *
+	 * @param system     外部系統代碼
+	 * @param method     Client 方法
+	 * @param joinPoint  AOP 切入點
+	 * @param invocation 實際呼叫（含保護機制與紀錄流程）
+	 * @return 原方法回傳物件
+	 * @throws Throwable 原方法拋出的例外或期限例外
+	 */
+	private Object invokeWithinDeadline(String system, Method method, ProceedingJoinPoint joinPoint,
+			OutboundInvocation invocation) throws Throwable {
+
+		Deadline deadline = ContextHolder.getDeadline();
+		if (deadline == null || !deadline.isExpired()) {
+			return invocation.proceed();
+		}
+
+		String reason = String.format("%s %s skipped, inbound request deadline exceeded", system, method.getName());
+		applicationService.recordDeadlineExceeded(system, joinPoint, reason);
+		CustomFeignException exceeded = new CustomFeignException("DEADLINE_EXCEEDED", reason);
+		if (CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+			return CompletableFuture.failedFuture(exceeded);
+		}
+		throw exceeded;
+	}
+
+	/**
+	 * 經斷路器執行外部 API 呼叫。
+	 *
+	 * <p>
+	 * 未取得許可時直接失敗（{@code CIRCUIT_OPEN}），並寫入 SHORT_CIRCUITED 紀錄；
+	 * 取得許可時依呼叫耗時與結果回報斷路器，非同步呼叫於 Future 完成時回報。
+	 * </p>
+	 *
+	 * @param system         外部系統代碼
+	 * @param method         Client 方法
+	 * @param circuitBreaker 斷路器
+	 * @param joinPoint      AOP 切入點
+	 * @param invocation     實際呼叫（含紀錄流程）
+	 * @return 原方法回傳物件
+	 * @throws Throwable 原方法拋出的例外或短路例外
+	 */
+	private Object invokeWithCircuitBreaker(String system, Method method, OutboundCircuitBreaker circuitBreaker,
+			ProceedingJoinPoint joinPoint, OutboundInvocation invocation) throws Throwable {
+
+		OutboundCircuitBreaker.Permit permit = circuitBreaker.tryAcquirePermission();
+		if (permit == null) {
+			circuitBreakerRegistry.onRejected(method);
+			String reason = String.format("%s %s circuit breaker is open", system, method.getName());
+			applicationService.recordShortCircuited(system, joinPoint, reason);
+			CustomFeignException rejected = new CustomFeignException("CIRCUIT_OPEN", reason);
+			if (CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+				return CompletableFuture.failedFuture(rejected);
+			}
+			throw rejected;
+		}
+
+		long start = System.nanoTime();
+		Object result;
 		try {
-			// 執行原方法
-			Object proceed = joinPoint.proceed();
+			result = invocation.proceed();
+		} catch (Throwable e) {
+			circuitBreaker.onResult(permit, System.nanoTime() - start, OutboundErrorClassifier.isSystemFailure(e));
+			throw e;
+		}
+
+		if (result instanceof CompletionStage<?> stage) {
+			stage.whenComplete((response, error) -> circuitBreaker.onResult(permit, System.nanoTime() - start,
+					error != null && OutboundErrorClassifier.isSystemFailure(unwrap(error))));
+		} else {
+			circuitBreaker.onResult(permit, System.nanoTime() - start, false);
+		}
+		return result;
+	}
+
+	/**
+	 * 在外部系統並行上限內執行外部 API 呼叫。
+	 *
+	 * <p>
+	 * 達上限時直接失敗（{@code CONCURRENCY_LIMITED}），並寫入 REJECTED 紀錄；
+	 * 取得許可時於呼叫結束（非同步呼叫為 Future 完成）後釋放，並依耗時與結果調整上限。
+	 * </p>
+	 *
+	 * @param system     外部系統代碼
+	 * @param method     Client 方法
+	 * @param limiter    並行上限
+	 * @param joinPoint  AOP 切入點
+	 * @param invocation 實際呼叫（含紀錄流程）
+	 * @return 原方法回傳物件
+	 * @throws Throwable 原方法拋出的例外或拒絕例外
+	 */
+	private Object invokeWithConcurrencyLimit(String system, Method method, OutboundConcurrencyLimiter limiter,
+			ProceedingJoinPoint joinPoint, OutboundInvocation invocation) throws Throwable {
 
-			// 外部 API 呼叫後處理
-			applicationService.afterExecutingOutboundApi(system, proceed, saved);
-			return proceed;
+		if (!limiter.tryAcquire()) {
+			concurrencyLimiterRegistry.onRejected(system);
+			String reason = String.format("%s concurrency limit %d reached", system, limiter.getLimit());
+			applicationService.recordRejected(system, joinPoint, reason);
+			CustomFeignException rejected = new CustomFeignException("CONCURRENCY_LIMITED", reason);
+			if (CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+				return CompletableFuture.failedFuture(rejected);
+			}
+			throw rejected;
+		}
 
+		long start = System.nanoTime();
+		Object result;
+		try {
+			result = invocation.proceed();
+		} catch (Throwable e) {
+			limiter.release(System.nanoTime() - start, OutboundErrorClassifier.isSystemFailure(e));
+			throw e;
+		}
+
+		if (result instanceof CompletionStage<?> stage) {
+			stage.whenComplete((response, error) -> limiter.release(System.nanoTime() - start,
+					error != null && OutboundErrorClassifier.isSystemFailure(unwrap(error))));
+		} else {
+			limiter.release(System.nanoTime() - start, false);
+		}
+		return result;
+	}
+
+	/**
+	 * 執行外部 API 呼叫，並完成呼叫前後的紀錄流程。
+	 *
+	 * @param system    外部系統代碼
+	 * @param joinPoint AOP 切入點
+	 * @param attempt           對沖等機制中的單次呼叫，一般呼叫為 null
+	 * @param readTimeoutMillis 宣告的讀取逾時，小於等於 0 表示使用預設值
+	 * @return 原方法回傳物件
+	 * @throws Throwable 原方法拋出的例外
+	 */
+	private Object invokeAndRecord(String system, ProceedingJoinPoint joinPoint, OutboundAttempt attempt,
+			long readTimeoutMillis) throws Throwable {
+
+		// 外部 API 呼叫前處理
+		OutboundApiRecord saved = applicationService.preExecutingOutboundApi(system, joinPoint,
+				attempt == null ? null : attempt.getParentRecordId());
+		if (attempt != null) {
+			attempt.setRecordId(saved.getId());
+		}
+
+		// 每次呼叫綁定獨立的上下文範圍，結束後自動還原
+		OutboundContextScope scope = ContextHolder.openScope(readTimeoutMillis);
+		try {
+			return ContextHolder.callInScope(scope, () -> proceedAndRecord(system, joinPoint, saved, attempt));
+		} finally {
+			ContextHolder.closeScope(scope);
+		}
+	}
+
+	private Object proceedAndRecord(String system, ProceedingJoinPoint joinPoint, OutboundApiRecord saved,
+			OutboundAttempt attempt) throws Throwable {
+		Object proceed;
+		try {
+			// 執行原方法
+			proceed = proceed(joinPoint, attempt);
 		} catch (Exception e) {
+			if (attempt != null && attempt.isCancelled()) {
+				// 其他呼叫已勝出，中斷造成的例外不視為失敗
+				applicationService.recordCancelled(saved, cancelledReason(attempt));
+				throw new CancellationException(cancelledReason(attempt));
+			}
+			if (deadlineExceeded(ContextHolder.getDeadline(), e)) {
+				// 呼叫因 Inbound 請求剩餘時間耗盡而逾時
+				applicationService.handleException(system, saved, e.getMessage(), ContextHolder.getFeignContext(),
+						true);
+				throw deadlineExceededException(system, e);
+			}
 			// 外部 API 呼叫例外處理
 			applicationService.handleException(system, saved, e.getMessage());
 			throw e; // 可以拋出去終止流程，也可不拋
+		}
+
+		boolean accepted;
+		try {
+			// 外部 API 呼叫後處理；對沖等多次呼叫時，回應驗證通過後才爭取結果
+			if (attempt == null) {
+				applicationService.afterExecutingOutboundApi(system, proceed, saved);
+				accepted = true;
+			} else {
+				accepted = applicationService.afterExecutingOutboundApi(system, proceed, saved, attempt::tryWin);
+			}
+		} catch (Exception e) {
+			applicationService.handleException(system, saved, e.getMessage());
+			throw e;
+		}
+
+		if (!accepted) {
+			applicationService.recordCancelled(saved, cancelledReason(attempt));
+			throw new CancellationException(cancelledReason(attempt));
+		}
+		return proceed;
+	}
+
+	/**
+	 * 執行原方法；對沖呼叫於連線期間綁定執行緒，落敗時可被中斷
+	 */
+	private static Object proceed(ProceedingJoinPoint joinPoint, OutboundAttempt attempt) throws Throwable {
+		if (attempt == null) {
+			return joinPoint.proceed();
+		}
+		attempt.bind(Thread.currentThread());
+		try {
+			return joinPoint.proceed();
+		} finally {
+			attempt.bind(null);
+			if (attempt.isCancelled()) {
+				// 清除取消時的中斷狀態，避免影響後續紀錄寫入
+				Thread.interrupted();
+			}
+		}
+	}
+
+	/**
+	 * 是否為 Inbound 請求期限耗盡造成的失敗：期限已過，且未取得外部系統回應（逾時、中斷等）
+	 */
+	private static boolean deadlineExceeded(Deadline deadline, Throwable error) {
+		return deadline != null && deadline.isExpired() && !(error instanceof CustomFeignException);
+	}
 
+	private static CustomFeignException deadlineExceededException(String system, Throwable error) {
+		return new CustomFeignException("DEADLINE_EXCEEDED",
+				String.format("%s call exceeded inbound request deadline: %s", system, error.getMessage()));
+	}
+
+	private static String cancelledReason(OutboundAttempt attempt) {
+		return String.format("%s attempt cancelled, another attempt succeeded first", attempt.getLabel());
+	}
+
+	/**
+	 * 執行外部 API 呼叫，完成後才建立完整紀錄並批次寫入（{@link OutboundBatchRecording}）。
+	 *
+	 * @param system    外部系統代碼
+	 * @param joinPoint         AOP 切入點
+	 * @param readTimeoutMillis 宣告的讀取逾時，小於等於 0 表示使用預設值
+	 * @return 原方法回傳物件
+	 * @throws Throwable 原方法拋出的例外
+	 */
+	private Object invokeAndRecordInBatch(String system, ProceedingJoinPoint joinPoint, long readTimeoutMillis)
+			throws Throwable {
+		OutboundContextScope scope = ContextHolder.openScope(readTimeoutMillis);
+		try {
+			return ContextHolder.callInScope(scope, () -> {
+				try {
+					Object proceed = joinPoint.proceed();
+					applicationService.recordSuccessInBatch(system, joinPoint, proceed, scope.getRequestInfo());
+					return proceed;
+				} catch (Exception e) {
+					boolean deadlineExceeded = deadlineExceeded(ContextHolder.getDeadline(), e);
+					applicationService.recordFailureInBatch(system, joinPoint, e.getMessage(), scope.getRequestInfo(),
+							deadlineExceeded);
+					throw deadlineExceeded ? deadlineExceededException(system, e) : e;
+				}
+			});
 		} finally {
-			ContextHolder.clear();
+			ContextHolder.closeScope(scope);
 		}
+	}
 
+	/**
+	 * 執行回傳 {@link CompletionStage} 的外部 API 呼叫，並於 Future 完成時紀錄結果。
+	 *
+	 * <p>
+	 * 呼叫前紀錄於發起端同步寫入；呼叫範圍由 TaskDecorator 帶到 Worker 執行緒，Feign 於 Worker 上設定的上下文
+	 * 寫入同一個範圍，Future 完成後才依結果發送成功 / 失敗事件。回傳的 Future 於紀錄完成後才完成，回應驗證失敗時以例外完成。
+	 * </p>
+	 *
+	 * @param system    外部系統代碼
+	 * @param joinPoint         AOP 切入點
+	 * @param readTimeoutMillis 宣告的讀取逾時，小於等於 0 表示使用預設值
+	 * @return 紀錄完成後才完成的 Future
+	 * @throws Throwable 原方法同步拋出的例外
+	 */
+	private Object invokeAndRecordAsync(String system, ProceedingJoinPoint joinPoint, long readTimeoutMillis)
+			throws Throwable {
+
+		// 外部 API 呼叫前處理
+		OutboundApiRecord saved = applicationService.preExecutingOutboundApi(system, joinPoint);
+
+		// 範圍維持到 Future 完成為止；期限於發起端取得，完成時於 Worker 執行緒判斷
+		OutboundContextScope scope = ContextHolder.openScope(readTimeoutMillis);
+		Deadline deadline = ContextHolder.getDeadline();
+		CompletionStage<?> stage;
+		try {
+			// 執行原方法（僅發起呼叫）
+			stage = (CompletionStage<?>) ContextHolder.callInScope(scope, joinPoint::proceed);
+		} catch (Exception e) {
+			ContextHolder.closeScope(scope);
+			applicationService.handleException(system, saved, e.getMessage(), scope.getRequestInfo());
+			throw e;
+		}
+
+		CompletableFuture<Object> recorded = new CompletableFuture<>();
+		stage.whenComplete((response, error) -> {
+			ContextHolder.closeScope(scope);
+			OutboundApiRequestInfo feignContext = scope.getRequestInfo();
+			if (error != null) {
+				Throwable cause = unwrap(error);
+				boolean deadlineExceeded = deadlineExceeded(deadline, cause);
+				try {
+					applicationService.handleException(system, saved, cause.getMessage(), feignContext,
+							deadlineExceeded);
+				} finally {
+					recorded.completeExceptionally(deadlineExceeded ? deadlineExceededException(system, cause) : cause);
+				}
+				return;
+			}
+			try {
+				// 外部 API 呼叫後處理
+				applicationService.afterExecutingOutboundApi(system, response, saved, feignContext);
+				recorded.complete(response);
+			} catch (RuntimeException e) {
+				try {
+					applicationService.handleException(system, saved, e.getMessage(), feignContext);
+				} finally {
+					recorded.completeExceptionally(e);
+				}
+			}
+		});
+		return recorded;
+	}
+
+	private static Throwable unwrap(Throwable error) {
+		Throwable cause = error;
+		while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		return cause;
 	}
 }
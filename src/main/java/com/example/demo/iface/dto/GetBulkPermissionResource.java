@@ -0,0 +1,15 @@
+package com.example.demo.iface.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetBulkPermissionResource {
+
+	private List<String> usernames;
+}
@@ -0,0 +1,13 @@
+package com.example.demo.iface.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvalidateJwTokenResource {
+
+	private String token;
+}
@@ -0,0 +1,5 @@
+package com.example.demo.iface.dto;
+
+public record JwTokenInvalidatedResource(String code, String message, boolean invalidated) {
+
+}
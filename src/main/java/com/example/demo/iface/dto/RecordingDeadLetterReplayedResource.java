@@ -0,0 +1,5 @@
+package com.example.demo.iface.dto;
+
+public record RecordingDeadLetterReplayedResource(String code, String message, int replayed) {
+
+}
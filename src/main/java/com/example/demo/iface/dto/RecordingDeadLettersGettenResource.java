@@ -0,0 +1,10 @@
+package com.example.demo.iface.dto;
+
+import java.util.List;
+
+import com.example.demo.infra.outbound.recording.deadletter.RecordingDeadLetter;
+
+public record RecordingDeadLettersGettenResource(String code, String message, int spilled,
+		List<RecordingDeadLetter> data) {
+
+}
@@ -8,8 +8,10 @@ import com.example.demo.application.domain.log.command.RecordFailedOutboundApiCo
 import com.example.demo.application.domain.log.command.RecordSuccessOutboundApiCommand;
 import com.example.demo.application.domain.log.event.RecordOutboundApiFailedEvent;
 import com.example.demo.application.domain.log.event.RecordOutboundApiSucceededEvent;
-import com.example.demo.application.factory.OutboundApiResponseHandlerFactory;
 import com.example.demo.application.port.OutboundApiResponseHandlerPort;
+import com.example.demo.infra.outbound.recording.OutboundRecordingDrainer;
+import com.example.demo.infra.outbound.recording.deadletter.RecordingDeadLetterQueue;
+import com.example.demo.infra.outbound.registry.OutboundSystemRegistry;
 import com.example.demo.util.BaseDataTransformer;
 
 import lombok.RequiredArgsConstructor;
@@ -32,8 +34,10 @@ import lombok.extern.slf4j.Slf4j;
  * 設計重點：
  * <ul>
  * <li>事件處理為非同步執行，避免影響主流程效能</li>
- * <li>透過 Factory 依 system 動態選擇對應的 Handler</li>
+ * <li>透過 {@link OutboundSystemRegistry} 依 system 取得預先解析的 Handler</li>
  * <li>集中處理副作用（DB 更新、紀錄、通知等）</li>
+ * <li>處理失敗的任務交由 {@link RecordingDeadLetterQueue} 保存並重試，不隨非同步執行緒遺失</li>
+ * <li>處理完成後通知 {@link OutboundRecordingDrainer}，停機時據此等待尚未處理的事件</li>
  * </ul>
  * </p>
  */
@@ -43,9 +47,19 @@ import lombok.extern.slf4j.Slf4j;
 public class OutboundApiEventHandler {
 
 	/**
-	 * 外部 API 回應處理器工廠， 依外部系統代碼(system)取得對應的 ResponseHandler 實作。
+	 * 外部系統元件登錄表，依外部系統代碼(system)取得對應的 ResponseHandler 實作。
 	 */
-	private final OutboundApiResponseHandlerFactory responseHandlerFactory;
+	private final OutboundSystemRegistry systemRegistry;
+
+	/**
+	 * 紀錄更新失敗的任務保存處
+	 */
+	private final RecordingDeadLetterQueue deadLetterQueue;
+
+	/**
+	 * 停機時追蹤尚未處理完成的紀錄事件
+	 */
+	private final OutboundRecordingDrainer drainer;
 
 	/**
 	 * 處理外部 API 呼叫「成功完成」事件
@@ -78,10 +92,16 @@ public class OutboundApiEventHandler {
 				RecordSuccessOutboundApiCommand.class);
 
 		// 依外部系統代碼取得對應的 ResponseHandler
-		OutboundApiResponseHandlerPort handler = responseHandlerFactory.getHandler(system);
+		OutboundApiResponseHandlerPort handler = systemRegistry.profile(system).getResponseHandler();
 
 		// 處理外部 API 呼叫成功後的實際副作用
-		handler.handleSuccess(command);
+		try {
+			handler.handleSuccess(command);
+		} catch (RuntimeException e) {
+			deadLetterQueue.add(system, command, e);
+		} finally {
+			drainer.complete(event);
+		}
 	}
 
 	/**
@@ -114,9 +134,15 @@ public class OutboundApiEventHandler {
 		String system = event.getSystem();
 
 		// 依外部系統代碼取得對應的 ResponseHandler
-		OutboundApiResponseHandlerPort responseHandler = responseHandlerFactory.getHandler(system);
+		OutboundApiResponseHandlerPort responseHandler = systemRegistry.profile(system).getResponseHandler();
 
 		// 處理外部 API 呼叫失敗後的實際副作用
-		responseHandler.handleFailure(command);
+		try {
+			responseHandler.handleFailure(command);
+		} catch (RuntimeException e) {
+			deadLetterQueue.add(system, command, e);
+		} finally {
+			drainer.complete(event);
+		}
 	}
 }
@@ -0,0 +1,80 @@
+package com.example.demo.iface.interceptor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.example.demo.infra.context.ContextHolder;
+import com.example.demo.infra.context.Deadline;
+import com.example.demo.shared.constant.OutboundConstants;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 建立 Inbound 請求期限的攔截器。
+ *
+ * <p>
+ * 時間預算來源（擇一）：
+ * <ul>
+ * <li>呼叫端 Header {@code X-Request-Timeout-Ms}（以 {@code inbound.deadline.max-millis} 為上限）</li>
+ * <li>未帶 Header 時使用 {@code inbound.deadline.default-millis}，0 表示不設期限</li>
+ * </ul>
+ * 期限保存於 {@link ContextHolder}，限制本請求觸發的外部 API 呼叫逾時，並轉送剩餘時間給外部系統。
+ * </p>
+ *
+ * <p>
+ * 請求結束或轉為非同步處理時清除期限；非同步處理的執行緒由 {@code TaskDecorator} 帶入期限。
+ * </p>
+ */
+@Slf4j
+@Component
+public class InboundDeadlineInterceptor implements AsyncHandlerInterceptor {
+
+	private final long defaultMillis;
+
+	private final long maxMillis;
+
+	public InboundDeadlineInterceptor(@Value("${inbound.deadline.default-millis:0}") long defaultMillis,
+			@Value("${inbound.deadline.max-millis:60000}") long maxMillis) {
+		this.defaultMillis = defaultMillis;
+		this.maxMillis = maxMillis;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		long budget = resolveBudget(request.getHeader(OutboundConstants.DEADLINE_HEADER.getValue()));
+		ContextHolder.setDeadline(budget > 0 ? Deadline.after(budget) : null);
+		return true;
+	}
+
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+			Object handler) {
+		ContextHolder.setDeadline(null);
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		ContextHolder.setDeadline(null);
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private long resolveBudget(String header) {
+		if (header == null || header.isBlank()) {
+			return defaultMillis;
+		}
+		try {
+			long requested = Long.parseLong(header.trim());
+			return requested > 0 ? Math.min(requested, maxMillis) : defaultMillis;
+		} catch (NumberFormatException e) {
+			log.debug("Ignore invalid {} header: {}", OutboundConstants.DEADLINE_HEADER.getValue(), header);
+			return defaultMillis;
+		}
+	}
+}
@@ -1,21 +1,29 @@
 package com.example.demo.iface.rest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.demo.application.service.AuthApplicationService;
 import com.example.demo.application.shared.outbound.auth.command.GetJwTokenCommand;
 import com.example.demo.application.shared.outbound.auth.dto.JwTokenGettenData;
 import com.example.demo.application.shared.outbound.auth.dto.PermissionGettenData;
+import com.example.demo.iface.dto.GetBulkPermissionResource;
 import com.example.demo.iface.dto.GetJwTokenResource;
 import com.example.demo.iface.dto.JwTokenGettenResource;
 import com.example.demo.iface.dto.PermissionGettenResource;
 import com.example.demo.util.BaseDataTransformer;
+import com.example.demo.util.JsonParseUtil;
 
 import lombok.AllArgsConstructor;
 
@@ -37,4 +45,24 @@ public class AuthController {
 		PermissionGettenData data = applicationService.getPermissionList(username);
 		return new ResponseEntity<>(new PermissionGettenResource("200", "Success", data), HttpStatus.OK);
 	}
+
+	/**
+	 * 大量取得使用者權限，以 NDJSON（每行一筆）串流回傳，每筆查詢完成即送出。
+	 */
+	@PostMapping(value = "/permission/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> getPermissionLists(@RequestBody GetBulkPermissionResource resource) {
+		StreamingResponseBody body = outputStream -> applicationService.getPermissionLists(resource.getUsernames(),
+				data -> {
+					byte[] line = (JsonParseUtil.serialize(data) + "\n").getBytes(StandardCharsets.UTF_8);
+					synchronized (outputStream) {
+						try {
+							outputStream.write(line);
+							outputStream.flush();
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					}
+				});
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
 }
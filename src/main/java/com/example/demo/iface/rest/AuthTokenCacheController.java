@@ -0,0 +1,40 @@
+package com.example.demo.iface.rest;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.application.service.AuthApplicationService;
+import com.example.demo.iface.dto.InvalidateJwTokenResource;
+import com.example.demo.iface.dto.JwTokenInvalidatedResource;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * AuthService 登入 Token 快取管理 API。
+ *
+ * <p>
+ * 使用 Token 的服務收到 401（Token 遭撤銷、密碼已變更）時呼叫，清除該 Token 的登入快取。可影響其他帳號的登入行為，
+ * 與其他管理 API 相同預設不開放；需設定 {@code auth.service.token-cache.admin.enabled=true}，
+ * 並應僅於內部網路或搭配存取控制使用。
+ * </p>
+ */
+@RestController
+@ConditionalOnProperty(name = "auth.service.token-cache.admin.enabled", havingValue = "true")
+@AllArgsConstructor
+@RequestMapping("/admin/auth/token-cache")
+public class AuthTokenCacheController {
+
+	private AuthApplicationService applicationService;
+
+	@PostMapping("/invalidation")
+	public ResponseEntity<JwTokenInvalidatedResource> invalidateJwToken(
+			@RequestBody InvalidateJwTokenResource resource) {
+		boolean invalidated = applicationService.invalidateJwToken(resource.getToken());
+		return new ResponseEntity<>(new JwTokenInvalidatedResource("200", "Success", invalidated), HttpStatus.OK);
+	}
+}
@@ -0,0 +1,65 @@
+package com.example.demo.iface.rest;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.iface.dto.RecordingDeadLetterReplayedResource;
+import com.example.demo.iface.dto.RecordingDeadLettersGettenResource;
+import com.example.demo.infra.outbound.recording.deadletter.RecordingDeadLetterQueue;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Outbound 紀錄 Dead Letter 管理 API：查詢、立即重送、捨棄紀錄更新失敗的任務。
+ *
+ * <p>
+ * 回應含紀錄內容且可修改資料，預設不開放；需設定 {@code outbound.recording.dead-letter.admin.enabled=true}，
+ * 並應僅於內部網路或搭配存取控制使用。
+ * </p>
+ */
+@RestController
+@ConditionalOnProperty(name = "outbound.recording.dead-letter.admin.enabled", havingValue = "true")
+@AllArgsConstructor
+@RequestMapping("/admin/outbound/dead-letters")
+public class RecordingDeadLetterController {
+
+	private RecordingDeadLetterQueue deadLetterQueue;
+
+	@GetMapping
+	public ResponseEntity<RecordingDeadLettersGettenResource> list() {
+		return new ResponseEntity<>(new RecordingDeadLettersGettenResource("200", "Success",
+				deadLetterQueue.spilledCount(), deadLetterQueue.list()), HttpStatus.OK);
+	}
+
+	@PostMapping("/replay")
+	public ResponseEntity<RecordingDeadLetterReplayedResource> replayAll() {
+		return new ResponseEntity<>(new RecordingDeadLetterReplayedResource("200", "Success", deadLetterQueue.replayAll()),
+				HttpStatus.OK);
+	}
+
+	@PostMapping("/{id}/replay")
+	public ResponseEntity<RecordingDeadLetterReplayedResource> replay(@PathVariable String id) {
+		return deadLetterQueue.replay(id)
+				.map(succeeded -> succeeded
+						? new RecordingDeadLetterReplayedResource("200", "Success", 1)
+						: new RecordingDeadLetterReplayedResource("500", "Replay failed", 0))
+				.map(resource -> new ResponseEntity<>(resource, HttpStatus.OK))
+				.orElseGet(() -> new ResponseEntity<>(
+						new RecordingDeadLetterReplayedResource("404", "Dead letter not found", 0), HttpStatus.NOT_FOUND));
+	}
+
+	@DeleteMapping("/{id}")
+	public ResponseEntity<RecordingDeadLetterReplayedResource> discard(@PathVariable String id) {
+		return deadLetterQueue.discard(id)
+				? new ResponseEntity<>(new RecordingDeadLetterReplayedResource("200", "Success", 0), HttpStatus.OK)
+				: new ResponseEntity<>(new RecordingDeadLetterReplayedResource("404", "Dead letter not found", 0),
+						HttpStatus.NOT_FOUND);
+	}
+}
@@ -1,5 +1,12 @@
 package com.example.demo.infra.adapter;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.example.demo.application.port.AuthSerivceClientPort;
@@ -7,25 +14,73 @@ import com.example.demo.application.shared.outbound.auth.command.GetJwTokenComma
 import com.example.demo.application.shared.outbound.auth.dto.JwTokenGettenData;
 import com.example.demo.application.shared.outbound.auth.dto.PermissionGettenData;
 import com.example.demo.infra.annotation.ExternalApiClient;
+import com.example.demo.infra.annotation.OutboundBatchRecording;
+import com.example.demo.infra.annotation.OutboundCacheable;
+import com.example.demo.infra.annotation.OutboundCoalescing;
+import com.example.demo.infra.annotation.OutboundConcurrencyLimit;
+import com.example.demo.infra.annotation.OutboundHedging;
+import com.example.demo.infra.annotation.OutboundRetry;
+import com.example.demo.infra.annotation.OutboundTimeout;
+import com.example.demo.infra.context.ContextHolder;
 import com.example.demo.infra.outbound.feign.client.AuthFeignClient;
 
-import lombok.AllArgsConstructor;
+import jakarta.annotation.PreDestroy;
 
 @Component
-@AllArgsConstructor
-@ExternalApiClient(system = "AuthService")
+@ExternalApiClient(system = "AuthService", concurrencyLimit = @OutboundConcurrencyLimit(initialLimit = 20, maxLimit = 100,
+		latencyThresholdMillis = 2000, maxQueueWaitMillis = 50), readTimeoutMillis = 5000)
 class AuthSerivceClientAdapter implements AuthSerivceClientPort {
 
 	private AuthFeignClient client;
-	
+
+	/**
+	 * 非同步查詢專用的有界執行緒池，不與 {@code @Async} 紀錄事件處理共用 {@code applicationTaskExecutor}，
+	 * AuthService 回應緩慢時不會延誤紀錄寫入；佇列已滿時立即回傳失敗的 Future。
+	 */
+	private ThreadPoolExecutor executor;
+
+	AuthSerivceClientAdapter(AuthFeignClient client, @Value("${auth.service.async.max-threads:16}") int maxThreads,
+			@Value("${auth.service.async.queue-capacity:200}") int queueCapacity) {
+		this.client = client;
+		this.executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), Thread.ofPlatform().name("auth-service-async-", 0).daemon().factory());
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	@PreDestroy
+	void close() {
+		executor.shutdown();
+	}
+
 	@Override
 	public JwTokenGettenData getJwToken(GetJwTokenCommand command) {
 		return client.getJwToken(command);
 	}
 
 	@Override
+	@OutboundCoalescing
+	@OutboundHedging(budgetPercent = 10)
+	@OutboundRetry
+	@OutboundTimeout(readTimeoutMillis = 2000)
+	@OutboundCacheable(ttlSeconds = 60, staleWhileRevalidateSeconds = 30)
 	public PermissionGettenData getPermissionList(String username) {
 		return client.getPermissionList(username);
 	}
 
+	@Override
+	public CompletableFuture<PermissionGettenData> getPermissionListAsync(String username) {
+		try {
+			return CompletableFuture.supplyAsync(() -> client.getPermissionList(username),
+					task -> executor.execute(ContextHolder.propagate(task)));
+		} catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	@Override
+	@OutboundBatchRecording
+	public PermissionGettenData getPermissionListInBulk(String username) {
+		return client.getPermissionList(username);
+	}
+
 }
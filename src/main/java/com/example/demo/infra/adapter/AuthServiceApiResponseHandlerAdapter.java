@@ -1,14 +1,22 @@
 package com.example.demo.infra.adapter;
 
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
+import com.example.demo.application.domain.log.aggregate.OutboundApiRecord;
 import com.example.demo.application.domain.log.command.RecordFailedOutboundApiCommand;
 import com.example.demo.application.domain.log.command.RecordSuccessOutboundApiCommand;
 import com.example.demo.application.port.OutboundApiResponseHandlerPort;
 import com.example.demo.infra.persistence.OutboundApiRecordRepository;
 
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * AuthService 回應結果處理：以條件式 UPDATE 將 PENDING 紀錄轉為 SUCCESS / FAILED，不先載入整筆紀錄。
+ */
+@Slf4j
 @Component
 @AllArgsConstructor
 class AuthServiceApiResponseHandlerAdapter implements OutboundApiResponseHandlerPort {
@@ -22,19 +30,31 @@ class AuthServiceApiResponseHandlerAdapter implements OutboundApiResponseHandler
 
 	@Override
 	public void handleSuccess(RecordSuccessOutboundApiCommand command) {
-		outboundApiRecordRepository.findById(command.getSavedId()).ifPresent(outboundApiRecord -> {
-			outboundApiRecord.markSuccess(command);
-			outboundApiRecordRepository.save(outboundApiRecord);
-		});
+		int updated = outboundApiRecordRepository.markSuccess(command.getSavedId(), command.getResponseBody(),
+				command.getApiPath(), command.getHttpMethod(), command.getDurationMillis());
+		if (updated == 0) {
+			log.debug("Outbound API 紀錄 {} 不存在或已完成，略過 SUCCESS", command.getSavedId());
+		}
 	}
 
 	@Override
 	public void handleFailure(RecordFailedOutboundApiCommand command) {
-		outboundApiRecordRepository.findById(command.getSavedId()).ifPresent(outboundApiRecord -> {
-			outboundApiRecord.markFailed(command);
-			outboundApiRecordRepository.save(outboundApiRecord);
-		});
+		int updated = outboundApiRecordRepository.markFailed(command.getSavedId(),
+				OutboundApiRecord.failedStatusOf(command), command.getResponseBody(), command.getErrorMessage(),
+				command.getApiPath(), command.getHttpMethod(), command.getDurationMillis());
+		if (updated == 0) {
+			log.debug("Outbound API 紀錄 {} 不存在或已完成，略過 FAILED", command.getSavedId());
+		}
+	}
+
+	@Override
+	public void handleSuccessInBatch(List<RecordSuccessOutboundApiCommand> commands) {
+		outboundApiRecordRepository.markSuccessInBatch(commands);
+	}
 
+	@Override
+	public void handleFailureInBatch(List<RecordFailedOutboundApiCommand> commands) {
+		outboundApiRecordRepository.markFailedInBatch(commands);
 	}
 
 }
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 import com.example.demo.application.port.OutboundApiResponseValidatorPort;
 import com.example.demo.infra.context.element.OutboundApiRequestInfo;
 import com.example.demo.infra.outbound.validation.factory.ApiResponseValidationStrategyFactory;
+import com.example.demo.infra.outbound.validation.strategy.base.ApiResponseValidationStrategy;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,10 +23,14 @@ class AuthServiceResponseValidatorAdapter implements OutboundApiResponseValidato
 	@Override
 	public void validate(Object response, OutboundApiRequestInfo context) {
 
-		String api = context.getApi(); // 例如: /api/v1/login 、 /api/v1/permissions
+		String api = context.getApi(); // 例如: /api/v1/login 、 /api/v1/auth/permissions?username=xxx
 
-		// 執行策略
-		strategyFactory.get(supportSystem(), api).ifPresent(strategy -> strategy.validate(response, context));
+		// 執行策略（依路由表比對，Query String 與 Path Variable 不影響）
+		ApiResponseValidationStrategy strategy = strategyFactory.resolve(supportSystem(), context.getHttpMethod(),
+				api);
+		if (strategy != null) {
+			strategy.validate(response, context);
+		}
 
 		// 沒有策略 = 預設放行
 	}
@@ -0,0 +1,42 @@
+package com.example.demo.infra.adapter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.application.domain.log.event.RecordOutboundApiFailedEvent;
+import com.example.demo.application.domain.log.event.RecordOutboundApiSucceededEvent;
+import com.example.demo.application.port.EventPublisherPort;
+import com.example.demo.application.shared.event.BaseEvent;
+import com.example.demo.infra.outbound.recording.lane.OutboundRecordEventBus;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Domain Event 發佈 Adapter（分區通道實作，{@code outbound.recording.publisher=lanes}）
+ *
+ * <p>
+ * Outbound API 紀錄的成功 / 失敗事件交由 {@link OutboundRecordEventBus} 依系統與紀錄 ID 分區批次處理；
+ * 其他事件仍委派給 Spring {@link ApplicationEventPublisher}。
+ * </p>
+ */
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "outbound.recording.publisher", havingValue = "lanes")
+class LaneEventPublisherAdapter implements EventPublisherPort {
+
+	private final OutboundRecordEventBus eventBus;
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	@Override
+	public void publish(BaseEvent event) {
+		if (event instanceof RecordOutboundApiSucceededEvent succeeded) {
+			eventBus.publish(succeeded.getSystem(), succeeded.getData().getSavedId(), event);
+		} else if (event instanceof RecordOutboundApiFailedEvent failed) {
+			eventBus.publish(failed.getSystem(), failed.getData().getSavedId(), event);
+		} else {
+			applicationEventPublisher.publishEvent(event);
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.demo.infra.adapter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.application.domain.log.event.RecordOutboundApiFailedEvent;
+import com.example.demo.application.domain.log.event.RecordOutboundApiSucceededEvent;
+import com.example.demo.application.port.EventPublisherPort;
+import com.example.demo.application.shared.event.BaseEvent;
+import com.example.demo.infra.outbound.recording.outbox.OutboundEventOutboxDispatcher;
+import com.example.demo.infra.outbound.recording.outbox.OutboundEventOutboxEntry;
+import com.example.demo.infra.outbound.recording.outbox.OutboundEventOutboxEntry.EventType;
+import com.example.demo.infra.persistence.OutboundEventOutboxRepository;
+import com.example.demo.util.JsonParseUtil;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Domain Event 發佈 Adapter（Transactional Outbox 實作，{@code outbound.recording.publisher=outbox}）
+ *
+ * <p>
+ * Outbound API 紀錄的成功 / 失敗事件寫入 Outbox 表（呼叫端已有交易時加入同一交易），
+ * 由 {@link OutboundEventOutboxDispatcher} 批次處理；事件寫入後即使應用程式中止，紀錄狀態仍會被更新，
+ * 不會停留在 SAVED。
+ * </p>
+ *
+ * <p>
+ * 其他事件仍委派給 Spring {@link ApplicationEventPublisher}。
+ * </p>
+ */
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "outbound.recording.publisher", havingValue = "outbox")
+class OutboxEventPublisherAdapter implements EventPublisherPort {
+
+	private final OutboundEventOutboxRepository outboxRepository;
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	@Override
+	public void publish(BaseEvent event) {
+		if (event instanceof RecordOutboundApiSucceededEvent succeeded) {
+			outboxRepository.save(new OutboundEventOutboxEntry(succeeded.getSystem(),
+					succeeded.getData().getSavedId(), EventType.SUCCEEDED, succeeded.getEventLogUuid(),
+					JsonParseUtil.serialize(succeeded.getData())));
+		} else if (event instanceof RecordOutboundApiFailedEvent failed) {
+			outboxRepository.save(new OutboundEventOutboxEntry(failed.getSystem(), failed.getData().getSavedId(),
+					EventType.FAILED, failed.getEventLogUuid(), JsonParseUtil.serialize(failed.getData())));
+		} else {
+			applicationEventPublisher.publishEvent(event);
+		}
+	}
+}
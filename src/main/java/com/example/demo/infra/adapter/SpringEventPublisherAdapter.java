@@ -1,10 +1,15 @@
 package com.example.demo.infra.adapter;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Component;
 
+import com.example.demo.application.domain.log.event.RecordOutboundApiFailedEvent;
+import com.example.demo.application.domain.log.event.RecordOutboundApiSucceededEvent;
 import com.example.demo.application.port.EventPublisherPort;
 import com.example.demo.application.shared.event.BaseEvent;
+import com.example.demo.infra.outbound.recording.OutboundRecordingDrainer;
 
 import lombok.AllArgsConstructor;
 
@@ -31,9 +36,16 @@ import lombok.AllArgsConstructor;
  * <li>未來可無痛替換為 Kafka / MQ / Outbox Event Publisher</li>
  * </ul>
  * </p>
+ *
+ * <p>
+ * 預設實作（{@code outbound.recording.publisher=spring}）；事件僅存在於記憶體，
+ * 需確保紀錄狀態不因停機遺失時改用 {@code outbox}（{@link OutboxEventPublisherAdapter}）。
+ * 紀錄事件登記於 {@link OutboundRecordingDrainer}，停機時等待處理完成，未完成者寫入日誌於下次啟動重送。
+ * </p>
  */
 @Component
 @AllArgsConstructor
+@ConditionalOnProperty(name = "outbound.recording.publisher", havingValue = "spring", matchIfMissing = true)
 class SpringEventPublisherAdapter implements EventPublisherPort {
 
 	/**
@@ -41,6 +53,11 @@ class SpringEventPublisherAdapter implements EventPublisherPort {
 	 */
 	private final ApplicationEventPublisher applicationEventPublisher;
 
+	/**
+	 * 停機時追蹤尚未處理完成的紀錄事件
+	 */
+	private final OutboundRecordingDrainer drainer;
+
 	/**
 	 * 發佈 Domain Event（委派給 Spring ApplicationEventPublisher）
 	 *
@@ -48,6 +65,17 @@ class SpringEventPublisherAdapter implements EventPublisherPort {
 	 */
 	@Override
 	public void publish(BaseEvent event) {
-		applicationEventPublisher.publishEvent(event);
+		if (!(event instanceof RecordOutboundApiSucceededEvent || event instanceof RecordOutboundApiFailedEvent)) {
+			applicationEventPublisher.publishEvent(event);
+			return;
+		}
+		if (!drainer.accept(event)) {
+			return;
+		}
+		try {
+			applicationEventPublisher.publishEvent(event);
+		} catch (TaskRejectedException e) {
+			drainer.reject(event);
+		}
 	}
 }
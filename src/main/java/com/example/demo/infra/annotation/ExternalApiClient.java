@@ -68,4 +68,27 @@ public @interface ExternalApiClient {
 	 * @return 外部系統唯一代碼
 	 */
 	String system();
+
+	/**
+	 * 自適應並行上限
+	 *
+	 * <p>
+	 * 預設不啟用；啟用後同一系統同時進行中的呼叫數受動態上限限制，避免單一外部系統變慢時佔滿本服務的執行緒。
+	 * </p>
+	 *
+	 * @return 並行上限設定
+	 */
+	OutboundConcurrencyLimit concurrencyLimit() default @OutboundConcurrencyLimit(enabled = false);
+
+	/**
+	 * 讀取逾時（毫秒）
+	 *
+	 * <p>
+	 * 套用於該系統所有方法，方法上的 {@link OutboundTimeout} 優先；實際值另以 Inbound 請求剩餘時間為上限。
+	 * 連線逾時屬連線池設定，見 {@code outbound.http.systems.<system>.connect-timeout-millis}。
+	 * </p>
+	 *
+	 * @return 讀取逾時，小於等於 0 表示使用 Feign 預設值
+	 */
+	long readTimeoutMillis() default -1;
 }
@@ -0,0 +1,26 @@
+package com.example.demo.infra.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 標記外部系統 Client 方法的 Outbound API 紀錄以「批次」寫入。
+ *
+ * <p>
+ * 一般呼叫會先寫入 PENDING 紀錄，完成後再透過事件更新狀態（每次呼叫兩次寫入）；
+ * 標註此 Annotation 的方法於呼叫完成後才建立完整紀錄（SUCCESS / FAILED），
+ * 暫存於記憶體並依筆數或時間間隔以 {@code saveAll} 批次寫入，呼叫路徑上不做任何 DB 存取。
+ * </p>
+ *
+ * <p>
+ * 適用於大量查詢（例如批次同步權限）；代價為應用程式異常終止時，尚未寫入的紀錄可能遺失，
+ * 且呼叫進行中不會留下 PENDING 紀錄。
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OutboundBatchRecording {
+
+}
@@ -0,0 +1,52 @@
+package com.example.demo.infra.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 標記外部系統 Client 的「唯讀」方法可使用回應快取。
+ *
+ * <p>
+ * 必須標註在 {@link ExternalApiClient} 實作類的方法上，快取 Key 由 system、方法名稱與正規化後的參數組成。
+ * </p>
+ *
+ * <p>
+ * 行為：
+ * <ul>
+ * <li>{@link #ttlSeconds()} 內命中：直接回傳快取，不呼叫外部系統，也不寫入 Outbound API 紀錄（僅累計計數）</li>
+ * <li>超過 TTL 但仍在 {@link #staleWhileRevalidateSeconds()} 內：先回傳舊值，並於背景重新呼叫更新</li>
+ * <li>超過上述時間：視為未命中，依一般流程呼叫並紀錄</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 範例：
+ *
+ * <pre>
+ * &#64;OutboundCacheable(ttlSeconds = 300, staleWhileRevalidateSeconds = 60)
+ * public PermissionGettenData getPermissionList(String username) {
+ *     ...
+ * }
+ * </pre>
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OutboundCacheable {
+
+	/**
+	 * 快取有效時間（秒）
+	 *
+	 * @return TTL 秒數
+	 */
+	long ttlSeconds() default 60;
+
+	/**
+	 * TTL 到期後仍可回傳舊值並背景更新的時間（秒），0 代表不啟用
+	 *
+	 * @return stale-while-revalidate 秒數
+	 */
+	long staleWhileRevalidateSeconds() default 0;
+}
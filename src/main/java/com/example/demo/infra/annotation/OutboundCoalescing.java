@@ -0,0 +1,24 @@
+package com.example.demo.infra.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 標記外部系統 Client 方法可合併「同時發生的相同請求」（Single-flight）。
+ *
+ * <p>
+ * 以 system、方法名稱與正規化參數判斷是否為相同請求， 同一時間只會有一個呼叫（Leader）實際連線外部系統並寫入 Outbound API
+ * 紀錄， 其餘呼叫（Follower）共用 Leader 的結果，僅累計計數。
+ * </p>
+ *
+ * <p>
+ * 僅適用於冪等的唯讀 API，例如查詢權限；若與 {@link OutboundCacheable} 併用，快取未命中時才會進入合併流程。
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OutboundCoalescing {
+
+}
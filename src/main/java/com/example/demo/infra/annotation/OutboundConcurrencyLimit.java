@@ -0,0 +1,58 @@
+package com.example.demo.infra.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 外部系統自適應並行上限設定（AIMD），作為 {@link ExternalApiClient#concurrencyLimit()} 的屬性使用。
+ *
+ * <p>
+ * 上限依實際延遲動態調整：
+ * <ul>
+ * <li>呼叫成功、延遲低於 {@link #latencyThresholdMillis()} 且上限已被充分使用：上限 +1（加法增加）</li>
+ * <li>延遲超過門檻或外部系統異常：上限乘以 {@link #backoffRatio()}（乘法減少）</li>
+ * </ul>
+ * 上限介於 {@link #minLimit()} 與 {@link #maxLimit()} 之間；達上限時最多等待
+ * {@link #maxQueueWaitMillis()}，仍無空位即拒絕（REJECTED）。
+ * </p>
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OutboundConcurrencyLimit {
+
+	/**
+	 * @return 是否啟用
+	 */
+	boolean enabled() default true;
+
+	/**
+	 * @return 初始並行上限
+	 */
+	int initialLimit() default 20;
+
+	/**
+	 * @return 並行上限下限
+	 */
+	int minLimit() default 1;
+
+	/**
+	 * @return 並行上限上限
+	 */
+	int maxLimit() default 200;
+
+	/**
+	 * @return 延遲門檻（毫秒），超過即視為外部系統過載
+	 */
+	long latencyThresholdMillis() default 1000;
+
+	/**
+	 * @return 過載時上限縮減比例
+	 */
+	double backoffRatio() default 0.9;
+
+	/**
+	 * @return 達上限時的最長等待時間（毫秒），0 表示立即拒絕
+	 */
+	long maxQueueWaitMillis() default 0;
+}
@@ -0,0 +1,57 @@
+package com.example.demo.infra.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 標記外部系統 Client 方法啟用對沖請求（Hedged Request），降低尾端延遲。
+ *
+ * <p>
+ * 第一次呼叫超過等待時間仍未完成時，再送出一次相同請求，先成功者勝出，另一次呼叫被中斷並標記為 CANCELLED；
+ * 兩次呼叫各自寫入 Outbound API 紀錄，對沖呼叫以 {@code parent_record_id} 連結到第一次呼叫。
+ * </p>
+ *
+ * <p>
+ * 等待時間：
+ * <ul>
+ * <li>{@link #delayMillis()} 大於 0：固定等待時間</li>
+ * <li>否則取該方法近期延遲的 {@link #percentile()}（例如 p95），樣本不足時使用 {@link #initialDelayMillis()}</li>
+ * </ul>
+ * 對沖次數受 {@link #budgetPercent()} 限制（佔總呼叫數的比例），外部系統整體變慢時不會把流量放大一倍。
+ * </p>
+ *
+ * <p>
+ * 僅適用於冪等的唯讀 API（例如 GET 查詢），且僅支援同步方法；非同步與批次紀錄的方法會忽略此設定。
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OutboundHedging {
+
+	/**
+	 * @return 固定等待時間（毫秒），小於等於 0 表示依近期延遲計算
+	 */
+	long delayMillis() default 0;
+
+	/**
+	 * @return 依近期延遲計算等待時間時使用的百分位數
+	 */
+	double percentile() default 0.95;
+
+	/**
+	 * @return 延遲樣本不足時的等待時間（毫秒）
+	 */
+	long initialDelayMillis() default 100;
+
+	/**
+	 * @return 等待時間下限（毫秒），避免延遲極低時幾乎每次都對沖
+	 */
+	long minDelayMillis() default 10;
+
+	/**
+	 * @return 對沖請求佔總呼叫數的比例上限（百分比）
+	 */
+	int budgetPercent() default 10;
+}
@@ -0,0 +1,34 @@
+package com.example.demo.infra.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 標記外部系統 Client 方法於外部系統異常時重試。
+ *
+ * <p>
+ * 重試條件：呼叫已送出（已建立紀錄）且例外為外部系統異常（連線失敗、逾時、5xx）或 429；
+ * 4xx、回應驗證失敗、斷路器短路與並行上限拒絕不重試。
+ * 等待時間為指數退避加上隨機 jitter，重試次數受該系統共用的重試額度限制，設定見 {@code outbound.retry.*}。
+ * </p>
+ *
+ * <p>
+ * 每次呼叫各自寫入 Outbound API 紀錄，重試的紀錄以 {@code parent_record_id} 連結第一次呼叫，並保存單次呼叫耗時。
+ * 與 {@link OutboundHedging} 併用時，每一輪重試皆為一次對沖呼叫。
+ * </p>
+ *
+ * <p>
+ * 僅適用於冪等的 API，且僅支援同步方法；非同步與批次紀錄的方法會忽略此設定。
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OutboundRetry {
+
+	/**
+	 * @return 最多呼叫次數（含第一次），小於等於 0 表示使用系統設定
+	 */
+	int maxAttempts() default 0;
+}
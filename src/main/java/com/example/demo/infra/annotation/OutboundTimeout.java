@@ -0,0 +1,24 @@
+package com.example.demo.infra.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 標記外部系統 Client 方法的讀取逾時，優先於 {@link ExternalApiClient#readTimeoutMillis()}。
+ *
+ * <p>
+ * 實際逾時另以 Inbound 請求的剩餘時間（{@code X-Request-Timeout-Ms} 或 {@code inbound.deadline.default-millis}）為上限；
+ * 期限已過的呼叫不送出，紀錄為 {@code DEADLINE_EXCEEDED}。
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OutboundTimeout {
+
+	/**
+	 * @return 讀取逾時（毫秒）
+	 */
+	long readTimeoutMillis();
+}
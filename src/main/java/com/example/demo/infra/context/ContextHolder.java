@@ -1,6 +1,11 @@
 package com.example.demo.infra.context;
 
+import java.time.Duration;
+
 import com.example.demo.infra.context.element.OutboundApiRequestInfo;
+import com.example.demo.infra.outbound.shared.invocation.OutboundInvocation;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -9,11 +14,32 @@ import lombok.NoArgsConstructor;
  * Feign 呼叫期間的上下文容器。
  *
  * <p>
- * 使用 ThreadLocal 保存單次請求生命週期內的 {@link OutboundApiRequestInfo}，確保：
+ * 以「範圍綁定」方式保存 {@link OutboundApiRequestInfo}：每次外部 API 呼叫建立一個
+ * {@link OutboundContextScope}，僅在 {@link #callInScope} 執行期間有效，結束時一律還原為外層範圍，
+ * 語意等同 Java 21 的 {@code ScopedValue.where(...).call(...)}：
  * <ul>
- * <li>同一個 HTTP Request 中的 Feign 呼叫可共用資訊</li>
- * <li>避免多執行緒之間的資料污染</li>
+ * <li>巢狀 / 連續的 Feign 呼叫各自擁有獨立上下文，不會互相覆蓋</li>
+ * <li>範圍結束即解除綁定，執行緒（含虛擬執行緒）不會殘留上下文，不需額外清除</li>
+ * <li>{@link #propagate(Runnable)} 將範圍帶到非同步執行緒（由 TaskDecorator 套用至執行緒池）</li>
  * </ul>
+ * </p>
+ *
+ * <p>
+ * 範圍由 {@link #openScope()} 建立、{@link #closeScope} 結束，期間以 invocationId 登錄，
+ * 不在呼叫執行緒上的元件可透過 {@link #getFeignContext(String)} 依請求 Header 取得對應上下文，
+ * 並行的多筆呼叫（fan-out）彼此不會混用。登錄最長保留 {@link #MAX_SCOPE_LIFETIME}，
+ * 非同步呼叫的 Future 永不完成而未結束範圍時，到期後自動解除登錄，不會無限累積。
+ * </p>
+ *
+ * <p>
+ * 另保存 Inbound 請求的 {@link Deadline}（由 Web 攔截器設定），與呼叫範圍一併由 {@link #propagate(Runnable)}
+ * 帶到非同步執行緒，供外部 API 呼叫限制逾時與略過已到期的呼叫。
+ * </p>
+ *
+ * <p>
+ * {@code ScopedValue} 於 Java 21 仍為 Preview，需 {@code --enable-preview}；
+ * 此處以 ThreadLocal 實作相同的綁定 / 還原語意，待正式版後僅需替換本類別內部實作。
+ * </p>
  *
  * <p>
  * 常見使用場景：
@@ -22,40 +48,179 @@ import lombok.NoArgsConstructor;
  * <li>Exception 發生時補充外部呼叫資訊</li>
  * <li>AOP 行為紀錄 / Trace 記錄</li>
  * </ul>
+ * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ContextHolder {
 
 	/**
-	 * 儲存 Feign 呼叫資訊的 ThreadLocal
+	 * 當前綁定的呼叫範圍
+	 */
+	private static final ThreadLocal<OutboundContextScope> SCOPE = new ThreadLocal<>();
+
+	/**
+	 * 呼叫範圍登錄的最長保留時間（遠大於任何外部 API 讀取逾時）
+	 */
+	static final Duration MAX_SCOPE_LIFETIME = Duration.ofMinutes(10);
+
+	/**
+	 * 進行中的呼叫範圍（invocationId → 範圍）
+	 */
+	private static final Cache<String, OutboundContextScope> ACTIVE = Caffeine.newBuilder()
+			.expireAfterWrite(MAX_SCOPE_LIFETIME).build();
+
+	/**
+	 * 當前 Inbound 請求的期限
+	 */
+	private static final ThreadLocal<Deadline> DEADLINE = new ThreadLocal<>();
+
+	/**
+	 * 建立並登錄新的呼叫範圍，使用完畢須呼叫 {@link #closeScope}。
+	 *
+	 * @return 呼叫範圍
 	 */
-	private static final ThreadLocal<OutboundApiRequestInfo> FEIGN_CONTEXT = new ThreadLocal<>();
+	public static OutboundContextScope openScope() {
+		return openScope(0);
+	}
 
 	/**
-	 * 設定當前執行緒的 Feign 呼叫上下文
+	 * 建立並登錄新的呼叫範圍，並指定本次呼叫的讀取逾時，使用完畢須呼叫 {@link #closeScope}。
+	 *
+	 * @param readTimeoutMillis 讀取逾時（毫秒），小於等於 0 表示使用預設值
+	 * @return 呼叫範圍
+	 */
+	public static OutboundContextScope openScope(long readTimeoutMillis) {
+		OutboundContextScope scope = new OutboundContextScope(readTimeoutMillis);
+		ACTIVE.put(scope.getInvocationId(), scope);
+		return scope;
+	}
+
+	/**
+	 * 結束呼叫範圍，解除登錄。
+	 *
+	 * @param scope 呼叫範圍
+	 */
+	public static void closeScope(OutboundContextScope scope) {
+		ACTIVE.asMap().remove(scope.getInvocationId(), scope);
+	}
+
+	/**
+	 * 取得當前綁定的呼叫範圍
+	 *
+	 * @return 呼叫範圍，若不存在則回傳 null
+	 */
+	public static OutboundContextScope currentScope() {
+		return SCOPE.get();
+	}
+
+	/**
+	 * 於指定範圍內執行呼叫，結束後還原為外層範圍。
+	 *
+	 * @param scope      呼叫範圍
+	 * @param invocation 範圍內執行的呼叫
+	 * @return 呼叫結果
+	 * @throws Throwable 呼叫拋出的例外
+	 */
+	public static Object callInScope(OutboundContextScope scope, OutboundInvocation invocation) throws Throwable {
+		OutboundContextScope previous = bind(scope);
+		try {
+			return invocation.proceed();
+		} finally {
+			bind(previous);
+		}
+	}
+
+	/**
+	 * 設定當前範圍的 Feign 呼叫上下文；不在任何範圍內時忽略。
 	 *
 	 * @param info 外部 API 請求資訊
 	 */
 	public static void setFeignContext(OutboundApiRequestInfo info) {
-		FEIGN_CONTEXT.set(info);
+		OutboundContextScope scope = SCOPE.get();
+		if (scope != null) {
+			scope.setRequestInfo(info);
+		}
 	}
 
 	/**
-	 * 取得當前執行緒的 Feign 呼叫上下文
+	 * 取得當前範圍的 Feign 呼叫上下文
 	 *
 	 * @return 外部 API 請求資訊，若不存在則回傳 null
 	 */
 	public static OutboundApiRequestInfo getFeignContext() {
-		return FEIGN_CONTEXT.get();
+		OutboundContextScope scope = SCOPE.get();
+		return scope == null ? null : scope.getRequestInfo();
 	}
 
 	/**
-	 * 清除當前執行緒的 Feign 呼叫上下文。
+	 * 依呼叫識別碼取得 Feign 呼叫上下文
+	 *
+	 * @param invocationId 呼叫識別碼（請求 Header）
+	 * @return 外部 API 請求資訊，若不存在或呼叫已結束則回傳 null
+	 */
+	public static OutboundApiRequestInfo getFeignContext(String invocationId) {
+		OutboundContextScope scope = invocationId == null ? null : ACTIVE.getIfPresent(invocationId);
+		return scope == null ? null : scope.getRequestInfo();
+	}
+
+	/**
+	 * 設定當前執行緒的請求期限（null 表示無期限）
+	 *
+	 * @param deadline 請求期限
+	 */
+	public static void setDeadline(Deadline deadline) {
+		if (deadline == null) {
+			DEADLINE.remove();
+		} else {
+			DEADLINE.set(deadline);
+		}
+	}
+
+	/**
+	 * 取得當前執行緒的請求期限
+	 *
+	 * @return 請求期限，若不存在則回傳 null
+	 */
+	public static Deadline getDeadline() {
+		return DEADLINE.get();
+	}
+
+	/**
+	 * 包裝非同步任務，將發起端的呼叫範圍與請求期限帶到執行任務的執行緒。
 	 *
 	 * <p>
-	 * 建議於請求結束或 finally 區塊中呼叫， 避免 ThreadLocal 記憶體洩漏。
+	 * 任務結束後還原 Worker 執行緒原本的範圍與期限，避免執行緒池重用時殘留上下文。
+	 * </p>
+	 *
+	 * @param task 非同步任務
+	 * @return 包裝後的任務
 	 */
-	public static void clear() {
-		FEIGN_CONTEXT.remove();
+	public static Runnable propagate(Runnable task) {
+		OutboundContextScope scope = SCOPE.get();
+		Deadline deadline = DEADLINE.get();
+		if (scope == null && deadline == null) {
+			return task;
+		}
+		return () -> {
+			OutboundContextScope previous = bind(scope);
+			Deadline previousDeadline = DEADLINE.get();
+			setDeadline(deadline);
+			try {
+				task.run();
+			} finally {
+				setDeadline(previousDeadline);
+				bind(previous);
+			}
+		};
+	}
+
+	private static OutboundContextScope bind(OutboundContextScope scope) {
+		OutboundContextScope previous = SCOPE.get();
+		if (scope == null) {
+			SCOPE.remove();
+		} else {
+			SCOPE.set(scope);
+		}
+		return previous;
 	}
 }
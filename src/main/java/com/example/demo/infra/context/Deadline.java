@@ -0,0 +1,40 @@
+package com.example.demo.infra.context;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 請求期限（以 {@link System#nanoTime()} 表示的絕對時間點）。
+ *
+ * <p>
+ * 由 Inbound 請求建立，透過 {@link ContextHolder} 帶到該請求觸發的所有外部 API 呼叫，
+ * 每次呼叫的讀取逾時不超過剩餘時間，期限已過的呼叫直接略過。
+ * </p>
+ *
+ * @param expiresAtNanos 到期時間點（{@link System#nanoTime()}）
+ */
+public record Deadline(long expiresAtNanos) {
+
+	/**
+	 * 建立自現在起算的期限
+	 *
+	 * @param millis 時間預算（毫秒）
+	 * @return 期限
+	 */
+	public static Deadline after(long millis) {
+		return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis));
+	}
+
+	/**
+	 * @return 剩餘時間（毫秒），已到期時小於等於 0
+	 */
+	public long remainingMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime());
+	}
+
+	/**
+	 * @return 是否已到期
+	 */
+	public boolean isExpired() {
+		return expiresAtNanos - System.nanoTime() <= 0;
+	}
+}
@@ -0,0 +1,66 @@
+package com.example.demo.infra.context;
+
+import java.util.UUID;
+
+import com.example.demo.infra.context.element.OutboundApiRequestInfo;
+
+/**
+ * 單次外部 API 呼叫的上下文範圍。
+ *
+ * <p>
+ * 由 AOP 於每次呼叫時建立，透過 {@link ContextHolder#callInScope} 綁定在呼叫期間；
+ * Feign 攔截器寫入的 {@link OutboundApiRequestInfo} 存放於此，而非直接存放於執行緒上，
+ * 因此巢狀或連續呼叫各自擁有獨立的上下文，跨執行緒時也只需傳遞此物件參考。
+ * </p>
+ *
+ * <p>
+ * 每個範圍具有唯一的 {@link #getInvocationId() invocationId}，由 Feign 攔截器放入請求 Header，
+ * 只拿得到 Feign Request 的元件（例如 ErrorDecoder）可藉此找回所屬呼叫的上下文。
+ * </p>
+ */
+public final class OutboundContextScope {
+
+	/**
+	 * 單次呼叫識別碼
+	 */
+	private final String invocationId = UUID.randomUUID().toString();
+
+	/**
+	 * 外部 API 請求資訊（由 Feign 攔截器於實際送出前寫入，可能於其他執行緒寫入）
+	 */
+	private volatile OutboundApiRequestInfo requestInfo;
+
+	/**
+	 * 本次呼叫的讀取逾時（毫秒），小於等於 0 表示使用預設值
+	 */
+	private final long readTimeoutMillis;
+
+	OutboundContextScope(long readTimeoutMillis) {
+		this.readTimeoutMillis = readTimeoutMillis;
+	}
+
+	/**
+	 * @return 單次呼叫識別碼
+	 */
+	public String getInvocationId() {
+		return invocationId;
+	}
+
+	/**
+	 * @return 外部 API 請求資訊，尚未送出時為 null
+	 */
+	public OutboundApiRequestInfo getRequestInfo() {
+		return requestInfo;
+	}
+
+	/**
+	 * @return 本次呼叫的讀取逾時（毫秒），小於等於 0 表示使用預設值
+	 */
+	public long getReadTimeoutMillis() {
+		return readTimeoutMillis;
+	}
+
+	void setRequestInfo(OutboundApiRequestInfo requestInfo) {
+		this.requestInfo = requestInfo;
+	}
+}
@@ -1,5 +1,7 @@
 package com.example.demo.infra.context.element;
 
+import java.util.concurrent.TimeUnit;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -38,4 +40,21 @@ public class OutboundApiRequestInfo {
 	 * API 資源路徑
 	 */
 	private String api;
+
+	/**
+	 * 請求送出時間（{@link System#nanoTime()}），0 表示未設定
+	 */
+	private long startedAtNanos;
+
+	/**
+	 * 解碼時宣告式回應驗證（{@code outbound.validation.*}）的違規結果，由回應驗證階段拋出；null 表示未違規
+	 */
+	private RuntimeException responseViolation;
+
+	/**
+	 * @return 自請求送出至今的耗時（毫秒），未設定送出時間時回傳 null
+	 */
+	public Long elapsedMillis() {
+		return startedAtNanos == 0 ? null : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+	}
 }
@@ -1,5 +1,7 @@
 package com.example.demo.infra.exception.exception;
 
+import com.example.demo.shared.exception.CodedError;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -12,7 +14,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-public class ValidationException extends RuntimeException {
+public class ValidationException extends RuntimeException implements CodedError {
 
 	/**
 	 * 
@@ -0,0 +1,274 @@
+package com.example.demo.infra.outbound.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.application.port.JwTokenCachePort;
+import com.example.demo.application.shared.outbound.auth.command.GetJwTokenCommand;
+import com.example.demo.application.shared.outbound.auth.dto.JwTokenGettenData;
+import com.example.demo.infra.outbound.shared.exception.CustomFeignException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AuthService 登入 Token 快取（Refresh-ahead）。
+ *
+ * <p>
+ * 以「帳號 + 密碼」的 SHA-256 指紋作為 Key（不保存明碼），快取 {@link JwTokenGettenData}，
+ * 並依 JWT {@code exp} 決定有效期限：
+ * <ul>
+ * <li>距到期超過 {@code refresh-ahead} 時間：直接回傳快取</li>
+ * <li>進入提前更新區間：回傳快取，並於背景重新登入（加入隨機 jitter，避免同時更新）</li>
+ * <li>剩餘時間不足 {@code min-ttl}：視為失效，同步重新登入</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 無法解析 {@code exp} 的 Token 不會被快取。Token 遭撤銷或密碼變更時：
+ * <ul>
+ * <li>登入回應 401 / 403（含背景更新）時清除該帳號的快取，不再沿用舊 Token</li>
+ * <li>使用 Token 的服務收到 401 時，可透過 {@link #invalidateToken} 依 Token 清除快取，下次登入改為同步重新登入</li>
+ * </ul>
+ * 依 Token 清除時以「Token → 指紋」索引直接定位，不掃描整個快取；索引隨快取項目移除而同步清理。
+ * </p>
+ */
+@Slf4j
+@Component
+public class JwTokenCache implements JwTokenCachePort {
+
+	private static final Set<String> REJECTED_CODES = Set.of("HTTP_401", "HTTP_403");
+
+	private final Cache<String, CachedToken> cache;
+
+	/**
+	 * Token → 帳號密碼指紋（供依 Token 清除時直接定位）
+	 */
+	private final Map<String, String> tokenIndex = new ConcurrentHashMap<>();
+
+	private final TaskExecutor refreshExecutor;
+
+	private final boolean enabled;
+
+	private final Duration refreshAhead;
+
+	private final Duration refreshJitter;
+
+	private final Duration minTtl;
+
+	public JwTokenCache(@Qualifier("applicationTaskExecutor") TaskExecutor refreshExecutor,
+			@Value("${auth.service.token-cache.enabled:true}") boolean enabled,
+			@Value("${auth.service.token-cache.max-size:10000}") long maxSize,
+			@Value("${auth.service.token-cache.refresh-ahead-seconds:300}") long refreshAheadSeconds,
+			@Value("${auth.service.token-cache.refresh-jitter-seconds:60}") long refreshJitterSeconds,
+			@Value("${auth.service.token-cache.min-ttl-seconds:30}") long minTtlSeconds) {
+		this.refreshExecutor = refreshExecutor;
+		this.enabled = enabled;
+		this.refreshAhead = Duration.ofSeconds(refreshAheadSeconds);
+		this.refreshJitter = Duration.ofSeconds(refreshJitterSeconds);
+		this.minTtl = Duration.ofSeconds(minTtlSeconds);
+		this.cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfter(new Expiry<String, CachedToken>() {
+			@Override
+			public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+				return value.remainingNanos();
+			}
+
+			@Override
+			public long expireAfterUpdate(String key, CachedToken value, long currentTime, long currentDuration) {
+				return value.remainingNanos();
+			}
+
+			@Override
+			public long expireAfterRead(String key, CachedToken value, long currentTime, long currentDuration) {
+				return currentDuration;
+			}
+		}).removalListener(this::onRemoval).build();
+	}
+
+	/**
+	 * 取得 Token，必要時透過 loader 重新登入。
+	 *
+	 * @param command 登入資訊
+	 * @param loader  實際呼叫 AuthService 登入 API 的方法
+	 * @return Token 資料
+	 */
+	@Override
+	public JwTokenGettenData get(GetJwTokenCommand command, Supplier<JwTokenGettenData> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+
+		String fingerprint = fingerprint(command);
+		CachedToken cached = cache.getIfPresent(fingerprint);
+		Instant now = Instant.now();
+
+		if (cached != null && now.isBefore(cached.expiresAt.minus(minTtl))) {
+			if (!now.isBefore(cached.refreshAt) && cached.refreshing.compareAndSet(false, true)) {
+				refreshExecutor.execute(() -> refresh(fingerprint, loader, cached));
+			}
+			return cached.data;
+		}
+
+		try {
+			return load(fingerprint, loader);
+		} catch (CustomFeignException e) {
+			if (isRejected(e)) {
+				cache.invalidate(fingerprint);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 使指定帳號的 Token 快取失效（例如外部系統回應 401）。
+	 *
+	 * @param command 登入資訊
+	 */
+	public void invalidate(GetJwTokenCommand command) {
+		cache.invalidate(fingerprint(command));
+	}
+
+	/**
+	 * 使持有指定 Token 的快取失效（Token 使用端收到 401 時呼叫）。
+	 *
+	 * @param token 登入取得的 Token
+	 * @return 是否有快取項目被清除
+	 */
+	@Override
+	public boolean invalidateToken(String token) {
+		String fingerprint = token == null ? null : tokenIndex.get(token);
+		if (fingerprint == null) {
+			return false;
+		}
+		// 索引可能落後於快取（例如同一指紋已換發新 Token），僅在 Token 仍相符時清除
+		CachedToken cached = cache.getIfPresent(fingerprint);
+		boolean removed = cached != null && token.equals(cached.data.getToken())
+				&& cache.asMap().remove(fingerprint, cached);
+		tokenIndex.remove(token, fingerprint);
+		if (removed) {
+			log.info("AuthService token 快取已依使用端要求清除");
+		}
+		return removed;
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private JwTokenGettenData load(String fingerprint, Supplier<JwTokenGettenData> loader) {
+		JwTokenGettenData data = loader.get();
+		Instant expiresAt = data == null ? null : JwtExpiryParser.parseExpiry(data.getToken());
+		if (expiresAt == null || !Instant.now().isBefore(expiresAt.minus(minTtl))) {
+			cache.invalidate(fingerprint);
+			return data;
+		}
+		tokenIndex.put(data.getToken(), fingerprint);
+		cache.put(fingerprint, new CachedToken(data, expiresAt, refreshAt(expiresAt)));
+		return data;
+	}
+
+	private void refresh(String fingerprint, Supplier<JwTokenGettenData> loader, CachedToken stale) {
+		try {
+			load(fingerprint, loader);
+		} catch (CustomFeignException e) {
+			if (isRejected(e)) {
+				// 帳號密碼已失效或 Token 遭撤銷，不可再沿用舊 Token
+				log.warn("AuthService token 背景更新遭拒（{}），清除快取", e.getCode());
+				cache.asMap().remove(fingerprint, stale);
+			} else {
+				log.warn("AuthService token 背景更新失敗，沿用現有 Token 至到期", e);
+			}
+		} catch (RuntimeException e) {
+			log.warn("AuthService token 背景更新失敗，沿用現有 Token 至到期", e);
+		} finally {
+			stale.refreshing.set(false);
+		}
+	}
+
+	/**
+	 * 快取項目移除（到期、淘汰、清除或被新 Token 取代）時同步清理 Token 索引
+	 */
+	private void onRemoval(String fingerprint, CachedToken removed, RemovalCause cause) {
+		if (fingerprint == null || removed == null) {
+			return;
+		}
+		String token = removed.data.getToken();
+		// 重新登入取得相同 Token 時索引仍屬於現有項目，不可移除
+		CachedToken current = cache.getIfPresent(fingerprint);
+		if (current == null || !token.equals(current.data.getToken())) {
+			tokenIndex.remove(token, fingerprint);
+		}
+	}
+
+	/**
+	 * 登入遭拒（帳號密碼錯誤、帳號停用、Token 撤銷）
+	 */
+	private static boolean isRejected(CustomFeignException e) {
+		return REJECTED_CODES.contains(e.getCode());
+	}
+
+	/**
+	 * 提前更新時間 = 到期時間 - refreshAhead - 隨機 jitter
+	 */
+	private Instant refreshAt(Instant expiresAt) {
+		long jitterMillis = refreshJitter.isZero() ? 0
+				: ThreadLocalRandom.current().nextLong(refreshJitter.toMillis() + 1);
+		return expiresAt.minus(refreshAhead).minusMillis(jitterMillis);
+	}
+
+	/**
+	 * 帳號密碼指紋（SHA-256），避免以明碼作為 Key
+	 */
+	private static String fingerprint(GetJwTokenCommand command) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hash = digest
+					.digest((command.getUsername() + "\u0000" + command.getPassword()).getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	/**
+	 * Token 快取項目
+	 */
+	private static class CachedToken {
+
+		private final JwTokenGettenData data;
+
+		private final Instant expiresAt;
+
+		private final Instant refreshAt;
+
+		private final AtomicBoolean refreshing = new AtomicBoolean();
+
+		CachedToken(JwTokenGettenData data, Instant expiresAt, Instant refreshAt) {
+			this.data = data;
+			this.expiresAt = expiresAt;
+			this.refreshAt = refreshAt;
+		}
+
+		long remainingNanos() {
+			return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.example.demo.infra.outbound.auth.token;
+
+import java.time.Instant;
+import java.util.Base64;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * JWT 到期時間解析工具。
+ *
+ * <p>
+ * 僅解碼 Payload 取得 {@code exp}（秒），不驗證簽章；簽章驗證仍由發行方（AuthService）負責。
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtExpiryParser {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	/**
+	 * 解析 JWT 的到期時間
+	 *
+	 * @param token JWT 字串（可含 Bearer 前綴）
+	 * @return 到期時間，若無法解析或未帶 exp 則回傳 null
+	 */
+	public static Instant parseExpiry(String token) {
+		if (token == null) {
+			return null;
+		}
+		String jwt = token.startsWith("Bearer ") ? token.substring(7) : token;
+		int first = jwt.indexOf('.');
+		int second = first < 0 ? -1 : jwt.indexOf('.', first + 1);
+		if (second < 0) {
+			return null;
+		}
+		try {
+			byte[] payload = Base64.getUrlDecoder().decode(jwt.substring(first + 1, second));
+			JsonNode exp = MAPPER.readTree(payload).get("exp");
+			return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+		} catch (Exception e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.example.demo.infra.outbound.cache;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.example.demo.util.JsonParseUtil;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 回應快取項目。
+ *
+ * <p>
+ * 保存外部 API 回傳物件及其時效資訊，並以 {@link #refreshing} 確保同一 Key 同時只會有一個背景更新。
+ * </p>
+ *
+ * <p>
+ * 回傳物件多為可變的 DTO，因此只保存序列化後的 JSON 快照，每次 {@link #getValue()} 皆反序列化出新的實例，
+ * 避免呼叫端修改回傳值時影響其他呼叫端取得的結果。
+ * </p>
+ */
+@Getter
+class CachedResponse {
+
+	/**
+	 * 外部 API 回傳物件的 JSON 快照
+	 */
+	@Getter(AccessLevel.NONE)
+	private final String json;
+
+	/**
+	 * 回傳物件型別（方法宣告的泛型回傳型別）
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Type type;
+
+	/**
+	 * 估算大小（JSON 長度），作為快取權重
+	 */
+	private final int weight;
+
+	/**
+	 * 新鮮期限（System.nanoTime）
+	 */
+	private final long freshUntilNanos;
+
+	/**
+	 * 快取總存活時間（TTL + stale-while-revalidate，nanos）
+	 */
+	private final long lifetimeNanos;
+
+	/**
+	 * 是否已有背景更新進行中
+	 */
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+
+	CachedResponse(String json, Type type, long ttlNanos, long staleNanos) {
+		this.json = json;
+		this.type = type;
+		this.weight = Math.max(1, json.length());
+		this.freshUntilNanos = System.nanoTime() + ttlNanos;
+		this.lifetimeNanos = ttlNanos + staleNanos;
+	}
+
+	/**
+	 * @return 由快照反序列化出的新實例，失敗時回傳 null
+	 */
+	Object getValue() {
+		return JsonParseUtil.unserialize(json, type);
+	}
+
+	/**
+	 * @return 是否仍在 TTL 內
+	 */
+	boolean isFresh() {
+		return System.nanoTime() - freshUntilNanos < 0;
+	}
+}
@@ -0,0 +1,189 @@
+package com.example.demo.infra.outbound.cache;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.infra.annotation.OutboundCacheable;
+import com.example.demo.infra.outbound.shared.invocation.OutboundInvocation;
+import com.example.demo.infra.outbound.shared.invocation.OutboundInvocationKey;
+import com.example.demo.util.JsonParseUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 外部 API 回應快取。
+ *
+ * <p>
+ * 提供標註 {@link OutboundCacheable} 的唯讀 API 使用，底層採用 Caffeine（W-TinyLFU 淘汰策略）：
+ * <ul>
+ * <li>以回應序列化後大小作為權重，總權重上限為 {@code outbound.cache.max-weight-bytes}</li>
+ * <li>僅保存 JSON 快照，每次命中皆回傳新的實例，呼叫端可自由修改回傳值而不影響其他呼叫端</li>
+ * <li>每筆項目依方法宣告的 TTL + stale-while-revalidate 時間到期</li>
+ * <li>過期但仍在 stale 區間時回傳舊值，並於背景執行一次更新</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 命中時不寫入 Outbound API 紀錄，僅累計 {@code outbound.cache.requests}（tag：system / method /
+ * result）計數，以低成本保留可觀測性。
+ * </p>
+ */
+@Slf4j
+@Component
+public class OutboundResponseCache {
+
+	/**
+	 * 快取本體
+	 */
+	private final Cache<OutboundInvocationKey, CachedResponse> cache;
+
+	/**
+	 * 背景更新用執行緒池
+	 */
+	private final TaskExecutor refreshExecutor;
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Method → 計數器（避免熱路徑上重複建立 Meter Id）
+	 */
+	private final Map<Method, CacheMeters> meters = new ConcurrentHashMap<>();
+
+	public OutboundResponseCache(@Qualifier("applicationTaskExecutor") TaskExecutor refreshExecutor,
+			MeterRegistry meterRegistry, @Value("${outbound.cache.max-weight-bytes:10485760}") long maxWeightBytes) {
+		this.refreshExecutor = refreshExecutor;
+		this.meterRegistry = meterRegistry;
+		this.cache = Caffeine.newBuilder().maximumWeight(maxWeightBytes)
+				.weigher((OutboundInvocationKey key, CachedResponse value) -> value.getWeight())
+				.expireAfter(new Expiry<OutboundInvocationKey, CachedResponse>() {
+					@Override
+					public long expireAfterCreate(OutboundInvocationKey key, CachedResponse value, long currentTime) {
+						return value.getLifetimeNanos();
+					}
+
+					@Override
+					public long expireAfterUpdate(OutboundInvocationKey key, CachedResponse value, long currentTime,
+							long currentDuration) {
+						return value.getLifetimeNanos();
+					}
+
+					@Override
+					public long expireAfterRead(OutboundInvocationKey key, CachedResponse value, long currentTime,
+							long currentDuration) {
+						return currentDuration;
+					}
+				}).build();
+	}
+
+	/**
+	 * 取得快取回應，未命中時執行呼叫並寫入快取。
+	 *
+	 * @param key        呼叫識別 Key
+	 * @param method     被呼叫的 Client 方法（作為計數維度）
+	 * @param cacheable  快取宣告
+	 * @param invocation 未命中或背景更新時執行的呼叫（含紀錄流程）
+	 * @return 外部 API 回傳物件
+	 * @throws Throwable 呼叫失敗時拋出原例外
+	 */
+	public Object get(OutboundInvocationKey key, Method method, OutboundCacheable cacheable,
+			OutboundInvocation invocation) throws Throwable {
+
+		CacheMeters counters = meters.computeIfAbsent(method, m -> new CacheMeters(key.system(), m.getName()));
+		CachedResponse cached = cache.getIfPresent(key);
+		Object value = cached == null ? null : cached.getValue();
+
+		if (value != null && cached.isFresh()) {
+			counters.hit.increment();
+			return value;
+		}
+
+		if (value != null) {
+			// stale-while-revalidate：回傳舊值，並確保同一 Key 只有一個背景更新
+			counters.stale.increment();
+			if (cached.getRefreshing().compareAndSet(false, true)) {
+				refreshExecutor.execute(() -> refresh(key, method, cacheable, invocation, cached));
+			}
+			return value;
+		}
+
+		// 未命中，或快照無法還原（視同未命中，以新結果覆蓋）
+		counters.miss.increment();
+		Object result = invocation.proceed();
+		put(key, method, cacheable, result);
+		return result;
+	}
+
+	/**
+	 * 清除指定呼叫的快取
+	 *
+	 * @param key 呼叫識別 Key
+	 */
+	public void evict(OutboundInvocationKey key) {
+		cache.invalidate(key);
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private void refresh(OutboundInvocationKey key, Method method, OutboundCacheable cacheable,
+			OutboundInvocation invocation, CachedResponse stale) {
+		try {
+			put(key, method, cacheable, invocation.proceed());
+		} catch (Throwable e) {
+			log.warn("Outbound cache 背景更新失敗, key: {}", key, e);
+		} finally {
+			stale.getRefreshing().set(false);
+		}
+	}
+
+	private void put(OutboundInvocationKey key, Method method, OutboundCacheable cacheable, Object value) {
+		if (value == null) {
+			return;
+		}
+		String json = JsonParseUtil.serialize(value);
+		if (json.isEmpty()) {
+			// 無法序列化的回傳型別不快取，避免命中時回傳共用的可變實例
+			log.warn("Outbound cache 無法序列化回傳值，略過快取, key: {}", key);
+			return;
+		}
+		cache.put(key, new CachedResponse(json, method.getGenericReturnType(),
+				TimeUnit.SECONDS.toNanos(cacheable.ttlSeconds()),
+				TimeUnit.SECONDS.toNanos(cacheable.staleWhileRevalidateSeconds())));
+	}
+
+	/**
+	 * 單一方法的命中 / stale / 未命中計數器
+	 */
+	private class CacheMeters {
+
+		private final Counter hit;
+
+		private final Counter stale;
+
+		private final Counter miss;
+
+		CacheMeters(String system, String method) {
+			this.hit = counter(system, method, "hit");
+			this.stale = counter(system, method, "stale");
+			this.miss = counter(system, method, "miss");
+		}
+
+		private Counter counter(String system, String method, String result) {
+			return Counter.builder("outbound.cache.requests").tag("system", system).tag("method", method)
+					.tag("result", result).register(meterRegistry);
+		}
+	}
+}
@@ -0,0 +1,243 @@
+package com.example.demo.infra.outbound.circuitbreaker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.example.demo.config.properties.OutboundCircuitBreakerProperties.Settings;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 單一外部 API 的斷路器（system + 方法）。
+ *
+ * <p>
+ * 狀態以 {@link AtomicReference} 保存不可變的 {@link Snapshot}，狀態轉換一律以 CAS 完成，不使用鎖：
+ * <ul>
+ * <li>CLOSED：最近 N 次呼叫（滑動視窗）的失敗率或慢呼叫比例達門檻時開路</li>
+ * <li>OPEN：直接拒絕，等待時間到後由下一個呼叫轉為 HALF_OPEN</li>
+ * <li>HALF_OPEN：僅放行固定數量的試探呼叫，全部成功即關路，任一失敗立即再開路</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 每次轉換都建立新的 {@link Snapshot}（含新的視窗與試探計數）。許可 {@link Permit} 綁定取得當下的 Snapshot，
+ * 回報結果時若狀態已轉換則直接捨棄，舊狀態期間送出、較晚完成的呼叫不會影響新狀態（例如 CLOSED 時的慢呼叫於 HALF_OPEN 期間才完成）。
+ * </p>
+ */
+@Slf4j
+public class OutboundCircuitBreaker {
+
+	/**
+	 * 斷路器狀態
+	 */
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final String name;
+
+	private final int failureRateThreshold;
+
+	private final int slowCallRateThreshold;
+
+	private final long slowCallNanos;
+
+	private final int slidingWindowSize;
+
+	private final int minimumNumberOfCalls;
+
+	private final long waitInOpenNanos;
+
+	private final int permittedCallsInHalfOpen;
+
+	private final AtomicReference<Snapshot> snapshot;
+
+	OutboundCircuitBreaker(String name, Settings settings) {
+		this.name = name;
+		this.failureRateThreshold = settings.getFailureRateThreshold();
+		this.slowCallRateThreshold = settings.getSlowCallRateThreshold();
+		this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(settings.getSlowCallDurationMillis());
+		this.slidingWindowSize = settings.getSlidingWindowSize();
+		this.minimumNumberOfCalls = Math.min(settings.getMinimumNumberOfCalls(), slidingWindowSize);
+		this.waitInOpenNanos = TimeUnit.MILLISECONDS.toNanos(settings.getWaitInOpenMillis());
+		this.permittedCallsInHalfOpen = settings.getPermittedCallsInHalfOpen();
+		this.snapshot = new AtomicReference<>(closed());
+	}
+
+	/**
+	 * 取得呼叫許可
+	 *
+	 * @return 呼叫許可（結果須以同一許可回報），null 表示應短路，不可呼叫外部系統
+	 */
+	public Permit tryAcquirePermission() {
+		while (true) {
+			Snapshot current = snapshot.get();
+			switch (current.state) {
+			case CLOSED:
+				return current.permit;
+			case OPEN:
+				if (System.nanoTime() - current.sinceNanos < waitInOpenNanos) {
+					return null;
+				}
+				transition(current, halfOpen());
+				break;
+			default:
+				int permits = current.halfOpenPermits.get();
+				while (permits > 0) {
+					if (current.halfOpenPermits.compareAndSet(permits, permits - 1)) {
+						return current.permit;
+					}
+					permits = current.halfOpenPermits.get();
+				}
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * 紀錄呼叫結果；許可取得後狀態已轉換時捨棄。
+	 *
+	 * @param permit        {@link #tryAcquirePermission()} 取得的許可
+	 * @param durationNanos 呼叫耗時
+	 * @param failure       是否為外部系統失敗（連線、逾時、5xx 等）
+	 */
+	public void onResult(Permit permit, long durationNanos, boolean failure) {
+		Snapshot current = snapshot.get();
+		if (permit == null || permit.granted != current) {
+			return;
+		}
+		boolean slow = durationNanos >= slowCallNanos;
+
+		if (current.state == State.CLOSED) {
+			current.window.record(failure, slow);
+			if (current.window.exceedsThreshold()) {
+				transition(current, open());
+			}
+		} else if (current.state == State.HALF_OPEN) {
+			if (failure || slow) {
+				transition(current, open());
+			} else if (current.halfOpenSuccesses.incrementAndGet() >= permittedCallsInHalfOpen) {
+				transition(current, closed());
+			}
+		}
+	}
+
+	/**
+	 * @return 目前狀態
+	 */
+	public State getState() {
+		return snapshot.get().state;
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private void transition(Snapshot from, Snapshot to) {
+		if (snapshot.compareAndSet(from, to)) {
+			log.warn("Circuit breaker {}: {} -> {}", name, from.state, to.state);
+		}
+	}
+
+	private Snapshot closed() {
+		return new Snapshot(State.CLOSED, System.nanoTime(), new SlidingWindow());
+	}
+
+	private Snapshot open() {
+		return new Snapshot(State.OPEN, System.nanoTime(), null);
+	}
+
+	private Snapshot halfOpen() {
+		return new Snapshot(State.HALF_OPEN, System.nanoTime(), null);
+	}
+
+	/**
+	 * 呼叫許可，記錄取得許可時的狀態快照
+	 */
+	public static final class Permit {
+
+		private final Snapshot granted;
+
+		private Permit(Snapshot granted) {
+			this.granted = granted;
+		}
+	}
+
+	/**
+	 * 不可變的狀態快照（計數器為該狀態專屬）
+	 */
+	private final class Snapshot {
+
+		private final State state;
+
+		private final long sinceNanos;
+
+		private final SlidingWindow window;
+
+		private final AtomicInteger halfOpenPermits = new AtomicInteger(permittedCallsInHalfOpen);
+
+		private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+		private final Permit permit = new Permit(this);
+
+		Snapshot(State state, long sinceNanos, SlidingWindow window) {
+			this.state = state;
+			this.sinceNanos = sinceNanos;
+			this.window = window;
+		}
+	}
+
+	/**
+	 * 以次數為單位的無鎖滑動視窗（環狀陣列，覆寫最舊的結果）
+	 */
+	private final class SlidingWindow {
+
+		private static final int RECORDED = 1;
+
+		private static final int FAILURE = 2;
+
+		private static final int SLOW = 4;
+
+		private final AtomicIntegerArray slots = new AtomicIntegerArray(slidingWindowSize);
+
+		private final AtomicLong cursor = new AtomicLong();
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		private final AtomicInteger failures = new AtomicInteger();
+
+		private final AtomicInteger slowCalls = new AtomicInteger();
+
+		void record(boolean failure, boolean slow) {
+			int outcome = RECORDED | (failure ? FAILURE : 0) | (slow ? SLOW : 0);
+			int index = (int) (cursor.getAndIncrement() % slidingWindowSize);
+			int previous = slots.getAndSet(index, outcome);
+
+			if (previous == 0) {
+				calls.incrementAndGet();
+			}
+			adjust(failures, previous & FAILURE, outcome & FAILURE);
+			adjust(slowCalls, previous & SLOW, outcome & SLOW);
+		}
+
+		boolean exceedsThreshold() {
+			int total = calls.get();
+			if (total < minimumNumberOfCalls) {
+				return false;
+			}
+			return failures.get() * 100 >= failureRateThreshold * total
+					|| slowCalls.get() * 100 >= slowCallRateThreshold * total;
+		}
+
+		private void adjust(AtomicInteger counter, int before, int after) {
+			if (before != 0 && after == 0) {
+				counter.decrementAndGet();
+			} else if (before == 0 && after != 0) {
+				counter.incrementAndGet();
+			}
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.demo.infra.outbound.circuitbreaker;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.config.properties.OutboundCircuitBreakerProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 外部 API 斷路器登錄表。
+ *
+ * <p>
+ * 每個「system + Client 方法」建立一個 {@link OutboundCircuitBreaker}，設定來自
+ * {@link OutboundCircuitBreakerProperties}，並提供指標（tag：system / method）：
+ * <ul>
+ * <li>{@code outbound.circuit.state}：0 = CLOSED、1 = OPEN、2 = HALF_OPEN</li>
+ * <li>{@code outbound.circuit.rejected}：被短路的呼叫數</li>
+ * </ul>
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboundCircuitBreakerRegistry {
+
+	private final OutboundCircuitBreakerProperties properties;
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Method → 斷路器
+	 */
+	private final Map<Method, Entry> breakers = new ConcurrentHashMap<>();
+
+	/**
+	 * 取得指定 API 的斷路器
+	 *
+	 * @param system 外部系統代碼
+	 * @param method Client 方法
+	 * @return 斷路器，未啟用時回傳 null
+	 */
+	public OutboundCircuitBreaker get(String system, Method method) {
+		if (!properties.isEnabled()) {
+			return null;
+		}
+		return breakers.computeIfAbsent(method, m -> create(system, m)).breaker;
+	}
+
+	/**
+	 * 累計一次短路
+	 *
+	 * @param method Client 方法
+	 */
+	public void onRejected(Method method) {
+		Entry entry = breakers.get(method);
+		if (entry != null) {
+			entry.rejected.increment();
+		}
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private Entry create(String system, Method method) {
+		OutboundCircuitBreaker breaker = new OutboundCircuitBreaker(system + ":" + method.getName(),
+				properties.resolve(system));
+		Gauge.builder("outbound.circuit.state", breaker, b -> b.getState().ordinal()).tag("system", system)
+				.tag("method", method.getName()).register(meterRegistry);
+		Counter rejected = Counter.builder("outbound.circuit.rejected").tag("system", system)
+				.tag("method", method.getName()).register(meterRegistry);
+		return new Entry(breaker, rejected);
+	}
+
+	private record Entry(OutboundCircuitBreaker breaker, Counter rejected) {
+	}
+}
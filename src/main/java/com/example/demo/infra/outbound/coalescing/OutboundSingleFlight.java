@@ -0,0 +1,120 @@
+package com.example.demo.infra.outbound.coalescing;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.infra.annotation.OutboundCoalescing;
+import com.example.demo.infra.outbound.shared.invocation.OutboundInvocation;
+import com.example.demo.infra.outbound.shared.invocation.OutboundInvocationKey;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 外部 API 相同請求合併器（Single-flight）。
+ *
+ * <p>
+ * 供標註 {@link OutboundCoalescing} 的方法使用：相同 {@link OutboundInvocationKey} 的並行呼叫
+ * 共用同一個進行中的 {@link CompletableFuture}。
+ * </p>
+ *
+ * <ul>
+ * <li>Leader：實際執行呼叫（含 Outbound API 紀錄流程），完成後將結果或例外交給所有 Follower</li>
+ * <li>Follower：不連線也不寫紀錄，僅累計 {@code outbound.coalescing.requests}（role=follower）</li>
+ * <li>Leader 完成後立即移除進行中項目，之後的呼叫會重新發起，不會拿到過期結果</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboundSingleFlight {
+
+	/**
+	 * 進行中的呼叫
+	 */
+	private final Map<OutboundInvocationKey, CompletableFuture<Object>> inflight = new ConcurrentHashMap<>();
+
+	/**
+	 * Method → 計數器
+	 */
+	private final Map<Method, CoalescingMeters> meters = new ConcurrentHashMap<>();
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * 執行呼叫；若已有相同請求進行中，則等待並共用其結果。
+	 *
+	 * @param key        呼叫識別 Key
+	 * @param method     被呼叫的 Client 方法（作為計數維度）
+	 * @param invocation 實際呼叫（含紀錄流程）
+	 * @return 外部 API 回傳物件
+	 * @throws Throwable Leader 呼叫失敗時的原例外
+	 */
+	public Object execute(OutboundInvocationKey key, Method method, OutboundInvocation invocation) throws Throwable {
+
+		CoalescingMeters counters = meters.computeIfAbsent(method, m -> new CoalescingMeters(key.system(), m.getName()));
+
+		CompletableFuture<Object> mine = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inflight.putIfAbsent(key, mine);
+
+		if (existing != null) {
+			counters.follower.increment();
+			return await(existing);
+		}
+
+		counters.leader.increment();
+		try {
+			Object result = invocation.proceed();
+			mine.complete(result);
+			return result;
+		} catch (Throwable e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inflight.remove(key, mine);
+		}
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	/**
+	 * 等待 Leader 完成，並還原其原始例外
+	 */
+	private Object await(CompletableFuture<Object> leader) throws Throwable {
+		try {
+			return leader.get();
+		} catch (ExecutionException e) {
+			throw e.getCause();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw e;
+		}
+	}
+
+	/**
+	 * 單一方法的 Leader / Follower 計數器
+	 */
+	private class CoalescingMeters {
+
+		private final Counter leader;
+
+		private final Counter follower;
+
+		CoalescingMeters(String system, String method) {
+			this.leader = counter(system, method, "leader");
+			this.follower = counter(system, method, "follower");
+		}
+
+		private Counter counter(String system, String method, String role) {
+			return Counter.builder("outbound.coalescing.requests").tag("system", system).tag("method", method)
+					.tag("role", role).register(meterRegistry);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.example.demo.infra.outbound.credential.adapter;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.example.demo.application.port.AuthSerivceClientPort;
+import com.example.demo.application.shared.outbound.auth.command.GetJwTokenCommand;
+import com.example.demo.application.shared.outbound.auth.dto.JwTokenGettenData;
+import com.example.demo.infra.outbound.auth.token.JwtExpiryParser;
+import com.example.demo.infra.outbound.credential.provider.OutboundCredential;
+import com.example.demo.infra.outbound.credential.provider.RefreshableCredentialProvider;
+import com.example.demo.shared.constant.JwtConstants;
+
+/**
+ * AuthService 專用的憑證提供者。
+ *
+ * <p>
+ * 啟動時使用 {@code auth.service.endpoint.jwt.token} 作為初始憑證， 到期前（或收到 401 時）以專用服務帳號
+ * {@code auth.service.credential.username} / {@code auth.service.credential.password} 重新登入取得新 Token。
+ * </p>
+ *
+ * <p>
+ * AuthService 僅提供使用者登入 API（無 client-credentials 授權），因此需明確設定專用的服務帳號，
+ * 不可將 client-id / client-secret 當作帳號密碼送出。重新登入透過 {@link AuthSerivceClientPort} 執行，
+ * 因此同樣會留下 Outbound API 紀錄；未設定服務帳號時僅使用初始 Token，不進行更新。
+ * </p>
+ */
+@Component
+class AuthServiceCredentialProvider extends RefreshableCredentialProvider {
+
+	/**
+	 * 延遲取得，避免與 Feign Client 建立過程形成循環依賴
+	 */
+	private final ObjectProvider<AuthSerivceClientPort> authSerivceClient;
+
+	private final String initialToken;
+
+	private final String username;
+
+	private final String password;
+
+	AuthServiceCredentialProvider(TaskScheduler taskScheduler, ObjectProvider<AuthSerivceClientPort> authSerivceClient,
+			@Value("${auth.service.endpoint.jwt.token:}") String initialToken,
+			@Value("${auth.service.credential.username:}") String username,
+			@Value("${auth.service.credential.password:}") String password,
+			@Value("${auth.service.credential.refresh-ahead-seconds:300}") long refreshAheadSeconds,
+			@Value("${auth.service.credential.min-refresh-interval-seconds:30}") long minRefreshIntervalSeconds) {
+		super(taskScheduler, Duration.ofSeconds(refreshAheadSeconds), Duration.ofSeconds(minRefreshIntervalSeconds));
+		this.authSerivceClient = authSerivceClient;
+		this.initialToken = initialToken;
+		this.username = username;
+		this.password = password;
+	}
+
+	@Override
+	public String supportSystem() {
+		return "AuthService";
+	}
+
+	@Override
+	protected OutboundCredential initialCredential() {
+		return StringUtils.hasText(initialToken) ? toCredential(initialToken) : null;
+	}
+
+	@Override
+	protected OutboundCredential fetchCredential() {
+		if (!StringUtils.hasText(username)) {
+			return null;
+		}
+		JwTokenGettenData data = authSerivceClient.getObject().getJwToken(new GetJwTokenCommand(username, password));
+		return data == null || data.getToken() == null ? null : toCredential(data.getToken());
+	}
+
+	private static OutboundCredential toCredential(String token) {
+		return new OutboundCredential(JwtConstants.JWT_PREFIX.getValue() + token, JwtExpiryParser.parseExpiry(token));
+	}
+}
@@ -0,0 +1,42 @@
+package com.example.demo.infra.outbound.credential.factory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.infra.outbound.credential.provider.OutboundCredentialProvider;
+
+/**
+ * 外部系統憑證提供者 Factory。
+ *
+ * <p>
+ * 依外部系統代碼（system）選擇對應的 {@link OutboundCredentialProvider}；未註冊 Provider 的系統視為不需認證。
+ * </p>
+ */
+@Component
+public class OutboundCredentialProviderFactory {
+
+	/**
+	 * system → OutboundCredentialProvider 的不可變映射表
+	 */
+	private final Map<String, OutboundCredentialProvider> providerMap;
+
+	public OutboundCredentialProviderFactory(List<OutboundCredentialProvider> providers) {
+		this.providerMap = providers.stream().collect(
+				Collectors.toUnmodifiableMap(OutboundCredentialProvider::supportSystem, Function.identity()));
+	}
+
+	/**
+	 * 依外部系統代碼取得對應的憑證提供者。
+	 *
+	 * @param system 外部系統代碼
+	 * @return 對應的 Provider（若存在）
+	 */
+	public Optional<OutboundCredentialProvider> get(String system) {
+		return Optional.ofNullable(providerMap.get(system));
+	}
+}
@@ -0,0 +1,17 @@
+package com.example.demo.infra.outbound.credential.provider;
+
+import java.time.Instant;
+
+/**
+ * 對外呼叫使用的憑證快照。
+ *
+ * <p>
+ * {@code headerValue} 為已組好的完整 Header 值（例如 {@code Bearer xxx}），請求路徑上直接使用，不需再串接字串。
+ * </p>
+ *
+ * @param headerValue 完整 Authorization Header 值
+ * @param expiresAt   到期時間，未知時為 null
+ */
+public record OutboundCredential(String headerValue, Instant expiresAt) {
+
+}
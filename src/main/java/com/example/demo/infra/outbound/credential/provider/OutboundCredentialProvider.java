@@ -0,0 +1,51 @@
+package com.example.demo.infra.outbound.credential.provider;
+
+import com.example.demo.infra.outbound.credential.factory.OutboundCredentialProviderFactory;
+
+/**
+ * 外部系統憑證提供者（Outbound Credential Provider）。
+ *
+ * <p>
+ * 負責提供呼叫外部系統時使用的 Authorization Header，並在憑證到期前或遭外部系統拒絕（401）時更新。
+ * </p>
+ *
+ * <p>
+ * 使用方式：
+ * <ul>
+ * <li>由 {@link OutboundCredentialProviderFactory} 依外部系統代碼選擇對應實作</li>
+ * <li>Feign {@code RequestInterceptor} 於每次請求呼叫 {@link #authorizationHeader()}</li>
+ * <li>{@code ErrorDecoder} 收到 401 時呼叫 {@link #onUnauthorized(String)}</li>
+ * </ul>
+ * </p>
+ */
+public interface OutboundCredentialProvider {
+
+	/**
+	 * 回傳此 Provider 所支援的外部系統代碼。
+	 *
+	 * @return 外部系統代碼（唯一識別）
+	 */
+	String supportSystem();
+
+	/**
+	 * 取得目前有效的 Authorization Header 值。
+	 *
+	 * <p>
+	 * 此方法位於請求熱路徑上，實作不得加鎖或阻塞。
+	 * </p>
+	 *
+	 * @return 完整 Header 值，若尚無憑證則回傳 null
+	 */
+	String authorizationHeader();
+
+	/**
+	 * 外部系統拒絕憑證（HTTP 401）時的通知。
+	 *
+	 * <p>
+	 * 多個請求同時收到 401 時，實作應只觸發一次更新。
+	 * </p>
+	 *
+	 * @param rejectedHeader 遭拒絕請求所使用的 Header 值
+	 */
+	void onUnauthorized(String rejectedHeader);
+}
@@ -0,0 +1,183 @@
+package com.example.demo.infra.outbound.credential.provider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 可自動更新的憑證提供者基底類別。
+ *
+ * <p>
+ * 以 {@link AtomicReference} 保存目前憑證，請求路徑只做一次 volatile 讀取；更新時整筆替換，不需加鎖。
+ * </p>
+ *
+ * <p>
+ * 更新時機：
+ * <ul>
+ * <li>沒有初始憑證時，於應用程式啟動完成（{@link ApplicationReadyEvent}）後背景取得，不延遲啟動流程</li>
+ * <li>到期前 {@code refreshAhead} 由 {@link TaskScheduler} 背景更新</li>
+ * <li>收到 401 且遭拒絕的 Header 仍為目前值時，觸發一次協調更新（同時間僅一個更新進行中）</li>
+ * <li>距上次更新未滿 {@code minRefreshInterval} 時忽略 401，避免錯誤請求造成更新風暴</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 更新失敗時保留既有憑證，並於 {@code minRefreshInterval} 後重試。
+ * </p>
+ *
+ * <p>
+ * {@link TaskScheduler} 僅負責排程；實際向外部系統取得憑證（阻塞的 HTTP 呼叫）於專屬執行緒執行，
+ * 外部系統回應緩慢時不會佔用排程執行緒而延誤其他排程工作（紀錄批次寫入、Outbox 派送、Dead Letter 重試）。
+ * 同時間僅一個更新進行中。
+ * </p>
+ */
+@Slf4j
+public abstract class RefreshableCredentialProvider implements OutboundCredentialProvider {
+
+	private final AtomicReference<OutboundCredential> current = new AtomicReference<>();
+
+	private final AtomicReference<CompletableFuture<OutboundCredential>> inflight = new AtomicReference<>();
+
+	private final AtomicReference<ScheduledFuture<?>> scheduled = new AtomicReference<>();
+
+	private final TaskScheduler scheduler;
+
+	private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final Duration refreshAhead;
+
+	private final Duration minRefreshInterval;
+
+	private volatile Instant lastRefresh = Instant.EPOCH;
+
+	protected RefreshableCredentialProvider(TaskScheduler scheduler, Duration refreshAhead,
+			Duration minRefreshInterval) {
+		this.scheduler = scheduler;
+		this.refreshAhead = refreshAhead;
+		this.minRefreshInterval = minRefreshInterval;
+	}
+
+	/**
+	 * 啟動時的初始憑證（例如設定檔中的 Token）
+	 *
+	 * @return 初始憑證，沒有則回傳 null
+	 */
+	protected abstract OutboundCredential initialCredential();
+
+	/**
+	 * 向外部系統取得新憑證
+	 *
+	 * @return 新憑證，若不支援更新則回傳 null
+	 */
+	protected abstract OutboundCredential fetchCredential();
+
+	@PostConstruct
+	void init() {
+		OutboundCredential initial = initialCredential();
+		if (initial != null) {
+			current.set(initial);
+			scheduleRefresh(initial);
+		}
+	}
+
+	/**
+	 * 啟動完成後才向外部系統取得憑證，外部系統緩慢或無法連線時不影響啟動
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void onApplicationReady() {
+		if (current.get() == null) {
+			refresh();
+		}
+	}
+
+	@Override
+	public String authorizationHeader() {
+		OutboundCredential credential = current.get();
+		return credential == null ? null : credential.headerValue();
+	}
+
+	@Override
+	public void onUnauthorized(String rejectedHeader) {
+		OutboundCredential credential = current.get();
+		if (credential != null && rejectedHeader != null && !rejectedHeader.equals(credential.headerValue())) {
+			// 已替換為新憑證，遭拒的是舊請求
+			return;
+		}
+		if (Instant.now().isBefore(lastRefresh.plus(minRefreshInterval))) {
+			return;
+		}
+		log.info("{} credential rejected (401), refreshing", supportSystem());
+		refresh();
+	}
+
+	/**
+	 * 觸發背景更新；若已有更新進行中則共用該次結果。
+	 *
+	 * @return 更新結果
+	 */
+	public CompletableFuture<OutboundCredential> refresh() {
+		CompletableFuture<OutboundCredential> mine = new CompletableFuture<>();
+		if (!inflight.compareAndSet(null, mine)) {
+			CompletableFuture<OutboundCredential> existing = inflight.get();
+			return existing != null ? existing : CompletableFuture.completedFuture(current.get());
+		}
+		refreshExecutor.execute(() -> doRefresh(mine));
+		return mine;
+	}
+
+	@PreDestroy
+	void close() {
+		refreshExecutor.shutdownNow();
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private void doRefresh(CompletableFuture<OutboundCredential> result) {
+		try {
+			OutboundCredential fetched = fetchCredential();
+			lastRefresh = Instant.now();
+			if (fetched != null) {
+				current.set(fetched);
+				scheduleRefresh(fetched);
+			}
+			result.complete(current.get());
+		} catch (RuntimeException e) {
+			log.warn("{} credential 更新失敗，沿用既有憑證", supportSystem(), e);
+			lastRefresh = Instant.now();
+			replaceScheduled(scheduler.schedule(this::refresh, Instant.now().plus(minRefreshInterval)));
+			result.completeExceptionally(e);
+		} finally {
+			inflight.set(null);
+		}
+	}
+
+	private void scheduleRefresh(OutboundCredential credential) {
+		if (credential.expiresAt() != null) {
+			replaceScheduled(scheduler.schedule(this::refresh, credential.expiresAt().minus(refreshAhead)));
+		}
+	}
+
+	/**
+	 * 只保留最新一次排程，避免 401 更新後殘留舊的到期排程
+	 */
+	private void replaceScheduled(ScheduledFuture<?> next) {
+		ScheduledFuture<?> previous = scheduled.getAndSet(next);
+		if (previous != null && previous != next) {
+			previous.cancel(false);
+		}
+	}
+}
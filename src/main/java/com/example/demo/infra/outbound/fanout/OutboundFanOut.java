@@ -0,0 +1,101 @@
+package com.example.demo.infra.outbound.fanout;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.application.port.OutboundFanOutPort;
+import com.example.demo.infra.context.ContextHolder;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 外部 API 並行呼叫（Fan-out）執行器。
+ *
+ * <p>
+ * 以虛擬執行緒執行每筆呼叫，並以 {@link Semaphore} 限制同時進行的呼叫數（{@code outbound.fan-out.max-concurrency}），
+ * 發起端於達上限時等待，不會一次建立大量執行緒或壓垮外部系統。
+ * </p>
+ *
+ * <p>
+ * 每筆結果於完成時立即回呼（完成順序，非輸入順序），回呼可能由多個執行緒同時呼叫，實作須自行確保執行緒安全。
+ * </p>
+ */
+@Slf4j
+@Component
+public class OutboundFanOut implements OutboundFanOutPort {
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final int defaultMaxConcurrency;
+
+	public OutboundFanOut(@Value("${outbound.fan-out.max-concurrency:16}") int defaultMaxConcurrency) {
+		this.defaultMaxConcurrency = defaultMaxConcurrency;
+	}
+
+	/**
+	 * 以預設並行上限執行所有呼叫，全部完成後返回。
+	 *
+	 * @param inputs    呼叫參數
+	 * @param call      單筆呼叫
+	 * @param onSuccess 單筆成功回呼
+	 * @param onFailure 單筆失敗回呼
+	 */
+	@Override
+	public <T, R> void execute(Collection<T> inputs, Function<T, R> call, BiConsumer<T, R> onSuccess,
+			BiConsumer<T, Throwable> onFailure) {
+		execute(inputs, defaultMaxConcurrency, call, onSuccess, onFailure);
+	}
+
+	/**
+	 * 以指定並行上限執行所有呼叫，全部完成後返回。
+	 *
+	 * @param inputs         呼叫參數
+	 * @param maxConcurrency 同時進行的呼叫數上限
+	 * @param call           單筆呼叫
+	 * @param onSuccess      單筆成功回呼
+	 * @param onFailure      單筆失敗回呼
+	 */
+	public <T, R> void execute(Collection<T> inputs, int maxConcurrency, Function<T, R> call,
+			BiConsumer<T, R> onSuccess, BiConsumer<T, Throwable> onFailure) {
+
+		Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+		List<CompletableFuture<Void>> tasks = new ArrayList<>(inputs.size());
+
+		try {
+			for (T input : inputs) {
+				permits.acquire();
+				tasks.add(CompletableFuture.runAsync(ContextHolder.propagate(() -> {
+					try {
+						R result = call.apply(input);
+						onSuccess.accept(input, result);
+					} catch (RuntimeException e) {
+						onFailure.accept(input, e);
+					} finally {
+						permits.release();
+					}
+				}), executor));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("Fan-out 中斷，已送出 {} / {} 筆", tasks.size(), inputs.size());
+		}
+
+		CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+	}
+
+	@PreDestroy
+	void close() {
+		executor.shutdown();
+	}
+}
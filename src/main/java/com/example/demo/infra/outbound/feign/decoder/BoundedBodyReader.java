@@ -0,0 +1,185 @@
+package com.example.demo.infra.outbound.feign.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.http.conn.EofSensorInputStream;
+
+import feign.Response;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 有上限的 Response Body 讀取器（錯誤回應用）。
+ *
+ * <p>
+ * 讀取流程：
+ * <ul>
+ * <li>最多讀取 {@code maxBytes} 轉為字串，緩衝區由固定大小的 Pool 重複使用，不隨錯誤量配置新陣列；
+ * 截斷點落在多位元組字元中間時捨棄該字元不完整的位元組，不產生亂碼</li>
+ * <li>其餘內容以同一緩衝區讀掉丟棄（最多 {@code drainMaxBytes}），讀完後連線可回到連線池重用</li>
+ * <li>超過 {@code drainMaxBytes} 仍未讀完時中止連線（Apache 實作 abort，JDK 實作關閉串流即取消該 Stream），
+ * 不為超大回應佔用頻寬與執行緒</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 實際長度優先取 {@code Content-Length}；未提供時為實際讀到的位元組數，中止連線時無法得知則為 null。
+ * </p>
+ */
+@Slf4j
+class BoundedBodyReader {
+
+	/**
+	 * 讀取結果
+	 *
+	 * @param content   讀取到的內容（最多 maxBytes）
+	 * @param length    實際長度（位元組），無法得知時為 null
+	 * @param truncated 是否截斷
+	 */
+	record BoundedBody(String content, Long length, boolean truncated) {
+
+		/**
+		 * @return 供紀錄使用的內容描述，截斷時附上實際長度
+		 */
+		String describe() {
+			if (!truncated) {
+				return content;
+			}
+			return content + "...(truncated, length=" + (length == null ? "unknown" : length + " bytes") + ")";
+		}
+	}
+
+	private static final int POOL_SIZE = 32;
+
+	private final int maxBytes;
+
+	private final long drainMaxBytes;
+
+	private final BlockingQueue<byte[]> buffers = new ArrayBlockingQueue<>(POOL_SIZE);
+
+	BoundedBodyReader(int maxBytes, long drainMaxBytes) {
+		this.maxBytes = Math.max(maxBytes, 1);
+		this.drainMaxBytes = drainMaxBytes;
+	}
+
+	/**
+	 * 讀取 Response Body，結束時 Body 已讀完或連線已中止。
+	 *
+	 * @param body Response Body，可為 null
+	 * @return 讀取結果，沒有 Body 時回傳 null
+	 * @throws IOException 讀取失敗
+	 */
+	BoundedBody read(Response.Body body) throws IOException {
+		if (body == null) {
+			return null;
+		}
+		Integer declared = body.length();
+
+		byte[] buffer = acquire();
+		InputStream in = body.asInputStream();
+		boolean completed = false;
+		try {
+			int read = readFully(in, buffer);
+			String content = decode(buffer, read, read < maxBytes);
+			if (read < maxBytes) {
+				completed = true;
+				return new BoundedBody(content, (long) read, false);
+			}
+
+			long drained = drain(in, buffer);
+			completed = drained >= 0;
+			Long length = declared != null ? Long.valueOf(declared) : completed ? Long.valueOf(read + drained) : null;
+			return new BoundedBody(content, length, length == null || length > read);
+		} finally {
+			release(buffer);
+			if (completed) {
+				in.close();
+			} else {
+				abort(in);
+			}
+		}
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	/**
+	 * 讀到 buffer 前 maxBytes 填滿或串流結束
+	 */
+	private int readFully(InputStream in, byte[] buffer) throws IOException {
+		int total = 0;
+		while (total < maxBytes) {
+			int n = in.read(buffer, total, maxBytes - total);
+			if (n < 0) {
+				break;
+			}
+			total += n;
+		}
+		return total;
+	}
+
+	/**
+	 * 以 UTF-8 解碼；內容未讀完（截斷）時，結尾不完整的多位元組字元留在輸入中不解碼
+	 *
+	 * @param complete 是否已讀到串流結尾
+	 */
+	private static String decode(byte[] buffer, int length, boolean complete) {
+		CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		CharBuffer out = CharBuffer.allocate(length);
+		decoder.decode(ByteBuffer.wrap(buffer, 0, length), out, complete);
+		if (complete) {
+			decoder.flush(out);
+		}
+		return out.flip().toString();
+	}
+
+	/**
+	 * 讀掉剩餘內容
+	 *
+	 * @return 讀掉的位元組數，超過 drainMaxBytes 仍未結束時回傳 -1
+	 */
+	private long drain(InputStream in, byte[] buffer) throws IOException {
+		long drained = 0;
+		while (drained <= drainMaxBytes) {
+			int n = in.read(buffer, 0, buffer.length);
+			if (n < 0) {
+				return drained;
+			}
+			drained += n;
+		}
+		return -1;
+	}
+
+	/**
+	 * 中止連線，避免關閉串流時讀完整個超大回應
+	 */
+	private static void abort(InputStream in) {
+		try {
+			if (in instanceof EofSensorInputStream sensor) {
+				sensor.abortConnection();
+			} else {
+				in.close();
+			}
+		} catch (IOException e) {
+			log.debug("Abort error response body failed", e);
+		}
+	}
+
+	private byte[] acquire() {
+		byte[] buffer = buffers.poll();
+		return buffer != null ? buffer : new byte[maxBytes];
+	}
+
+	private void release(byte[] buffer) {
+		buffers.offer(buffer);
+	}
+}
@@ -1,51 +1,80 @@
 package com.example.demo.infra.outbound.feign.decoder;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 
-import com.example.demo.application.factory.OutboundApiResponseValidatorFactory;
 import com.example.demo.infra.context.ContextHolder;
 import com.example.demo.infra.context.element.OutboundApiRequestInfo;
+import com.example.demo.infra.outbound.credential.factory.OutboundCredentialProviderFactory;
+import com.example.demo.infra.outbound.feign.decoder.BoundedBodyReader.BoundedBody;
+import com.example.demo.infra.outbound.registry.OutboundSystemRegistry;
 import com.example.demo.infra.outbound.shared.exception.CustomFeignException;
+import com.example.demo.shared.constant.JwtConstants;
+import com.example.demo.shared.constant.OutboundConstants;
 
 import feign.Response;
-import feign.Util;
 import feign.codec.ErrorDecoder;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 全域 Feign ErrorDecoder。
+ *
+ * <p>
+ * 錯誤回應 Body 以 {@link BoundedBodyReader} 讀取：最多保留 {@code outbound.error-body.max-bytes} 轉為錯誤訊息，
+ * 截斷時附上實際長度；其餘內容讀掉或中止連線，外部系統大量回傳大型錯誤頁時不會同步放大記憶體用量。
+ * </p>
+ */
 @Slf4j
 public class FeignErrorDecoder implements ErrorDecoder {
 
-    private final OutboundApiResponseValidatorFactory validatorFactory;
+    private final OutboundSystemRegistry systemRegistry;
 
-    public FeignErrorDecoder(OutboundApiResponseValidatorFactory validatorFactory) {
-        this.validatorFactory = validatorFactory;
+    private final OutboundCredentialProviderFactory credentialProviderFactory;
+
+    private final BoundedBodyReader bodyReader;
+
+    /**
+     * @param systemRegistry            外部系統元件登錄表（回應驗證器）
+     * @param credentialProviderFactory 外部系統憑證提供者 Factory
+     * @param maxBodyBytes              錯誤回應 Body 最多保留的位元組數
+     * @param drainMaxBytes             超過保留上限後最多讀掉的位元組數，超過即中止連線
+     */
+    public FeignErrorDecoder(OutboundSystemRegistry systemRegistry,
+            OutboundCredentialProviderFactory credentialProviderFactory, int maxBodyBytes, long drainMaxBytes) {
+        this.systemRegistry = systemRegistry;
+        this.credentialProviderFactory = credentialProviderFactory;
+        this.bodyReader = new BoundedBodyReader(maxBodyBytes, drainMaxBytes);
     }
 
     @Override
     public Exception decode(String methodKey, Response response) {
-        OutboundApiRequestInfo context = ContextHolder.getFeignContext();
+        OutboundApiRequestInfo context = resolveContext(response);
 
-        String body = null;
+        BoundedBody body = null;
         try {
-            if (response.body() != null) {
-                body = Util.toString(response.body().asReader(StandardCharsets.UTF_8));
-            }
+            body = bodyReader.read(response.body());
         } catch (IOException e) {
             log.warn("Feign response body 讀取失敗", e);
         }
 
+        // 401：通知憑證提供者協調更新（同時多筆 401 只會觸發一次）
+        if (response.status() == 401 && context != null) {
+            Collection<String> rejected = response.request().headers().get(JwtConstants.JWT_HEADER.getValue());
+            String rejectedHeader = rejected == null || rejected.isEmpty() ? null : rejected.iterator().next();
+            credentialProviderFactory.get(context.getSystem()).ifPresent(p -> p.onUnauthorized(rejectedHeader));
+        }
+
         // 若 HTTP 狀態碼非 2xx，直接拋出 Exception
         if (response.status() < 200 || response.status() >= 300) {
             return new CustomFeignException(
                 "HTTP_" + response.status(),
-                "HTTP Error: " + response.status() + ", body=" + body
+                "HTTP Error: " + response.status() + ", body=" + (body == null ? null : body.describe())
             );
         }
 
         // 對成功 HTTP 回應做額外檢核
         try {
-            validatorFactory.get(context.getSystem()).validate(body, context);
+            systemRegistry.profile(context.getSystem()).getValidator().validate(body == null ? null : body.content(), context);
         } catch (RuntimeException e) {
             return e;
         }
@@ -53,4 +82,15 @@ public class FeignErrorDecoder implements ErrorDecoder {
         // 回應成功且 Validator 沒拋例外
         return null; // Feign 會正常返回 response body
     }
+
+    /**
+     * 依請求 Header 的呼叫識別碼取得所屬呼叫的上下文，並行呼叫時不會取到其他呼叫的資訊
+     */
+    private OutboundApiRequestInfo resolveContext(Response response) {
+        Collection<String> ids = response.request().headers()
+                .get(OutboundConstants.INVOCATION_ID_HEADER.getValue());
+        OutboundApiRequestInfo context = ids == null || ids.isEmpty() ? null
+                : ContextHolder.getFeignContext(ids.iterator().next());
+        return context != null ? context : ContextHolder.getFeignContext();
+    }
 }
@@ -0,0 +1,148 @@
+package com.example.demo.infra.outbound.feign.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.http.HttpEntity;
+
+import com.example.demo.infra.context.ContextHolder;
+import com.example.demo.infra.context.element.OutboundApiRequestInfo;
+import com.example.demo.infra.outbound.shared.exception.CustomFeignException;
+import com.example.demo.infra.outbound.validation.rule.ResponseRule;
+import com.example.demo.infra.outbound.validation.rule.ResponseRuleRegistry;
+import com.example.demo.shared.constant.OutboundConstants;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import feign.FeignException;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 全域 Feign Decoder：於解碼成功回應的同時套用宣告式驗證規則（{@code outbound.validation.*}）。
+ *
+ * <p>
+ * 依呼叫上下文的系統、HTTP Method 與路徑查找 {@link ResponseRule}：
+ * <ul>
+ * <li>沒有規則：直接交由原本的 Decoder</li>
+ * <li>回傳型別為一般物件：規則檢查與 Jackson Token 讀取同一次進行，Token 寫入 {@link TokenBuffer} 後直接反序列化，
+ * 回應 Body 不會解析兩次</li>
+ * <li>回傳型別為 String、byte[]、Response 等原始內容：讀入後驗證，再交由原本的 Decoder</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 驗證失敗（含 JSON 格式錯誤）時停止讀取，將 {@link CustomFeignException} 存於呼叫上下文並回傳 null，
+ * 由紀錄流程於回應驗證階段拋出，與程式撰寫的驗證策略行為一致。
+ * </p>
+ */
+@Slf4j
+public class ResponseValidatingDecoder implements Decoder {
+
+	private final Decoder delegate;
+
+	private final ResponseRuleRegistry ruleRegistry;
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * @param delegate     原本的 Decoder
+	 * @param ruleRegistry 宣告式回應驗證規則登錄表
+	 * @param objectMapper 反序列化使用的 ObjectMapper
+	 */
+	public ResponseValidatingDecoder(Decoder delegate, ResponseRuleRegistry ruleRegistry, ObjectMapper objectMapper) {
+		this.delegate = delegate;
+		this.ruleRegistry = ruleRegistry;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public Object decode(Response response, Type type) throws IOException, FeignException {
+
+		OutboundApiRequestInfo context = resolveContext(response);
+		ResponseRule rule = context == null ? null
+				: ruleRegistry.resolve(context.getSystem(), context.getHttpMethod(), context.getApi());
+		if (rule == null) {
+			return delegate.decode(response, type);
+		}
+
+		if (response.body() == null) {
+			return violated(context, rule, "回應 Body 為空");
+		}
+
+		JavaType javaType = objectMapper.constructType(type);
+		if (isRawContent(javaType.getRawClass())) {
+			return decodeBuffered(response, type, context, rule);
+		}
+
+		try (InputStream in = response.body().asInputStream(); JsonParser parser = objectMapper.createParser(in)) {
+			TokenBuffer buffer = new TokenBuffer(parser);
+			String violation = evaluate(rule, parser, buffer);
+			if (violation != null) {
+				return violated(context, rule, violation);
+			}
+			// 反序列化失敗與未套用規則時相同，交由 Feign 轉為 DecodeException
+			return objectMapper.readValue(buffer.asParserOnFirstToken(), javaType);
+		}
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private Object decodeBuffered(Response response, Type type, OutboundApiRequestInfo context, ResponseRule rule)
+			throws IOException {
+
+		byte[] bytes = Util.toByteArray(response.body().asInputStream());
+		try (JsonParser parser = objectMapper.createParser(bytes)) {
+			String violation = evaluate(rule, parser, null);
+			if (violation != null) {
+				return violated(context, rule, violation);
+			}
+		}
+		return delegate.decode(response.toBuilder().body(bytes).build(), type);
+	}
+
+	/**
+	 * 執行規則檢查，JSON 格式錯誤視為違規
+	 */
+	private static String evaluate(ResponseRule rule, JsonParser parser, TokenBuffer buffer) throws IOException {
+		try {
+			return rule.evaluate(parser, buffer);
+		} catch (JsonProcessingException e) {
+			return "回應無法解析: " + e.getOriginalMessage();
+		}
+	}
+
+	private Object violated(OutboundApiRequestInfo context, ResponseRule rule, String violation) {
+		log.warn("{} {} 回應驗證失敗: {}", context.getSystem(), rule.getApi(), violation);
+		context.setResponseViolation(
+				new CustomFeignException("FEIGN_FAILED", context.getSystem() + " 回應驗證失敗: " + violation));
+		return null;
+	}
+
+	private static boolean isRawContent(Class<?> rawClass) {
+		return rawClass == String.class || rawClass == byte[].class || rawClass == Response.class
+				|| rawClass == Void.class || rawClass == void.class || rawClass == Optional.class
+				|| HttpEntity.class.isAssignableFrom(rawClass);
+	}
+
+	/**
+	 * 依請求 Header 的呼叫識別碼取得所屬呼叫的上下文，並行呼叫時不會取到其他呼叫的資訊
+	 */
+	private static OutboundApiRequestInfo resolveContext(Response response) {
+		Collection<String> ids = response.request().headers()
+				.get(OutboundConstants.INVOCATION_ID_HEADER.getValue());
+		OutboundApiRequestInfo context = ids == null || ids.isEmpty() ? null
+				: ContextHolder.getFeignContext(ids.iterator().next());
+		return context != null ? context : ContextHolder.getFeignContext();
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.demo.infra.outbound.feign.playback;
+
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import feign.Client;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 依設定為各外部系統的 Feign {@link Client} 套用錄製 / 回放行為。
+ *
+ * <p>
+ * 相關設定：
+ * <ul>
+ * <li>{@code outbound.playback.mode}：OFF / RECORD / PLAYBACK</li>
+ * <li>{@code outbound.playback.systems}：套用的外部系統代碼（逗號分隔，空白代表全部）</li>
+ * <li>{@code outbound.playback.latency-ms}、{@code outbound.playback.latency-jitter-ms}：模擬延遲</li>
+ * <li>{@code outbound.playback.miss-status}：查無錄製回應時的 Stub HTTP 狀態碼</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@Component
+public class PlaybackClientDecorator {
+
+	private final PlaybackRecordStore store;
+
+	private final PlaybackMode mode;
+
+	private final Set<String> systems;
+
+	private final long latencyMillis;
+
+	private final long latencyJitterMillis;
+
+	private final int missStatus;
+
+	public PlaybackClientDecorator(PlaybackRecordStore store,
+			@Value("${outbound.playback.mode:OFF}") PlaybackMode mode,
+			@Value("${outbound.playback.systems:}") Set<String> systems,
+			@Value("${outbound.playback.latency-ms:0}") long latencyMillis,
+			@Value("${outbound.playback.latency-jitter-ms:0}") long latencyJitterMillis,
+			@Value("${outbound.playback.miss-status:404}") int missStatus) {
+		this.store = store;
+		this.mode = mode;
+		this.systems = systems;
+		this.latencyMillis = latencyMillis;
+		this.latencyJitterMillis = latencyJitterMillis;
+		this.missStatus = missStatus;
+	}
+
+	/**
+	 * 依設定包裝指定外部系統的 Feign Client。
+	 *
+	 * @param system   外部系統代碼
+	 * @param delegate 真實連線用的 Client
+	 * @return 套用錄製 / 回放後的 Client；未啟用時回傳原 Client
+	 */
+	public Client decorate(String system, Client delegate) {
+		if (mode == PlaybackMode.OFF || (!systems.isEmpty() && !systems.contains(system))) {
+			return delegate;
+		}
+		log.info("Outbound playback mode {} enabled for system: {}", mode, system);
+		return switch (mode) {
+		case RECORD -> new RecordingFeignClient(system, delegate, store);
+		case PLAYBACK -> new PlaybackFeignClient(system, store, latencyMillis, latencyJitterMillis, missStatus);
+		default -> delegate;
+		};
+	}
+}
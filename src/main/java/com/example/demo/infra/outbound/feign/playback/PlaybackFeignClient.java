@@ -0,0 +1,106 @@
+package com.example.demo.infra.outbound.feign.playback;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 回放模式的 Feign {@link Client}。
+ *
+ * <p>
+ * 不連線外部系統，改由 {@link PlaybackRecordStore} 依 HTTP Method、路徑與正規化 Body 找出錄製回應，
+ * 並可模擬外部系統延遲，用於整合測試與無網路環境下的壓測。
+ * </p>
+ *
+ * <p>
+ * 查無錄製回應時回傳 Stub 錯誤（預設 HTTP 404），交由 {@code FeignErrorDecoder} 以一般錯誤流程處理，
+ * 因此 Outbound API 紀錄流程與真實呼叫完全一致。
+ * </p>
+ */
+@Slf4j
+public class PlaybackFeignClient implements Client {
+
+	private static final Map<String, Collection<String>> JSON_HEADERS = Map.of("Content-Type",
+			List.of("application/json"));
+
+	private final String system;
+
+	private final PlaybackRecordStore store;
+
+	private final long latencyMillis;
+
+	private final long latencyJitterMillis;
+
+	private final int missStatus;
+
+	public PlaybackFeignClient(String system, PlaybackRecordStore store, long latencyMillis, long latencyJitterMillis,
+			int missStatus) {
+		this.system = system;
+		this.store = store;
+		this.latencyMillis = latencyMillis;
+		this.latencyJitterMillis = latencyJitterMillis;
+		this.missStatus = missStatus;
+	}
+
+	@Override
+	public Response execute(Request request, Request.Options options) {
+
+		simulateLatency();
+
+		String body = request.body() == null ? null
+				: new String(request.body(), charsetOf(request));
+		PlaybackRecord record = store.find(system, request.httpMethod().name(), request.url(), body);
+
+		if (record == null) {
+			log.warn("Playback miss, system: {}, Method: {}, Url: {}", system, request.httpMethod(), request.url());
+			String stub = "{\"code\":\"PLAYBACK_NOT_FOUND\",\"message\":\"No recorded response for "
+					+ request.httpMethod() + " " + request.url() + "\"}";
+			return Response.builder().request(request).status(missStatus).reason("Playback Not Found")
+					.headers(JSON_HEADERS).body(stub, StandardCharsets.UTF_8).build();
+		}
+
+		return Response.builder().request(request).status(record.getStatus()).reason("Playback")
+				.headers(toFeignHeaders(record.getHeaders()))
+				.body(record.getResponseBody() == null ? new byte[0]
+						: record.getResponseBody().getBytes(StandardCharsets.UTF_8))
+				.build();
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	/**
+	 * 模擬外部系統延遲（固定延遲 + 隨機抖動）。
+	 */
+	private void simulateLatency() {
+		long delay = latencyMillis
+				+ (latencyJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMillis + 1) : 0);
+		if (delay > 0) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(delay));
+		}
+	}
+
+	private static Charset charsetOf(Request request) {
+		return request.charset() == null ? StandardCharsets.UTF_8 : request.charset();
+	}
+
+	private static Map<String, Collection<String>> toFeignHeaders(Map<String, String> headers) {
+		if (headers == null || headers.isEmpty()) {
+			return JSON_HEADERS;
+		}
+		return headers.entrySet().stream()
+				.collect(Collectors.toMap(Map.Entry::getKey, e -> List.of(e.getValue())));
+	}
+}
@@ -0,0 +1,26 @@
+package com.example.demo.infra.outbound.feign.playback;
+
+/**
+ * 外部 API 錄製 / 回放模式。
+ *
+ * <p>
+ * 由設定 {@code outbound.playback.mode} 決定 Feign {@link feign.Client} 的實際行為。
+ * </p>
+ */
+public enum PlaybackMode {
+
+	/**
+	 * 關閉，直接呼叫真實外部系統。
+	 */
+	OFF,
+
+	/**
+	 * 錄製模式：呼叫真實外部系統，並將回應存入錄製庫。
+	 */
+	RECORD,
+
+	/**
+	 * 回放模式：不連線外部系統，由錄製庫回應請求。
+	 */
+	PLAYBACK
+}
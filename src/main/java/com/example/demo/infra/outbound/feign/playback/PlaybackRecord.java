@@ -0,0 +1,57 @@
+package com.example.demo.infra.outbound.feign.playback;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 單筆錄製的外部 API 回應。
+ *
+ * <p>
+ * 由 {@link PlaybackRecordStore} 載入或錄製，並依 HTTP Method、路徑與正規化後的 Request Body 建立索引。
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaybackRecord {
+
+	/**
+	 * 外部系統代碼，對應 {@code @ExternalApiClient#system()}
+	 */
+	private String system;
+
+	/**
+	 * HTTP Method（GET / POST / PUT / PATCH / DELETE）
+	 */
+	private String httpMethod;
+
+	/**
+	 * API 路徑（可包含 Query String，例如 /api/v1/auth/permissions?username=nick）
+	 */
+	private String path;
+
+	/**
+	 * 請求內容（JSON 會在建立索引時正規化）
+	 */
+	private String requestBody;
+
+	/**
+	 * 回應 HTTP 狀態碼
+	 */
+	private int status;
+
+	/**
+	 * 回應 Header
+	 */
+	private Map<String, String> headers;
+
+	/**
+	 * 回應內容
+	 */
+	private String responseBody;
+}
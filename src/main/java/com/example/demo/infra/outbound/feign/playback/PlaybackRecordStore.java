@@ -0,0 +1,223 @@
+package com.example.demo.infra.outbound.feign.playback;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 外部 API 錄製回應庫（Playback Store）。
+ *
+ * <p>
+ * 以「system + HTTP Method + 正規化路徑 + 正規化 Request Body」作為索引， 供
+ * {@link PlaybackFeignClient} 在不連線外部系統的情況下回應請求。
+ * </p>
+ *
+ * <p>
+ * 正規化規則：
+ * <ul>
+ * <li>路徑：移除 scheme / host，Query 參數依名稱排序</li>
+ * <li>Body：若為 JSON 則以 key 排序後重新序列化，否則去除前後空白</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 啟用錄製 / 回放模式時，啟動時由 {@code outbound.playback.source} 載入錄製檔（JSON 陣列），
+ * {@code OFF}（預設）或未設定來源時不載入；錄製模式下，新錄得的回應會於關閉時寫出至
+ * {@code outbound.playback.record-output}。範例錄製檔僅置於測試資源，不隨正式版本發佈。
+ * 相同請求重複錄製時只保留最新一筆，不同請求最多錄製 {@code outbound.playback.max-recorded} 筆，超過的請求不再錄製。
+ * </p>
+ */
+@Slf4j
+@Component
+public class PlaybackRecordStore {
+
+	/**
+	 * 用於 JSON Body 正規化的 ObjectMapper（Map key 排序輸出）
+	 */
+	private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+			.configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+	/**
+	 * 索引 Key → 錄製回應
+	 */
+	private final Map<String, PlaybackRecord> index = new ConcurrentHashMap<>();
+
+	/**
+	 * 錄製模式下新增的回應（索引 Key → 回應，供關閉時寫出）
+	 */
+	private final Map<String, PlaybackRecord> recorded = new LinkedHashMap<>();
+
+	private final ResourceLoader resourceLoader;
+
+	private final PlaybackMode mode;
+
+	private final String source;
+
+	private final String recordOutput;
+
+	private final int maxRecorded;
+
+	private boolean recordLimitReported;
+
+	public PlaybackRecordStore(ResourceLoader resourceLoader, @Value("${outbound.playback.mode:OFF}") PlaybackMode mode,
+			@Value("${outbound.playback.source:}") String source,
+			@Value("${outbound.playback.record-output:}") String recordOutput,
+			@Value("${outbound.playback.max-recorded:1000}") int maxRecorded) {
+		this.resourceLoader = resourceLoader;
+		this.mode = mode;
+		this.source = source;
+		this.recordOutput = recordOutput;
+		this.maxRecorded = maxRecorded;
+	}
+
+	/**
+	 * 載入錄製檔並建立索引；模式為 OFF、未設定來源或找不到檔案時視為空庫。
+	 */
+	@PostConstruct
+	void load() {
+		if (mode == PlaybackMode.OFF || !StringUtils.hasText(source)) {
+			return;
+		}
+		Resource resource = resourceLoader.getResource(source);
+		if (!resource.exists()) {
+			log.debug("Playback source not found, start with empty store: {}", source);
+			return;
+		}
+		try (InputStream in = resource.getInputStream()) {
+			List<PlaybackRecord> records = CANONICAL_MAPPER.readValue(in, new TypeReference<List<PlaybackRecord>>() {
+			});
+			records.forEach(r -> index.put(key(r.getSystem(), r.getHttpMethod(), r.getPath(), r.getRequestBody()), r));
+			log.info("Loaded {} playback records from {}", index.size(), source);
+		} catch (IOException e) {
+			log.warn("Playback source 讀取失敗: {}", source, e);
+		}
+	}
+
+	/**
+	 * 依請求資訊查找錄製回應。
+	 *
+	 * @param system      外部系統代碼
+	 * @param httpMethod  HTTP Method
+	 * @param url         完整或相對 URL
+	 * @param requestBody 請求內容（可為 null）
+	 * @return 錄製回應，若無則回傳 null
+	 */
+	public PlaybackRecord find(String system, String httpMethod, String url, String requestBody) {
+		return index.get(key(system, httpMethod, url, requestBody));
+	}
+
+	/**
+	 * 新增（或覆蓋）一筆錄製回應；已達錄製上限時，新的請求不再錄製（既有請求仍會更新）。
+	 *
+	 * @param record 錄製回應
+	 * @return 是否已錄製
+	 */
+	public boolean register(PlaybackRecord record) {
+		String key = key(record.getSystem(), record.getHttpMethod(), record.getPath(), record.getRequestBody());
+		synchronized (recorded) {
+			if (!recorded.containsKey(key) && recorded.size() >= maxRecorded) {
+				if (!recordLimitReported) {
+					recordLimitReported = true;
+					log.warn("Playback 錄製已達上限 {} 筆，之後的新請求不再錄製", maxRecorded);
+				}
+				return false;
+			}
+			recorded.put(key, record);
+		}
+		index.put(key, record);
+		return true;
+	}
+
+	/**
+	 * 關閉時將錄製模式下取得的回應寫出，供下次回放使用。
+	 */
+	@PreDestroy
+	void export() {
+		if (!StringUtils.hasText(recordOutput)) {
+			return;
+		}
+		List<PlaybackRecord> snapshot;
+		synchronized (recorded) {
+			if (recorded.isEmpty()) {
+				return;
+			}
+			snapshot = new ArrayList<>(recorded.values());
+		}
+		try {
+			Path output = Path.of(recordOutput);
+			if (output.getParent() != null) {
+				Files.createDirectories(output.getParent());
+			}
+			CANONICAL_MAPPER.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), snapshot);
+			log.info("Exported {} playback records to {}", snapshot.size(), output);
+		} catch (IOException e) {
+			log.warn("Playback records 寫出失敗: {}", recordOutput, e);
+		}
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	/**
+	 * 組合索引 Key：{@code system|METHOD|path|body}
+	 */
+	private String key(String system, String httpMethod, String url, String requestBody) {
+		return system + "|" + (httpMethod == null ? "" : httpMethod.toUpperCase()) + "|" + normalizePath(url) + "|"
+				+ normalizeBody(requestBody);
+	}
+
+	/**
+	 * 路徑正規化：移除 scheme / host，Query 參數依名稱排序。
+	 */
+	static String normalizePath(String url) {
+		if (url == null) {
+			return "";
+		}
+		URI uri = URI.create(url);
+		String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+		String query = uri.getRawQuery();
+		if (!StringUtils.hasText(query)) {
+			return path;
+		}
+		return path + "?" + Arrays.stream(query.split("&")).sorted().collect(Collectors.joining("&"));
+	}
+
+	/**
+	 * Body 正規化：JSON 以 key 排序重新序列化，否則去除前後空白。
+	 */
+	static String normalizeBody(String body) {
+		if (!StringUtils.hasText(body)) {
+			return "";
+		}
+		try {
+			Object tree = CANONICAL_MAPPER.readValue(body, Object.class);
+			return CANONICAL_MAPPER.writeValueAsString(tree);
+		} catch (IOException e) {
+			return body.trim();
+		}
+	}
+}
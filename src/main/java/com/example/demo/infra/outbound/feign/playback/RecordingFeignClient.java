@@ -0,0 +1,68 @@
+package com.example.demo.infra.outbound.feign.playback;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+
+/**
+ * 錄製模式的 Feign {@link Client}。
+ *
+ * <p>
+ * 委派真實 Client 呼叫外部系統，並將回應寫入 {@link PlaybackRecordStore}， 供之後以
+ * {@link PlaybackMode#PLAYBACK} 回放。
+ * </p>
+ *
+ * <p>
+ * 因需保留回應內容，Body 會完整讀入記憶體後再重新包裝給 Feign 解碼。
+ * Request / Response Body 依各自的 charset 解碼（未指定時為 UTF-8）。
+ * </p>
+ */
+public class RecordingFeignClient implements Client {
+
+	private final String system;
+
+	private final Client delegate;
+
+	private final PlaybackRecordStore store;
+
+	public RecordingFeignClient(String system, Client delegate, PlaybackRecordStore store) {
+		this.system = system;
+		this.delegate = delegate;
+		this.store = store;
+	}
+
+	@Override
+	public Response execute(Request request, Request.Options options) throws IOException {
+
+		Response response = delegate.execute(request, options);
+
+		byte[] body = response.body() == null ? new byte[0] : Util.toByteArray(response.body().asInputStream());
+
+		Map<String, String> headers = new LinkedHashMap<>();
+		for (Map.Entry<String, Collection<String>> header : response.headers().entrySet()) {
+			if (!header.getValue().isEmpty()) {
+				headers.put(header.getKey(), header.getValue().iterator().next());
+			}
+		}
+
+		store.register(PlaybackRecord.builder().system(system).httpMethod(request.httpMethod().name())
+				.path(PlaybackRecordStore.normalizePath(request.url()))
+				.requestBody(request.body() == null ? null : new String(request.body(), charsetOf(request.charset())))
+				.status(response.status()).headers(headers).responseBody(new String(body, charsetOf(response.charset())))
+				.build());
+
+		return response.toBuilder().body(body).build();
+	}
+
+	private static Charset charsetOf(Charset charset) {
+		return charset != null ? charset : StandardCharsets.UTF_8;
+	}
+}
@@ -0,0 +1,65 @@
+package com.example.demo.infra.outbound.hedging;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 近期呼叫延遲百分位數（固定大小的環狀樣本）。
+ *
+ * <p>
+ * 寫入僅為一次陣列更新；百分位數每 {@link #REFRESH_NANOS} 才重新排序計算一次，其餘時間回傳快取值。
+ * </p>
+ */
+class LatencyPercentileTracker {
+
+	private static final int SIZE = 256;
+
+	private static final int MIN_SAMPLES = 20;
+
+	private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final AtomicLongArray samples = new AtomicLongArray(SIZE);
+
+	private final AtomicInteger count = new AtomicInteger();
+
+	private final double percentile;
+
+	private volatile long cachedNanos = -1;
+
+	private volatile long cachedAt;
+
+	LatencyPercentileTracker(double percentile) {
+		this.percentile = Math.min(1.0, Math.max(0.0, percentile));
+	}
+
+	void record(long durationNanos) {
+		int index = count.getAndIncrement();
+		samples.set(Math.floorMod(index, SIZE), durationNanos);
+	}
+
+	/**
+	 * @return 目前百分位數（奈秒），樣本不足時回傳 -1
+	 */
+	long percentileNanos() {
+		int total = count.get();
+		if (total < MIN_SAMPLES) {
+			return -1;
+		}
+		long now = System.nanoTime();
+		if (cachedNanos >= 0 && now - cachedAt < REFRESH_NANOS) {
+			return cachedNanos;
+		}
+		int size = Math.min(total, SIZE);
+		long[] sorted = new long[size];
+		for (int i = 0; i < size; i++) {
+			sorted[i] = samples.get(i);
+		}
+		Arrays.sort(sorted);
+		long value = sorted[Math.min(size - 1, Math.max(0, (int) Math.ceil(percentile * size) - 1))];
+		cachedNanos = value;
+		cachedAt = now;
+		return value;
+	}
+}
@@ -0,0 +1,228 @@
+package com.example.demo.infra.outbound.hedging;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.infra.annotation.OutboundHedging;
+import com.example.demo.infra.context.ContextHolder;
+import com.example.demo.infra.outbound.shared.budget.OutboundRequestBudget;
+import com.example.demo.infra.outbound.shared.invocation.OutboundAttempt;
+import com.example.demo.infra.outbound.shared.invocation.OutboundInvocation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 外部 API 對沖請求執行器（{@link OutboundHedging}）。
+ *
+ * <p>
+ * 流程：
+ * <ol>
+ * <li>以虛擬執行緒送出第一次呼叫，呼叫端最多等待對沖延遲</li>
+ * <li>延遲內完成即直接回傳；逾時、第一次呼叫已送出（已建立紀錄）且對沖額度足夠時，送出第二次相同呼叫</li>
+ * <li>先成功者勝出並回傳，另一次呼叫被中斷；兩次皆失敗時拋出第一次呼叫的例外</li>
+ * </ol>
+ * </p>
+ *
+ * <p>
+ * 對沖額度以 {@link OutboundRequestBudget} 計算（每個方法各自一份，最多連續對沖 {@link #MAX_BURST} 次），
+ * 長期對沖比例不會超過 {@code budgetPercent}。
+ * </p>
+ *
+ * <p>
+ * 指標（tag：system / method）：
+ * <ul>
+ * <li>{@code outbound.hedging.sent}：送出的對沖呼叫數</li>
+ * <li>{@code outbound.hedging.budget.exhausted}：因額度不足未對沖的次數</li>
+ * <li>{@code outbound.hedging.won}：對沖呼叫勝出的次數</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundHedgingExecutor {
+
+	/**
+	 * 額度上限（可連續對沖的次數）
+	 */
+	private static final int MAX_BURST = 10;
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Method → 對沖狀態
+	 */
+	private final Map<Method, HedgeState> states = new ConcurrentHashMap<>();
+
+	/**
+	 * 執行呼叫，必要時送出對沖呼叫。
+	 *
+	 * @param system   外部系統代碼
+	 * @param method   Client 方法
+	 * @param hedging  對沖設定
+	 * @param primary  第一次呼叫（重試時為該輪的呼叫），對沖呼叫由此延伸
+	 * @param attempts 依 {@link OutboundAttempt} 建立單次實際呼叫（含紀錄流程）
+	 * @return 先成功的呼叫結果
+	 * @throws Throwable 所有呼叫皆失敗時，第一次呼叫的例外
+	 */
+	public Object execute(String system, Method method, OutboundHedging hedging, OutboundAttempt primary,
+			Function<OutboundAttempt, OutboundInvocation> attempts) throws Throwable {
+
+		HedgeState state = states.computeIfAbsent(method, m -> new HedgeState(system, m, hedging));
+		state.onCall();
+
+		CompletableFuture<Object> primaryResult = start(primary, attempts.apply(primary), state);
+
+		try {
+			return primaryResult.get(state.delayNanos(), TimeUnit.NANOSECONDS);
+		} catch (ExecutionException e) {
+			throw e.getCause();
+		} catch (TimeoutException e) {
+			// 超過對沖延遲，往下判斷是否對沖
+		} catch (InterruptedException e) {
+			primary.cancel();
+			throw e;
+		}
+
+		// 第一次呼叫尚未建立紀錄時仍卡在本地流程，對沖無助於降低延遲
+		if (primary.getRecordId() == null || !state.tryAcquireHedge()) {
+			return await(primaryResult, primary);
+		}
+
+		OutboundAttempt hedge = primary.next("hedge");
+		log.debug("{} {} exceeded hedging delay, sending hedged request", system, method.getName());
+		CompletableFuture<Object> hedgeResult = start(hedge, attempts.apply(hedge), state);
+
+		CompletableFuture<Object> first = new CompletableFuture<>();
+		BiConsumer<Object, Throwable> onDone = (response, error) -> {
+			if (error == null) {
+				first.complete(response);
+			} else if (primaryResult.isCompletedExceptionally() && hedgeResult.isCompletedExceptionally()) {
+				// 兩次皆失敗：優先回報未被取消的那一次
+				first.completeExceptionally(
+						primary.isCancelled() ? hedgeResult.exceptionNow() : primaryResult.exceptionNow());
+			}
+		};
+		primaryResult.whenComplete(onDone);
+		hedgeResult.whenComplete(onDone);
+
+		try {
+			Object response = await(first, primary, hedge);
+			if (hedge.isWinner()) {
+				state.won.increment();
+			}
+			return response;
+		} finally {
+			primary.cancelIfLost();
+			hedge.cancelIfLost();
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private CompletableFuture<Object> start(OutboundAttempt attempt, OutboundInvocation invocation, HedgeState state) {
+		CompletableFuture<Object> result = new CompletableFuture<>();
+		executor.execute(ContextHolder.propagate(() -> {
+			long start = System.nanoTime();
+			try {
+				Object response = invocation.proceed();
+				if (!attempt.isCancelled()) {
+					state.latency.record(System.nanoTime() - start);
+				}
+				result.complete(response);
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+		}));
+		return result;
+	}
+
+	private static Object await(CompletableFuture<Object> result, OutboundAttempt... attempts) throws Throwable {
+		try {
+			return result.get();
+		} catch (ExecutionException e) {
+			throw e.getCause();
+		} catch (InterruptedException e) {
+			for (OutboundAttempt attempt : attempts) {
+				attempt.cancel();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 單一方法的對沖狀態
+	 */
+	private class HedgeState {
+
+		private final OutboundHedging hedging;
+
+		private final LatencyPercentileTracker latency;
+
+		private final OutboundRequestBudget budget;
+
+		private final Counter sent;
+
+		private final Counter exhausted;
+
+		private final Counter won;
+
+		HedgeState(String system, Method method, OutboundHedging hedging) {
+			this.hedging = hedging;
+			this.latency = new LatencyPercentileTracker(hedging.percentile());
+			this.budget = new OutboundRequestBudget(hedging.budgetPercent(), MAX_BURST);
+			this.sent = Counter.builder("outbound.hedging.sent").tag("system", system).tag("method", method.getName())
+					.register(meterRegistry);
+			this.exhausted = Counter.builder("outbound.hedging.budget.exhausted").tag("system", system)
+					.tag("method", method.getName()).register(meterRegistry);
+			this.won = Counter.builder("outbound.hedging.won").tag("system", system).tag("method", method.getName())
+					.register(meterRegistry);
+		}
+
+		void onCall() {
+			budget.onCall();
+		}
+
+		boolean tryAcquireHedge() {
+			if (!budget.tryAcquire()) {
+				exhausted.increment();
+				return false;
+			}
+			sent.increment();
+			return true;
+		}
+
+		long delayNanos() {
+			if (hedging.delayMillis() > 0) {
+				return TimeUnit.MILLISECONDS.toNanos(hedging.delayMillis());
+			}
+			long observed = latency.percentileNanos();
+			long delay = observed < 0 ? TimeUnit.MILLISECONDS.toNanos(hedging.initialDelayMillis()) : observed;
+			return Math.max(TimeUnit.MILLISECONDS.toNanos(hedging.minDelayMillis()), delay);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.example.demo.infra.outbound.http;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.infra.context.ContextHolder;
+import com.example.demo.infra.context.Deadline;
+import com.example.demo.infra.context.OutboundContextScope;
+import com.example.demo.shared.constant.OutboundConstants;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+/**
+ * 依呼叫範圍調整逾時與請求 Header 的 Feign Client 裝飾器。
+ *
+ * <p>
+ * 每次呼叫的 {@link Request.Options}：
+ * <ul>
+ * <li>連線逾時：固定為該系統的 {@code outbound.http.systems.<system>.connect-timeout-millis}</li>
+ * <li>讀取逾時：{@code @OutboundTimeout} / {@code @ExternalApiClient} 宣告值（未宣告沿用 Feign 預設），
+ * 再以 Inbound 請求的剩餘時間為上限</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 連線逾時不隨剩餘時間縮短：JDK 實作在連線逾時與既有 HttpClient 不同時會另建 HttpClient，
+ * 固定後兩種實作皆重用同一個連線池。
+ * </p>
+ *
+ * <p>
+ * {@link OutboundConstants#INVOCATION_ID_HEADER} 僅供行程內元件（Decoder）找回呼叫上下文，送出前自請求移除，
+ * 不傳給外部系統；回傳的 {@link Response} 仍帶原請求，Decoder 可照常讀取。
+ * </p>
+ */
+class DeadlineAwareClient implements Client {
+
+	private final Client delegate;
+
+	private final long connectTimeoutMillis;
+
+	DeadlineAwareClient(Client delegate, long connectTimeoutMillis) {
+		this.delegate = delegate;
+		this.connectTimeoutMillis = connectTimeoutMillis;
+	}
+
+	@Override
+	public Response execute(Request request, Request.Options options) throws IOException {
+		long readTimeoutMillis = options.readTimeoutMillis();
+		OutboundContextScope scope = ContextHolder.currentScope();
+		if (scope != null && scope.getReadTimeoutMillis() > 0) {
+			readTimeoutMillis = scope.getReadTimeoutMillis();
+		}
+
+		Deadline deadline = ContextHolder.getDeadline();
+		if (deadline != null) {
+			long remaining = deadline.remainingMillis();
+			if (remaining <= 0) {
+				throw new SocketTimeoutException("Inbound deadline exceeded before sending request");
+			}
+			readTimeoutMillis = Math.min(readTimeoutMillis, remaining);
+		}
+
+		Request outgoing = withoutInvocationId(request);
+		Response response = delegate.execute(outgoing, new Request.Options(connectTimeoutMillis,
+				TimeUnit.MILLISECONDS, readTimeoutMillis, TimeUnit.MILLISECONDS, options.isFollowRedirects()));
+		return outgoing == request ? response : response.toBuilder().request(request).build();
+	}
+
+	private static Request withoutInvocationId(Request request) {
+		String header = OutboundConstants.INVOCATION_ID_HEADER.getValue();
+		Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		headers.putAll(request.headers());
+		if (headers.remove(header) == null) {
+			return request;
+		}
+		return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(),
+				request.requestTemplate());
+	}
+}
@@ -0,0 +1,55 @@
+package com.example.demo.infra.outbound.http;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 可量測「取得連線等待時間」的連線池。
+ *
+ * <p>
+ * 包裝 {@link PoolingHttpClientConnectionManager#requestConnection}，
+ * 以 {@link Timer} 紀錄每次向連線池租用連線所花的時間，讓連線池耗盡（Pool Starvation）可被觀測。
+ * </p>
+ */
+class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+	private final Timer leaseWait;
+
+	InstrumentedConnectionManager(Registry<ConnectionSocketFactory> registry, long timeToLiveMillis, Timer leaseWait) {
+		super(registry, null, null, null, timeToLiveMillis, TimeUnit.MILLISECONDS);
+		this.leaseWait = leaseWait;
+	}
+
+	@Override
+	public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+		ConnectionRequest delegate = super.requestConnection(route, state);
+		return new ConnectionRequest() {
+
+			@Override
+			public HttpClientConnection get(long timeout, TimeUnit unit)
+					throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+				long start = System.nanoTime();
+				try {
+					return delegate.get(timeout, unit);
+				} finally {
+					leaseWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				}
+			}
+
+			@Override
+			public boolean cancel() {
+				return delegate.cancel();
+			}
+		};
+	}
+}
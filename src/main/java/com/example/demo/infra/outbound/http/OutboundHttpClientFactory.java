@@ -0,0 +1,185 @@
+package com.example.demo.infra.outbound.http;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.config.properties.OutboundHttpClientProperties;
+import com.example.demo.config.properties.OutboundHttpClientProperties.Backend;
+import com.example.demo.config.properties.OutboundHttpClientProperties.Settings;
+
+import feign.Client;
+import feign.http2client.Http2Client;
+import feign.httpclient.ApacheHttpClient;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 外部系統 HTTP Client 工廠（每個外部系統一個連線池）。
+ *
+ * <p>
+ * 依 {@code outbound.http.systems.<system>.backend} 選擇底層實作：
+ * <ul>
+ * <li>{@link Backend#APACHE}：Apache HttpClient 4（HTTP/1.1），每個並行呼叫各佔一條連線</li>
+ * <li>{@link Backend#JDK}：JDK {@link HttpClient}，優先以 HTTP/2 多工（共用連線與 TLS Session、HPACK
+ * Header 壓縮），適合高併發呼叫的外部系統</li>
+ * </ul>
+ * 兩者皆為同步呼叫、在呼叫端執行緒上完成，{@code ContextHolder} 與紀錄流程不受影響。
+ * </p>
+ *
+ * <p>
+ * Apache 實作依 {@link OutboundHttpClientProperties} 為每個系統建立獨立連線池：
+ * <ul>
+ * <li>連線池總數 / 每 Route 上限、租用連線等待上限</li>
+ * <li>Keep-Alive 策略（以外部系統回傳值為準，並以設定值為上限）</li>
+ * <li>閒置 / 過期連線背景回收，以及連線存活時間（TTL）</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 連線池指標（tag：system）：
+ * <ul>
+ * <li>{@code outbound.http.pool.leased}、{@code outbound.http.pool.pending}、{@code outbound.http.pool.available}、{@code outbound.http.pool.max}</li>
+ * <li>{@code outbound.http.pool.lease.wait}：租用連線等待時間</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * JDK 實作不支援自訂 {@link HostnameVerifier}，主機名稱驗證依 JDK 設定
+ * （{@code jdk.internal.httpclient.disableHostnameVerification}）；連線池指標僅適用 Apache 實作。
+ * </p>
+ *
+ * <p>
+ * 回傳的 Client 以 {@link DeadlineAwareClient} 包裝：連線逾時固定為設定值，讀取逾時依呼叫宣告與 Inbound 請求剩餘時間調整。
+ * </p>
+ *
+ * <p>
+ * 同一系統只會建立一次，重複取得時回傳同一個 Client，確保指標對應實際使用中的連線池。
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundHttpClientFactory {
+
+	private final OutboundHttpClientProperties properties;
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * system → Feign Client
+	 */
+	private final Map<String, Client> clients = new ConcurrentHashMap<>();
+
+	/**
+	 * 需於關閉時釋放的底層 Client
+	 */
+	private final Map<String, AutoCloseable> closeables = new ConcurrentHashMap<>();
+
+	/**
+	 * 取得（或建立）指定外部系統的 Feign Client。
+	 *
+	 * @param system           外部系統代碼
+	 * @param sslContext       TLS 設定
+	 * @param hostnameVerifier 主機名稱驗證器（僅 Apache 實作使用）
+	 * @return 該系統專屬的 Feign Client
+	 */
+	public Client getOrCreate(String system, SSLContext sslContext, HostnameVerifier hostnameVerifier) {
+		return clients.computeIfAbsent(system, s -> {
+			Settings settings = properties.resolve(s);
+			log.info("Create outbound HttpClient for {}: {}", s, settings);
+			Client client = settings.getBackend() == Backend.JDK ? createJdk(s, settings, sslContext)
+					: createApache(s, settings, sslContext, hostnameVerifier);
+			return new DeadlineAwareClient(client, settings.getConnectTimeoutMillis());
+		});
+	}
+
+	@PreDestroy
+	void close() {
+		closeables.forEach((system, client) -> {
+			try {
+				client.close();
+			} catch (Exception e) {
+				log.warn("關閉 {} HttpClient 失敗", system, e);
+			}
+		});
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private Client createJdk(String system, Settings settings, SSLContext sslContext) {
+		// followRedirects / connectTimeout 與 Feign Request.Options 一致，Http2Client 才會重用同一個 HttpClient
+		HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).sslContext(sslContext)
+				.followRedirects(HttpClient.Redirect.ALWAYS)
+				.connectTimeout(Duration.ofMillis(settings.getConnectTimeoutMillis())).build();
+		closeables.put(system, httpClient);
+		return new Http2Client(httpClient);
+	}
+
+	private Client createApache(String system, Settings settings, SSLContext sslContext,
+			HostnameVerifier hostnameVerifier) {
+
+		Timer leaseWait = Timer.builder("outbound.http.pool.lease.wait").tag("system", system)
+				.publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+
+		InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager(
+				RegistryBuilder.<ConnectionSocketFactory>create()
+						.register("http", PlainConnectionSocketFactory.getSocketFactory())
+						.register("https", new SSLConnectionSocketFactory(sslContext, hostnameVerifier)).build(),
+				settings.getTimeToLiveMillis(), leaseWait);
+		connectionManager.setMaxTotal(settings.getMaxTotal());
+		connectionManager.setDefaultMaxPerRoute(settings.getMaxPerRoute());
+		connectionManager.setValidateAfterInactivity(settings.getValidateAfterInactivityMillis().intValue());
+
+		bindPoolMetrics(system, connectionManager);
+
+		long keepAliveMillis = settings.getKeepAliveMillis();
+		ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+			long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+		};
+
+		CloseableHttpClient httpClient = HttpClients.custom().setConnectionManager(connectionManager)
+				.setKeepAliveStrategy(keepAliveStrategy)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout(settings.getLeaseTimeoutMillis().intValue()).build())
+				.evictExpiredConnections()
+				.evictIdleConnections(settings.getIdleEvictMillis().longValue(), TimeUnit.MILLISECONDS).build();
+		closeables.put(system, httpClient);
+		return new ApacheHttpClient(httpClient);
+	}
+
+	private void bindPoolMetrics(String system, InstrumentedConnectionManager pool) {
+		Gauge.builder("outbound.http.pool.leased", pool, p -> p.getTotalStats().getLeased()).tag("system", system)
+				.register(meterRegistry);
+		Gauge.builder("outbound.http.pool.pending", pool, p -> p.getTotalStats().getPending()).tag("system", system)
+				.register(meterRegistry);
+		Gauge.builder("outbound.http.pool.available", pool, p -> p.getTotalStats().getAvailable())
+				.tag("system", system).register(meterRegistry);
+		Gauge.builder("outbound.http.pool.max", pool, p -> p.getTotalStats().getMax()).tag("system", system)
+				.register(meterRegistry);
+	}
+}
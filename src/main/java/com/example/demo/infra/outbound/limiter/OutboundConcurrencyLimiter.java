@@ -0,0 +1,210 @@
+package com.example.demo.infra.outbound.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.example.demo.infra.annotation.OutboundConcurrencyLimit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 單一外部系統的自適應並行上限（AIMD）。
+ *
+ * <p>
+ * 進行中的呼叫數以 CAS 遞增，未達上限時取得許可不需加鎖；上限以 double 位元存於 {@link AtomicLong}，
+ * 每次呼叫完成時依結果調整：
+ * <ul>
+ * <li>成功且未超過延遲門檻：若進行中的呼叫數已接近上限，上限 +1 / 上限（約每一輪上限 +1）</li>
+ * <li>超過延遲門檻或外部系統異常：上限乘以縮減比例，下限為 {@code minLimit}</li>
+ * </ul>
+ * 上限未被使用時不增加，避免低流量期間上限無限制膨脹。
+ * </p>
+ *
+ * <p>
+ * 縮減每一輪（RTT）最多一次：於上次縮減之前送出的呼叫，完成時即使緩慢或失敗也不再縮減。外部系統變慢時同一批進行中的 N
+ * 筆呼叫會幾乎同時回報，若逐筆縮減會使上限驟降為 {@code ratio^N}。
+ * </p>
+ *
+ * <p>
+ * {@code maxQueueWaitMillis} 大於 0 時，達上限的呼叫最多等待該時間，有呼叫完成即被喚醒重新嘗試；
+ * 等待只發生在已達上限的慢路徑。
+ * </p>
+ */
+@Slf4j
+public class OutboundConcurrencyLimiter {
+
+	private static final long NEVER = Long.MIN_VALUE;
+
+	private final String name;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final long latencyThresholdNanos;
+
+	private final double backoffRatio;
+
+	private final long maxQueueWaitNanos;
+
+	private final AtomicInteger inflight = new AtomicInteger();
+
+	/**
+	 * 目前上限（{@link Double#doubleToLongBits}）
+	 */
+	private final AtomicLong limitBits;
+
+	/**
+	 * 上次縮減的時間（System.nanoTime），{@link #NEVER} 表示尚未縮減過
+	 */
+	private final AtomicLong lastDecreaseNanos = new AtomicLong(NEVER);
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition released = lock.newCondition();
+
+	/**
+	 * 等待中的呼叫數，為 0 時釋放許可不需加鎖
+	 */
+	private final AtomicInteger waiters = new AtomicInteger();
+
+	OutboundConcurrencyLimiter(String name, OutboundConcurrencyLimit config) {
+		this.name = name;
+		this.minLimit = Math.max(1, config.minLimit());
+		this.maxLimit = Math.max(minLimit, config.maxLimit());
+		this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(config.latencyThresholdMillis());
+		this.backoffRatio = config.backoffRatio();
+		this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, config.maxQueueWaitMillis()));
+		int initial = Math.min(maxLimit, Math.max(minLimit, config.initialLimit()));
+		this.limitBits = new AtomicLong(Double.doubleToLongBits(initial));
+	}
+
+	/**
+	 * 取得呼叫許可，必要時等待至 {@code maxQueueWaitMillis}
+	 *
+	 * @return false 表示已達並行上限，不可呼叫外部系統
+	 * @throws InterruptedException 等待期間被中斷
+	 */
+	public boolean tryAcquire() throws InterruptedException {
+		if (tryIncrement()) {
+			return true;
+		}
+		if (maxQueueWaitNanos == 0) {
+			return false;
+		}
+
+		long remaining = maxQueueWaitNanos;
+		waiters.incrementAndGet();
+		lock.lock();
+		try {
+			while (!tryIncrement()) {
+				if (remaining <= 0) {
+					return false;
+				}
+				remaining = released.awaitNanos(remaining);
+			}
+			return true;
+		} finally {
+			lock.unlock();
+			waiters.decrementAndGet();
+		}
+	}
+
+	/**
+	 * 釋放許可並依呼叫結果調整上限
+	 *
+	 * @param durationNanos 呼叫耗時
+	 * @param failure       是否為外部系統異常
+	 */
+	public void release(long durationNanos, boolean failure) {
+		int inflightBefore = inflight.getAndDecrement();
+		if (failure || durationNanos > latencyThresholdNanos) {
+			decrease(System.nanoTime() - durationNanos);
+		} else {
+			increase(inflightBefore);
+		}
+		if (waiters.get() > 0) {
+			signalWaiter();
+		}
+	}
+
+	/**
+	 * @return 目前並行上限
+	 */
+	public int getLimit() {
+		return (int) Double.longBitsToDouble(limitBits.get());
+	}
+
+	/**
+	 * @return 目前進行中的呼叫數
+	 */
+	public int getInflight() {
+		return inflight.get();
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private boolean tryIncrement() {
+		while (true) {
+			int current = inflight.get();
+			if (current >= getLimit()) {
+				return false;
+			}
+			if (inflight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	private void signalWaiter() {
+		lock.lock();
+		try {
+			released.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void increase(int inflightBefore) {
+		while (true) {
+			long bits = limitBits.get();
+			double limit = Double.longBitsToDouble(bits);
+			// 上限未被充分使用（低於一半）時不增加
+			if (limit >= maxLimit || inflightBefore * 2 < limit) {
+				return;
+			}
+			double next = Math.min(maxLimit, limit + 1.0 / limit);
+			if (limitBits.compareAndSet(bits, Double.doubleToLongBits(next))) {
+				return;
+			}
+		}
+	}
+
+	private void decrease(long startedNanos) {
+		long last = lastDecreaseNanos.get();
+		if (last != NEVER && startedNanos - last < 0) {
+			// 於上次縮減前送出的呼叫，屬於已反應過的同一輪
+			return;
+		}
+		if (!lastDecreaseNanos.compareAndSet(last, System.nanoTime())) {
+			// 其他執行緒已於本輪縮減
+			return;
+		}
+		while (true) {
+			long bits = limitBits.get();
+			double limit = Double.longBitsToDouble(bits);
+			double next = Math.max(minLimit, limit * backoffRatio);
+			if (next == limit || limitBits.compareAndSet(bits, Double.doubleToLongBits(next))) {
+				if ((int) next < (int) limit) {
+					log.debug("{} concurrency limit decreased to {}", name, (int) next);
+				}
+				return;
+			}
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.demo.infra.outbound.limiter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.infra.annotation.ExternalApiClient;
+import com.example.demo.infra.annotation.OutboundConcurrencyLimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 外部系統並行上限登錄表。
+ *
+ * <p>
+ * 每個外部系統建立一個 {@link OutboundConcurrencyLimiter}，設定來自 {@link ExternalApiClient#concurrencyLimit()}
+ * （同一系統以第一個載入的 Client 為準），並提供指標（tag：system）：
+ * <ul>
+ * <li>{@code outbound.concurrency.limit}：目前並行上限</li>
+ * <li>{@code outbound.concurrency.inflight}：進行中的呼叫數</li>
+ * <li>{@code outbound.concurrency.rejected}：因達上限被拒絕的呼叫數</li>
+ * </ul>
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboundConcurrencyLimiterRegistry {
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * system → 並行上限
+	 */
+	private final Map<String, Entry> limiters = new ConcurrentHashMap<>();
+
+	/**
+	 * 取得指定外部系統的並行上限
+	 *
+	 * @param externalApiClient Client 上的 {@link ExternalApiClient}
+	 * @return 並行上限，未啟用時回傳 null
+	 */
+	public OutboundConcurrencyLimiter get(ExternalApiClient externalApiClient) {
+		OutboundConcurrencyLimit config = externalApiClient.concurrencyLimit();
+		if (!config.enabled()) {
+			return null;
+		}
+		return limiters.computeIfAbsent(externalApiClient.system(), s -> create(s, config)).limiter;
+	}
+
+	/**
+	 * 累計一次拒絕
+	 *
+	 * @param system 外部系統代碼
+	 */
+	public void onRejected(String system) {
+		Entry entry = limiters.get(system);
+		if (entry != null) {
+			entry.rejected.increment();
+		}
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private Entry create(String system, OutboundConcurrencyLimit config) {
+		OutboundConcurrencyLimiter limiter = new OutboundConcurrencyLimiter(system, config);
+		Gauge.builder("outbound.concurrency.limit", limiter, OutboundConcurrencyLimiter::getLimit)
+				.tag("system", system).register(meterRegistry);
+		Gauge.builder("outbound.concurrency.inflight", limiter, OutboundConcurrencyLimiter::getInflight)
+				.tag("system", system).register(meterRegistry);
+		Counter rejected = Counter.builder("outbound.concurrency.rejected").tag("system", system)
+				.register(meterRegistry);
+		return new Entry(limiter, rejected);
+	}
+
+	private record Entry(OutboundConcurrencyLimiter limiter, Counter rejected) {
+	}
+}
@@ -0,0 +1,143 @@
+package com.example.demo.infra.outbound.recording;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.application.domain.log.aggregate.OutboundApiRecord;
+import com.example.demo.infra.annotation.OutboundBatchRecording;
+import com.example.demo.infra.outbound.recording.deadletter.RecordingDeadLetterQueue;
+import com.example.demo.infra.persistence.OutboundApiRecordRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbound API 紀錄批次寫入器。
+ *
+ * <p>
+ * 供標註 {@link OutboundBatchRecording} 的方法使用：完整紀錄先放入無鎖佇列，
+ * 累積達 {@code outbound.recording.batch.size} 筆時由加入的執行緒觸發寫入，
+ * 其餘則由排程每 {@code outbound.recording.batch.flush-interval-ms} 寫入一次。
+ * </p>
+ *
+ * <p>
+ * 同一時間僅一個執行緒寫入（其他執行緒不等待，直接返回），停機時於連線關閉前寫入剩餘紀錄。
+ * </p>
+ *
+ * <p>
+ * 整批寫入失敗時改為逐筆寫入，仍失敗的紀錄交由 {@link RecordingDeadLetterQueue} 保存並重試，
+ * 不因資料庫短暫異常而遺失（含 SHORT_CIRCUITED / REJECTED / DEADLINE_EXCEEDED 等僅以批次寫入的紀錄）。
+ * </p>
+ */
+@Slf4j
+@Component
+public class OutboundApiRecordBatcher {
+
+	private final OutboundApiRecordRepository outboundApiRecordRepository;
+
+	private final RecordingDeadLetterQueue deadLetterQueue;
+
+	private final ConcurrentLinkedQueue<OutboundApiRecord> buffer = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private final int batchSize;
+
+	public OutboundApiRecordBatcher(OutboundApiRecordRepository outboundApiRecordRepository,
+			RecordingDeadLetterQueue deadLetterQueue, @Value("${outbound.recording.batch.size:200}") int batchSize) {
+		this.outboundApiRecordRepository = outboundApiRecordRepository;
+		this.deadLetterQueue = deadLetterQueue;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 加入一筆完整紀錄
+	 *
+	 * @param outboundApiRecord 已標註 SUCCESS / FAILED 的紀錄
+	 */
+	public void add(OutboundApiRecord outboundApiRecord) {
+		buffer.add(outboundApiRecord);
+		if (size.incrementAndGet() >= batchSize) {
+			tryFlush();
+		}
+	}
+
+	/**
+	 * 定時寫入未滿一批的紀錄
+	 */
+	@Scheduled(fixedDelayString = "${outbound.recording.batch.flush-interval-ms:1000}")
+	public void scheduledFlush() {
+		tryFlush();
+	}
+
+	/**
+	 * 等待進行中的寫入後寫入所有剩餘紀錄（停機時由 {@link OutboundRecordingDrainer} 呼叫）
+	 */
+	public void flush() {
+		flushLock.lock();
+		try {
+			drain();
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	@PreDestroy
+	void close() {
+		flush();
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private void tryFlush() {
+		if (!flushLock.tryLock()) {
+			return;
+		}
+		try {
+			drain();
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private void drain() {
+		while (!buffer.isEmpty()) {
+			List<OutboundApiRecord> batch = new ArrayList<>(batchSize);
+			OutboundApiRecord next;
+			while (batch.size() < batchSize && (next = buffer.poll()) != null) {
+				batch.add(next);
+			}
+			size.addAndGet(-batch.size());
+			try {
+				outboundApiRecordRepository.saveAll(batch);
+			} catch (RuntimeException e) {
+				log.warn("Outbound API 紀錄批次寫入失敗，改為逐筆寫入，筆數: {}", batch.size(), e);
+				saveIndividually(batch);
+			}
+		}
+	}
+
+	private void saveIndividually(List<OutboundApiRecord> batch) {
+		for (OutboundApiRecord outboundApiRecord : batch) {
+			// 整批已回滾，IDENTITY 取得的 ID 不會存在於資料庫
+			outboundApiRecord.setId(null);
+			try {
+				outboundApiRecordRepository.save(outboundApiRecord);
+			} catch (RuntimeException e) {
+				outboundApiRecord.setId(null);
+				deadLetterQueue.add(outboundApiRecord, e);
+			}
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.example.demo.infra.outbound.recording;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.application.shared.event.BaseEvent;
+import com.example.demo.infra.outbound.recording.deadletter.RecordingDeadLetterQueue;
+import com.example.demo.infra.outbound.recording.lane.OutboundRecordEventBus;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbound API 紀錄處理的停機階段。
+ *
+ * <p>
+ * 於 Web Server graceful shutdown（不再接收請求、進行中請求已完成）之後、非同步執行緒池與排程暫停之前執行，
+ * 在 {@code outbound.recording.shutdown.drain-timeout-millis} 期限內：
+ * <ol>
+ * <li>停止接收新的紀錄事件（之後發佈的事件直接寫入日誌）</li>
+ * <li>等待已發佈的 Spring 事件（{@code outbound.recording.publisher=spring}）處理完成</li>
+ * <li>關閉分區通道並處理完剩餘事件（{@code outbound.recording.publisher=lanes}）</li>
+ * <li>寫入 {@link OutboundApiRecordBatcher} 中剩餘的批次紀錄</li>
+ * <li>仍未完成的事件與 Dead Letter 寫入 {@link RecordingDeadLetterQueue} 的溢出檔案，下次啟動時重送</li>
+ * </ol>
+ * </p>
+ *
+ * <p>
+ * {@code outbound.recording.publisher=outbox} 的事件已於呼叫時寫入資料庫，停機時未確認的項目於認領逾時後重新派送。
+ * 重送皆以 PENDING 為條件更新，已完成的紀錄不會被覆蓋。
+ * </p>
+ *
+ * <p>
+ * 指標：{@code outbound.recording.in-flight}（已發佈、尚未處理完成的 Spring 紀錄事件數）。
+ * </p>
+ */
+@Slf4j
+@Component
+public class OutboundRecordingDrainer implements SmartLifecycle {
+
+	/**
+	 * 晚於 Web Server 停止（{@code SMART_LIFECYCLE_PHASE - 1024}）、早於執行緒池暫停（{@code Integer.MAX_VALUE / 2}）
+	 */
+	private static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+
+	private static final long WAIT_MILLIS = 50;
+
+	private final RecordingDeadLetterQueue deadLetterQueue;
+
+	private final OutboundApiRecordBatcher batcher;
+
+	private final ObjectProvider<OutboundRecordEventBus> eventBus;
+
+	private final long drainTimeoutMillis;
+
+	/**
+	 * eventLogUuid → 已發佈、尚未處理完成的事件
+	 */
+	private final Map<String, BaseEvent> inFlight = new ConcurrentHashMap<>();
+
+	private volatile boolean running;
+
+	/**
+	 * 停機階段已開始，不再接收新的紀錄事件
+	 */
+	private volatile boolean draining;
+
+	public OutboundRecordingDrainer(RecordingDeadLetterQueue deadLetterQueue, OutboundApiRecordBatcher batcher,
+			ObjectProvider<OutboundRecordEventBus> eventBus, MeterRegistry meterRegistry,
+			@Value("${outbound.recording.shutdown.drain-timeout-millis:20000}") long drainTimeoutMillis) {
+		this.deadLetterQueue = deadLetterQueue;
+		this.batcher = batcher;
+		this.eventBus = eventBus;
+		this.drainTimeoutMillis = drainTimeoutMillis;
+		Gauge.builder("outbound.recording.in-flight", inFlight, Map::size).register(meterRegistry);
+	}
+
+	/**
+	 * 登記即將發佈的紀錄事件
+	 *
+	 * @param event 紀錄成功 / 失敗事件
+	 * @return 是否接收；停機階段已開始時事件直接寫入日誌並回傳 false，呼叫端不應再發佈
+	 */
+	public boolean accept(BaseEvent event) {
+		if (draining) {
+			deadLetterQueue.journal(List.of(event));
+			return false;
+		}
+		inFlight.put(event.getEventLogUuid(), event);
+		// 與 stop() 競爭：停機已開始且事件未被寫入日誌時，由此處寫入
+		if (draining && inFlight.remove(event.getEventLogUuid()) != null) {
+			deadLetterQueue.journal(List.of(event));
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 紀錄事件已處理完成（含已交由 Dead Letter Queue）
+	 */
+	public void complete(BaseEvent event) {
+		inFlight.remove(event.getEventLogUuid());
+	}
+
+	/**
+	 * 紀錄事件發佈失敗（例如執行緒池已關閉），寫入日誌待下次啟動重送
+	 */
+	public void reject(BaseEvent event) {
+		if (inFlight.remove(event.getEventLogUuid()) != null) {
+			deadLetterQueue.journal(List.of(event));
+		}
+	}
+
+	@Override
+	public void start() {
+		running = true;
+	}
+
+	@Override
+	public void stop() {
+		draining = true;
+		long deadline = System.currentTimeMillis() + drainTimeoutMillis;
+		log.info("Outbound 紀錄處理停機，等待處理中的事件: {} 筆", inFlight.size());
+		try {
+			while (!inFlight.isEmpty() && System.currentTimeMillis() < deadline) {
+				Thread.sleep(WAIT_MILLIS);
+			}
+			OutboundRecordEventBus bus = eventBus.getIfAvailable();
+			if (bus != null) {
+				bus.close(Math.max(0, deadline - System.currentTimeMillis()));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		batcher.flush();
+
+		List<BaseEvent> remaining = inFlight.keySet().stream().map(inFlight::remove).filter(event -> event != null)
+				.toList();
+		if (!remaining.isEmpty()) {
+			deadLetterQueue.journal(remaining);
+		}
+		deadLetterQueue.persist();
+		running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public int getPhase() {
+		return PHASE;
+	}
+}
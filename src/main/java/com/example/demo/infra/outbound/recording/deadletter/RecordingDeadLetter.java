@@ -0,0 +1,88 @@
+package com.example.demo.infra.outbound.recording.deadletter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 紀錄更新失敗的任務（Dead Letter）
+ *
+ * <p>
+ * payload 為成功 / 失敗 Command 的 JSON（與事件 Data 欄位相同），可直接寫入溢出檔案並於重新啟動後載入。
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingDeadLetter {
+
+	/**
+	 * 任務類型
+	 */
+	public enum Kind {
+
+		/**
+		 * 更新紀錄為成功（payload 為成功 Command）
+		 */
+		SUCCEEDED,
+
+		/**
+		 * 更新紀錄為失敗（payload 為失敗 Command）
+		 */
+		FAILED,
+
+		/**
+		 * 寫入完整紀錄（批次寫入失敗，payload 為 {@code OutboundApiRecord}）
+		 */
+		RECORD
+	}
+
+	/**
+	 * 唯一識別
+	 */
+	private String id;
+
+	/**
+	 * 外部系統代碼
+	 */
+	private String system;
+
+	/**
+	 * 對應的 Outbound API 呼叫紀錄 ID
+	 */
+	private Long recordId;
+
+	private Kind kind;
+
+	/**
+	 * Command JSON
+	 */
+	private String payload;
+
+	/**
+	 * 已失敗次數
+	 */
+	private int attempts;
+
+	/**
+	 * 第一次失敗時間（epoch 毫秒）
+	 */
+	private long firstFailedAtMillis;
+
+	/**
+	 * 下次自動重試時間（epoch 毫秒）
+	 */
+	private long nextAttemptAtMillis;
+
+	/**
+	 * 最後一次失敗原因
+	 */
+	private String lastError;
+
+	/**
+	 * 已達自動重試上限，僅能人工重送
+	 */
+	private boolean exhausted;
+}
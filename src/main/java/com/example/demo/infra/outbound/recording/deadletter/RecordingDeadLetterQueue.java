@@ -0,0 +1,420 @@
+package com.example.demo.infra.outbound.recording.deadletter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.application.domain.log.aggregate.OutboundApiRecord;
+import com.example.demo.application.domain.log.command.RecordFailedOutboundApiCommand;
+import com.example.demo.application.domain.log.command.RecordSuccessOutboundApiCommand;
+import com.example.demo.application.domain.log.event.RecordOutboundApiFailedEvent;
+import com.example.demo.application.domain.log.event.RecordOutboundApiSucceededEvent;
+import com.example.demo.application.port.OutboundApiResponseHandlerPort;
+import com.example.demo.application.shared.event.BaseEvent;
+import com.example.demo.config.properties.OutboundDeadLetterProperties;
+import com.example.demo.infra.outbound.recording.deadletter.RecordingDeadLetter.Kind;
+import com.example.demo.infra.outbound.registry.OutboundSystemRegistry;
+import com.example.demo.infra.persistence.OutboundApiRecordRepository;
+import com.example.demo.util.JsonParseUtil;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 紀錄更新失敗的 Dead Letter Queue。
+ *
+ * <p>
+ * 事件處理（Spring 事件、分區通道、Outbox 超過重試上限）更新紀錄狀態失敗，或批次寫入完整紀錄失敗時，任務保存於此並重試：
+ * <ul>
+ * <li>記憶體保存最多 {@code max-in-memory} 筆，其餘寫入溢出檔案，記憶體有空間時再載回</li>
+ * <li>依指數退避自動重試，達 {@code max-attempts} 次後標示為 exhausted，僅能透過管理 API 重送
+ * （{@code outbound.recording.dead-letter.admin.enabled=true} 時才開放）</li>
+ * <li>狀態更新以 PENDING 為條件，重送已完成的紀錄不會覆蓋結果</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 溢出檔案同時作為停機日誌：停機前未能處理完的紀錄事件以 {@link #journal(List)} 寫入，記憶體中的任務以
+ * {@link #persist()} 寫入，下次啟動時載回並立即重送。
+ * </p>
+ *
+ * <p>
+ * 持久性：只有已寫入溢出檔案的任務能跨越重新啟動。記憶體中的任務僅在正常停機（{@link #persist()}）時寫入檔案，
+ * 程序異常終止（kill -9、OOM、主機故障）時會遺失；其對應紀錄停留在 PENDING，需另行比對處理。
+ * </p>
+ *
+ * <p>
+ * 指標：{@code outbound.recording.dead-letter.depth}（tag：location=memory / disk）、
+ * {@code outbound.recording.dead-letter.exhausted}。
+ * </p>
+ */
+@Slf4j
+@Component
+public class RecordingDeadLetterQueue {
+
+	private static final int MAX_ERROR_LENGTH = 1_000;
+
+	private final OutboundDeadLetterProperties properties;
+
+	private final OutboundSystemRegistry systemRegistry;
+
+	private final OutboundApiRecordRepository recordRepository;
+
+	/**
+	 * id → 記憶體中的任務；處理中的任務會暫時移出，避免排程與人工重送同時處理
+	 */
+	private final Map<String, RecordingDeadLetter> memory = new ConcurrentHashMap<>();
+
+	private final AtomicInteger spilled = new AtomicInteger();
+
+	private final Object spillLock = new Object();
+
+	private final Path spillFile;
+
+	/**
+	 * 已停機：新任務直接寫入溢出檔案，不再自動重試
+	 */
+	private volatile boolean closed;
+
+	public RecordingDeadLetterQueue(OutboundDeadLetterProperties properties, OutboundSystemRegistry systemRegistry,
+			OutboundApiRecordRepository recordRepository, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.systemRegistry = systemRegistry;
+		this.recordRepository = recordRepository;
+		this.spillFile = Path.of(properties.getSpillFile());
+		this.spilled.set(countSpilled());
+		if (spilled.get() > 0) {
+			log.warn("Outbound 紀錄 Dead Letter 溢出檔案尚有 {} 筆待重試: {}", spilled.get(), spillFile);
+		}
+
+		Gauge.builder("outbound.recording.dead-letter.depth", memory, Map::size).tag("location", "memory")
+				.register(meterRegistry);
+		Gauge.builder("outbound.recording.dead-letter.depth", spilled, AtomicInteger::get).tag("location", "disk")
+				.register(meterRegistry);
+		Gauge.builder("outbound.recording.dead-letter.exhausted", memory,
+				m -> m.values().stream().filter(RecordingDeadLetter::isExhausted).count()).register(meterRegistry);
+	}
+
+	/**
+	 * 加入更新成功結果失敗的任務
+	 */
+	public void add(String system, RecordSuccessOutboundApiCommand command, Throwable error) {
+		add(system, command.getSavedId(), Kind.SUCCEEDED, JsonParseUtil.serialize(command), error);
+	}
+
+	/**
+	 * 加入更新失敗結果失敗的任務
+	 */
+	public void add(String system, RecordFailedOutboundApiCommand command, Throwable error) {
+		add(system, command.getSavedId(), Kind.FAILED, JsonParseUtil.serialize(command), error);
+	}
+
+	/**
+	 * 加入寫入失敗的完整紀錄（尚未取得 ID，重送時新增）
+	 */
+	public void add(OutboundApiRecord record, Throwable error) {
+		add(record.getSystem(), null, Kind.RECORD, JsonParseUtil.serialize(record), error);
+	}
+
+	/**
+	 * 加入任務
+	 *
+	 * @param system   外部系統代碼
+	 * @param recordId 紀錄 ID
+	 * @param kind     任務類型
+	 * @param payload  Command（或欄位相同的事件 Data）JSON
+	 * @param error    失敗原因
+	 */
+	public void add(String system, Long recordId, Kind kind, String payload, Throwable error) {
+		long now = System.currentTimeMillis();
+		RecordingDeadLetter letter = RecordingDeadLetter.builder().id(UUID.randomUUID().toString()).system(system)
+				.recordId(recordId).kind(kind).payload(payload).attempts(1).firstFailedAtMillis(now)
+				.nextAttemptAtMillis(now + properties.getInitialBackoffMillis()).lastError(describe(error)).build();
+		log.error("Outbound 紀錄更新失敗，加入 Dead Letter: {} {} record={}", system, kind, recordId, error);
+		store(letter);
+	}
+
+	/**
+	 * 將停機前未能處理的紀錄事件寫入溢出檔案，下次啟動時載回並立即重送
+	 *
+	 * @param events 紀錄成功 / 失敗事件（其他事件略過）
+	 */
+	public void journal(List<? extends BaseEvent> events) {
+		long now = System.currentTimeMillis();
+		List<RecordingDeadLetter> letters = new ArrayList<>(events.size());
+		for (BaseEvent event : events) {
+			if (event instanceof RecordOutboundApiSucceededEvent succeeded) {
+				letters.add(journalEntry(succeeded.getSystem(), succeeded.getData().getSavedId(), Kind.SUCCEEDED,
+						JsonParseUtil.serialize(succeeded.getData()), now));
+			} else if (event instanceof RecordOutboundApiFailedEvent failed) {
+				letters.add(journalEntry(failed.getSystem(), failed.getData().getSavedId(), Kind.FAILED,
+						JsonParseUtil.serialize(failed.getData()), now));
+			}
+		}
+		if (!letters.isEmpty()) {
+			log.warn("停機前未能處理的 Outbound 紀錄事件 {} 筆，寫入日誌待下次啟動重送: {}", letters.size(), spillFile);
+			spillOrKeep(letters);
+		}
+	}
+
+	/**
+	 * 停機：記憶體中的任務全部寫入溢出檔案，之後新增的任務直接寫入檔案
+	 */
+	public void persist() {
+		closed = true;
+		List<RecordingDeadLetter> letters = new ArrayList<>();
+		for (String id : List.copyOf(memory.keySet())) {
+			RecordingDeadLetter letter = memory.remove(id);
+			if (letter != null) {
+				letters.add(letter);
+			}
+		}
+		if (!letters.isEmpty()) {
+			log.info("Outbound 紀錄 Dead Letter {} 筆寫入溢出檔案: {}", letters.size(), spillFile);
+			spillOrKeep(letters);
+		}
+	}
+
+	/**
+	 * 記憶體中的任務（依第一次失敗時間排序）
+	 */
+	public List<RecordingDeadLetter> list() {
+		return memory.values().stream().sorted(Comparator.comparingLong(RecordingDeadLetter::getFirstFailedAtMillis))
+				.toList();
+	}
+
+	/**
+	 * @return 溢出檔案中的任務數
+	 */
+	public int spilledCount() {
+		return spilled.get();
+	}
+
+	/**
+	 * 立即重送指定任務（含已達自動重試上限者）
+	 *
+	 * @param id 任務識別
+	 * @return 重送結果，查無任務時回傳 empty
+	 */
+	public Optional<Boolean> replay(String id) {
+		RecordingDeadLetter letter = memory.remove(id);
+		return letter == null ? Optional.empty() : Optional.of(attempt(letter));
+	}
+
+	/**
+	 * 立即重送記憶體中所有任務
+	 *
+	 * @return 重送成功筆數
+	 */
+	public int replayAll() {
+		int succeeded = 0;
+		for (String id : List.copyOf(memory.keySet())) {
+			if (replay(id).orElse(false)) {
+				succeeded++;
+			}
+		}
+		return succeeded;
+	}
+
+	/**
+	 * 捨棄指定任務
+	 *
+	 * @return 是否存在並已捨棄
+	 */
+	public boolean discard(String id) {
+		RecordingDeadLetter letter = memory.remove(id);
+		if (letter != null) {
+			log.warn("捨棄 Outbound 紀錄 Dead Letter: {}", letter);
+		}
+		return letter != null;
+	}
+
+	/**
+	 * 自動重試到期的任務，並於記憶體有空間時載回溢出檔案中的任務
+	 */
+	@Scheduled(fixedDelayString = "${outbound.recording.dead-letter.retry-interval-millis:1000}")
+	public void retryDue() {
+		if (closed) {
+			return;
+		}
+		int room = properties.getMaxInMemory() - memory.size();
+		if (spilled.get() > 0 && room > 0) {
+			reload(room);
+		}
+		long now = System.currentTimeMillis();
+		for (RecordingDeadLetter candidate : List.copyOf(memory.values())) {
+			if (!candidate.isExhausted() && candidate.getNextAttemptAtMillis() <= now) {
+				RecordingDeadLetter letter = memory.remove(candidate.getId());
+				if (letter != null) {
+					attempt(letter);
+				}
+			}
+		}
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	/**
+	 * 執行一次任務；失敗時更新次數與下次重試時間後放回
+	 */
+	private boolean attempt(RecordingDeadLetter letter) {
+		try {
+			apply(letter);
+			log.info("Outbound 紀錄 Dead Letter 重送成功: {} {} record={}", letter.getSystem(), letter.getKind(),
+					letter.getRecordId());
+			return true;
+		} catch (RuntimeException e) {
+			int attempts = letter.getAttempts() + 1;
+			letter.setAttempts(attempts);
+			letter.setLastError(describe(e));
+			letter.setNextAttemptAtMillis(System.currentTimeMillis() + backoffMillis(attempts));
+			if (attempts >= properties.getMaxAttempts() && !letter.isExhausted()) {
+				letter.setExhausted(true);
+				log.error("Outbound 紀錄 Dead Letter 已達重試上限，需人工處理: {}", letter, e);
+			} else {
+				log.warn("Outbound 紀錄 Dead Letter 重送失敗（第 {} 次）: {} record={}", attempts, letter.getSystem(),
+						letter.getRecordId());
+			}
+			memory.put(letter.getId(), letter);
+			return false;
+		}
+	}
+
+	private void apply(RecordingDeadLetter letter) {
+		if (letter.getKind() == Kind.RECORD) {
+			recordRepository.save(payload(letter, OutboundApiRecord.class));
+			return;
+		}
+		OutboundApiResponseHandlerPort handler = systemRegistry.profile(letter.getSystem()).getResponseHandler();
+		switch (letter.getKind()) {
+		case SUCCEEDED -> handler.handleSuccess(payload(letter, RecordSuccessOutboundApiCommand.class));
+		case FAILED -> handler.handleFailure(payload(letter, RecordFailedOutboundApiCommand.class));
+		default -> throw new IllegalStateException("Unsupported dead letter kind: " + letter.getKind());
+		}
+	}
+
+	private static <T> T payload(RecordingDeadLetter letter, Class<T> type) {
+		T command = JsonParseUtil.unserialize(letter.getPayload(), type);
+		if (command == null) {
+			throw new IllegalStateException("Dead Letter payload 無法解析: " + letter.getId());
+		}
+		return command;
+	}
+
+	private long backoffMillis(int attempts) {
+		double backoff = properties.getInitialBackoffMillis() * Math.pow(properties.getBackoffMultiplier(), attempts - 1);
+		return (long) Math.min(backoff, properties.getMaxBackoffMillis());
+	}
+
+	private void store(RecordingDeadLetter letter) {
+		if (!closed && memory.size() < properties.getMaxInMemory()) {
+			memory.put(letter.getId(), letter);
+			return;
+		}
+		spillOrKeep(List.of(letter));
+	}
+
+	/**
+	 * 附加寫入溢出檔案；無法寫入磁碟時仍保留於記憶體，避免遺失
+	 */
+	private void spillOrKeep(List<RecordingDeadLetter> letters) {
+		synchronized (spillLock) {
+			try {
+				if (spillFile.getParent() != null) {
+					Files.createDirectories(spillFile.getParent());
+				}
+				try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+						StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+					for (RecordingDeadLetter letter : letters) {
+						writer.write(JsonParseUtil.serialize(letter));
+						writer.newLine();
+					}
+				}
+				spilled.addAndGet(letters.size());
+			} catch (IOException e) {
+				log.error("Outbound 紀錄 Dead Letter 寫入溢出檔案失敗，保留於記憶體: {}", spillFile, e);
+				letters.forEach(letter -> memory.put(letter.getId(), letter));
+			}
+		}
+	}
+
+	private static RecordingDeadLetter journalEntry(String system, Long recordId, Kind kind, String payload,
+			long now) {
+		return RecordingDeadLetter.builder().id(UUID.randomUUID().toString()).system(system).recordId(recordId)
+				.kind(kind).payload(payload).attempts(0).firstFailedAtMillis(now).nextAttemptAtMillis(now)
+				.lastError("未於停機前完成處理").build();
+	}
+
+	/**
+	 * 自溢出檔案載回最多 room 筆，其餘改寫回檔案
+	 */
+	private void reload(int room) {
+		synchronized (spillLock) {
+			List<String> remaining = new ArrayList<>();
+			int loaded = 0;
+			try (Stream<String> lines = Files.lines(spillFile, StandardCharsets.UTF_8)) {
+				for (String line : (Iterable<String>) lines::iterator) {
+					if (line.isBlank()) {
+						continue;
+					}
+					RecordingDeadLetter letter = loaded < room ? JsonParseUtil.unserialize(line, RecordingDeadLetter.class)
+							: null;
+					if (letter != null) {
+						memory.put(letter.getId(), letter);
+						loaded++;
+					} else {
+						remaining.add(line);
+					}
+				}
+				Path temp = spillFile.resolveSibling(spillFile.getFileName() + ".tmp");
+				try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+					for (String line : remaining) {
+						writer.write(line);
+						writer.newLine();
+					}
+				}
+				Files.move(temp, spillFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				spilled.set(remaining.size());
+				log.info("自溢出檔案載回 Outbound 紀錄 Dead Letter {} 筆，剩餘 {} 筆", loaded, remaining.size());
+			} catch (IOException e) {
+				log.error("Outbound 紀錄 Dead Letter 溢出檔案讀取失敗: {}", spillFile, e);
+			}
+		}
+	}
+
+	private int countSpilled() {
+		if (!Files.exists(spillFile)) {
+			return 0;
+		}
+		try (Stream<String> lines = Files.lines(spillFile, StandardCharsets.UTF_8)) {
+			return (int) lines.filter(line -> !line.isBlank()).count();
+		} catch (IOException e) {
+			log.error("Outbound 紀錄 Dead Letter 溢出檔案讀取失敗: {}", spillFile, e);
+			return 0;
+		}
+	}
+
+	private static String describe(Throwable error) {
+		String text = String.valueOf(error);
+		return text.length() > MAX_ERROR_LENGTH ? text.substring(0, MAX_ERROR_LENGTH) : text;
+	}
+}
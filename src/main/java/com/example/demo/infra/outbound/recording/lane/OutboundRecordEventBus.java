@@ -0,0 +1,207 @@
+package com.example.demo.infra.outbound.recording.lane;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.application.domain.log.command.RecordFailedOutboundApiCommand;
+import com.example.demo.application.domain.log.command.RecordSuccessOutboundApiCommand;
+import com.example.demo.application.domain.log.event.RecordOutboundApiFailedEvent;
+import com.example.demo.application.domain.log.event.RecordOutboundApiSucceededEvent;
+import com.example.demo.application.port.OutboundApiResponseHandlerPort;
+import com.example.demo.application.shared.event.BaseEvent;
+import com.example.demo.config.properties.OutboundRecordingLaneProperties;
+import com.example.demo.config.properties.OutboundRecordingLaneProperties.Settings;
+import com.example.demo.infra.outbound.recording.deadletter.RecordingDeadLetterQueue;
+import com.example.demo.infra.outbound.registry.OutboundSystemRegistry;
+import com.example.demo.util.BaseDataTransformer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbound API 紀錄事件分區匯流排（{@code outbound.recording.publisher=lanes}）。
+ *
+ * <p>
+ * 每個外部系統各有一組 {@link RecordEventLane}（數量依 {@code outbound.recording.lanes.*}），
+ * 事件依紀錄 ID 雜湊分配至通道：
+ * <ul>
+ * <li>系統之間互不影響，單一外部系統大量回應不會延遲其他系統的紀錄</li>
+ * <li>同一筆紀錄的事件固定落在同一通道，依發佈順序處理</li>
+ * <li>每批事件中連續的成功 / 失敗事件以 {@code handleSuccessInBatch} / {@code handleFailureInBatch} 一次寫入</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 通道已滿時發佈端執行緒阻塞等待空間（不丟棄、也不繞過通道直接處理，以維持紀錄內順序），自然對該系統的呼叫端形成背壓；
+ * 每等待 {@code warn-interval-millis} 記錄一次警告，累計等待逾 {@code max-block-millis} 仍無空間時改交由
+ * {@link RecordingDeadLetterQueue} 重試，發佈端不會無限期阻塞。等待期間通道關閉（停機）時，該事件寫入日誌待下次啟動重送。
+ * 整批寫入失敗時改為逐筆處理，單筆失敗交由 {@link RecordingDeadLetterQueue} 保存並重試。
+ * </p>
+ *
+ * <p>
+ * 停機時由 {@code OutboundRecordingDrainer} 呼叫 {@link #close(long)}：停止接收事件並在期限內處理完通道中的事件，
+ * 逾時未完成及關閉後才發佈的事件寫入 {@link RecordingDeadLetterQueue} 的日誌，下次啟動時重送。
+ * </p>
+ *
+ * <p>
+ * 指標：{@code outbound.recording.lane.depth}（tag：system、lane）。
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbound.recording.publisher", havingValue = "lanes")
+public class OutboundRecordEventBus {
+
+	private final OutboundRecordingLaneProperties properties;
+
+	private final OutboundSystemRegistry systemRegistry;
+
+	private final MeterRegistry meterRegistry;
+
+	private final RecordingDeadLetterQueue deadLetterQueue;
+
+	/**
+	 * system → 該系統的通道
+	 */
+	private final Map<String, SystemLanes> systems = new ConcurrentHashMap<>();
+
+	private volatile boolean closed;
+
+	/**
+	 * 發佈紀錄事件
+	 *
+	 * @param system   外部系統代碼
+	 * @param recordId 紀錄 ID（決定通道）
+	 * @param event    成功或失敗事件
+	 */
+	public void publish(String system, Long recordId, BaseEvent event) {
+		if (closed) {
+			deadLetterQueue.journal(List.of(event));
+			return;
+		}
+		SystemLanes lanes = systems.computeIfAbsent(system, this::createLanes);
+		int index = recordId == null ? 0 : Math.floorMod(Long.hashCode(recordId), lanes.lanes.length);
+		RecordEventLane lane = lanes.lanes[index];
+		if (lane.put(event, lanes.warnIntervalMillis, lanes.maxBlockMillis)) {
+			return;
+		}
+		if (closed) {
+			deadLetterQueue.journal(List.of(event));
+		} else {
+			deadLetter(system, event, new RejectedExecutionException(system + " 紀錄事件未能於期限內放入通道"));
+		}
+	}
+
+	/**
+	 * 停止接收事件，並於期限內處理完所有通道中的事件；逾時未完成者寫入日誌
+	 *
+	 * @param timeoutMillis 等待上限（毫秒）
+	 */
+	public void close(long timeoutMillis) throws InterruptedException {
+		closed = true;
+		systems.values().forEach(lanes -> Stream.of(lanes.lanes).forEach(RecordEventLane::stop));
+
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		List<BaseEvent> remaining = new ArrayList<>();
+		for (SystemLanes lanes : systems.values()) {
+			for (RecordEventLane lane : lanes.lanes) {
+				remaining.addAll(lane.awaitDrained(Math.max(1, deadline - System.currentTimeMillis())));
+			}
+		}
+		if (!remaining.isEmpty()) {
+			deadLetterQueue.journal(remaining);
+		}
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private SystemLanes createLanes(String system) {
+		Settings settings = properties.resolve(system);
+		log.info("Create outbound recording lanes for {}: {}", system, settings);
+		RecordEventLane[] lanes = new RecordEventLane[settings.getLanes()];
+		for (int i = 0; i < lanes.length; i++) {
+			RecordEventLane lane = new RecordEventLane("outbound-record-" + system + "-" + i, settings.getCapacity(),
+					settings.getBatchSize(), batch -> apply(system, batch));
+			Gauge.builder("outbound.recording.lane.depth", lane, RecordEventLane::depth).tag("system", system)
+					.tag("lane", String.valueOf(i)).register(meterRegistry);
+			lanes[i] = lane;
+		}
+		return new SystemLanes(lanes, settings.getWarnIntervalMillis(), settings.getMaxBlockMillis());
+	}
+
+	/**
+	 * 依序將連續的同類型事件合併為一次批次處理，失敗時改為逐筆處理
+	 */
+	private void apply(String system, List<BaseEvent> batch) {
+		OutboundApiResponseHandlerPort handler = systemRegistry.profile(system).getResponseHandler();
+		try {
+			int start = 0;
+			for (int i = 1; i <= batch.size(); i++) {
+				if (i == batch.size() || batch.get(i).getClass() != batch.get(start).getClass()) {
+					applyRun(handler, batch.subList(start, i));
+					start = i;
+				}
+			}
+		} catch (RuntimeException e) {
+			if (batch.size() == 1) {
+				deadLetter(system, batch.get(0), e);
+				return;
+			}
+			log.warn("{} 紀錄事件整批處理失敗，改為逐筆處理，筆數: {}", system, batch.size(), e);
+			for (BaseEvent event : batch) {
+				try {
+					applyRun(handler, List.of(event));
+				} catch (RuntimeException single) {
+					deadLetter(system, event, single);
+				}
+			}
+		}
+	}
+
+	private void deadLetter(String system, BaseEvent event, RuntimeException error) {
+		if (event instanceof RecordOutboundApiSucceededEvent succeeded) {
+			deadLetterQueue.add(system, successCommand(succeeded), error);
+		} else {
+			deadLetterQueue.add(system, failedCommand((RecordOutboundApiFailedEvent) event), error);
+		}
+	}
+
+	/**
+	 * 與 {@code OutboundApiEventHandler} 相同：Event Data 轉為 Command 後交由系統的 ResponseHandler
+	 */
+	private static void applyRun(OutboundApiResponseHandlerPort handler, List<BaseEvent> run) {
+		if (run.get(0) instanceof RecordOutboundApiSucceededEvent) {
+			handler.handleSuccessInBatch(
+					run.stream().map(event -> successCommand((RecordOutboundApiSucceededEvent) event)).toList());
+		} else {
+			handler.handleFailureInBatch(
+					run.stream().map(event -> failedCommand((RecordOutboundApiFailedEvent) event)).toList());
+		}
+	}
+
+	private static RecordSuccessOutboundApiCommand successCommand(RecordOutboundApiSucceededEvent event) {
+		return BaseDataTransformer.transformData(event.getData(), RecordSuccessOutboundApiCommand.class);
+	}
+
+	private static RecordFailedOutboundApiCommand failedCommand(RecordOutboundApiFailedEvent event) {
+		return BaseDataTransformer.transformData(event.getData(), RecordFailedOutboundApiCommand.class);
+	}
+
+	/**
+	 * 單一外部系統的通道組
+	 */
+	private record SystemLanes(RecordEventLane[] lanes, long warnIntervalMillis, long maxBlockMillis) {
+	}
+}
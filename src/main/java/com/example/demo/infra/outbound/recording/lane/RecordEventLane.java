@@ -0,0 +1,138 @@
+package com.example.demo.infra.outbound.recording.lane;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.example.demo.application.shared.event.BaseEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 單一紀錄事件處理通道：固定容量的環狀緩衝（{@link ArrayBlockingQueue}），由專屬執行緒單獨消費。
+ *
+ * <p>
+ * 處理執行緒每次取出最多 {@code batchSize} 筆事件整批交給 sink，緩衝內事件越多、每批越大。
+ * 通道已滿時發佈端阻塞等待（最長 {@code maxBlockMillis}），不繞過通道，同一通道內的事件依放入順序處理。
+ * 關閉時處理完剩餘事件才結束；等待逾時則交回尚未處理完成的事件（含處理中的批次）。
+ * 關閉後才放入成功的事件由發佈端自行取回，不會滯留在已無人消費的通道中。
+ * </p>
+ */
+@Slf4j
+final class RecordEventLane {
+
+	private static final long POLL_MILLIS = 100;
+
+	private final String name;
+
+	private final BlockingQueue<BaseEvent> ring;
+
+	private final int batchSize;
+
+	private final Consumer<List<BaseEvent>> sink;
+
+	private final Thread worker;
+
+	private volatile boolean running = true;
+
+	/**
+	 * 處理中的批次（逾時關閉時一併交回，重複套用由狀態條件更新保證無副作用）
+	 */
+	private volatile List<BaseEvent> inFlight = List.of();
+
+	RecordEventLane(String name, int capacity, int batchSize, Consumer<List<BaseEvent>> sink) {
+		this.name = name;
+		this.ring = new ArrayBlockingQueue<>(capacity);
+		this.batchSize = batchSize;
+		this.sink = sink;
+		this.worker = Thread.ofPlatform().name(name).daemon().start(this::run);
+	}
+
+	/**
+	 * 放入事件，通道已滿時阻塞等待直到放入、逾時或通道停止
+	 *
+	 * @param event          紀錄事件
+	 * @param warnMillis     每等待此時間記錄一次警告
+	 * @param maxBlockMillis 最長等待時間
+	 * @return 是否放入成功；逾時、通道已停止或等待中被中斷時回傳 false，由呼叫端另行保存
+	 */
+	boolean put(BaseEvent event, long warnMillis, long maxBlockMillis) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxBlockMillis);
+		try {
+			while (running) {
+				long left = deadline - System.nanoTime();
+				if (left <= 0) {
+					log.warn("{} 紀錄事件通道已滿，等待逾 {} ms，改交由 Dead Letter，深度: {}", name, maxBlockMillis,
+							ring.size());
+					return false;
+				}
+				if (ring.offer(event, Math.min(left, TimeUnit.MILLISECONDS.toNanos(warnMillis)), TimeUnit.NANOSECONDS)) {
+					// 等待期間通道已停止：處理執行緒與 awaitDrained 可能都已錯過此事件，能取回即交由呼叫端保存
+					return running || !ring.remove(event);
+				}
+				log.warn("{} 紀錄事件通道已滿，等待處理中，深度: {}", name, ring.size());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return false;
+	}
+
+	int depth() {
+		return ring.size();
+	}
+
+	/**
+	 * 停止接收事件（處理執行緒繼續處理剩餘事件）
+	 */
+	void stop() {
+		running = false;
+	}
+
+	/**
+	 * 等待剩餘事件處理完成
+	 *
+	 * @param timeoutMillis 等待上限（毫秒，需大於 0）
+	 * @return 逾時仍未處理完成的事件，全部完成時為空
+	 */
+	List<BaseEvent> awaitDrained(long timeoutMillis) throws InterruptedException {
+		worker.join(timeoutMillis);
+		List<BaseEvent> remaining = new ArrayList<>(worker.isAlive() ? inFlight : List.of());
+		// 含處理執行緒結束前一刻才放入的事件
+		ring.drainTo(remaining);
+		return remaining;
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private void run() {
+		List<BaseEvent> batch = new ArrayList<>(batchSize);
+		while (running || !ring.isEmpty()) {
+			BaseEvent first;
+			try {
+				first = ring.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				// 關閉時由 running 旗標結束，剩餘事件仍需處理
+				continue;
+			}
+			if (first == null) {
+				continue;
+			}
+			batch.add(first);
+			ring.drainTo(batch, batchSize - 1);
+			inFlight = List.copyOf(batch);
+			try {
+				sink.accept(batch);
+			} catch (RuntimeException e) {
+				log.error("Outbound 紀錄事件處理失敗，筆數: {}", batch.size(), e);
+			}
+			inFlight = List.of();
+			batch.clear();
+		}
+	}
+}
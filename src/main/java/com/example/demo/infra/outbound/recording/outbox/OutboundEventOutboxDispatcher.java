@@ -0,0 +1,239 @@
+package com.example.demo.infra.outbound.recording.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.application.domain.log.command.RecordFailedOutboundApiCommand;
+import com.example.demo.application.domain.log.command.RecordSuccessOutboundApiCommand;
+import com.example.demo.application.domain.log.event.RecordOutboundApiFailedEvent.RecordOutboundApiFailedEventData;
+import com.example.demo.application.domain.log.event.RecordOutboundApiSucceededEvent.RecordOutboundApiEventData;
+import com.example.demo.application.port.OutboundApiResponseHandlerPort;
+import com.example.demo.infra.outbound.recording.deadletter.RecordingDeadLetter.Kind;
+import com.example.demo.infra.outbound.recording.deadletter.RecordingDeadLetterQueue;
+import com.example.demo.infra.outbound.registry.OutboundSystemRegistry;
+import com.example.demo.infra.persistence.OutboundEventOutboxRepository;
+import com.example.demo.util.BaseDataTransformer;
+import com.example.demo.util.JsonParseUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbound API 紀錄事件 Outbox 批次派送器（{@code outbound.recording.publisher=outbox}）。
+ *
+ * <p>
+ * 每 {@code outbound.recording.outbox.poll-interval-ms} 認領最多 {@code outbound.recording.outbox.batch-size}
+ * 筆項目（依 id 排序），於同一個交易內交由各系統的 ResponseHandler 更新紀錄狀態並刪除項目
+ * （同系統、同事件類型的連續項目以 {@code handleSuccessInBatch} / {@code handleFailureInBatch} 一次批次寫入）：
+ * 狀態更新與確認同時提交，不會重複套用，也不需每筆事件各開一個交易。
+ * 積壓時每次排程最多連續處理 {@code outbound.recording.outbox.max-chunks-per-run} 批，其餘留待下次排程，
+ * 避免長時間占用共用的排程執行緒而延誤其他 {@code @Scheduled} 工作。
+ * </p>
+ *
+ * <p>
+ * 整批失敗時改為逐筆處理以隔離問題項目：處理失敗的項目釋放認領、累計失敗次數，並於
+ * {@code outbound.recording.outbox.retry-delay-ms} 後重試。
+ * 每次僅認領各紀錄最早的項目（見 {@link OutboundEventOutboxRepository#findClaimableIds}），同一筆紀錄較晚的項目
+ * 於較早項目刪除後才可認領，以維持紀錄內的事件順序。
+ * 失敗達 {@code outbound.recording.outbox.max-attempts} 次的項目移至 {@link RecordingDeadLetterQueue} 並自 Outbox 刪除，
+ * 不再阻擋同一筆紀錄的後續事件。
+ * 認領逾 {@code outbound.recording.outbox.claim-timeout-ms} 未確認（例如處理中途停機）的項目可被重新認領。
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbound.recording.publisher", havingValue = "outbox")
+public class OutboundEventOutboxDispatcher {
+
+	private final OutboundEventOutboxRepository outboxRepository;
+
+	private final OutboundSystemRegistry systemRegistry;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final RecordingDeadLetterQueue deadLetterQueue;
+
+	private final int batchSize;
+
+	private final Duration claimTimeout;
+
+	private final Duration retryDelay;
+
+	private final int maxAttempts;
+
+	private final int maxChunksPerRun;
+
+	/**
+	 * 本 Dispatcher 的認領識別
+	 */
+	private final String owner = UUID.randomUUID().toString();
+
+	public OutboundEventOutboxDispatcher(OutboundEventOutboxRepository outboxRepository,
+			OutboundSystemRegistry systemRegistry, TransactionTemplate transactionTemplate,
+			RecordingDeadLetterQueue deadLetterQueue,
+			@Value("${outbound.recording.outbox.batch-size:500}") int batchSize,
+			@Value("${outbound.recording.outbox.claim-timeout-ms:30000}") long claimTimeoutMillis,
+			@Value("${outbound.recording.outbox.retry-delay-ms:5000}") long retryDelayMillis,
+			@Value("${outbound.recording.outbox.max-attempts:10}") int maxAttempts,
+			@Value("${outbound.recording.outbox.max-chunks-per-run:4}") int maxChunksPerRun) {
+		this.outboxRepository = outboxRepository;
+		this.systemRegistry = systemRegistry;
+		this.transactionTemplate = transactionTemplate;
+		this.deadLetterQueue = deadLetterQueue;
+		this.batchSize = batchSize;
+		this.claimTimeout = Duration.ofMillis(claimTimeoutMillis);
+		this.retryDelay = Duration.ofMillis(retryDelayMillis);
+		this.maxAttempts = maxAttempts;
+		this.maxChunksPerRun = Math.max(1, maxChunksPerRun);
+	}
+
+	/**
+	 * 派送可認領的項目（每次認領一批，直到不足一批或達到每次排程的批數上限為止）
+	 */
+	@Scheduled(fixedDelayString = "${outbound.recording.outbox.poll-interval-ms:200}")
+	public void dispatch() {
+		List<OutboundEventOutboxEntry> chunk;
+		int chunks = 0;
+		do {
+			chunk = claim();
+			if (!chunk.isEmpty()) {
+				process(chunk);
+			}
+		} while (chunk.size() == batchSize && ++chunks < maxChunksPerRun);
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private List<OutboundEventOutboxEntry> claim() {
+		return transactionTemplate.execute(status -> {
+			Instant now = Instant.now();
+			Instant staleBefore = now.minus(claimTimeout);
+			List<Long> ids = outboxRepository.findClaimableIds(now, staleBefore, PageRequest.of(0, batchSize));
+			if (ids.isEmpty() || outboxRepository.claim(ids, owner, now, staleBefore) == 0) {
+				return List.of();
+			}
+			return outboxRepository.findByClaimedByAndIdInOrderByIdAsc(owner, ids);
+		});
+	}
+
+	private void process(List<OutboundEventOutboxEntry> chunk) {
+		List<Long> ids = chunk.stream().map(OutboundEventOutboxEntry::getId).toList();
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				applyInRuns(chunk);
+				outboxRepository.deleteAllByIdInBatch(ids);
+			});
+		} catch (RuntimeException e) {
+			log.warn("Outbound 事件 Outbox 整批處理失敗，改為逐筆處理，筆數: {}", chunk.size(), e);
+			processIndividually(chunk);
+		}
+	}
+
+	private void processIndividually(List<OutboundEventOutboxEntry> chunk) {
+		List<Long> failed = new ArrayList<>();
+		List<Long> exhausted = new ArrayList<>();
+
+		for (OutboundEventOutboxEntry entry : chunk) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> {
+					apply(entry);
+					outboxRepository.deleteAllByIdInBatch(List.of(entry.getId()));
+				});
+			} catch (RuntimeException e) {
+				if (entry.getAttempts() + 1 >= maxAttempts) {
+					deadLetterQueue.add(entry.getSystem(), entry.getRecordId(), kindOf(entry), entry.getPayload(), e);
+					exhausted.add(entry.getId());
+				} else {
+					log.error("Outbound 事件 Outbox 處理失敗: {}", entry, e);
+					failed.add(entry.getId());
+				}
+			}
+		}
+
+		if (!failed.isEmpty() || !exhausted.isEmpty()) {
+			transactionTemplate.executeWithoutResult(status -> {
+				if (!exhausted.isEmpty()) {
+					outboxRepository.deleteAllByIdInBatch(exhausted);
+				}
+				if (!failed.isEmpty()) {
+					outboxRepository.release(failed, owner, Instant.now().plus(retryDelay));
+				}
+			});
+		}
+	}
+
+	/**
+	 * 依序將「同系統、同事件類型」的連續項目合併為一次批次處理，批次之間維持原本順序
+	 */
+	private void applyInRuns(List<OutboundEventOutboxEntry> chunk) {
+		int start = 0;
+		for (int i = 1; i <= chunk.size(); i++) {
+			if (i == chunk.size() || !sameRun(chunk.get(start), chunk.get(i))) {
+				applyRun(chunk.subList(start, i));
+				start = i;
+			}
+		}
+	}
+
+	private void applyRun(List<OutboundEventOutboxEntry> run) {
+		OutboundEventOutboxEntry first = run.get(0);
+		OutboundApiResponseHandlerPort handler = systemRegistry.profile(first.getSystem()).getResponseHandler();
+		switch (first.getEventType()) {
+		case SUCCEEDED -> handler
+				.handleSuccessInBatch(run.stream().map(OutboundEventOutboxDispatcher::successCommand).toList());
+		case FAILED -> handler
+				.handleFailureInBatch(run.stream().map(OutboundEventOutboxDispatcher::failedCommand).toList());
+		}
+	}
+
+	private static boolean sameRun(OutboundEventOutboxEntry a, OutboundEventOutboxEntry b) {
+		return a.getEventType() == b.getEventType() && a.getSystem().equals(b.getSystem());
+	}
+
+	/**
+	 * 與 {@code OutboundApiEventHandler} 相同：Event Data 轉為 Command 後交由系統的 ResponseHandler
+	 */
+	private void apply(OutboundEventOutboxEntry entry) {
+		OutboundApiResponseHandlerPort handler = systemRegistry.profile(entry.getSystem()).getResponseHandler();
+		switch (entry.getEventType()) {
+		case SUCCEEDED -> handler.handleSuccess(successCommand(entry));
+		case FAILED -> handler.handleFailure(failedCommand(entry));
+		}
+	}
+
+	private static Kind kindOf(OutboundEventOutboxEntry entry) {
+		return switch (entry.getEventType()) {
+		case SUCCEEDED -> Kind.SUCCEEDED;
+		case FAILED -> Kind.FAILED;
+		};
+	}
+
+	private static RecordSuccessOutboundApiCommand successCommand(OutboundEventOutboxEntry entry) {
+		return BaseDataTransformer.transformData(payload(entry, RecordOutboundApiEventData.class),
+				RecordSuccessOutboundApiCommand.class);
+	}
+
+	private static RecordFailedOutboundApiCommand failedCommand(OutboundEventOutboxEntry entry) {
+		return BaseDataTransformer.transformData(payload(entry, RecordOutboundApiFailedEventData.class),
+				RecordFailedOutboundApiCommand.class);
+	}
+
+	private static <T> T payload(OutboundEventOutboxEntry entry, Class<T> type) {
+		T data = JsonParseUtil.unserialize(entry.getPayload(), type);
+		if (data == null) {
+			throw new IllegalStateException("Outbox payload 無法解析: " + entry);
+		}
+		return data;
+	}
+}
@@ -0,0 +1,107 @@
+package com.example.demo.infra.outbound.recording.outbox;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Outbound API 紀錄事件 Outbox 項目
+ *
+ * <p>
+ * {@code outbound.recording.publisher=outbox} 時，成功 / 失敗事件先寫入此表，
+ * 再由 {@link OutboundEventOutboxDispatcher} 批次認領、處理並刪除（刪除即確認）。
+ * </p>
+ *
+ * <ul>
+ * <li>id 遞增，同一筆紀錄（recordId）的事件依 id 順序處理</li>
+ * <li>claimedBy / claimedAt：目前認領的 Dispatcher 與時間，逾時未確認可被重新認領</li>
+ * <li>attempts / availableAt：處理失敗次數與下次可處理時間</li>
+ * </ul>
+ */
+@Entity
+@Table(name = "outbound_event_outbox", indexes = { @Index(name = "idx_outbound_event_outbox_record", columnList = "record_id"),
+		@Index(name = "idx_outbound_event_outbox_claimed", columnList = "claimed_by") })
+@Getter
+@Setter
+@ToString(exclude = "payload")
+@NoArgsConstructor
+public class OutboundEventOutboxEntry {
+
+	/**
+	 * 事件類型
+	 */
+	public enum EventType {
+		SUCCEEDED, FAILED
+	}
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id")
+	private Long id;
+
+	/**
+	 * 外部系統代碼
+	 */
+	@Column(name = "system")
+	private String system;
+
+	/**
+	 * 對應的 Outbound API 呼叫紀錄 ID
+	 */
+	@Column(name = "record_id")
+	private Long recordId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "event_type")
+	private EventType eventType;
+
+	/**
+	 * 事件唯一識別
+	 */
+	@Column(name = "event_uuid")
+	private String eventUuid;
+
+	/**
+	 * Event Data（JSON）
+	 */
+	@Column(name = "payload", columnDefinition = "nvarchar(max)")
+	private String payload;
+
+	@Column(name = "created_at")
+	private Instant createdAt;
+
+	@Column(name = "claimed_by")
+	private String claimedBy;
+
+	@Column(name = "claimed_at")
+	private Instant claimedAt;
+
+	@Column(name = "attempts")
+	private int attempts;
+
+	@Column(name = "available_at")
+	private Instant availableAt;
+
+	public OutboundEventOutboxEntry(String system, Long recordId, EventType eventType, String eventUuid,
+			String payload) {
+		this.system = system;
+		this.recordId = recordId;
+		this.eventType = eventType;
+		this.eventUuid = eventUuid;
+		this.payload = payload;
+		this.createdAt = Instant.now();
+		this.availableAt = createdAt;
+	}
+}
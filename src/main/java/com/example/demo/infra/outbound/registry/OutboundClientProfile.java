@@ -0,0 +1,72 @@
+package com.example.demo.infra.outbound.registry;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.example.demo.infra.annotation.ExternalApiClient;
+import com.example.demo.infra.outbound.limiter.OutboundConcurrencyLimiter;
+
+import lombok.Getter;
+
+/**
+ * {@link ExternalApiClient} 實作類別的呼叫設定（以目標類別為單位快取）。
+ *
+ * <p>
+ * 保存類別上的 {@link ExternalApiClient}、所屬系統的 {@link OutboundSystemProfile} 與並行上限，
+ * 並依方法快取 {@link OutboundMethodProfile}；啟動時已預先解析所有方法，呼叫路徑僅需一次 Map 查詢。
+ * </p>
+ */
+public final class OutboundClientProfile {
+
+	@Getter
+	private final Class<?> targetClass;
+
+	@Getter
+	private final ExternalApiClient externalApiClient;
+
+	@Getter
+	private final OutboundSystemProfile systemProfile;
+
+	/**
+	 * 並行上限，未啟用時為 null
+	 */
+	@Getter
+	private final OutboundConcurrencyLimiter limiter;
+
+	/**
+	 * AOP Signature 上的 Method → 方法設定
+	 */
+	private final Map<Method, OutboundMethodProfile> methods = new ConcurrentHashMap<>();
+
+	private final Function<Method, OutboundMethodProfile> methodResolver;
+
+	OutboundClientProfile(Class<?> targetClass, ExternalApiClient externalApiClient,
+			OutboundSystemProfile systemProfile, OutboundConcurrencyLimiter limiter,
+			Function<Method, OutboundMethodProfile> methodResolver) {
+		this.targetClass = targetClass;
+		this.externalApiClient = externalApiClient;
+		this.systemProfile = systemProfile;
+		this.limiter = limiter;
+		this.methodResolver = methodResolver;
+	}
+
+	/**
+	 * @return 外部系統代碼
+	 */
+	public String getSystem() {
+		return systemProfile.getSystem();
+	}
+
+	/**
+	 * 取得方法設定
+	 *
+	 * @param method AOP Signature 上的 Method（介面或實作類別的方法）
+	 * @return 方法設定
+	 */
+	public OutboundMethodProfile method(Method method) {
+		OutboundMethodProfile profile = methods.get(method);
+		return profile != null ? profile : methods.computeIfAbsent(method, methodResolver);
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.demo.infra.outbound.registry;
+
+import java.lang.reflect.Method;
+
+import com.example.demo.infra.annotation.OutboundBatchRecording;
+import com.example.demo.infra.annotation.OutboundCacheable;
+import com.example.demo.infra.annotation.OutboundCoalescing;
+import com.example.demo.infra.annotation.OutboundHedging;
+import com.example.demo.infra.annotation.OutboundRetry;
+import com.example.demo.infra.outbound.circuitbreaker.OutboundCircuitBreaker;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 外部系統 Client 方法的呼叫設定（不可變）。
+ *
+ * <p>
+ * 啟動時解析方法上的 Annotation、斷路器與讀取逾時，呼叫路徑不再逐次反射查詢。
+ * </p>
+ */
+@Getter
+@Builder(access = AccessLevel.PACKAGE)
+public final class OutboundMethodProfile {
+
+	/**
+	 * 實作類別上的方法（Annotation 以此為準）
+	 */
+	private final Method method;
+
+	/**
+	 * 回傳 {@code CompletionStage} 的非同步方法
+	 */
+	private final boolean async;
+
+	/**
+	 * 標註 {@link OutboundBatchRecording}
+	 */
+	private final boolean batchRecording;
+
+	private final OutboundCacheable cacheable;
+
+	private final OutboundCoalescing coalescing;
+
+	private final OutboundHedging hedging;
+
+	private final OutboundRetry retry;
+
+	/**
+	 * 斷路器，未啟用時為 null
+	 */
+	private final OutboundCircuitBreaker circuitBreaker;
+
+	/**
+	 * 讀取逾時（{@code @OutboundTimeout} 優先於 {@code @ExternalApiClient}），小於等於 0 表示使用預設值
+	 */
+	private final long readTimeoutMillis;
+}
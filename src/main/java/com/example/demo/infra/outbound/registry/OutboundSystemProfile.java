@@ -0,0 +1,62 @@
+package com.example.demo.infra.outbound.registry;
+
+import com.example.demo.application.port.OutboundApiRequestHandlerPort;
+import com.example.demo.application.port.OutboundApiResponseHandlerPort;
+import com.example.demo.application.port.OutboundApiResponseValidatorPort;
+
+import lombok.Getter;
+
+/**
+ * 外部系統元件組合（不可變）。
+ *
+ * <p>
+ * 由 {@link OutboundSystemRegistry} 於啟動時解析一次，紀錄流程直接取用，不再逐次查詢各 Factory：
+ * <ul>
+ * <li>Request Handler：解析呼叫參數為紀錄 Command</li>
+ * <li>Response Validator：未註冊時為共用的放行 Validator</li>
+ * <li>Response Handler：處理成功 / 失敗事件</li>
+ * </ul>
+ * </p>
+ */
+public final class OutboundSystemProfile {
+
+	@Getter
+	private final String system;
+
+	private final OutboundApiRequestHandlerPort requestHandler;
+
+	@Getter
+	private final OutboundApiResponseValidatorPort validator;
+
+	private final OutboundApiResponseHandlerPort responseHandler;
+
+	OutboundSystemProfile(String system, OutboundApiRequestHandlerPort requestHandler,
+			OutboundApiResponseValidatorPort validator, OutboundApiResponseHandlerPort responseHandler) {
+		this.system = system;
+		this.requestHandler = requestHandler;
+		this.validator = validator;
+		this.responseHandler = responseHandler;
+	}
+
+	/**
+	 * @return Request Handler
+	 * @throws IllegalStateException 若該系統未註冊 Request Handler
+	 */
+	public OutboundApiRequestHandlerPort getRequestHandler() {
+		if (requestHandler == null) {
+			throw new IllegalStateException("No OutboundApiRequestHandler for system: " + system);
+		}
+		return requestHandler;
+	}
+
+	/**
+	 * @return Response Handler
+	 * @throws IllegalStateException 若該系統未註冊 Response Handler
+	 */
+	public OutboundApiResponseHandlerPort getResponseHandler() {
+		if (responseHandler == null) {
+			throw new IllegalStateException("No ExternalApiResponseHandler for system: " + system);
+		}
+		return responseHandler;
+	}
+}
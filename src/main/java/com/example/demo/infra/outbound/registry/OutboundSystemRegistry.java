@@ -0,0 +1,146 @@
+package com.example.demo.infra.outbound.registry;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.application.factory.OutboundApiRequestHandlerFactory;
+import com.example.demo.application.factory.OutboundApiResponseHandlerFactory;
+import com.example.demo.application.factory.OutboundApiResponseValidatorFactory;
+import com.example.demo.infra.annotation.ExternalApiClient;
+import com.example.demo.infra.annotation.OutboundBatchRecording;
+import com.example.demo.infra.annotation.OutboundCacheable;
+import com.example.demo.infra.annotation.OutboundCoalescing;
+import com.example.demo.infra.annotation.OutboundHedging;
+import com.example.demo.infra.annotation.OutboundRetry;
+import com.example.demo.infra.annotation.OutboundTimeout;
+import com.example.demo.infra.outbound.circuitbreaker.OutboundCircuitBreakerRegistry;
+import com.example.demo.infra.outbound.limiter.OutboundConcurrencyLimiterRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 外部系統元件登錄表。
+ *
+ * <p>
+ * 啟動時掃描所有 {@link ExternalApiClient} Bean，預先解析：
+ * <ul>
+ * <li>{@link OutboundSystemProfile}：各系統的 Request Handler、Validator、Response Handler</li>
+ * <li>{@link OutboundClientProfile}：以目標類別為 Key，含 Annotation 與並行上限</li>
+ * <li>{@link OutboundMethodProfile}：各方法的 Annotation、斷路器與讀取逾時</li>
+ * </ul>
+ * 呼叫路徑僅做 Map 查詢、不配置物件；未於啟動時出現的系統或類別於第一次使用時解析並快取。
+ * </p>
+ *
+ * <p>
+ * 各 Factory 仍負責「系統 → 元件」的選擇規則，本登錄表只在解析時使用一次。
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundSystemRegistry implements SmartInitializingSingleton {
+
+	private final ApplicationContext applicationContext;
+
+	private final OutboundApiRequestHandlerFactory requestHandlerFactory;
+
+	private final OutboundApiResponseValidatorFactory validatorFactory;
+
+	private final OutboundApiResponseHandlerFactory responseHandlerFactory;
+
+	private final OutboundConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+
+	private final OutboundCircuitBreakerRegistry circuitBreakerRegistry;
+
+	/**
+	 * system → 系統元件組合
+	 */
+	private final Map<String, OutboundSystemProfile> systems = new ConcurrentHashMap<>();
+
+	/**
+	 * 目標類別 → Client 設定
+	 */
+	private final Map<Class<?>, OutboundClientProfile> clients = new ConcurrentHashMap<>();
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		applicationContext.getBeansWithAnnotation(ExternalApiClient.class).values().forEach(bean -> {
+			OutboundClientProfile client = client(AopUtils.getTargetClass(bean));
+			for (Method method : client.getTargetClass().getMethods()) {
+				if (method.getDeclaringClass() != Object.class && !Modifier.isStatic(method.getModifiers())) {
+					client.method(method);
+				}
+			}
+			log.info("Outbound client {} registered for system {}", client.getTargetClass().getSimpleName(),
+					client.getSystem());
+		});
+	}
+
+	/**
+	 * 取得外部系統元件組合
+	 *
+	 * @param system 外部系統代碼
+	 * @return 系統元件組合
+	 */
+	public OutboundSystemProfile profile(String system) {
+		OutboundSystemProfile profile = systems.get(system);
+		return profile != null ? profile : systems.computeIfAbsent(system, this::createSystemProfile);
+	}
+
+	/**
+	 * 取得 {@link ExternalApiClient} 實作類別的呼叫設定
+	 *
+	 * @param targetClass 目標類別（標註 {@link ExternalApiClient}）
+	 * @return Client 設定
+	 * @throws IllegalStateException 若類別未標註 {@link ExternalApiClient}
+	 */
+	public OutboundClientProfile client(Class<?> targetClass) {
+		OutboundClientProfile client = clients.get(targetClass);
+		return client != null ? client : clients.computeIfAbsent(targetClass, this::createClientProfile);
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private OutboundSystemProfile createSystemProfile(String system) {
+		return new OutboundSystemProfile(system, requestHandlerFactory.find(system).orElse(null),
+				validatorFactory.get(system), responseHandlerFactory.find(system).orElse(null));
+	}
+
+	private OutboundClientProfile createClientProfile(Class<?> targetClass) {
+		ExternalApiClient externalApiClient = targetClass.getAnnotation(ExternalApiClient.class);
+		if (externalApiClient == null) {
+			throw new IllegalStateException(targetClass.getName() + " is not annotated with @ExternalApiClient");
+		}
+		String system = externalApiClient.system();
+		return new OutboundClientProfile(targetClass, externalApiClient, profile(system),
+				concurrencyLimiterRegistry.get(externalApiClient),
+				method -> createMethodProfile(system, targetClass, externalApiClient, method));
+	}
+
+	private OutboundMethodProfile createMethodProfile(String system, Class<?> targetClass,
+			ExternalApiClient externalApiClient, Method signatureMethod) {
+		Method method = AopUtils.getMostSpecificMethod(signatureMethod, targetClass);
+		OutboundTimeout timeout = method.getAnnotation(OutboundTimeout.class);
+		return OutboundMethodProfile.builder().method(method)
+				.async(CompletionStage.class.isAssignableFrom(method.getReturnType()))
+				.batchRecording(method.isAnnotationPresent(OutboundBatchRecording.class))
+				.cacheable(method.getAnnotation(OutboundCacheable.class))
+				.coalescing(method.getAnnotation(OutboundCoalescing.class))
+				.hedging(method.getAnnotation(OutboundHedging.class))
+				.retry(method.getAnnotation(OutboundRetry.class))
+				.circuitBreaker(circuitBreakerRegistry.get(system, method))
+				.readTimeoutMillis(timeout != null ? timeout.readTimeoutMillis() : externalApiClient.readTimeoutMillis())
+				.build();
+	}
+}
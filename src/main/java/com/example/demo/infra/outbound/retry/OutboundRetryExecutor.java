@@ -0,0 +1,148 @@
+package com.example.demo.infra.outbound.retry;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.config.properties.OutboundRetryProperties;
+import com.example.demo.config.properties.OutboundRetryProperties.Settings;
+import com.example.demo.infra.annotation.OutboundRetry;
+import com.example.demo.infra.context.ContextHolder;
+import com.example.demo.infra.context.Deadline;
+import com.example.demo.infra.outbound.shared.budget.OutboundRequestBudget;
+import com.example.demo.infra.outbound.shared.exception.OutboundErrorClassifier;
+import com.example.demo.infra.outbound.shared.invocation.OutboundAttempt;
+import com.example.demo.infra.outbound.shared.invocation.OutboundInvocation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 外部 API 重試執行器（{@link OutboundRetry}）。
+ *
+ * <p>
+ * 於呼叫端執行緒上依序執行每次呼叫，失敗且可重試時等待後再試：
+ * <ul>
+ * <li>等待時間：{@code min(maxBackoff, initialBackoff * multiplier^(n-1))}，取其一半加上 0 ~ 一半的隨機 jitter，
+ * 避免大量呼叫端同時重試</li>
+ * <li>重試額度：每個系統一份 {@link OutboundRequestBudget}，額度不足時直接拋出原例外</li>
+ * <li>請求期限：Inbound 請求剩餘時間不超過等待時間時不再重試</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 指標（tag：system / method）：
+ * <ul>
+ * <li>{@code outbound.retry.retries}：重試次數</li>
+ * <li>{@code outbound.retry.budget.exhausted}：因額度不足未重試的次數</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundRetryExecutor {
+
+	private final OutboundRetryProperties properties;
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * system → 重試額度
+	 */
+	private final Map<String, OutboundRequestBudget> budgets = new ConcurrentHashMap<>();
+
+	/**
+	 * Method → 計數器
+	 */
+	private final Map<Method, RetryMeters> meters = new ConcurrentHashMap<>();
+
+	/**
+	 * 執行呼叫，必要時重試。
+	 *
+	 * @param system   外部系統代碼
+	 * @param method   Client 方法
+	 * @param retry    重試設定
+	 * @param attempts 依 {@link OutboundAttempt} 建立單次呼叫（含紀錄流程）
+	 * @return 呼叫結果
+	 * @throws Throwable 不可重試或重試用盡時，最後一次呼叫的例外
+	 */
+	public Object execute(String system, Method method, OutboundRetry retry,
+			Function<OutboundAttempt, OutboundInvocation> attempts) throws Throwable {
+
+		OutboundAttempt attempt = OutboundAttempt.first();
+		if (!properties.isEnabled()) {
+			return attempts.apply(attempt).proceed();
+		}
+
+		Settings settings = properties.resolve(system);
+		int maxAttempts = retry.maxAttempts() > 0 ? retry.maxAttempts() : settings.getMaxAttempts();
+		OutboundRequestBudget budget = budgets.computeIfAbsent(system,
+				s -> new OutboundRequestBudget(settings.getBudgetPercent(), settings.getBudgetBurst()));
+		RetryMeters counters = meters.computeIfAbsent(method, m -> new RetryMeters(system, m.getName()));
+		budget.onCall();
+
+		for (int n = 1;; n++) {
+			try {
+				return attempts.apply(attempt).proceed();
+			} catch (Throwable e) {
+				// 未建立紀錄表示呼叫尚未送出（本地錯誤），重試無助益
+				if (n >= maxAttempts || attempt.getRecordId() == null || !OutboundErrorClassifier.isRetryable(e)) {
+					throw e;
+				}
+				long backoff = backoffMillis(settings, n);
+				// Inbound 請求剩餘時間不足以等待並再試一次
+				Deadline deadline = ContextHolder.getDeadline();
+				if (deadline != null && deadline.remainingMillis() <= backoff) {
+					throw e;
+				}
+				if (!budget.tryAcquire()) {
+					counters.exhausted.increment();
+					throw e;
+				}
+				log.debug("{} {} attempt {} failed, retrying in {} ms: {}", system, method.getName(), n, backoff,
+						e.getMessage());
+				try {
+					Thread.sleep(backoff);
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					throw e;
+				}
+				counters.retries.increment();
+				attempt = attempt.next("retry #" + (n + 1));
+			}
+		}
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private static long backoffMillis(Settings settings, int failedAttempts) {
+		double exponential = settings.getInitialBackoffMillis()
+				* Math.pow(settings.getBackoffMultiplier(), failedAttempts - 1);
+		long cap = (long) Math.min(settings.getMaxBackoffMillis(), exponential);
+		long half = cap / 2;
+		return half + ThreadLocalRandom.current().nextLong(cap - half + 1);
+	}
+
+	private class RetryMeters {
+
+		private final Counter retries;
+
+		private final Counter exhausted;
+
+		RetryMeters(String system, String method) {
+			this.retries = Counter.builder("outbound.retry.retries").tag("system", system).tag("method", method)
+					.register(meterRegistry);
+			this.exhausted = Counter.builder("outbound.retry.budget.exhausted").tag("system", system)
+					.tag("method", method).register(meterRegistry);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.demo.infra.outbound.shared.budget;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 額外請求（對沖、重試等）額度，以 Token Bucket 計算。
+ *
+ * <p>
+ * 每次一般呼叫累積 {@code ratioPercent / 100} 個額度（上限 {@code maxBurst}），每次額外請求消耗 1 個額度；
+ * 初始為滿額；長期額外請求數不會超過一般呼叫數的 {@code ratioPercent}%，外部系統故障時不會因此放大流量。
+ * 以 CAS 更新，不使用鎖。
+ * </p>
+ */
+public class OutboundRequestBudget {
+
+	private static final long TOKEN = 100;
+
+	private final AtomicLong tokens;
+
+	private final long tokensPerCall;
+
+	private final long capacity;
+
+	/**
+	 * @param ratioPercent 額外請求佔一般呼叫的比例上限（百分比）
+	 * @param maxBurst     可連續使用的額度上限
+	 */
+	public OutboundRequestBudget(int ratioPercent, int maxBurst) {
+		this.tokensPerCall = Math.max(0, Math.min(100, ratioPercent)) * TOKEN / 100;
+		this.capacity = Math.max(1, maxBurst) * TOKEN;
+		this.tokens = new AtomicLong(capacity);
+	}
+
+	/**
+	 * 累積一次一般呼叫的額度
+	 */
+	public void onCall() {
+		if (tokens.get() < capacity) {
+			tokens.accumulateAndGet(tokensPerCall, (current, add) -> Math.min(capacity, current + add));
+		}
+	}
+
+	/**
+	 * 嘗試消耗一次額外請求的額度
+	 *
+	 * @return false 表示額度不足
+	 */
+	public boolean tryAcquire() {
+		while (true) {
+			long current = tokens.get();
+			if (current < TOKEN) {
+				return false;
+			}
+			if (tokens.compareAndSet(current, current - TOKEN)) {
+				return true;
+			}
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.example.demo.infra.outbound.shared.exception;
 
+import com.example.demo.shared.exception.CodedError;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -10,7 +12,7 @@ import lombok.EqualsAndHashCode;
 @Data
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-public class CustomFeignException extends RuntimeException {
+public class CustomFeignException extends RuntimeException implements CodedError {
 
 	private static final long serialVersionUID = 1L;
 
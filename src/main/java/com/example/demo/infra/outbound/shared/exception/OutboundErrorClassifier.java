@@ -0,0 +1,74 @@
+package com.example.demo.infra.outbound.shared.exception;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import feign.FeignException;
+import feign.RetryableException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 外部 API 例外分類。
+ *
+ * <p>
+ * 判斷例外是否代表「外部系統異常」，供斷路器、並行限制與重試等保護機制使用，僅以下情況計入：
+ * <ul>
+ * <li>傳輸失敗：連線失敗、連線中斷等 I/O 例外（含 Feign 包裝的 {@link RetryableException}）</li>
+ * <li>逾時：連線 / 讀取逾時、{@link TimeoutException}</li>
+ * <li>外部系統回應 5xx 或 429 Too Many Requests</li>
+ * </ul>
+ * 其餘例外（4xx、回應驗證失敗 {@code FEIGN_FAILED}、解碼失敗、本系統程式錯誤、保護機制自行拒絕與主動取消等）
+ * 皆視為呼叫端錯誤，外部系統仍正常運作，不計入。
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class OutboundErrorClassifier {
+
+	/**
+	 * @param error 呼叫拋出的例外
+	 * @return 是否為外部系統異常
+	 */
+	public static boolean isSystemFailure(Throwable error) {
+		Throwable cause = unwrap(error);
+		if (cause instanceof CustomFeignException feignException) {
+			return isFailureStatus(feignException.getCode());
+		}
+		if (cause instanceof RetryableException) {
+			return true;
+		}
+		if (cause instanceof FeignException feignException) {
+			// DecodeException 等非 HTTP 錯誤的 status 為 2xx 或 -1，不計入
+			return feignException.status() >= 500 || feignException.status() == 429;
+		}
+		return cause instanceof IOException || cause instanceof TimeoutException;
+	}
+
+	/**
+	 * @param error 呼叫拋出的例外
+	 * @return 是否值得重試（與 {@link #isSystemFailure(Throwable)} 相同，呼叫端錯誤重試也不會成功）
+	 */
+	public static boolean isRetryable(Throwable error) {
+		return isSystemFailure(error);
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private static boolean isFailureStatus(String code) {
+		return code != null && (code.startsWith("HTTP_5") || "HTTP_429".equals(code));
+	}
+
+	private static Throwable unwrap(Throwable error) {
+		Throwable current = error;
+		while ((current instanceof CompletionException || current instanceof ExecutionException
+				|| current instanceof UncheckedIOException) && current.getCause() != null) {
+			current = current.getCause();
+		}
+		return current;
+	}
+}
@@ -0,0 +1,118 @@
+package com.example.demo.infra.outbound.shared.invocation;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 同一次邏輯呼叫中的單次實際呼叫（對沖等機制會送出多次）。
+ *
+ * <p>
+ * 紀錄流程透過此物件：
+ * <ul>
+ * <li>取得上層紀錄 ID（{@link #getParentRecordId()}），寫入 {@code parent_record_id} 以連結多次呼叫</li>
+ * <li>回報本次紀錄 ID（{@link #setRecordId}），供後續呼叫連結</li>
+ * <li>於呼叫成功後以 {@link #tryWin()} 爭取結果，落敗或已被取消的呼叫改標記為 CANCELLED</li>
+ * </ul>
+ * </p>
+ */
+public class OutboundAttempt {
+
+	/**
+	 * 同一次邏輯呼叫的勝出者（所有 Attempt 共用）
+	 */
+	private final AtomicReference<OutboundAttempt> winner;
+
+	@Getter
+	private final Long parentRecordId;
+
+	@Getter
+	private final String label;
+
+	@Getter
+	@Setter
+	private volatile Long recordId;
+
+	private Thread thread;
+
+	private volatile boolean cancelled;
+
+	private OutboundAttempt(AtomicReference<OutboundAttempt> winner, Long parentRecordId, String label) {
+		this.winner = winner;
+		this.parentRecordId = parentRecordId;
+		this.label = label;
+	}
+
+	/**
+	 * 建立第一次呼叫
+	 *
+	 * @return Attempt
+	 */
+	public static OutboundAttempt first() {
+		return new OutboundAttempt(new AtomicReference<>(), null, "primary");
+	}
+
+	/**
+	 * 建立同一次邏輯呼叫的後續呼叫，以本次紀錄 ID 作為上層紀錄
+	 *
+	 * @param label 呼叫類型（例如 hedge）
+	 * @return Attempt
+	 */
+	public OutboundAttempt next(String label) {
+		return new OutboundAttempt(winner, parentRecordId != null ? parentRecordId : recordId, label);
+	}
+
+	/**
+	 * 爭取本次邏輯呼叫的結果
+	 *
+	 * @return true 表示本次呼叫勝出，應正常紀錄並回傳結果
+	 */
+	public boolean tryWin() {
+		return !cancelled && (winner.compareAndSet(null, this) || winner.get() == this);
+	}
+
+	/**
+	 * @return 本次呼叫是否勝出
+	 */
+	public boolean isWinner() {
+		return winner.get() == this;
+	}
+
+	/**
+	 * @return 是否已被取消（其他呼叫勝出）
+	 */
+	public boolean isCancelled() {
+		return cancelled || (winner.get() != null && winner.get() != this);
+	}
+
+	/**
+	 * 綁定正在連線的執行緒，供取消時中斷；連線結束後應綁定 null，避免中斷後續的紀錄流程
+	 *
+	 * @param thread 執行緒，連線結束時為 null
+	 */
+	public synchronized void bind(Thread thread) {
+		this.thread = thread;
+	}
+
+	/**
+	 * 其他呼叫勝出（或尚無勝出者）時取消本次呼叫
+	 */
+	public void cancelIfLost() {
+		if (winner.get() != this) {
+			cancel();
+		}
+	}
+
+	/**
+	 * 取消本次呼叫並中斷執行中的連線
+	 */
+	public void cancel() {
+		cancelled = true;
+		synchronized (this) {
+			if (thread != null) {
+				thread.interrupt();
+			}
+		}
+	}
+}
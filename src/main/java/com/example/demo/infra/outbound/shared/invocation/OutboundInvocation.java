@@ -0,0 +1,20 @@
+package com.example.demo.infra.outbound.shared.invocation;
+
+/**
+ * 一次（含紀錄流程的）外部 API 呼叫。
+ *
+ * <p>
+ * 通常由 AOP 以 {@code joinPoint.proceed()} 包裝而成，供快取、合併請求等機制延後或重複執行。
+ * </p>
+ */
+@FunctionalInterface
+public interface OutboundInvocation {
+
+	/**
+	 * 執行外部 API 呼叫
+	 *
+	 * @return 原方法回傳物件
+	 * @throws Throwable 原方法拋出的例外
+	 */
+	Object proceed() throws Throwable;
+}
@@ -0,0 +1,53 @@
+package com.example.demo.infra.outbound.shared.invocation;
+
+import java.util.Arrays;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * 外部 API 呼叫識別 Key。
+ *
+ * <p>
+ * 由「外部系統 + Java 方法名稱 + 正規化參數」組成，用於判斷兩次呼叫是否為相同請求 （例如回應快取、合併同時發生的相同請求）。
+ * </p>
+ *
+ * <p>
+ * 參數以屬性與 Map key 排序後的 JSON 表示，避免欄位順序不同造成誤判。
+ * </p>
+ *
+ * @param system 外部系統代碼
+ * @param method Java 方法名稱
+ * @param args   正規化後的參數
+ */
+public record OutboundInvocationKey(String system, String method, String args) {
+
+	private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+			.enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+			.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).build();
+
+	/**
+	 * 建立呼叫識別 Key
+	 *
+	 * @param system 外部系統代碼
+	 * @param method Java 方法名稱
+	 * @param args   方法實際參數
+	 * @return 呼叫識別 Key
+	 */
+	public static OutboundInvocationKey of(String system, String method, Object[] args) {
+		return new OutboundInvocationKey(system, method, normalize(args));
+	}
+
+	private static String normalize(Object[] args) {
+		if (args == null || args.length == 0) {
+			return "";
+		}
+		try {
+			return CANONICAL_MAPPER.writeValueAsString(args);
+		} catch (Exception e) {
+			return Arrays.deepToString(args);
+		}
+	}
+}
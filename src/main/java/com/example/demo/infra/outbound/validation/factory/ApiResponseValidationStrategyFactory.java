@@ -1,42 +1,37 @@
 package com.example.demo.infra.outbound.validation.factory;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import com.example.demo.infra.outbound.validation.route.ApiRouteTable;
 import com.example.demo.infra.outbound.validation.strategy.base.ApiResponseValidationStrategy;
 
 /**
  * API 回應驗證策略工廠。
  *
  * <p>
- * 負責依據「外部系統 + API 路徑」在執行期動態選擇 對應的 {@link ApiResponseValidationStrategy}。
+ * 負責依據「外部系統 + HTTP Method + API 路徑」在執行期選擇對應的 {@link ApiResponseValidationStrategy}。
  * </p>
  *
  * <p>
- * 策略 Key 組成規則：
- * 
- * <pre>
- * system:api
- * </pre>
- *
- * <p>
- * 範例：
+ * 每個外部系統於建構時編譯一份 {@link ApiRouteTable}，策略的 {@code api()} 可為路徑樣式：
  * <ul>
- * <li>{@code AuthService:/api/v1/login}</li>
- * <li>{@code AuthService:/api/v1/auth/permissions}</li>
+ * <li>{@code /api/v1/login}</li>
+ * <li>{@code /api/v1/users/{id}}、{@code /api/v1/users/*}</li>
+ * <li>{@code /api/v1/files/**}</li>
  * </ul>
+ * 實際請求路徑的 Query String 與 Path Variable 不影響比對；查找只需一次系統查表加上與路徑長度成正比的走訪，不建立物件。
  * </p>
  *
  * <p>
  * 設計說明：
  * <ul>
  * <li>透過 Spring 注入所有 Strategy 實作</li>
- * <li>於建構時即轉換為 Map，提高查找效率</li>
+ * <li>於建構時即編譯為路由表，重複的路由於啟動時失敗</li>
  * <li>避免於執行期進行 if-else / switch 判斷</li>
  * </ul>
  * </p>
@@ -45,31 +40,29 @@ import com.example.demo.infra.outbound.validation.strategy.base.ApiResponseValid
 public class ApiResponseValidationStrategyFactory {
 
 	/**
-	 * 驗證策略快取表。
-	 *
-	 * <p>
-	 * Key 格式：{@code system:api} Value：對應的驗證策略實作
-	 * </p>
+	 * system → 驗證策略路由表
 	 */
-	private final Map<String, ApiResponseValidationStrategy> strategyMap;
+	private final Map<String, ApiRouteTable<ApiResponseValidationStrategy>> routeTables;
 
 	/**
 	 * 建立 API 回應驗證策略工廠。
 	 *
 	 * <p>
-	 * 由 Spring 注入所有 {@link ApiResponseValidationStrategy} 實作， 並於初始化時轉換為 Map 以利快速查找。
+	 * 由 Spring 注入所有 {@link ApiResponseValidationStrategy} 實作， 並於初始化時依系統編譯為路由表。
 	 * </p>
 	 *
 	 * @param strategies 系統中所有已註冊的 API 回應驗證策略
 	 */
 	public ApiResponseValidationStrategyFactory(List<ApiResponseValidationStrategy> strategies) {
 
-		this.strategyMap = strategies.stream()
-				.collect(Collectors.toMap(s -> key(s.system(), s.api()), Function.identity()));
+		Map<String, ApiRouteTable<ApiResponseValidationStrategy>> tables = new HashMap<>();
+		strategies.forEach(strategy -> tables.computeIfAbsent(strategy.system(), s -> new ApiRouteTable<>())
+				.register(strategy.httpMethod(), strategy.api(), strategy));
+		this.routeTables = Map.copyOf(tables);
 	}
 
 	/**
-	 * 依外部系統與 API 路徑取得對應的驗證策略。
+	 * 依外部系統與 API 路徑取得對應的驗證策略（不限 HTTP Method 的策略）。
 	 *
 	 * <p>
 	 * 若系統中未定義對應策略，將回傳 {@link Optional#empty()}， 由呼叫端決定是否略過驗證或採用預設行為。
@@ -81,25 +74,20 @@ public class ApiResponseValidationStrategyFactory {
 	 */
 	public Optional<ApiResponseValidationStrategy> get(String system, String api) {
 
-		return Optional.ofNullable(strategyMap.get(this.key(system, api)));
+		return Optional.ofNullable(resolve(system, null, api));
 	}
 
 	/**
-	 * 組合驗證策略查找用的 Key。
+	 * 依外部系統、HTTP Method 與實際請求路徑取得對應的驗證策略。
 	 *
-	 * <p>
-	 * Key 格式：
-	 * 
-	 * <pre>
-	 * system:api
-	 * </pre>
-	 * </p>
-	 *
-	 * @param system 外部系統名稱
-	 * @param api    API 路徑
-	 * @return 組合後的策略 Key
+	 * @param system     外部系統名稱
+	 * @param httpMethod HTTP Method
+	 * @param api        實際請求路徑，可含 Query String
+	 * @return 對應的 API 回應驗證策略，查無時回傳 null
 	 */
-	private String key(String system, String api) {
-		return system + ":" + api;
+	public ApiResponseValidationStrategy resolve(String system, String httpMethod, String api) {
+
+		ApiRouteTable<ApiResponseValidationStrategy> table = routeTables.get(system);
+		return table == null ? null : table.match(httpMethod, api);
 	}
 }
@@ -0,0 +1,260 @@
+package com.example.demo.infra.outbound.validation.route;
+
+import java.util.Arrays;
+
+/**
+ * API 路徑路由表（以路徑片段建立的 Trie）。
+ *
+ * <p>
+ * 路徑樣式：
+ * <ul>
+ * <li>{@code /api/v1/login}：完全相同的片段</li>
+ * <li>{@code /api/v1/users/{id}}、{@code /api/v1/users/*}：任一片段</li>
+ * <li>{@code /api/v1/files/**}：其後任意片段（僅可為最後一段）</li>
+ * </ul>
+ * 同一路徑可依 HTTP Method 註冊不同值，未指定 Method 的值作為該路徑的預設。
+ * </p>
+ *
+ * <p>
+ * 比對規則：
+ * <ul>
+ * <li>忽略 Query String（{@code ?} 之後）與空片段（連續或結尾的 {@code /}）</li>
+ * <li>優先順序：完全相同 &gt; 任一片段 &gt; {@code **}，較精確的分支比對失敗時才退回較寬鬆的分支</li>
+ * <li>同一路徑：指定 Method &gt; 未指定 Method</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 建立後唯讀、可多執行緒共用；比對時直接在原字串上以索引走訪，時間與路徑長度成正比，不建立任何物件。
+ * 建立過程非執行緒安全，應於啟動時完成。
+ * </p>
+ *
+ * @param <T> 路由對應的值
+ */
+public final class ApiRouteTable<T> {
+
+	private final Node<T> root = new Node<>();
+
+	/**
+	 * 註冊路由
+	 *
+	 * @param httpMethod HTTP Method，null 表示不限
+	 * @param pattern    路徑樣式
+	 * @param value      對應的值
+	 * @throws IllegalStateException 若相同 Method 與路徑已註冊
+	 */
+	public void register(String httpMethod, String pattern, T value) {
+		Node<T> node = root;
+		String[] segments = Arrays.stream(stripQuery(pattern).split("/")).filter(s -> !s.isEmpty())
+				.toArray(String[]::new);
+		for (int i = 0; i < segments.length; i++) {
+			String segment = segments[i];
+			if ("**".equals(segment)) {
+				if (i != segments.length - 1) {
+					throw new IllegalArgumentException("'**' must be the last segment: " + pattern);
+				}
+				node = node.rest != null ? node.rest : (node.rest = new Node<>());
+			} else if ("*".equals(segment) || (segment.startsWith("{") && segment.endsWith("}"))) {
+				node = node.variable != null ? node.variable : (node.variable = new Node<>());
+			} else {
+				node = node.literals.getOrCreate(segment);
+			}
+		}
+		node.put(httpMethod, value, pattern);
+	}
+
+	/**
+	 * 依 HTTP Method 與實際路徑取得對應的值
+	 *
+	 * @param httpMethod HTTP Method
+	 * @param path       實際路徑，可含 Query String
+	 * @return 對應的值，查無時回傳 null
+	 */
+	public T match(String httpMethod, String path) {
+		if (path == null) {
+			return null;
+		}
+		int end = path.indexOf('?');
+		return match(root, httpMethod, path, 0, end < 0 ? path.length() : end);
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private static <T> T match(Node<T> node, String httpMethod, String path, int from, int end) {
+		// 跳過分隔符號與空片段
+		int start = from;
+		while (start < end && path.charAt(start) == '/') {
+			start++;
+		}
+		if (start >= end) {
+			T value = node.get(httpMethod);
+			return value != null || node.rest == null ? value : node.rest.get(httpMethod);
+		}
+		int segmentEnd = path.indexOf('/', start);
+		if (segmentEnd < 0 || segmentEnd > end) {
+			segmentEnd = end;
+		}
+
+		Node<T> literal = node.literals.find(path, start, segmentEnd);
+		if (literal != null) {
+			T value = match(literal, httpMethod, path, segmentEnd, end);
+			if (value != null) {
+				return value;
+			}
+		}
+		if (node.variable != null) {
+			T value = match(node.variable, httpMethod, path, segmentEnd, end);
+			if (value != null) {
+				return value;
+			}
+		}
+		return node.rest == null ? null : node.rest.get(httpMethod);
+	}
+
+	private static String stripQuery(String pattern) {
+		int end = pattern.indexOf('?');
+		return end < 0 ? pattern : pattern.substring(0, end);
+	}
+
+	/**
+	 * Trie 節點
+	 */
+	private static final class Node<T> {
+
+		private final LiteralChildren<T> literals = new LiteralChildren<>();
+
+		private Node<T> variable;
+
+		private Node<T> rest;
+
+		/**
+		 * 未指定 Method 的值
+		 */
+		private T anyMethod;
+
+		/**
+		 * 指定 Method 的值（methods[i] → values[i]）
+		 */
+		private String[] methods = new String[0];
+
+		private Object[] values = new Object[0];
+
+		void put(String httpMethod, T value, String pattern) {
+			if (httpMethod == null) {
+				if (anyMethod != null) {
+					throw new IllegalStateException("Duplicate route: " + pattern);
+				}
+				anyMethod = value;
+				return;
+			}
+			String method = httpMethod.toUpperCase();
+			for (String existing : methods) {
+				if (existing.equals(method)) {
+					throw new IllegalStateException("Duplicate route: " + method + " " + pattern);
+				}
+			}
+			methods = Arrays.copyOf(methods, methods.length + 1);
+			values = Arrays.copyOf(values, values.length + 1);
+			methods[methods.length - 1] = method;
+			values[values.length - 1] = value;
+		}
+
+		@SuppressWarnings("unchecked")
+		T get(String httpMethod) {
+			if (httpMethod != null) {
+				for (int i = 0; i < methods.length; i++) {
+					if (methods[i].equalsIgnoreCase(httpMethod)) {
+						return (T) values[i];
+					}
+				}
+			}
+			return anyMethod;
+		}
+	}
+
+	/**
+	 * 完全相同片段的子節點表（開放定址雜湊）。
+	 *
+	 * <p>
+	 * 雜湊值與 {@link String#hashCode()} 相同，比對時直接計算原字串區段的雜湊並以
+	 * {@link String#regionMatches} 確認，不需切出子字串。
+	 * </p>
+	 */
+	private static final class LiteralChildren<T> {
+
+		private String[] keys = new String[4];
+
+		private int[] hashes = new int[4];
+
+		private Object[] nodes = new Object[4];
+
+		private int size;
+
+		@SuppressWarnings("unchecked")
+		Node<T> getOrCreate(String segment) {
+			int hash = segment.hashCode();
+			int slot = slot(segment, 0, segment.length(), hash);
+			if (keys[slot] != null) {
+				return (Node<T>) nodes[slot];
+			}
+			if ((size + 1) * 2 > keys.length) {
+				resize();
+				slot = slot(segment, 0, segment.length(), hash);
+			}
+			Node<T> node = new Node<>();
+			keys[slot] = segment;
+			hashes[slot] = hash;
+			nodes[slot] = node;
+			size++;
+			return node;
+		}
+
+		@SuppressWarnings("unchecked")
+		Node<T> find(String path, int start, int end) {
+			if (size == 0) {
+				return null;
+			}
+			int hash = 0;
+			for (int i = start; i < end; i++) {
+				hash = 31 * hash + path.charAt(i);
+			}
+			int slot = slot(path, start, end, hash);
+			return keys[slot] == null ? null : (Node<T>) nodes[slot];
+		}
+
+		/**
+		 * 找到相同片段所在位置，或應插入的空位置
+		 */
+		private int slot(String source, int start, int end, int hash) {
+			int mask = keys.length - 1;
+			int slot = (hash ^ (hash >>> 16)) & mask;
+			int length = end - start;
+			while (keys[slot] != null) {
+				String key = keys[slot];
+				if (hashes[slot] == hash && key.length() == length && key.regionMatches(0, source, start, length)) {
+					return slot;
+				}
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		private void resize() {
+			String[] oldKeys = keys;
+			Object[] oldNodes = nodes;
+			keys = new String[oldKeys.length * 2];
+			hashes = new int[oldKeys.length * 2];
+			nodes = new Object[oldKeys.length * 2];
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != null) {
+					int slot = slot(oldKeys[i], 0, oldKeys[i].length(), oldKeys[i].hashCode());
+					keys[slot] = oldKeys[i];
+					hashes[slot] = oldKeys[i].hashCode();
+					nodes[slot] = oldNodes[i];
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,253 @@
+package com.example.demo.infra.outbound.validation.rule;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.demo.config.properties.OutboundValidationProperties.Rule;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * 編譯後的宣告式回應驗證規則。
+ *
+ * <p>
+ * 設定中的路徑於啟動時編譯為一棵路徑樹（欄位名稱 → 子節點，{@code []} → 陣列元素節點），驗證時只需隨 JSON Token
+ * 串流同步走訪：
+ * <ul>
+ * <li>必填路徑以位元遮罩紀錄是否出現，結束時一次比對</li>
+ * <li>允許值與錯誤碼於讀到該純量時立即比對，違規即停止讀取</li>
+ * <li>不在路徑樹內的子樹整段略過（或直接複製），不逐一比對</li>
+ * </ul>
+ * 回應 Body 只讀取一次，不建立中間樹狀結構。
+ * </p>
+ */
+public final class ResponseRule {
+
+	/**
+	 * 必填路徑數量上限（以 long 位元遮罩紀錄）
+	 */
+	private static final int MAX_REQUIRED_PATHS = Long.SIZE;
+
+	private static final int INITIAL_DEPTH = 16;
+
+	private final String api;
+
+	private final PathNode root = new PathNode();
+
+	private final String[] requiredPaths;
+
+	private final long requiredMask;
+
+	ResponseRule(Rule rule) {
+		this.api = rule.getApi();
+
+		List<String> required = rule.getRequiredPaths();
+		if (required.size() > MAX_REQUIRED_PATHS) {
+			throw new IllegalStateException(
+					"Too many required paths for " + api + ": " + required.size() + " > " + MAX_REQUIRED_PATHS);
+		}
+		this.requiredPaths = required.toArray(String[]::new);
+		for (int i = 0; i < requiredPaths.length; i++) {
+			PathNode node = compile(requiredPaths[i]);
+			node.requiredBits |= 1L << i;
+		}
+		this.requiredMask = requiredPaths.length == 0 ? 0 : -1L >>> (MAX_REQUIRED_PATHS - requiredPaths.length);
+
+		rule.getAllowedValues().forEach((path, values) -> {
+			PathNode node = compile(path);
+			node.allowedValues = Set.copyOf(values);
+			node.path = path;
+		});
+
+		if (rule.getErrorCodePath() != null && !rule.getErrorCodePath().isBlank()) {
+			PathNode node = compile(rule.getErrorCodePath());
+			node.successCodes = Set.copyOf(rule.getSuccessCodes());
+			node.path = rule.getErrorCodePath();
+		}
+	}
+
+	/**
+	 * @return 規則對應的 API 路徑樣式
+	 */
+	public String getApi() {
+		return api;
+	}
+
+	/**
+	 * 以串流方式驗證 JSON 回應。
+	 *
+	 * <p>
+	 * 遇到第一個違規即停止讀取並回傳原因；{@code copy} 不為 null 時，讀到的每個 Token 會同步寫入，
+	 * 供後續直接反序列化而不需再次解析。
+	 * </p>
+	 *
+	 * @param parser 位於回應開頭的 JSON Parser
+	 * @param copy   同步複製 Token 的輸出，可為 null
+	 * @return 違規原因，通過驗證時回傳 null
+	 * @throws IOException 讀取或解析失敗
+	 */
+	public String evaluate(JsonParser parser, JsonGenerator copy) throws IOException {
+
+		PathNode[] nodes = new PathNode[INITIAL_DEPTH];
+		boolean[] arrays = new boolean[INITIAL_DEPTH];
+		int depth = -1;
+		PathNode field = null;
+		long seen = 0;
+
+		JsonToken token;
+		while ((token = parser.nextToken()) != null) {
+
+			if (token == JsonToken.FIELD_NAME) {
+				PathNode container = nodes[depth];
+				field = container == null || container.fields == null ? null
+						: container.fields.get(parser.currentName());
+				write(parser, copy);
+				continue;
+			}
+			if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+				depth--;
+				write(parser, copy);
+				continue;
+			}
+
+			// 目前值對應的路徑節點
+			PathNode node = depth < 0 ? root : arrays[depth] ? elementOf(nodes[depth]) : field;
+			field = null;
+
+			if (node == null) {
+				// 不在規則路徑內：整段略過
+				if (copy != null) {
+					copy.copyCurrentStructure(parser);
+				} else {
+					parser.skipChildren();
+				}
+				continue;
+			}
+
+			if (token != JsonToken.VALUE_NULL) {
+				seen |= node.requiredBits;
+			}
+
+			if (token.isStructStart()) {
+				if (node.allowedValues != null || node.successCodes != null) {
+					return node.path + " 應為純量值";
+				}
+				write(parser, copy);
+				depth++;
+				if (depth == nodes.length) {
+					nodes = Arrays.copyOf(nodes, depth * 2);
+					arrays = Arrays.copyOf(arrays, depth * 2);
+				}
+				nodes[depth] = node;
+				arrays[depth] = token == JsonToken.START_ARRAY;
+				continue;
+			}
+
+			String violation = checkScalar(node, parser, token);
+			if (violation != null) {
+				return violation;
+			}
+			write(parser, copy);
+		}
+
+		return missingRequired(seen);
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private static String checkScalar(PathNode node, JsonParser parser, JsonToken token) throws IOException {
+		if (node.allowedValues == null && node.successCodes == null) {
+			return null;
+		}
+		String value = token == JsonToken.VALUE_NULL ? null : parser.getText();
+		if (node.allowedValues != null && (value == null || !node.allowedValues.contains(value))) {
+			return node.path + " 值不允許: " + value;
+		}
+		if (node.successCodes != null && (value == null || !node.successCodes.contains(value))) {
+			return "錯誤碼 " + node.path + "=" + value;
+		}
+		return null;
+	}
+
+	private String missingRequired(long seen) {
+		long missing = requiredMask & ~seen;
+		if (missing == 0) {
+			return null;
+		}
+		return "缺少必填欄位: " + requiredPaths[Long.numberOfTrailingZeros(missing)];
+	}
+
+	private static PathNode elementOf(PathNode node) {
+		return node == null ? null : node.element;
+	}
+
+	private static void write(JsonParser parser, JsonGenerator copy) throws IOException {
+		if (copy != null) {
+			copy.copyCurrentEvent(parser);
+		}
+	}
+
+	/**
+	 * 將路徑（例如 {@code data.items[].status}）加入路徑樹並回傳末端節點
+	 */
+	private PathNode compile(String path) {
+		PathNode node = root;
+		for (String segment : path.split("\\.")) {
+			String name = segment;
+			int arrayDepth = 0;
+			while (name.endsWith("[]")) {
+				name = name.substring(0, name.length() - 2);
+				arrayDepth++;
+			}
+			if (!name.isEmpty()) {
+				node = node.field(name);
+			}
+			for (int i = 0; i < arrayDepth; i++) {
+				node = node.element();
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * 路徑樹節點
+	 */
+	private static final class PathNode {
+
+		private Map<String, PathNode> fields;
+
+		private PathNode element;
+
+		/**
+		 * 此節點代表的必填路徑位元
+		 */
+		private long requiredBits;
+
+		private Set<String> allowedValues;
+
+		private Set<String> successCodes;
+
+		private String path;
+
+		PathNode field(String name) {
+			if (fields == null) {
+				fields = new HashMap<>();
+			}
+			return fields.computeIfAbsent(name, n -> new PathNode());
+		}
+
+		PathNode element() {
+			if (element == null) {
+				element = new PathNode();
+			}
+			return element;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.demo.infra.outbound.validation.rule;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.config.properties.OutboundValidationProperties;
+import com.example.demo.infra.outbound.validation.route.ApiRouteTable;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 宣告式回應驗證規則登錄表。
+ *
+ * <p>
+ * 啟動時將 {@code outbound.validation.systems.<system>[n].*} 編譯為 {@link ResponseRule}，
+ * 並依系統建立 {@link ApiRouteTable}（與驗證策略相同的路徑樣式與 HTTP Method 比對規則）。
+ * 規則設定錯誤（例如重複路由）於啟動時失敗。
+ * </p>
+ */
+@Slf4j
+@Component
+public class ResponseRuleRegistry {
+
+	/**
+	 * system → 規則路由表
+	 */
+	private final Map<String, ApiRouteTable<ResponseRule>> routeTables;
+
+	public ResponseRuleRegistry(OutboundValidationProperties properties) {
+
+		Map<String, ApiRouteTable<ResponseRule>> tables = new HashMap<>();
+		if (properties.isEnabled()) {
+			properties.getSystems().forEach((system, rules) -> {
+				ApiRouteTable<ResponseRule> table = new ApiRouteTable<>();
+				rules.forEach(rule -> table.register(rule.getHttpMethod(), rule.getApi(), new ResponseRule(rule)));
+				tables.put(system, table);
+				log.info("Outbound response validation rules for {}: {}", system, rules.size());
+			});
+		}
+		this.routeTables = Map.copyOf(tables);
+	}
+
+	/**
+	 * 依外部系統、HTTP Method 與實際請求路徑取得對應的驗證規則。
+	 *
+	 * @param system     外部系統名稱
+	 * @param httpMethod HTTP Method
+	 * @param api        實際請求路徑，可含 Query String
+	 * @return 對應的驗證規則，查無時回傳 null
+	 */
+	public ResponseRule resolve(String system, String httpMethod, String api) {
+
+		ApiRouteTable<ResponseRule> table = routeTables.get(system);
+		return table == null ? null : table.match(httpMethod, api);
+	}
+}
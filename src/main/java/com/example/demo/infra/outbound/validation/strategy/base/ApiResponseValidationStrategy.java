@@ -17,10 +17,23 @@ public interface ApiResponseValidationStrategy {
 	String system();
 
 	/**
-	 * 所屬 API 識別碼，對應 Feign Client 內設定的路徑
+	 * 所屬 API 路徑樣式，對應 Feign Client 內設定的路徑
+	 *
+	 * <p>
+	 * 可使用 {@code {id}} / {@code *} 比對任一片段、{@code **} 比對其後所有片段，實際請求的 Query String 不影響比對。
+	 * </p>
 	 */
 	String api();
 
+	/**
+	 * 適用的 HTTP Method
+	 *
+	 * @return HTTP Method，null 表示不限（預設）
+	 */
+	default String httpMethod() {
+		return null;
+	}
+
 	/**
 	 * 驗證回應是否為業務成功
 	 *
@@ -1,9 +1,77 @@
 package com.example.demo.infra.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.application.domain.log.aggregate.OutboundApiRecord;
+import com.example.demo.application.domain.log.aggregate.vo.OutboundApiStatus;
 
-public interface OutboundApiRecordRepository extends JpaRepository<OutboundApiRecord, Long> {
+/**
+ * Outbound API 呼叫紀錄 Repository
+ *
+ * <p>
+ * 狀態轉移以指定欄位的 UPDATE 直接更新，不先載入整筆紀錄（含 Request / Response Body）；
+ * 條件限定目前狀態為 PENDING，重複套用同一事件不會覆蓋已完成的紀錄。
+ * 多筆轉移請使用 {@link OutboundApiRecordRepositoryCustom} 的 JDBC 批次版本。
+ * </p>
+ */
+public interface OutboundApiRecordRepository
+		extends JpaRepository<OutboundApiRecord, Long>, OutboundApiRecordRepositoryCustom {
 
+	/**
+	 * PENDING → SUCCESS
+	 *
+	 * @return 更新筆數，0 表示紀錄不存在或已完成
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+			update OutboundApiRecord r
+			set r.status = com.example.demo.application.domain.log.aggregate.vo.OutboundApiStatus.SUCCESS,
+			    r.responseBody = :responseBody, r.apiPath = :apiPath, r.httpMethod = :httpMethod,
+			    r.durationMillis = :durationMillis
+			where r.id = :id
+			  and r.status = com.example.demo.application.domain.log.aggregate.vo.OutboundApiStatus.PENDING
+			""")
+	int markSuccess(@Param("id") Long id, @Param("responseBody") String responseBody,
+			@Param("apiPath") String apiPath, @Param("httpMethod") String httpMethod,
+			@Param("durationMillis") Long durationMillis);
+
+	/**
+	 * PENDING → FAILED / DEADLINE_EXCEEDED
+	 *
+	 * @return 更新筆數，0 表示紀錄不存在或已完成
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+			update OutboundApiRecord r
+			set r.status = :status, r.responseBody = :responseBody, r.errorMessage = :errorMessage,
+			    r.apiPath = :apiPath, r.httpMethod = :httpMethod, r.durationMillis = :durationMillis
+			where r.id = :id
+			  and r.status = com.example.demo.application.domain.log.aggregate.vo.OutboundApiStatus.PENDING
+			""")
+	int markFailed(@Param("id") Long id, @Param("status") OutboundApiStatus status,
+			@Param("responseBody") String responseBody, @Param("errorMessage") String errorMessage,
+			@Param("apiPath") String apiPath, @Param("httpMethod") String httpMethod,
+			@Param("durationMillis") Long durationMillis);
+
+	/**
+	 * PENDING → CANCELLED
+	 *
+	 * @return 更新筆數，0 表示紀錄不存在或已完成
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+			update OutboundApiRecord r
+			set r.status = com.example.demo.application.domain.log.aggregate.vo.OutboundApiStatus.CANCELLED,
+			    r.errorMessage = :reason
+			where r.id = :id
+			  and r.status = com.example.demo.application.domain.log.aggregate.vo.OutboundApiStatus.PENDING
+			""")
+	int markCancelled(@Param("id") Long id, @Param("reason") String reason);
 }
@@ -0,0 +1,33 @@
+package com.example.demo.infra.persistence;
+
+import java.util.List;
+
+import com.example.demo.application.domain.log.command.RecordFailedOutboundApiCommand;
+import com.example.demo.application.domain.log.command.RecordSuccessOutboundApiCommand;
+
+/**
+ * Outbound API 呼叫紀錄批次狀態轉移（JDBC Batch）
+ *
+ * <p>
+ * 與 {@link OutboundApiRecordRepository#markSuccess} / {@link OutboundApiRecordRepository#markFailed} 相同的條件式
+ * UPDATE，多筆合併為一次 JDBC 批次送出。
+ * </p>
+ */
+public interface OutboundApiRecordRepositoryCustom {
+
+	/**
+	 * 批次 PENDING → SUCCESS
+	 *
+	 * @param commands 成功結果
+	 * @return 實際更新筆數
+	 */
+	int markSuccessInBatch(List<RecordSuccessOutboundApiCommand> commands);
+
+	/**
+	 * 批次 PENDING → FAILED / DEADLINE_EXCEEDED
+	 *
+	 * @param commands 失敗結果
+	 * @return 實際更新筆數
+	 */
+	int markFailedInBatch(List<RecordFailedOutboundApiCommand> commands);
+}
@@ -0,0 +1,78 @@
+package com.example.demo.infra.persistence;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.application.domain.log.aggregate.OutboundApiRecord;
+import com.example.demo.application.domain.log.aggregate.vo.OutboundApiStatus;
+import com.example.demo.application.domain.log.command.RecordFailedOutboundApiCommand;
+import com.example.demo.application.domain.log.command.RecordSuccessOutboundApiCommand;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class OutboundApiRecordRepositoryImpl implements OutboundApiRecordRepositoryCustom {
+
+	private static final String MARK_SUCCESS = """
+			update outbound_api_record
+			set status = :status, response_body = :responseBody, url = :apiPath, http_method = :httpMethod,
+			    duration_millis = :durationMillis
+			where id = :id and status = :expected
+			""";
+
+	private static final String MARK_FAILED = """
+			update outbound_api_record
+			set status = :status, response_body = :responseBody, error_message = :errorMessage, url = :apiPath,
+			    http_method = :httpMethod, duration_millis = :durationMillis
+			where id = :id and status = :expected
+			""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Override
+	@Transactional
+	public int markSuccessInBatch(List<RecordSuccessOutboundApiCommand> commands) {
+		if (commands.isEmpty()) {
+			return 0;
+		}
+		SqlParameterSource[] batch = commands.stream()
+				.map(command -> new MapSqlParameterSource().addValue("id", command.getSavedId())
+						.addValue("status", OutboundApiStatus.SUCCESS.name())
+						.addValue("responseBody", command.getResponseBody()).addValue("apiPath", command.getApiPath())
+						.addValue("httpMethod", command.getHttpMethod())
+						.addValue("durationMillis", command.getDurationMillis())
+						.addValue("expected", OutboundApiStatus.PENDING.name()))
+				.toArray(SqlParameterSource[]::new);
+		return updated(jdbcTemplate.batchUpdate(MARK_SUCCESS, batch));
+	}
+
+	@Override
+	@Transactional
+	public int markFailedInBatch(List<RecordFailedOutboundApiCommand> commands) {
+		if (commands.isEmpty()) {
+			return 0;
+		}
+		SqlParameterSource[] batch = commands.stream()
+				.map(command -> new MapSqlParameterSource().addValue("id", command.getSavedId())
+						.addValue("status", OutboundApiRecord.failedStatusOf(command).name())
+						.addValue("responseBody", command.getResponseBody())
+						.addValue("errorMessage", command.getErrorMessage()).addValue("apiPath", command.getApiPath())
+						.addValue("httpMethod", command.getHttpMethod())
+						.addValue("durationMillis", command.getDurationMillis())
+						.addValue("expected", OutboundApiStatus.PENDING.name()))
+				.toArray(SqlParameterSource[]::new);
+		return updated(jdbcTemplate.batchUpdate(MARK_FAILED, batch));
+	}
+
+	/**
+	 * 驅動程式無法回報單筆筆數時（{@code SUCCESS_NO_INFO}）以 1 計
+	 */
+	private static int updated(int[] counts) {
+		return Arrays.stream(counts).map(count -> count < 0 ? 1 : count).sum();
+	}
+}
@@ -0,0 +1,63 @@
+package com.example.demo.infra.persistence;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.demo.infra.outbound.recording.outbox.OutboundEventOutboxEntry;
+
+public interface OutboundEventOutboxRepository extends JpaRepository<OutboundEventOutboxEntry, Long> {
+
+	/**
+	 * 可認領的項目（已到可處理時間，且未認領或認領逾時）
+	 *
+	 * <p>
+	 * 僅同一筆紀錄最早的項目可認領（較早項目不論是否被認領、等待重試，皆須先處理完成並刪除），以維持紀錄內順序。
+	 * 此條件只會因較早項目刪除而由不成立轉為成立，{@link #claim} 以相同條件更新，多個 Dispatcher 並行認領時
+	 * 同一筆紀錄最多只有一個項目被認領。
+	 * </p>
+	 */
+	@Query("""
+			select e.id from OutboundEventOutboxEntry e
+			where e.availableAt <= :now and (e.claimedBy is null or e.claimedAt < :staleBefore)
+			  and not exists (select 1 from OutboundEventOutboxEntry p
+			                  where p.recordId = e.recordId and p.id < e.id)
+			order by e.id
+			""")
+	List<Long> findClaimableIds(@Param("now") Instant now, @Param("staleBefore") Instant staleBefore,
+			Pageable pageable);
+
+	/**
+	 * 認領項目；於更新時重新檢查認領狀態與紀錄內順序，查詢後狀態已改變的項目不會被認領
+	 *
+	 * @return 實際認領的筆數
+	 */
+	@Modifying
+	@Query("""
+			update OutboundEventOutboxEntry e set e.claimedBy = :owner, e.claimedAt = :now
+			where e.id in :ids and (e.claimedBy is null or e.claimedAt < :staleBefore)
+			  and not exists (select 1 from OutboundEventOutboxEntry p
+			                  where p.recordId = e.recordId and p.id < e.id)
+			""")
+	int claim(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("now") Instant now,
+			@Param("staleBefore") Instant staleBefore);
+
+	List<OutboundEventOutboxEntry> findByClaimedByAndIdInOrderByIdAsc(String claimedBy, Collection<Long> ids);
+
+	/**
+	 * 釋放認領並累計失敗次數，於 retryAt 後重新處理
+	 */
+	@Modifying
+	@Query("""
+			update OutboundEventOutboxEntry e
+			set e.claimedBy = null, e.claimedAt = null, e.attempts = e.attempts + 1, e.availableAt = :retryAt
+			where e.id in :ids and e.claimedBy = :owner
+			""")
+	int release(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("retryAt") Instant retryAt);
+}
@@ -0,0 +1,25 @@
+package com.example.demo.shared.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 外部 API 呼叫應用常數
+ */
+@AllArgsConstructor
+public enum OutboundConstants {
+
+	/**
+	 * HTTP 請求 Header 中用於攜帶單次呼叫識別碼的名稱。
+	 */
+	INVOCATION_ID_HEADER("X-Outbound-Invocation-Id"),
+
+	/**
+	 * HTTP 請求 Header 中用於攜帶剩餘時間預算（毫秒）的名稱，Inbound 請求讀取、外部 API 呼叫轉送。
+	 */
+	DEADLINE_HEADER("X-Request-Timeout-Ms");
+
+	@Getter
+	private String value;
+
+}
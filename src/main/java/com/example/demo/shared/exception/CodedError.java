@@ -0,0 +1,22 @@
+package com.example.demo.shared.exception;
+
+/**
+ * 帶有錯誤碼的例外。
+ *
+ * <p>
+ * 各層的自定義例外（外部 API 呼叫失敗、檢核失敗）皆實作此介面，上層只需依錯誤碼與訊息組成回應，
+ * 不必依賴基礎設施層的例外類別。
+ * </p>
+ */
+public interface CodedError {
+
+	/**
+	 * @return 錯誤碼
+	 */
+	String getCode();
+
+	/**
+	 * @return 錯誤訊息
+	 */
+	String getMessage();
+}
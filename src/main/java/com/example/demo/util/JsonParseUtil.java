@@ -1,5 +1,7 @@
 package com.example.demo.util;
 
+import java.lang.reflect.Type;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -60,4 +62,24 @@ public class JsonParseUtil {
 		}
 	}
 
-}
\ No newline at end of file
+	/**
+	 * 反序列化 JSON 回 泛型物件（例如 {@code List<Dto>}）
+	 * 
+	 * @param target 目標 序列化 JSON 字串
+	 * @param type   欲轉換物件類型（可為 {@link java.lang.reflect.ParameterizedType}）
+	 * @return 反序列化物件，失敗時回傳 null
+	 */
+	public static <T> T unserialize(String target, Type type) {
+		try {
+			mapper.setVisibility(PropertyAccessor.FIELD, Visibility.ANY);
+			return mapper.readValue(target, mapper.getTypeFactory().constructType(type));
+		} catch (JsonMappingException e) {
+			log.error("Occurred JsonMapping Exception", e);
+			return null;
+		} catch (JsonProcessingException e) {
+			log.error("Occurred JsonProcessing Exception", e);
+			return null;
+		}
+	}
+
+}
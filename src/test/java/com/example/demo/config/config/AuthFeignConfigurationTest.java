@@ -0,0 +1,72 @@
+package com.example.demo.config.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.demo.infra.context.ContextHolder;
+import com.example.demo.infra.context.Deadline;
+import com.example.demo.infra.outbound.credential.factory.OutboundCredentialProviderFactory;
+import com.example.demo.shared.constant.OutboundConstants;
+
+import feign.Request.HttpMethod;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+class AuthFeignConfigurationTest {
+
+	private static final String DEADLINE = OutboundConstants.DEADLINE_HEADER.getValue();
+
+	private final RequestInterceptor interceptor = interceptor();
+
+	@AfterEach
+	void tearDown() {
+		ContextHolder.setDeadline(null);
+	}
+
+	@Test
+	void forwardsRemainingBudget() {
+		ContextHolder.setDeadline(Deadline.after(3_000));
+
+		RequestTemplate template = template();
+		interceptor.apply(template);
+
+		assertThat(template.headers().get(DEADLINE)).singleElement()
+				.satisfies(value -> assertThat(Long.parseLong(value)).isBetween(2_500L, 3_000L));
+	}
+
+	@Test
+	void forwardsZeroOnceExpired() {
+		ContextHolder.setDeadline(Deadline.after(-100));
+
+		RequestTemplate template = template();
+		interceptor.apply(template);
+
+		assertThat(template.headers().get(DEADLINE)).containsExactly("0");
+	}
+
+	@Test
+	void noHeaderWithoutDeadline() {
+		RequestTemplate template = template();
+		interceptor.apply(template);
+
+		assertThat(template.headers()).doesNotContainKey(DEADLINE);
+	}
+
+	private static RequestInterceptor interceptor() {
+		AuthFeignConfiguration configuration = new AuthFeignConfiguration();
+		ReflectionTestUtils.setField(configuration, "endpoint", "http://auth-service");
+		return configuration.requestTokenInterceptor(new OutboundCredentialProviderFactory(List.of()));
+	}
+
+	private static RequestTemplate template() {
+		RequestTemplate template = new RequestTemplate();
+		template.method(HttpMethod.GET);
+		template.uri("/api/v1/permission");
+		return template;
+	}
+}
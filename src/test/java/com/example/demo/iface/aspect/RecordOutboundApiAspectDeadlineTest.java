@@ -0,0 +1,62 @@
+package com.example.demo.iface.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.example.demo.application.domain.log.aggregate.vo.OutboundApiStatus;
+import com.example.demo.application.port.AuthSerivceClientPort;
+import com.example.demo.application.shared.outbound.auth.command.GetJwTokenCommand;
+import com.example.demo.infra.context.ContextHolder;
+import com.example.demo.infra.context.Deadline;
+import com.example.demo.infra.outbound.feign.client.AuthFeignClient;
+import com.example.demo.infra.outbound.recording.OutboundApiRecordBatcher;
+import com.example.demo.infra.outbound.shared.exception.CustomFeignException;
+import com.example.demo.infra.persistence.OutboundApiRecordRepository;
+
+@SpringBootTest
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:aspect-deadline;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class RecordOutboundApiAspectDeadlineTest {
+
+	@MockitoBean
+	private AuthFeignClient authFeignClient;
+
+	@Autowired
+	private AuthSerivceClientPort authSerivceClient;
+
+	@Autowired
+	private OutboundApiRecordBatcher recordBatcher;
+
+	@Autowired
+	private OutboundApiRecordRepository recordRepository;
+
+	@AfterEach
+	void tearDown() {
+		ContextHolder.setDeadline(null);
+	}
+
+	@Test
+	void expiredDeadlineSkipsCallAndRecordsDeadlineExceeded() {
+		ContextHolder.setDeadline(Deadline.after(-1));
+
+		assertThatThrownBy(() -> authSerivceClient.getJwToken(new GetJwTokenCommand("user", "password")))
+				.isInstanceOfSatisfying(CustomFeignException.class,
+						e -> assertThat(e.getCode()).isEqualTo("DEADLINE_EXCEEDED"));
+
+		verify(authFeignClient, never()).getJwToken(any());
+		recordBatcher.flush();
+		assertThat(recordRepository.findAll()).singleElement().satisfies(saved -> {
+			assertThat(saved.getStatus()).isEqualTo(OutboundApiStatus.DEADLINE_EXCEEDED);
+			assertThat(saved.getSystem()).isEqualTo("AuthService");
+		});
+	}
+}
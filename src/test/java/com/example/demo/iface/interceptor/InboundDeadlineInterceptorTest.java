@@ -0,0 +1,86 @@
+package com.example.demo.iface.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.demo.infra.context.ContextHolder;
+import com.example.demo.infra.context.Deadline;
+import com.example.demo.shared.constant.OutboundConstants;
+
+class InboundDeadlineInterceptorTest {
+
+	private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+	@AfterEach
+	void tearDown() {
+		ContextHolder.setDeadline(null);
+	}
+
+	@Test
+	void headerSetsDeadline() {
+		InboundDeadlineInterceptor interceptor = new InboundDeadlineInterceptor(0, 60_000);
+
+		interceptor.preHandle(request("3000"), response, null);
+
+		assertThat(ContextHolder.getDeadline().remainingMillis()).isBetween(2_500L, 3_000L);
+	}
+
+	@Test
+	void headerIsCappedAtMaxMillis() {
+		InboundDeadlineInterceptor interceptor = new InboundDeadlineInterceptor(0, 5_000);
+
+		interceptor.preHandle(request("600000"), response, null);
+
+		assertThat(ContextHolder.getDeadline().remainingMillis()).isBetween(4_500L, 5_000L);
+	}
+
+	@Test
+	void missingOrInvalidHeaderFallsBackToDefault() {
+		InboundDeadlineInterceptor noDefault = new InboundDeadlineInterceptor(0, 60_000);
+		InboundDeadlineInterceptor withDefault = new InboundDeadlineInterceptor(2_000, 60_000);
+
+		noDefault.preHandle(request(null), response, null);
+		assertThat(ContextHolder.getDeadline()).isNull();
+
+		withDefault.preHandle(request("abc"), response, null);
+		assertThat(ContextHolder.getDeadline().remainingMillis()).isBetween(1_500L, 2_000L);
+
+		withDefault.preHandle(request("-5"), response, null);
+		assertThat(ContextHolder.getDeadline().remainingMillis()).isBetween(1_500L, 2_000L);
+	}
+
+	@Test
+	void deadlineIsClearedWhenRequestEnds() {
+		InboundDeadlineInterceptor interceptor = new InboundDeadlineInterceptor(0, 60_000);
+
+		interceptor.preHandle(request("3000"), response, null);
+		interceptor.afterCompletion(request("3000"), response, null, null);
+		assertThat(ContextHolder.getDeadline()).isNull();
+
+		interceptor.preHandle(request("3000"), response, null);
+		interceptor.afterConcurrentHandlingStarted(request("3000"), response, null);
+		assertThat(ContextHolder.getDeadline()).isNull();
+	}
+
+	@Test
+	void deadlineExpiresAfterBudget() throws InterruptedException {
+		Deadline deadline = Deadline.after(20);
+
+		assertThat(deadline.isExpired()).isFalse();
+		Thread.sleep(40);
+		assertThat(deadline.isExpired()).isTrue();
+		assertThat(deadline.remainingMillis()).isNegative();
+	}
+
+	private static MockHttpServletRequest request(String timeoutHeader) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		if (timeoutHeader != null) {
+			request.addHeader(OutboundConstants.DEADLINE_HEADER.getValue(), timeoutHeader);
+		}
+		return request;
+	}
+}
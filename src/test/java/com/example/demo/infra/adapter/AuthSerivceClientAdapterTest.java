@@ -0,0 +1,58 @@
+package com.example.demo.infra.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.application.shared.outbound.auth.dto.PermissionGettenData;
+import com.example.demo.infra.outbound.feign.client.AuthFeignClient;
+
+class AuthSerivceClientAdapterTest {
+
+	@Test
+	void asyncLookupRunsOnDedicatedPool() throws Exception {
+		AuthFeignClient client = mock(AuthFeignClient.class);
+		AtomicReference<String> thread = new AtomicReference<>();
+		when(client.getPermissionList("user")).thenAnswer(invocation -> {
+			thread.set(Thread.currentThread().getName());
+			return new PermissionGettenData();
+		});
+		AuthSerivceClientAdapter adapter = new AuthSerivceClientAdapter(client, 2, 10);
+
+		assertThat(adapter.getPermissionListAsync("user").get(5, TimeUnit.SECONDS)).isNotNull();
+		assertThat(thread.get()).startsWith("auth-service-async-");
+		adapter.close();
+	}
+
+	@Test
+	void saturatedPoolFailsFast() throws Exception {
+		AuthFeignClient client = mock(AuthFeignClient.class);
+		CountDownLatch release = new CountDownLatch(1);
+		when(client.getPermissionList("user")).thenAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return new PermissionGettenData();
+		});
+		AuthSerivceClientAdapter adapter = new AuthSerivceClientAdapter(client, 1, 1);
+
+		CompletableFuture<PermissionGettenData> running = adapter.getPermissionListAsync("user");
+		CompletableFuture<PermissionGettenData> queued = adapter.getPermissionListAsync("user");
+		CompletableFuture<PermissionGettenData> rejected = adapter.getPermissionListAsync("user");
+
+		assertThatThrownBy(rejected::get).isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(RejectedExecutionException.class);
+		release.countDown();
+		assertThat(running.get(5, TimeUnit.SECONDS)).isNotNull();
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+		adapter.close();
+	}
+}
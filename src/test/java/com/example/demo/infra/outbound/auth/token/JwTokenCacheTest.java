@@ -0,0 +1,121 @@
+package com.example.demo.infra.outbound.auth.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.application.shared.outbound.auth.command.GetJwTokenCommand;
+import com.example.demo.application.shared.outbound.auth.dto.JwTokenGettenData;
+import com.example.demo.infra.outbound.shared.exception.CustomFeignException;
+
+class JwTokenCacheTest {
+
+	private static final GetJwTokenCommand COMMAND = new GetJwTokenCommand("user", "password");
+
+	@Test
+	void cachedTokenIsReturnedWithoutLogin() {
+		JwTokenCache cache = cache(0);
+		AtomicInteger logins = new AtomicInteger();
+		Supplier<JwTokenGettenData> loader = () -> token("t" + logins.incrementAndGet(), 3600);
+
+		String first = cache.get(COMMAND, loader).getToken();
+
+		assertThat(cache.get(COMMAND, loader).getToken()).isEqualTo(first);
+		assertThat(logins).hasValue(1);
+	}
+
+	@Test
+	void invalidateTokenForcesSynchronousLogin() {
+		JwTokenCache cache = cache(0);
+		AtomicInteger logins = new AtomicInteger();
+		Supplier<JwTokenGettenData> loader = () -> token("t" + logins.incrementAndGet(), 3600);
+
+		String first = cache.get(COMMAND, loader).getToken();
+
+		assertThat(cache.invalidateToken("unknown")).isFalse();
+		assertThat(cache.invalidateToken(first)).isTrue();
+		assertThat(cache.get(COMMAND, loader).getToken()).isNotEqualTo(first);
+		assertThat(logins).hasValue(2);
+	}
+
+	@Test
+	void invalidateTokenIgnoresTokenAlreadyReplaced() {
+		// refresh-ahead 大於剩餘時間：第二次命中即於背景（同步執行）換發新 Token
+		JwTokenCache cache = cache(7200);
+		AtomicInteger logins = new AtomicInteger();
+		AtomicReference<String> issued = new AtomicReference<>();
+		Supplier<JwTokenGettenData> loader = () -> {
+			JwTokenGettenData data = token("t" + logins.incrementAndGet(), 3600);
+			issued.set(data.getToken());
+			return data;
+		};
+
+		String replaced = cache.get(COMMAND, loader).getToken();
+		cache.get(COMMAND, loader);
+		String current = issued.get();
+
+		assertThat(current).isNotEqualTo(replaced);
+		assertThat(cache.invalidateToken(replaced)).isFalse();
+		assertThat(cache.invalidateToken(current)).isTrue();
+		assertThat(cache.invalidateToken(current)).isFalse();
+	}
+
+	@Test
+	void rejectedBackgroundRefreshEvictsToken() {
+		// refresh-ahead 大於剩餘時間：每次命中都觸發背景更新（同步執行）
+		JwTokenCache cache = cache(7200);
+		AtomicInteger logins = new AtomicInteger();
+
+		cache.get(COMMAND, () -> token("t" + logins.incrementAndGet(), 3600));
+		cache.get(COMMAND, () -> {
+			throw new CustomFeignException("HTTP_401", "revoked");
+		});
+
+		JwTokenGettenData reloaded = cache.get(COMMAND, () -> token("t" + logins.incrementAndGet(), 3600));
+		assertThat(reloaded.getToken()).startsWith("t2");
+		assertThat(logins).hasValue(2);
+	}
+
+	@Test
+	void transientBackgroundRefreshFailureKeepsToken() {
+		JwTokenCache cache = cache(7200);
+		AtomicInteger logins = new AtomicInteger();
+
+		cache.get(COMMAND, () -> token("t" + logins.incrementAndGet(), 3600));
+		cache.get(COMMAND, () -> {
+			throw new CustomFeignException("HTTP_503", "unavailable");
+		});
+
+		JwTokenGettenData cached = cache.get(COMMAND, () -> {
+			throw new CustomFeignException("HTTP_503", "unavailable");
+		});
+		assertThat(cached.getToken()).startsWith("t1");
+	}
+
+	private static JwTokenCache cache(long refreshAheadSeconds) {
+		return new JwTokenCache(Runnable::run, true, 100, refreshAheadSeconds, 0, 30);
+	}
+
+	private static JwTokenGettenData token(String prefix, long ttlSeconds) {
+		JwTokenGettenData data = new JwTokenGettenData();
+		data.setToken(prefix + suffix(ttlSeconds));
+		return data;
+	}
+
+	/**
+	 * 組出可解析 exp 的 JWT（僅 Payload 有意義）
+	 */
+	private static String suffix(long ttlSeconds) {
+		long exp = Instant.now().plusSeconds(ttlSeconds).getEpochSecond();
+		String payload = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(("{\"exp\":" + exp + "}").getBytes(StandardCharsets.UTF_8));
+		return "." + payload + ".sig";
+	}
+}
@@ -0,0 +1,138 @@
+package com.example.demo.infra.outbound.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import com.example.demo.application.shared.outbound.auth.dto.PermissionGettenData;
+import com.example.demo.infra.annotation.OutboundCacheable;
+import com.example.demo.infra.outbound.shared.invocation.OutboundInvocationKey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboundResponseCacheTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@Test
+	void hitReturnsCachedResponseWithoutCallingAgain() throws Throwable {
+		OutboundResponseCache cache = cache(10_000);
+		Method method = method("permissions");
+
+		Object first = get(cache, method, "alice", "READ");
+		Object second = get(cache, method, "alice", "WRITE");
+
+		assertThat(calls).hasValue(1);
+		assertThat(second).isEqualTo(first);
+		assertThat(count(method, "miss")).isEqualTo(1);
+		assertThat(count(method, "hit")).isEqualTo(1);
+	}
+
+	@Test
+	void differentKeyMisses() throws Throwable {
+		OutboundResponseCache cache = cache(10_000);
+		Method method = method("permissions");
+
+		get(cache, method, "alice", "READ");
+		Object other = get(cache, method, "bob", "WRITE");
+
+		assertThat(calls).hasValue(2);
+		assertThat(((PermissionGettenData) other).getPermissionList()).containsExactly("WRITE");
+		assertThat(count(method, "miss")).isEqualTo(2);
+	}
+
+	@Test
+	void callerCannotMutateAnotherCallersResult() throws Throwable {
+		OutboundResponseCache cache = cache(10_000);
+		Method method = method("permissions");
+
+		PermissionGettenData first = (PermissionGettenData) get(cache, method, "alice", "READ");
+		first.getPermissionList().add("ADMIN");
+		PermissionGettenData second = (PermissionGettenData) get(cache, method, "alice", "READ");
+		second.getPermissionList().clear();
+		PermissionGettenData third = (PermissionGettenData) get(cache, method, "alice", "READ");
+
+		assertThat(third).isNotSameAs(second);
+		assertThat(third.getPermissionList()).containsExactly("READ");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void genericReturnTypeIsRestored() throws Throwable {
+		OutboundResponseCache cache = cache(10_000);
+		Method method = method("permissionPages");
+		OutboundInvocationKey key = OutboundInvocationKey.of("Test", method.getName(), new Object[] { "alice" });
+		OutboundCacheable cacheable = method.getAnnotation(OutboundCacheable.class);
+
+		cache.get(key, method, cacheable, () -> List.of(data("READ")));
+		List<PermissionGettenData> cached = (List<PermissionGettenData>) cache.get(key, method, cacheable,
+				() -> List.of());
+
+		assertThat(cached).singleElement().isInstanceOf(PermissionGettenData.class)
+				.extracting(PermissionGettenData::getPermissionList).isEqualTo(List.of("READ"));
+	}
+
+	@Test
+	void responseHeavierThanWeightLimitIsNotRetained() throws Throwable {
+		OutboundResponseCache cache = cache(32);
+		Method method = method("permissions");
+		String large = "P".repeat(64);
+
+		get(cache, method, "alice", large);
+
+		// Caffeine 的淘汰於維護作業中非同步執行
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+			get(cache, method, "alice", large);
+			assertThat(calls).hasValueGreaterThan(1);
+		});
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private OutboundResponseCache cache(long maxWeightBytes) {
+		return new OutboundResponseCache(new SyncTaskExecutor(), meterRegistry, maxWeightBytes);
+	}
+
+	private Object get(OutboundResponseCache cache, Method method, String username, String permission)
+			throws Throwable {
+		OutboundInvocationKey key = OutboundInvocationKey.of("Test", method.getName(), new Object[] { username });
+		return cache.get(key, method, method.getAnnotation(OutboundCacheable.class), () -> {
+			calls.incrementAndGet();
+			return data(permission);
+		});
+	}
+
+	private double count(Method method, String result) {
+		return meterRegistry.counter("outbound.cache.requests", "system", "Test", "method", method.getName(),
+				"result", result).count();
+	}
+
+	private static PermissionGettenData data(String permission) {
+		return new PermissionGettenData(new ArrayList<>(List.of(permission)));
+	}
+
+	private static Method method(String name) throws NoSuchMethodException {
+		return Client.class.getDeclaredMethod(name, String.class);
+	}
+
+	interface Client {
+
+		@OutboundCacheable(ttlSeconds = 60)
+		PermissionGettenData permissions(String username);
+
+		@OutboundCacheable(ttlSeconds = 60)
+		List<PermissionGettenData> permissionPages(String username);
+	}
+}
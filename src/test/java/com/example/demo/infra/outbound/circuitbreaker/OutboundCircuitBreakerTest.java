@@ -0,0 +1,150 @@
+package com.example.demo.infra.outbound.circuitbreaker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.config.properties.OutboundCircuitBreakerProperties.Settings;
+import com.example.demo.infra.outbound.circuitbreaker.OutboundCircuitBreaker.Permit;
+import com.example.demo.infra.outbound.circuitbreaker.OutboundCircuitBreaker.State;
+
+class OutboundCircuitBreakerTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(2_000);
+
+	@Test
+	void staysClosedBelowMinimumNumberOfCalls() {
+		OutboundCircuitBreaker breaker = breaker(60_000);
+
+		for (int i = 0; i < 3; i++) {
+			record(breaker, FAST, true);
+		}
+
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+		assertThat(breaker.tryAcquirePermission()).isNotNull();
+	}
+
+	@Test
+	void opensWhenFailureRateReachesThreshold() {
+		OutboundCircuitBreaker breaker = breaker(60_000);
+
+		record(breaker, FAST, false);
+		record(breaker, FAST, false);
+		record(breaker, FAST, true);
+		record(breaker, FAST, true);
+
+		assertThat(breaker.getState()).isEqualTo(State.OPEN);
+		assertThat(breaker.tryAcquirePermission()).isNull();
+	}
+
+	@Test
+	void opensWhenSlowCallRateReachesThreshold() {
+		OutboundCircuitBreaker breaker = breaker(60_000);
+
+		for (int i = 0; i < 4; i++) {
+			record(breaker, SLOW, false);
+		}
+
+		assertThat(breaker.getState()).isEqualTo(State.OPEN);
+	}
+
+	@Test
+	void slidingWindowForgetsOldestResults() {
+		OutboundCircuitBreaker breaker = breaker(60_000);
+
+		record(breaker, FAST, true);
+		for (int i = 0; i < 6; i++) {
+			record(breaker, FAST, false);
+		}
+		// 視窗內僅剩 1 失敗 / 4 次
+		record(breaker, FAST, true);
+
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	void halfOpenLimitsProbesAndClosesAfterSuccesses() {
+		OutboundCircuitBreaker breaker = openBreaker(0);
+
+		Permit first = breaker.tryAcquirePermission();
+		assertThat(first).isNotNull();
+		assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+		Permit second = breaker.tryAcquirePermission();
+		assertThat(second).isNotNull();
+		assertThat(breaker.tryAcquirePermission()).isNull();
+
+		breaker.onResult(first, FAST, false);
+		assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+		breaker.onResult(second, FAST, false);
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+		assertThat(breaker.tryAcquirePermission()).isNotNull();
+	}
+
+	@Test
+	void failedProbeReopens() {
+		OutboundCircuitBreaker breaker = openBreaker(0);
+
+		Permit probe = breaker.tryAcquirePermission();
+		breaker.onResult(probe, FAST, true);
+
+		assertThat(breaker.getState()).isEqualTo(State.OPEN);
+	}
+
+	@Test
+	void lateResultFromClosedStateDoesNotAffectHalfOpen() {
+		OutboundCircuitBreaker breaker = breaker(0);
+		// CLOSED 期間送出、尚未完成的呼叫
+		Permit closedEra = breaker.tryAcquirePermission();
+
+		for (int i = 0; i < 4; i++) {
+			record(breaker, FAST, true);
+		}
+		Permit probe = breaker.tryAcquirePermission();
+		assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+		// 舊呼叫於 HALF_OPEN 期間才以慢呼叫 / 失敗完成：不可使斷路器再開路
+		breaker.onResult(closedEra, SLOW, true);
+		assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+		breaker.onResult(probe, FAST, false);
+		breaker.onResult(breaker.tryAcquirePermission(), FAST, false);
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	void lateProbeResultDoesNotCountTowardsNextHalfOpen() {
+		OutboundCircuitBreaker breaker = openBreaker(0);
+		Permit stale = breaker.tryAcquirePermission();
+		breaker.onResult(breaker.tryAcquirePermission(), FAST, true);
+		assertThat(breaker.getState()).isEqualTo(State.OPEN);
+
+		Permit probe = breaker.tryAcquirePermission();
+		assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+		breaker.onResult(stale, FAST, false);
+		breaker.onResult(probe, FAST, false);
+
+		// 新的 HALF_OPEN 只計入自己的 1 次成功，尚未達關路門檻
+		assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+	}
+
+	private static OutboundCircuitBreaker openBreaker(long waitInOpenMillis) {
+		OutboundCircuitBreaker breaker = breaker(waitInOpenMillis);
+		for (int i = 0; i < 4; i++) {
+			record(breaker, FAST, true);
+		}
+		assertThat(breaker.getState()).isEqualTo(State.OPEN);
+		return breaker;
+	}
+
+	private static void record(OutboundCircuitBreaker breaker, long durationNanos, boolean failure) {
+		breaker.onResult(breaker.tryAcquirePermission(), durationNanos, failure);
+	}
+
+	private static OutboundCircuitBreaker breaker(long waitInOpenMillis) {
+		return new OutboundCircuitBreaker("Test:call", new Settings(50, 100, 1_000L, 4, 4, waitInOpenMillis, 2));
+	}
+}
@@ -0,0 +1,137 @@
+package com.example.demo.infra.outbound.credential.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+class RefreshableCredentialProviderTest {
+
+	private ThreadPoolTaskScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setThreadNamePrefix("test-scheduler-");
+		scheduler.initialize();
+	}
+
+	@AfterEach
+	void tearDown() {
+		scheduler.shutdown();
+	}
+
+	@Test
+	void fetchRunsOnDedicatedVirtualThread() throws Exception {
+		TestProvider provider = new TestProvider(null);
+		provider.init();
+
+		OutboundCredential credential = provider.refresh().get(5, TimeUnit.SECONDS);
+
+		assertThat(credential.headerValue()).isEqualTo("Bearer fetched");
+		assertThat(provider.fetchThread.get().isVirtual()).isTrue();
+		provider.close();
+	}
+
+	@Test
+	void missingInitialCredentialIsFetchedOnlyAfterStartup() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		TestProvider provider = new TestProvider(release, null);
+
+		provider.init();
+		assertThat(provider.fetches).hasValue(0);
+		assertThat(provider.authorizationHeader()).isNull();
+
+		provider.onApplicationReady();
+		var refreshing = provider.refresh();
+		release.countDown();
+
+		assertThat(refreshing.get(5, TimeUnit.SECONDS).headerValue()).isEqualTo("Bearer fetched");
+		assertThat(provider.authorizationHeader()).isEqualTo("Bearer fetched");
+		assertThat(provider.fetches).hasValue(1);
+		provider.close();
+	}
+
+	@Test
+	void slowFetchDoesNotBlockScheduler() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		TestProvider provider = new TestProvider(release);
+		provider.refresh();
+
+		CountDownLatch scheduled = new CountDownLatch(1);
+		scheduler.schedule(scheduled::countDown, Instant.now());
+
+		assertThat(scheduled.await(2, TimeUnit.SECONDS)).isTrue();
+		release.countDown();
+		provider.close();
+	}
+
+	@Test
+	void concurrentRefreshesShareOneFetch() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		TestProvider provider = new TestProvider(release);
+
+		var first = provider.refresh();
+		var second = provider.refresh();
+		release.countDown();
+
+		assertThat(second).isSameAs(first);
+		first.get(5, TimeUnit.SECONDS);
+		assertThat(provider.fetches).hasValue(1);
+		provider.close();
+	}
+
+	private class TestProvider extends RefreshableCredentialProvider {
+
+		private final CountDownLatch release;
+
+		private final AtomicInteger fetches = new AtomicInteger();
+
+		private final AtomicReference<Thread> fetchThread = new AtomicReference<>();
+
+		private final OutboundCredential initial;
+
+		TestProvider(CountDownLatch release) {
+			this(release, new OutboundCredential("Bearer initial", null));
+		}
+
+		TestProvider(CountDownLatch release, OutboundCredential initial) {
+			super(scheduler, Duration.ofMinutes(5), Duration.ZERO);
+			this.release = release;
+			this.initial = initial;
+		}
+
+		@Override
+		public String supportSystem() {
+			return "TestService";
+		}
+
+		@Override
+		protected OutboundCredential initialCredential() {
+			return initial;
+		}
+
+		@Override
+		protected OutboundCredential fetchCredential() {
+			fetches.incrementAndGet();
+			fetchThread.set(Thread.currentThread());
+			if (release != null) {
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return new OutboundCredential("Bearer fetched", Instant.now().plus(Duration.ofHours(1)));
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.example.demo.infra.outbound.feign.decoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.infra.outbound.feign.decoder.BoundedBodyReader.BoundedBody;
+
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+
+class BoundedBodyReaderTest {
+
+	@Test
+	void shortBodyIsReadCompletely() throws IOException {
+		BoundedBodyReader reader = new BoundedBodyReader(16, 1024);
+		TrackingStream in = new TrackingStream(bytes("error"));
+
+		BoundedBody body = reader.read(body(in, null));
+
+		assertThat(body.content()).isEqualTo("error");
+		assertThat(body.length()).isEqualTo(5L);
+		assertThat(body.truncated()).isFalse();
+		assertThat(body.describe()).isEqualTo("error");
+		assertThat(in.closed).isTrue();
+	}
+
+	@Test
+	void longBodyIsTruncatedAndDrained() throws IOException {
+		BoundedBodyReader reader = new BoundedBodyReader(4, 1024);
+		TrackingStream in = new TrackingStream(bytes("0123456789"));
+
+		BoundedBody body = reader.read(body(in, null));
+
+		assertThat(body.content()).isEqualTo("0123");
+		assertThat(body.length()).isEqualTo(10L);
+		assertThat(body.truncated()).isTrue();
+		assertThat(body.describe()).isEqualTo("0123...(truncated, length=10 bytes)");
+		assertThat(in.remaining()).isZero();
+	}
+
+	@Test
+	void bodyBeyondDrainLimitIsAborted() throws IOException {
+		BoundedBodyReader reader = new BoundedBodyReader(4, 8);
+		TrackingStream in = new TrackingStream(new byte[10_000]);
+
+		BoundedBody body = reader.read(body(in, null));
+
+		assertThat(body.length()).isNull();
+		assertThat(body.truncated()).isTrue();
+		assertThat(body.describe()).endsWith("length=unknown)");
+		// 只讀到 drain 上限附近即中止，不讀完整個回應
+		assertThat(in.remaining()).isGreaterThan(9_000);
+		assertThat(in.closed).isTrue();
+	}
+
+	@Test
+	void declaredLengthIsReportedEvenWhenAborted() throws IOException {
+		BoundedBodyReader reader = new BoundedBodyReader(4, 8);
+
+		BoundedBody body = reader.read(body(new TrackingStream(new byte[10_000]), 10_000));
+
+		assertThat(body.length()).isEqualTo(10_000L);
+		assertThat(body.truncated()).isTrue();
+	}
+
+	@Test
+	void truncationDoesNotSplitMultibyteCharacter() throws IOException {
+		// 「錯誤」各 3 bytes：上限 4 bytes 落在第二個字中間
+		BoundedBodyReader reader = new BoundedBodyReader(4, 1024);
+
+		BoundedBody body = reader.read(body(new TrackingStream(bytes("錯誤訊息")), null));
+
+		assertThat(body.content()).isEqualTo("錯");
+		assertThat(body.length()).isEqualTo(12L);
+		assertThat(body.truncated()).isTrue();
+	}
+
+	@Test
+	void pooledBufferDoesNotLeakPreviousContent() throws IOException {
+		BoundedBodyReader reader = new BoundedBodyReader(16, 1024);
+
+		reader.read(body(new TrackingStream(bytes("previous-content")), null));
+		BoundedBody body = reader.read(body(new TrackingStream(bytes("next")), null));
+
+		assertThat(body.content()).isEqualTo("next");
+		assertThat(body.length()).isEqualTo(4L);
+	}
+
+	@Test
+	void missingBodyReturnsNull() throws IOException {
+		assertThat(new BoundedBodyReader(16, 1024).read(null)).isNull();
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static Response.Body body(InputStream in, Integer length) {
+		Request request = Request.create(HttpMethod.GET, "http://localhost/api", Map.of(), null,
+				StandardCharsets.UTF_8, null);
+		return Response.builder().status(500).request(request).headers(Map.of()).body(in, length).build().body();
+	}
+
+	/**
+	 * 記錄剩餘位元組與是否關閉的串流
+	 */
+	private static class TrackingStream extends ByteArrayInputStream {
+
+		private boolean closed;
+
+		TrackingStream(byte[] content) {
+			super(content);
+		}
+
+		int remaining() {
+			return count - pos;
+		}
+
+		@Override
+		public void close() throws IOException {
+			closed = true;
+			super.close();
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.example.demo.infra.outbound.feign.decoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.config.properties.OutboundValidationProperties;
+import com.example.demo.config.properties.OutboundValidationProperties.Rule;
+import com.example.demo.infra.context.ContextHolder;
+import com.example.demo.infra.context.OutboundContextScope;
+import com.example.demo.infra.context.element.OutboundApiRequestInfo;
+import com.example.demo.infra.outbound.shared.exception.CustomFeignException;
+import com.example.demo.infra.outbound.validation.rule.ResponseRuleRegistry;
+import com.example.demo.shared.constant.OutboundConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import feign.Request;
+import feign.Response;
+import feign.codec.Decoder;
+
+class ResponseValidatingDecoderTest {
+
+	private static final String SYSTEM = "TestService";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final ResponseValidatingDecoder decoder = new ResponseValidatingDecoder(new Decoder.Default(),
+			registry(), objectMapper);
+
+	@Test
+	void validResponseDeserializesSameAsPlainJackson() throws Throwable {
+		String json = "{\"code\":\"0000\",\"meta\":{\"trace\":[1,{\"x\":null}]},"
+				+ "\"items\":[{\"id\":\"a\",\"status\":\"A\"},{\"id\":\"b\",\"status\":\"B\"}]}";
+		OutboundApiRequestInfo context = context("/api/orders");
+
+		Object decoded = decode(context, json, Page.class);
+
+		assertThat(decoded).isEqualTo(objectMapper.readValue(json, Page.class));
+		assertThat(context.getResponseViolation()).isNull();
+	}
+
+	@Test
+	void violationReturnsNullAndKeepsErrorInContext() throws Throwable {
+		OutboundApiRequestInfo context = context("/api/orders");
+
+		Object decoded = decode(context, "{\"code\":\"0000\",\"items\":[{\"id\":\"a\",\"status\":\"X\"}]}",
+				Page.class);
+
+		assertThat(decoded).isNull();
+		assertThat(context.getResponseViolation()).isInstanceOf(CustomFeignException.class)
+				.hasMessageContaining("items[].status 值不允許: X");
+		assertThat(((CustomFeignException) context.getResponseViolation()).getCode()).isEqualTo("FEIGN_FAILED");
+	}
+
+	@Test
+	void malformedJsonIsViolation() throws Throwable {
+		OutboundApiRequestInfo context = context("/api/orders");
+
+		Object decoded = decode(context, "{\"code\":\"0000\",\"items\":[", Page.class);
+
+		assertThat(decoded).isNull();
+		assertThat(context.getResponseViolation()).hasMessageContaining("回應無法解析");
+	}
+
+	@Test
+	void rawContentIsValidatedThenPassedToDelegate() throws Throwable {
+		String json = "{\"code\":\"0000\",\"items\":[]}";
+		OutboundApiRequestInfo context = context("/api/orders");
+
+		assertThat(decode(context, json, String.class)).isEqualTo(json);
+
+		OutboundApiRequestInfo rejected = context("/api/orders");
+		assertThat(decode(rejected, "{\"code\":\"E001\",\"items\":[]}", String.class)).isNull();
+		assertThat(rejected.getResponseViolation()).hasMessageContaining("錯誤碼 code=E001");
+	}
+
+	@Test
+	void unmatchedRouteUsesDelegate() throws Throwable {
+		OutboundApiRequestInfo context = context("/api/other");
+
+		assertThat(decode(context, "not json", String.class)).isEqualTo("not json");
+		assertThat(context.getResponseViolation()).isNull();
+	}
+
+	private Object decode(OutboundApiRequestInfo context, String body, Type type) throws Throwable {
+		OutboundContextScope scope = ContextHolder.openScope();
+		try {
+			return ContextHolder.callInScope(scope, () -> {
+				ContextHolder.setFeignContext(context);
+				Request request = Request.create(Request.HttpMethod.GET, "http://localhost" + context.getApi(),
+						Map.of(OutboundConstants.INVOCATION_ID_HEADER.getValue(), List.of(scope.getInvocationId())),
+						null, StandardCharsets.UTF_8, null);
+				Response response = Response.builder().status(200).request(request).headers(Map.of())
+						.body(body, StandardCharsets.UTF_8).build();
+				return decoder.decode(response, type);
+			});
+		} finally {
+			ContextHolder.closeScope(scope);
+		}
+	}
+
+	private static OutboundApiRequestInfo context(String api) {
+		return OutboundApiRequestInfo.builder().system(SYSTEM).httpMethod("GET").api(api).build();
+	}
+
+	private static ResponseRuleRegistry registry() {
+		Rule rule = new Rule();
+		rule.setApi("/api/orders");
+		rule.setRequiredPaths(List.of("items"));
+		rule.setAllowedValues(Map.of("items[].status", List.of("A", "B")));
+		rule.setErrorCodePath("code");
+		rule.setSuccessCodes(List.of("0000"));
+		OutboundValidationProperties properties = new OutboundValidationProperties();
+		properties.setSystems(Map.of(SYSTEM, List.of(rule)));
+		return new ResponseRuleRegistry(properties);
+	}
+
+	record Page(String code, Map<String, Object> meta, List<Item> items) {
+	}
+
+	record Item(String id, String status) {
+	}
+}
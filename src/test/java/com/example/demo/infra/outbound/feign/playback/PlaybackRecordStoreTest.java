@@ -0,0 +1,75 @@
+package com.example.demo.infra.outbound.feign.playback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+class PlaybackRecordStoreTest {
+
+	private static final String SOURCE = "classpath:playback/recorded-responses.json";
+
+	@Test
+	void offModeDoesNotLoadRecordings() {
+		PlaybackRecordStore store = store(PlaybackMode.OFF, SOURCE);
+
+		assertThat(store.find("AuthService", "POST", "/api/v1/login",
+				"{\"username\":\"nick123@example.com\",\"password\":\"password\"}")).isNull();
+	}
+
+	@Test
+	void blankSourceStartsEmpty() {
+		PlaybackRecordStore store = store(PlaybackMode.PLAYBACK, "");
+
+		assertThat(store.find("AuthService", "GET", "/api/v1/auth/permissions?username=nick123%40example.com", null))
+				.isNull();
+	}
+
+	@Test
+	void playbackModeMatchesNormalizedRequests() {
+		PlaybackRecordStore store = store(PlaybackMode.PLAYBACK, SOURCE);
+
+		// JSON key 順序、scheme / host 不影響比對
+		PlaybackRecord login = store.find("AuthService", "post", "http://auth.local/api/v1/login",
+				"{ \"password\": \"password\", \"username\": \"nick123@example.com\" }");
+		assertThat(login).isNotNull();
+		assertThat(login.getStatus()).isEqualTo(200);
+
+		assertThat(store.find("AuthService", "GET", "/api/v1/auth/permissions?username=nick123%40example.com", null))
+				.isNotNull();
+		assertThat(store.find("OtherService", "GET", "/api/v1/auth/permissions?username=nick123%40example.com", null))
+				.isNull();
+	}
+
+	@Test
+	void normalizePathSortsQueryParameters() {
+		assertThat(PlaybackRecordStore.normalizePath("https://host/api?b=2&a=1")).isEqualTo("/api?a=1&b=2");
+		assertThat(PlaybackRecordStore.normalizePath("/api")).isEqualTo("/api");
+	}
+
+	@Test
+	void recordingKeepsLatestPerRequestAndStopsAtLimit() {
+		PlaybackRecordStore store = new PlaybackRecordStore(new DefaultResourceLoader(), PlaybackMode.RECORD, "", "",
+				2);
+
+		assertThat(store.register(record("/a", 200))).isTrue();
+		assertThat(store.register(record("/a", 500))).isTrue();
+		assertThat(store.register(record("/b", 200))).isTrue();
+		assertThat(store.register(record("/c", 200))).isFalse();
+
+		assertThat(store.find("S", "GET", "/a", null).getStatus()).isEqualTo(500);
+		assertThat(store.find("S", "GET", "/c", null)).isNull();
+		// 已錄製的請求仍可更新
+		assertThat(store.register(record("/b", 404))).isTrue();
+	}
+
+	private static PlaybackRecord record(String path, int status) {
+		return PlaybackRecord.builder().system("S").httpMethod("GET").path(path).status(status).build();
+	}
+
+	private static PlaybackRecordStore store(PlaybackMode mode, String source) {
+		PlaybackRecordStore store = new PlaybackRecordStore(new DefaultResourceLoader(), mode, source, "", 1000);
+		store.load();
+		return store;
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.demo.infra.outbound.feign.playback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import feign.Request;
+import feign.Response;
+import feign.Util;
+
+class RecordingFeignClientTest {
+
+	private static final Charset BIG5 = Charset.forName("Big5");
+
+	@Test
+	void bodiesAreDecodedWithTheirCharset() throws Exception {
+		PlaybackRecordStore store = new PlaybackRecordStore(new DefaultResourceLoader(), PlaybackMode.RECORD, "", "",
+				10);
+		Map<String, Collection<String>> headers = Map.of("Content-Type", List.of("application/json;charset=Big5"));
+		RecordingFeignClient client = new RecordingFeignClient("S", (request, options) -> Response.builder()
+				.status(200).request(request).headers(headers).body("{\"name\":\"測試\"}", BIG5).build(), store);
+		Request request = Request.create(Request.HttpMethod.POST, "http://host/api", Map.of(),
+				"{\"name\":\"王小明\"}".getBytes(BIG5), BIG5, null);
+
+		Response response = client.execute(request, new Request.Options());
+
+		PlaybackRecord recorded = store.find("S", "POST", "/api", "{\"name\":\"王小明\"}");
+		assertThat(recorded).isNotNull();
+		assertThat(recorded.getResponseBody()).isEqualTo("{\"name\":\"測試\"}");
+		// 回傳給 Feign 的 Body 維持原始位元組
+		assertThat(new String(Util.toByteArray(response.body().asInputStream()), BIG5)).isEqualTo("{\"name\":\"測試\"}");
+	}
+
+	@Test
+	void missingCharsetFallsBackToUtf8() throws Exception {
+		PlaybackRecordStore store = new PlaybackRecordStore(new DefaultResourceLoader(), PlaybackMode.RECORD, "", "",
+				10);
+		RecordingFeignClient client = new RecordingFeignClient("S", (request, options) -> Response.builder()
+				.status(200).request(request).headers(Map.of()).body("ok", StandardCharsets.UTF_8).build(), store);
+		Request request = Request.create(Request.HttpMethod.POST, "http://host/api", Map.of(),
+				"名稱".getBytes(StandardCharsets.UTF_8), null, null);
+
+		client.execute(request, new Request.Options());
+
+		assertThat(store.find("S", "POST", "/api", "名稱")).isNotNull();
+	}
+}
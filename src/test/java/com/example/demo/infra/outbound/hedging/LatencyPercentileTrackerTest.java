@@ -0,0 +1,66 @@
+package com.example.demo.infra.outbound.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyPercentileTrackerTest {
+
+	@Test
+	void returnsNoValueUntilEnoughSamples() {
+		LatencyPercentileTracker tracker = new LatencyPercentileTracker(0.95);
+
+		for (int i = 0; i < 19; i++) {
+			tracker.record(millis(10));
+		}
+
+		assertThat(tracker.percentileNanos()).isEqualTo(-1);
+	}
+
+	@Test
+	void computesPercentileOfSamples() {
+		LatencyPercentileTracker tracker = new LatencyPercentileTracker(0.95);
+
+		for (int i = 100; i >= 1; i--) {
+			tracker.record(millis(i));
+		}
+
+		assertThat(tracker.percentileNanos()).isEqualTo(millis(95));
+	}
+
+	@Test
+	void keepsOnlyMostRecentWindow() {
+		LatencyPercentileTracker tracker = new LatencyPercentileTracker(0.95);
+
+		// 視窗大小 256：舊的慢樣本被新的快樣本完全覆寫
+		for (int i = 0; i < 256; i++) {
+			tracker.record(millis(1_000));
+		}
+		for (int i = 0; i < 256; i++) {
+			tracker.record(millis(10));
+		}
+
+		assertThat(tracker.percentileNanos()).isEqualTo(millis(10));
+	}
+
+	@Test
+	void partiallyOverwrittenWindowMixesSamples() {
+		LatencyPercentileTracker tracker = new LatencyPercentileTracker(0.95);
+
+		for (int i = 0; i < 256; i++) {
+			tracker.record(millis(10));
+		}
+		// 覆寫 10% 為慢樣本：p95 落在慢樣本
+		for (int i = 0; i < 26; i++) {
+			tracker.record(millis(1_000));
+		}
+
+		assertThat(tracker.percentileNanos()).isEqualTo(millis(1_000));
+	}
+
+	private static long millis(long value) {
+		return TimeUnit.MILLISECONDS.toNanos(value);
+	}
+}
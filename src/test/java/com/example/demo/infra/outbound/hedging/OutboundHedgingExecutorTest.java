@@ -0,0 +1,162 @@
+package com.example.demo.infra.outbound.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.infra.annotation.OutboundHedging;
+import com.example.demo.infra.outbound.shared.invocation.OutboundAttempt;
+import com.example.demo.infra.outbound.shared.invocation.OutboundInvocation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboundHedgingExecutorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final OutboundHedgingExecutor executor = new OutboundHedgingExecutor(meterRegistry);
+
+	private final AtomicLong recordIds = new AtomicLong();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void fastCallIsNotHedged() throws Throwable {
+		Method method = method("percentile");
+
+		Object result = execute(method, attempt -> () -> {
+			attempt.setRecordId(recordIds.incrementAndGet());
+			return attempt.getLabel();
+		});
+
+		assertThat(result).isEqualTo("primary");
+		assertThat(count("outbound.hedging.sent", method)).isZero();
+	}
+
+	@Test
+	void hedgeIsSentOnlyAfterObservedPercentileDelay() throws Throwable {
+		Method method = method("percentile");
+		// 累積樣本：p95 約 40ms（遠小於 initial-delay 5s）
+		for (int i = 0; i < 20; i++) {
+			execute(method, attempt -> () -> {
+				attempt.setRecordId(recordIds.incrementAndGet());
+				Thread.sleep(40);
+				return "warm-up";
+			});
+		}
+
+		long start = System.nanoTime();
+		AtomicLong hedgeSentAfter = new AtomicLong();
+		Object result = execute(method, attempt -> () -> {
+			attempt.setRecordId(recordIds.incrementAndGet());
+			if (attempt.getParentRecordId() == null) {
+				Thread.sleep(5_000);
+				return "primary";
+			}
+			hedgeSentAfter.set(System.nanoTime() - start);
+			return attempt.tryWin() ? "hedge" : null;
+		});
+
+		assertThat(result).isEqualTo("hedge");
+		assertThat(TimeUnit.NANOSECONDS.toMillis(hedgeSentAfter.get())).isBetween(40L, 2_000L);
+		assertThat(count("outbound.hedging.sent", method)).isEqualTo(1);
+		assertThat(count("outbound.hedging.won", method)).isEqualTo(1);
+	}
+
+	@Test
+	void losingAttemptIsInterruptedAndLinkedToPrimary() throws Throwable {
+		Method method = method("fixedDelay");
+		Map<String, OutboundAttempt> attempts = new ConcurrentHashMap<>();
+		CountDownLatch primaryInterrupted = new CountDownLatch(1);
+
+		Object result = execute(method, attempt -> () -> {
+			attempts.put(attempt.getLabel(), attempt);
+			attempt.setRecordId(recordIds.incrementAndGet());
+			if (attempt.getParentRecordId() != null) {
+				return attempt.tryWin() ? "hedge" : null;
+			}
+			attempt.bind(Thread.currentThread());
+			try {
+				Thread.sleep(5_000);
+				return "primary";
+			} catch (InterruptedException e) {
+				primaryInterrupted.countDown();
+				throw e;
+			} finally {
+				attempt.bind(null);
+			}
+		});
+
+		assertThat(result).isEqualTo("hedge");
+		assertThat(primaryInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+		OutboundAttempt primary = attempts.get("primary");
+		OutboundAttempt hedge = attempts.get("hedge");
+		assertThat(primary.isCancelled()).isTrue();
+		assertThat(primary.tryWin()).isFalse();
+		// 落敗的呼叫以 CANCELLED 紀錄，並以 parent_record_id 連結至第一次呼叫
+		assertThat(hedge.getParentRecordId()).isEqualTo(primary.getRecordId());
+		assertThat(hedge.isWinner()).isTrue();
+	}
+
+	@Test
+	void noHedgeOnceBudgetIsExhausted() throws Throwable {
+		Method method = method("noRefill");
+
+		for (int i = 0; i < 11; i++) {
+			execute(method, attempt -> () -> {
+				attempt.setRecordId(recordIds.incrementAndGet());
+				if (attempt.getParentRecordId() == null) {
+					Thread.sleep(50);
+					return "primary";
+				}
+				return "hedge";
+			});
+		}
+
+		// 額度上限 10 次且不回補：第 11 次呼叫只等待第一次呼叫
+		assertThat(count("outbound.hedging.sent", method)).isEqualTo(10);
+		assertThat(count("outbound.hedging.budget.exhausted", method)).isEqualTo(1);
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private Object execute(Method method, Function<OutboundAttempt, OutboundInvocation> attempts)
+			throws Throwable {
+		return executor.execute("Test", method, method.getAnnotation(OutboundHedging.class), OutboundAttempt.first(),
+				attempts);
+	}
+
+	private double count(String name, Method method) {
+		return meterRegistry.counter(name, "system", "Test", "method", method.getName()).count();
+	}
+
+	private static Method method(String name) throws NoSuchMethodException {
+		return Client.class.getDeclaredMethod(name);
+	}
+
+	interface Client {
+
+		@OutboundHedging(percentile = 0.95, initialDelayMillis = 5_000, minDelayMillis = 1, budgetPercent = 100)
+		String percentile();
+
+		@OutboundHedging(delayMillis = 20, budgetPercent = 100)
+		String fixedDelay();
+
+		@OutboundHedging(delayMillis = 10, budgetPercent = 0)
+		String noRefill();
+	}
+}
@@ -0,0 +1,116 @@
+package com.example.demo.infra.outbound.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.SocketTimeoutException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.infra.context.ContextHolder;
+import com.example.demo.infra.context.Deadline;
+import com.example.demo.infra.context.OutboundContextScope;
+import com.example.demo.shared.constant.OutboundConstants;
+
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+
+class DeadlineAwareClientTest {
+
+	private static final String INVOCATION_ID = OutboundConstants.INVOCATION_ID_HEADER.getValue();
+
+	private final AtomicReference<Request> sent = new AtomicReference<>();
+
+	private final AtomicReference<Request.Options> sentOptions = new AtomicReference<>();
+
+	private final DeadlineAwareClient client = new DeadlineAwareClient((request, options) -> {
+		sent.set(request);
+		sentOptions.set(options);
+		return Response.builder().status(200).request(request).headers(Map.of()).build();
+	}, 1000);
+
+	@AfterEach
+	void tearDown() {
+		ContextHolder.setDeadline(null);
+	}
+
+	@Test
+	void connectTimeoutIsFixedAndReadTimeoutKeptWithoutDeadline() throws Exception {
+		client.execute(request(Map.of()), options(5000));
+
+		assertThat(sentOptions.get().connectTimeoutMillis()).isEqualTo(1000);
+		assertThat(sentOptions.get().readTimeoutMillis()).isEqualTo(5000);
+	}
+
+	@Test
+	void declaredReadTimeoutOverridesDefault() throws Throwable {
+		OutboundContextScope scope = ContextHolder.openScope(2000);
+		try {
+			ContextHolder.callInScope(scope, () -> client.execute(request(Map.of()), options(5000)));
+		} finally {
+			ContextHolder.closeScope(scope);
+		}
+
+		assertThat(sentOptions.get().readTimeoutMillis()).isEqualTo(2000);
+	}
+
+	@Test
+	void readTimeoutIsReducedToRemainingBudget() throws Exception {
+		ContextHolder.setDeadline(Deadline.after(300));
+
+		client.execute(request(Map.of()), options(5000));
+
+		assertThat(sentOptions.get().readTimeoutMillis()).isBetween(1, 300);
+	}
+
+	@Test
+	void expiredDeadlineFailsWithoutSending() {
+		ContextHolder.setDeadline(Deadline.after(-1));
+
+		assertThatThrownBy(() -> client.execute(request(Map.of()), options(5000)))
+				.isInstanceOf(SocketTimeoutException.class);
+		assertThat(sent.get()).isNull();
+	}
+
+	@Test
+	void invocationIdIsNotSentButStaysOnResponseRequest() throws Exception {
+		Request request = request(Map.of(INVOCATION_ID, List.of("abc"), "Authorization", List.of("Bearer t")));
+
+		Response response = client.execute(request, options(5000));
+
+		assertThat(sent.get().headers()).doesNotContainKey(INVOCATION_ID).containsKey("Authorization");
+		assertThat(sent.get().body()).isEqualTo(request.body());
+		assertThat(response.request().headers().get(INVOCATION_ID)).containsExactly("abc");
+	}
+
+	@Test
+	void requestWithoutInvocationIdIsSentAsIs() throws Exception {
+		Request request = request(Map.of("Authorization", List.of("Bearer t")));
+
+		client.execute(request, options(5000));
+
+		assertThat(sent.get()).isSameAs(request);
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private static Request request(Map<String, Collection<String>> headers) {
+		return Request.create(HttpMethod.POST, "http://localhost/api", headers,
+				"{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null);
+	}
+
+	private static Request.Options options(long readTimeoutMillis) {
+		return new Request.Options(10, TimeUnit.MILLISECONDS, readTimeoutMillis, TimeUnit.MILLISECONDS, true);
+	}
+}
@@ -0,0 +1,116 @@
+package com.example.demo.infra.outbound.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.infra.annotation.OutboundConcurrencyLimit;
+
+class OutboundConcurrencyLimiterTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(5_000);
+
+	@Test
+	void rejectsAtLimitUntilReleased() throws InterruptedException {
+		OutboundConcurrencyLimiter limiter = limiter("single");
+
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isFalse();
+
+		limiter.release(FAST, false);
+		assertThat(limiter.tryAcquire()).isTrue();
+	}
+
+	@Test
+	void increasesWhenLimitIsFullyUsed() throws InterruptedException {
+		OutboundConcurrencyLimiter limiter = limiter("ten");
+
+		for (int round = 0; round < 3; round++) {
+			int limit = limiter.getLimit();
+			for (int i = 0; i < limit; i++) {
+				assertThat(limiter.tryAcquire()).isTrue();
+			}
+			for (int i = 0; i < limit; i++) {
+				limiter.release(FAST, false);
+			}
+		}
+
+		assertThat(limiter.getLimit()).isGreaterThan(10);
+	}
+
+	@Test
+	void doesNotIncreaseWhenLimitIsUnused() throws InterruptedException {
+		OutboundConcurrencyLimiter limiter = limiter("ten");
+
+		for (int i = 0; i < 100; i++) {
+			limiter.tryAcquire();
+			limiter.release(FAST, false);
+		}
+
+		assertThat(limiter.getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void decreasesOncePerRoundOfInflightCalls() throws InterruptedException {
+		OutboundConcurrencyLimiter limiter = limiter("ten");
+		for (int i = 0; i < 10; i++) {
+			limiter.tryAcquire();
+		}
+
+		// 同一批進行中的呼叫同時變慢：只縮減一次（10 * 0.5），而非 0.5^10
+		for (int i = 0; i < 10; i++) {
+			limiter.release(SLOW, false);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(5);
+
+		// 縮減後才送出的呼叫失敗：進入下一輪，再縮減一次
+		limiter.tryAcquire();
+		limiter.release(0, true);
+		assertThat(limiter.getLimit()).isEqualTo(2);
+	}
+
+	@Test
+	void neverDecreasesBelowMinimum() throws InterruptedException {
+		OutboundConcurrencyLimiter limiter = limiter("ten");
+
+		for (int i = 0; i < 20; i++) {
+			limiter.tryAcquire();
+			limiter.release(0, true);
+		}
+
+		assertThat(limiter.getLimit()).isEqualTo(2);
+	}
+
+	private static OutboundConcurrencyLimiter limiter(String configName) {
+		try {
+			return new OutboundConcurrencyLimiter("Test", Configs.class.getDeclaredMethod(configName)
+					.getAnnotation(ExternalLimit.class).value());
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * {@link OutboundConcurrencyLimit} 只能作為其他註解的屬性，測試以此註解承載設定
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface ExternalLimit {
+		OutboundConcurrencyLimit value();
+	}
+
+	interface Configs {
+
+		@ExternalLimit(@OutboundConcurrencyLimit(initialLimit = 1, minLimit = 1, maxLimit = 10))
+		void single();
+
+		@ExternalLimit(@OutboundConcurrencyLimit(initialLimit = 10, minLimit = 2, maxLimit = 50,
+				latencyThresholdMillis = 1000, backoffRatio = 0.5))
+		void ten();
+	}
+}
@@ -0,0 +1,68 @@
+package com.example.demo.infra.outbound.recording;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.example.demo.application.domain.log.aggregate.OutboundApiRecord;
+import com.example.demo.infra.outbound.recording.deadletter.RecordingDeadLetterQueue;
+import com.example.demo.infra.persistence.OutboundApiRecordRepository;
+
+class OutboundApiRecordBatcherTest {
+
+	private final OutboundApiRecordRepository repository = mock(OutboundApiRecordRepository.class);
+
+	private final RecordingDeadLetterQueue deadLetterQueue = mock(RecordingDeadLetterQueue.class);
+
+	private final OutboundApiRecordBatcher batcher = new OutboundApiRecordBatcher(repository, deadLetterQueue, 10);
+
+	@Test
+	void successfulBatchIsSavedOnce() {
+		batcher.add(record("A"));
+		batcher.add(record("B"));
+
+		batcher.flush();
+
+		verify(repository).saveAll(anyList());
+		verify(repository, never()).save(any());
+		verify(deadLetterQueue, never()).add(any(OutboundApiRecord.class), any());
+	}
+
+	@Test
+	void failedBatchIsRetriedPerRecordAndLeftoversGoToDeadLetter() {
+		OutboundApiRecord good = record("A");
+		OutboundApiRecord bad = record("B");
+		DataAccessResourceFailureException error = new DataAccessResourceFailureException("down");
+		when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+			// 模擬 IDENTITY 已配號後回滾
+			good.setId(1L);
+			bad.setId(2L);
+			throw error;
+		});
+		when(repository.save(same(good))).thenReturn(good);
+		when(repository.save(same(bad))).thenThrow(error);
+		batcher.add(good);
+		batcher.add(bad);
+
+		batcher.flush();
+
+		verify(repository).save(same(good));
+		verify(deadLetterQueue).add(same(bad), same(error));
+		verify(deadLetterQueue, never()).add(same(good), any());
+		assertThat(bad.getId()).isNull();
+	}
+
+	private static OutboundApiRecord record(String system) {
+		OutboundApiRecord outboundApiRecord = new OutboundApiRecord();
+		outboundApiRecord.setSystem(system);
+		return outboundApiRecord;
+	}
+}
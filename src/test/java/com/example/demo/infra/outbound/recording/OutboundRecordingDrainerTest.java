@@ -0,0 +1,86 @@
+package com.example.demo.infra.outbound.recording;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.example.demo.application.shared.event.BaseEvent;
+import com.example.demo.infra.outbound.recording.deadletter.RecordingDeadLetterQueue;
+import com.example.demo.infra.outbound.recording.lane.OutboundRecordEventBus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboundRecordingDrainerTest {
+
+	private final RecordingDeadLetterQueue deadLetterQueue = mock(RecordingDeadLetterQueue.class);
+
+	private final OutboundApiRecordBatcher batcher = mock(OutboundApiRecordBatcher.class);
+
+	@SuppressWarnings("unchecked")
+	private final ObjectProvider<OutboundRecordEventBus> eventBus = mock(ObjectProvider.class);
+
+	private final OutboundRecordingDrainer drainer = new OutboundRecordingDrainer(deadLetterQueue, batcher, eventBus,
+			new SimpleMeterRegistry(), 200);
+
+	@Test
+	void eventsAcceptedAfterStopAreJournaled() {
+		drainer.start();
+		drainer.stop();
+		BaseEvent late = event("late");
+
+		assertThat(drainer.accept(late)).isFalse();
+
+		verify(deadLetterQueue).journal(List.of(late));
+		assertThat(drainer.isRunning()).isFalse();
+	}
+
+	@Test
+	void completedEventsAreNotJournaled() {
+		drainer.start();
+		BaseEvent event = event("done");
+		assertThat(drainer.accept(event)).isTrue();
+		drainer.complete(event);
+
+		drainer.stop();
+
+		verify(deadLetterQueue, never()).journal(List.of(event));
+	}
+
+	@Test
+	void unfinishedEventsAreJournaledAfterTimeoutThenQueuePersisted() {
+		drainer.start();
+		BaseEvent stuck = event("stuck");
+		assertThat(drainer.accept(stuck)).isTrue();
+
+		drainer.stop();
+
+		InOrder order = inOrder(batcher, deadLetterQueue);
+		order.verify(batcher).flush();
+		order.verify(deadLetterQueue).journal(List.of(stuck));
+		order.verify(deadLetterQueue).persist();
+	}
+
+	@Test
+	void rejectedEventIsJournaledOnce() {
+		drainer.start();
+		BaseEvent event = event("rejected");
+		drainer.accept(event);
+
+		drainer.reject(event);
+		drainer.reject(event);
+
+		verify(deadLetterQueue).journal(List.of(event));
+	}
+
+	private static BaseEvent event(String id) {
+		return BaseEvent.builder().eventLogUuid(id).build();
+	}
+}
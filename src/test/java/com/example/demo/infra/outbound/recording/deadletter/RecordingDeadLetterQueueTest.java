@@ -0,0 +1,111 @@
+package com.example.demo.infra.outbound.recording.deadletter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.demo.application.domain.log.aggregate.OutboundApiRecord;
+import com.example.demo.application.domain.log.command.RecordSuccessOutboundApiCommand;
+import com.example.demo.application.domain.log.event.RecordOutboundApiSucceededEvent;
+import com.example.demo.application.domain.log.event.RecordOutboundApiSucceededEvent.RecordOutboundApiEventData;
+import com.example.demo.application.port.OutboundApiResponseHandlerPort;
+import com.example.demo.config.properties.OutboundDeadLetterProperties;
+import com.example.demo.infra.outbound.registry.OutboundSystemProfile;
+import com.example.demo.infra.outbound.registry.OutboundSystemRegistry;
+import com.example.demo.infra.persistence.OutboundApiRecordRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RecordingDeadLetterQueueTest {
+
+	private static final String SYSTEM = "TestService";
+
+	@TempDir
+	Path tempDir;
+
+	private final OutboundSystemRegistry systemRegistry = mock(OutboundSystemRegistry.class);
+
+	private final OutboundApiRecordRepository recordRepository = mock(OutboundApiRecordRepository.class);
+
+	private final OutboundApiResponseHandlerPort handler = mock(OutboundApiResponseHandlerPort.class);
+
+	private final OutboundDeadLetterProperties properties = new OutboundDeadLetterProperties();
+
+	@BeforeEach
+	void setUp() {
+		OutboundSystemProfile profile = mock(OutboundSystemProfile.class);
+		when(systemRegistry.profile(SYSTEM)).thenReturn(profile);
+		when(profile.getResponseHandler()).thenReturn(handler);
+		properties.setSpillFile(tempDir.resolve("dead-letters.jsonl").toString());
+		properties.setInitialBackoffMillis(0);
+	}
+
+	@Test
+	void persistedEntriesAreReloadedAfterRestart() {
+		RecordingDeadLetterQueue queue = queue();
+		queue.add(SYSTEM, RecordSuccessOutboundApiCommand.builder().savedId(7L).build(), new IllegalStateException());
+		queue.add(record(), new IllegalStateException());
+		assertThat(queue.list()).hasSize(2);
+
+		queue.persist();
+		assertThat(queue.list()).isEmpty();
+		assertThat(queue.spilledCount()).isEqualTo(2);
+
+		RecordingDeadLetterQueue restarted = queue();
+		assertThat(restarted.spilledCount()).isEqualTo(2);
+		restarted.retryDue();
+
+		verify(handler).handleSuccess(argThat(command -> command.getSavedId() == 7L));
+		verify(recordRepository).save(argThat(saved -> SYSTEM.equals(saved.getSystem()) && saved.getId() == null));
+		assertThat(restarted.spilledCount()).isZero();
+		assertThat(restarted.list()).isEmpty();
+	}
+
+	@Test
+	void journaledEventsAreReplayedOnNextStart() {
+		RecordingDeadLetterQueue queue = queue();
+		queue.persist();
+		RecordOutboundApiSucceededEvent event = RecordOutboundApiSucceededEvent.builder().eventLogUuid("e1")
+				.system(SYSTEM).data(RecordOutboundApiEventData.builder().savedId(9L).build()).build();
+
+		queue.journal(List.of(event));
+		queue.retryDue();
+		verify(handler, never()).handleSuccess(any());
+
+		RecordingDeadLetterQueue restarted = queue();
+		restarted.retryDue();
+		verify(handler).handleSuccess(argThat(command -> command.getSavedId() == 9L));
+	}
+
+	@Test
+	void entriesAddedAfterPersistGoStraightToSpillFile() {
+		RecordingDeadLetterQueue queue = queue();
+		queue.persist();
+
+		queue.add(record(), new IllegalStateException());
+
+		assertThat(queue.list()).isEmpty();
+		assertThat(queue.spilledCount()).isEqualTo(1);
+	}
+
+	private RecordingDeadLetterQueue queue() {
+		return new RecordingDeadLetterQueue(properties, systemRegistry, recordRepository, new SimpleMeterRegistry());
+	}
+
+	private static OutboundApiRecord record() {
+		OutboundApiRecord outboundApiRecord = new OutboundApiRecord();
+		outboundApiRecord.setSystem(SYSTEM);
+		return outboundApiRecord;
+	}
+}
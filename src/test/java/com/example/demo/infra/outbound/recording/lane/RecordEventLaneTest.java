@@ -0,0 +1,152 @@
+package com.example.demo.infra.outbound.recording.lane;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.application.shared.event.BaseEvent;
+
+class RecordEventLaneTest {
+
+	@Test
+	void fullLaneBlocksPublisherAndKeepsOrder() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> processed = new CopyOnWriteArrayList<>();
+		RecordEventLane lane = new RecordEventLane("test-lane", 1, 10, batch -> {
+			await(release);
+			batch.forEach(event -> processed.add(event.getEventLogUuid()));
+		});
+
+		assertThat(lane.put(event("1"), 50, 5_000)).isTrue();
+		// 等待處理執行緒取走第一筆，第二筆佔滿通道
+		waitUntil(() -> lane.depth() == 0);
+		assertThat(lane.put(event("2"), 50, 5_000)).isTrue();
+
+		AtomicBoolean third = new AtomicBoolean();
+		Thread publisher = Thread.ofVirtual().start(() -> third.set(lane.put(event("3"), 20, 5_000)));
+		publisher.join(200);
+		assertThat(publisher.isAlive()).isTrue();
+
+		release.countDown();
+		publisher.join(2_000);
+		assertThat(third).isTrue();
+		lane.stop();
+		assertThat(lane.awaitDrained(2_000)).isEmpty();
+		assertThat(processed).containsExactly("1", "2", "3");
+	}
+
+	@Test
+	void blockedPublisherGivesUpWhenLaneStops() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		RecordEventLane lane = new RecordEventLane("test-lane", 1, 10, batch -> await(release));
+		lane.put(event("1"), 50, 5_000);
+		waitUntil(() -> lane.depth() == 0);
+		lane.put(event("2"), 50, 5_000);
+
+		AtomicBoolean accepted = new AtomicBoolean(true);
+		Thread publisher = Thread.ofVirtual().start(() -> accepted.set(lane.put(event("3"), 20, 5_000)));
+		publisher.join(100);
+		lane.stop();
+		publisher.join(2_000);
+
+		assertThat(accepted).isFalse();
+		assertThat(lane.put(event("4"), 20, 5_000)).isFalse();
+		release.countDown();
+	}
+
+	@Test
+	void blockedPublisherGivesUpAfterMaxBlock() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		RecordEventLane lane = new RecordEventLane("test-lane", 1, 10, batch -> await(release));
+		lane.put(event("1"), 50, 5_000);
+		waitUntil(() -> lane.depth() == 0);
+		lane.put(event("2"), 50, 5_000);
+
+		long started = System.nanoTime();
+		assertThat(lane.put(event("3"), 20, 100)).isFalse();
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isBetween(100L, 2_000L);
+		release.countDown();
+		lane.stop();
+	}
+
+	@Test
+	void eventAcceptedAfterDrainIsHandedBackToPublisher() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		RecordEventLane lane = new RecordEventLane("test-lane", 1, 10, batch -> await(release));
+		lane.put(event("1"), 50, 5_000);
+		waitUntil(() -> lane.depth() == 0);
+		lane.put(event("2"), 50, 5_000);
+
+		AtomicBoolean accepted = new AtomicBoolean(true);
+		Thread publisher = Thread.ofVirtual().start(() -> accepted.set(lane.put(event("3"), 5_000, 5_000)));
+		publisher.join(100);
+		lane.stop();
+		// 逾時交回後騰出的空間讓發佈端放入成功，但通道已停止，事件須由發佈端取回
+		List<BaseEvent> leftovers = lane.awaitDrained(50);
+		publisher.join(2_000);
+
+		assertThat(leftovers).extracting(BaseEvent::getEventLogUuid).containsExactly("1", "2");
+		assertThat(accepted).isFalse();
+		assertThat(lane.depth()).isZero();
+		release.countDown();
+	}
+
+	@Test
+	void drainTimeoutReturnsLeftoverEvents() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		RecordEventLane lane = new RecordEventLane("test-lane", 10, 1, batch -> await(release));
+		lane.put(event("1"), 50, 5_000);
+		waitUntil(() -> lane.depth() == 0);
+		lane.put(event("2"), 50, 5_000);
+		lane.put(event("3"), 50, 5_000);
+
+		lane.stop();
+		List<BaseEvent> leftovers = lane.awaitDrained(100);
+
+		// 處理中的批次與尚未取出的事件一併交回
+		assertThat(leftovers).extracting(BaseEvent::getEventLogUuid).containsExactly("1", "2", "3");
+		release.countDown();
+	}
+
+	@Test
+	void drainedLaneReturnsNothing() throws Exception {
+		List<String> processed = new CopyOnWriteArrayList<>();
+		RecordEventLane lane = new RecordEventLane("test-lane", 10, 10,
+				batch -> batch.forEach(event -> processed.add(event.getEventLogUuid())));
+		lane.put(event("1"), 50, 5_000);
+		lane.put(event("2"), 50, 5_000);
+
+		lane.stop();
+
+		assertThat(lane.awaitDrained(2_000)).isEmpty();
+		assertThat(processed).containsExactly("1", "2");
+	}
+
+	static BaseEvent event(String id) {
+		return BaseEvent.builder().eventLogUuid(id).build();
+	}
+
+	static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 2_000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(condition.getAsBoolean()).isTrue();
+	}
+}
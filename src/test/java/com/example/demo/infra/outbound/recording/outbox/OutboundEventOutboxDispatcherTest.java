@@ -0,0 +1,101 @@
+package com.example.demo.infra.outbound.recording.outbox;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.infra.outbound.recording.deadletter.RecordingDeadLetterQueue;
+import com.example.demo.infra.outbound.recording.outbox.OutboundEventOutboxEntry.EventType;
+import com.example.demo.infra.outbound.registry.OutboundSystemRegistry;
+import com.example.demo.infra.persistence.OutboundEventOutboxRepository;
+
+class OutboundEventOutboxDispatcherTest {
+
+	private final OutboundEventOutboxRepository outboxRepository = mock(OutboundEventOutboxRepository.class);
+
+	private final OutboundSystemRegistry systemRegistry = mock(OutboundSystemRegistry.class, RETURNS_DEEP_STUBS);
+
+	private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		when(transactionTemplate.execute(any()))
+				.thenAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+		doAnswer(invocation -> {
+			invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	@Test
+	void backlogIsProcessedAtMostMaxChunksPerRun() {
+		stubBacklog(2);
+
+		dispatcher(2, 3).dispatch();
+
+		verify(outboxRepository, times(3)).findClaimableIds(any(), any(), any(Pageable.class));
+		verify(outboxRepository, times(3)).deleteAllByIdInBatch(anyCollection());
+	}
+
+	@Test
+	void partialChunkEndsRun() {
+		stubBacklog(1);
+
+		dispatcher(2, 3).dispatch();
+
+		verify(outboxRepository, times(1)).findClaimableIds(any(), any(), any(Pageable.class));
+	}
+
+	@Test
+	void emptyOutboxClaimsOnce() {
+		when(outboxRepository.findClaimableIds(any(), any(), any(Pageable.class))).thenReturn(List.of());
+
+		dispatcher(2, 3).dispatch();
+
+		verify(outboxRepository, times(1)).findClaimableIds(any(), any(), any(Pageable.class));
+	}
+
+	// ------------------------------------------------------------------------
+	// Helper Methods
+	// ------------------------------------------------------------------------
+
+	private OutboundEventOutboxDispatcher dispatcher(int batchSize, int maxChunksPerRun) {
+		return new OutboundEventOutboxDispatcher(outboxRepository, systemRegistry, transactionTemplate,
+				mock(RecordingDeadLetterQueue.class), batchSize, 30_000, 5_000, 10, maxChunksPerRun);
+	}
+
+	/**
+	 * 每次認領都回傳 size 筆項目，模擬持續積壓的 Outbox
+	 */
+	private void stubBacklog(int size) {
+		List<Long> ids = LongStream.rangeClosed(1, size).boxed().toList();
+		List<OutboundEventOutboxEntry> entries = ids.stream().map(id -> {
+			OutboundEventOutboxEntry entry = new OutboundEventOutboxEntry("SYS", id, EventType.SUCCEEDED, "uuid-" + id,
+					"{}");
+			entry.setId(id);
+			return entry;
+		}).toList();
+		when(outboxRepository.findClaimableIds(any(), any(), any(Pageable.class))).thenReturn(ids);
+		when(outboxRepository.claim(anyCollection(), anyString(), any(), any())).thenReturn(size);
+		when(outboxRepository.findByClaimedByAndIdInOrderByIdAsc(anyString(), eq(ids))).thenReturn(entries);
+	}
+}
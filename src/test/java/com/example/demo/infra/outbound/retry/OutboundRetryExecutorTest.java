@@ -0,0 +1,102 @@
+package com.example.demo.infra.outbound.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.config.properties.OutboundRetryProperties;
+import com.example.demo.config.properties.OutboundRetryProperties.Settings;
+import com.example.demo.infra.annotation.OutboundRetry;
+import com.example.demo.infra.outbound.shared.exception.CustomFeignException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboundRetryExecutorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void retriesSystemFailureUntilSuccess() throws Throwable {
+		OutboundRetryExecutor executor = executor(100, 10);
+		AtomicInteger calls = new AtomicInteger();
+
+		Object result = executor.execute("Test", method(), retry(), attempt -> () -> {
+			attempt.setRecordId((long) calls.incrementAndGet());
+			if (calls.get() < 3) {
+				throw new CustomFeignException("HTTP_503", "unavailable");
+			}
+			return "ok";
+		});
+
+		assertThat(result).isEqualTo("ok");
+		assertThat(calls).hasValue(3);
+		assertThat(meterRegistry.counter("outbound.retry.retries", "system", "Test", "method", "call").count())
+				.isEqualTo(2);
+	}
+
+	@Test
+	void callerErrorIsNotRetried() {
+		OutboundRetryExecutor executor = executor(100, 10);
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThatThrownBy(() -> executor.execute("Test", method(), retry(), attempt -> () -> {
+			attempt.setRecordId((long) calls.incrementAndGet());
+			throw new CustomFeignException("HTTP_400", "bad request");
+		})).hasMessage("bad request");
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void unsentCallIsNotRetried() {
+		OutboundRetryExecutor executor = executor(100, 10);
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThatThrownBy(() -> executor.execute("Test", method(), retry(), attempt -> () -> {
+			calls.incrementAndGet();
+			throw new CustomFeignException("HTTP_503", "unavailable");
+		})).isInstanceOf(CustomFeignException.class);
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void exhaustedBudgetStopsRetrying() {
+		// 額度僅 1 次且不累積
+		OutboundRetryExecutor executor = executor(0, 1);
+		AtomicInteger calls = new AtomicInteger();
+
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> executor.execute("Test", method(), retry(), attempt -> () -> {
+				attempt.setRecordId((long) calls.incrementAndGet());
+				throw new CustomFeignException("HTTP_503", "unavailable");
+			})).isInstanceOf(CustomFeignException.class);
+		}
+
+		// 第一次呼叫重試 1 次後額度用盡，其餘呼叫皆不重試
+		assertThat(calls).hasValue(3);
+		assertThat(meterRegistry.counter("outbound.retry.budget.exhausted", "system", "Test", "method", "call")
+				.count()).isEqualTo(2);
+	}
+
+	private OutboundRetryExecutor executor(int budgetPercent, int budgetBurst) {
+		OutboundRetryProperties properties = new OutboundRetryProperties();
+		properties.setDefaults(new Settings(3, 1L, 1L, 1.0, budgetPercent, budgetBurst));
+		return new OutboundRetryExecutor(properties, meterRegistry);
+	}
+
+	private static Method method() throws NoSuchMethodException {
+		return OutboundRetryExecutorTest.class.getDeclaredMethod("call");
+	}
+
+	private static OutboundRetry retry() throws NoSuchMethodException {
+		return method().getAnnotation(OutboundRetry.class);
+	}
+
+	@OutboundRetry
+	void call() {
+		// 僅提供 Method 與註解
+	}
+}
@@ -0,0 +1,57 @@
+package com.example.demo.infra.outbound.shared.budget;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class OutboundRequestBudgetTest {
+
+	@Test
+	void startsFullAndStopsAtBurst() {
+		OutboundRequestBudget budget = new OutboundRequestBudget(10, 3);
+
+		assertThat(budget.tryAcquire()).isTrue();
+		assertThat(budget.tryAcquire()).isTrue();
+		assertThat(budget.tryAcquire()).isTrue();
+		assertThat(budget.tryAcquire()).isFalse();
+	}
+
+	@Test
+	void refillsByRatioOfCalls() {
+		OutboundRequestBudget budget = new OutboundRequestBudget(20, 1);
+		assertThat(budget.tryAcquire()).isTrue();
+
+		for (int i = 0; i < 4; i++) {
+			budget.onCall();
+		}
+		assertThat(budget.tryAcquire()).isFalse();
+
+		budget.onCall();
+		assertThat(budget.tryAcquire()).isTrue();
+	}
+
+	@Test
+	void refillIsCappedAtBurst() {
+		OutboundRequestBudget budget = new OutboundRequestBudget(100, 2);
+
+		for (int i = 0; i < 10; i++) {
+			budget.onCall();
+		}
+
+		assertThat(budget.tryAcquire()).isTrue();
+		assertThat(budget.tryAcquire()).isTrue();
+		assertThat(budget.tryAcquire()).isFalse();
+	}
+
+	@Test
+	void zeroRatioNeverRefills() {
+		OutboundRequestBudget budget = new OutboundRequestBudget(0, 1);
+		assertThat(budget.tryAcquire()).isTrue();
+
+		for (int i = 0; i < 100; i++) {
+			budget.onCall();
+		}
+
+		assertThat(budget.tryAcquire()).isFalse();
+	}
+}
@@ -0,0 +1,79 @@
+package com.example.demo.infra.outbound.shared.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.infra.exception.exception.ValidationException;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.codec.DecodeException;
+
+class OutboundErrorClassifierTest {
+
+	private static final Request REQUEST = Request.create(Request.HttpMethod.GET, "http://localhost/api",
+			Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+
+	@Test
+	void transportAndTimeoutErrorsAreFailures() {
+		assertThat(OutboundErrorClassifier.isSystemFailure(new ConnectException("refused"))).isTrue();
+		assertThat(OutboundErrorClassifier.isSystemFailure(new SocketTimeoutException("read timed out"))).isTrue();
+		assertThat(OutboundErrorClassifier.isSystemFailure(new TimeoutException())).isTrue();
+		assertThat(OutboundErrorClassifier.isSystemFailure(
+				new RetryableException(-1, "reset", Request.HttpMethod.GET, new ConnectException("reset"), (Long) null,
+						REQUEST)))
+				.isTrue();
+		assertThat(OutboundErrorClassifier.isSystemFailure(new CompletionException(new ConnectException("refused"))))
+				.isTrue();
+	}
+
+	@Test
+	void serverErrorsAndTooManyRequestsAreFailures() {
+		assertThat(OutboundErrorClassifier.isSystemFailure(new CustomFeignException("HTTP_503", "unavailable")))
+				.isTrue();
+		assertThat(OutboundErrorClassifier.isSystemFailure(new CustomFeignException("HTTP_429", "slow down")))
+				.isTrue();
+		assertThat(OutboundErrorClassifier.isRetryable(new CustomFeignException("HTTP_500", "error"))).isTrue();
+	}
+
+	@Test
+	void callerErrorsAreNotFailures() {
+		assertThat(OutboundErrorClassifier.isSystemFailure(new CustomFeignException("HTTP_404", "not found")))
+				.isFalse();
+		assertThat(OutboundErrorClassifier.isSystemFailure(new CustomFeignException("FEIGN_FAILED", "invalid")))
+				.isFalse();
+		assertThat(OutboundErrorClassifier.isSystemFailure(new CustomFeignException("CIRCUIT_OPEN", "open")))
+				.isFalse();
+		assertThat(OutboundErrorClassifier.isSystemFailure(new ValidationException("VALIDATE_FAILED", "invalid")))
+				.isFalse();
+		assertThat(OutboundErrorClassifier.isSystemFailure(new DecodeException(200, "bad json", REQUEST))).isFalse();
+		assertThat(OutboundErrorClassifier.isSystemFailure(new NullPointerException())).isFalse();
+		assertThat(OutboundErrorClassifier.isSystemFailure(new IllegalStateException())).isFalse();
+		assertThat(OutboundErrorClassifier.isSystemFailure(new CancellationException())).isFalse();
+		assertThat(OutboundErrorClassifier.isRetryable(new CompletionException(new NullPointerException())))
+				.isFalse();
+	}
+
+	@Test
+	void feignStatusIsClassifiedWhenNotDecoded() {
+		assertThat(OutboundErrorClassifier.isSystemFailure(
+				FeignException.errorStatus("call", Response.builder().status(502).request(REQUEST)
+						.headers(Collections.emptyMap()).build())))
+				.isTrue();
+		assertThat(OutboundErrorClassifier.isSystemFailure(
+				FeignException.errorStatus("call", Response.builder().status(400).request(REQUEST)
+						.headers(Collections.emptyMap()).build())))
+				.isFalse();
+	}
+}
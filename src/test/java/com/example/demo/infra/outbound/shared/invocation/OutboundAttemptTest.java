@@ -0,0 +1,81 @@
+package com.example.demo.infra.outbound.shared.invocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class OutboundAttemptTest {
+
+	@Test
+	void firstSuccessfulAttemptWins() {
+		OutboundAttempt primary = OutboundAttempt.first();
+		OutboundAttempt hedge = primary.next("hedge");
+
+		assertThat(hedge.tryWin()).isTrue();
+		assertThat(hedge.tryWin()).isTrue();
+		assertThat(primary.tryWin()).isFalse();
+
+		assertThat(hedge.isWinner()).isTrue();
+		assertThat(primary.isCancelled()).isTrue();
+		assertThat(hedge.isCancelled()).isFalse();
+	}
+
+	@Test
+	void nextAttemptLinksToFirstRecord() {
+		OutboundAttempt primary = OutboundAttempt.first();
+		primary.setRecordId(42L);
+
+		OutboundAttempt hedge = primary.next("hedge");
+		OutboundAttempt retry = hedge.next("retry");
+
+		assertThat(primary.getParentRecordId()).isNull();
+		assertThat(hedge.getParentRecordId()).isEqualTo(42L);
+		assertThat(retry.getParentRecordId()).isEqualTo(42L);
+		assertThat(hedge.getLabel()).isEqualTo("hedge");
+	}
+
+	@Test
+	void cancelledAttemptCannotWin() {
+		OutboundAttempt primary = OutboundAttempt.first();
+		OutboundAttempt hedge = primary.next("hedge");
+
+		primary.cancelIfLost();
+
+		assertThat(primary.tryWin()).isFalse();
+		assertThat(hedge.tryWin()).isTrue();
+	}
+
+	@Test
+	void cancelInterruptsBoundThreadOnly() throws Exception {
+		OutboundAttempt attempt = OutboundAttempt.first();
+		CountDownLatch bound = new CountDownLatch(1);
+		AtomicBoolean interrupted = new AtomicBoolean();
+
+		Thread thread = Thread.ofVirtual().start(() -> {
+			attempt.bind(Thread.currentThread());
+			bound.countDown();
+			try {
+				Thread.sleep(5_000);
+			} catch (InterruptedException e) {
+				interrupted.set(true);
+			} finally {
+				attempt.bind(null);
+			}
+		});
+		assertThat(bound.await(1, TimeUnit.SECONDS)).isTrue();
+
+		attempt.cancel();
+		thread.join(1_000);
+
+		assertThat(interrupted).isTrue();
+		assertThat(attempt.isCancelled()).isTrue();
+
+		// 解除綁定後再取消不會中斷目前執行緒
+		attempt.cancel();
+		assertThat(Thread.interrupted()).isFalse();
+	}
+}
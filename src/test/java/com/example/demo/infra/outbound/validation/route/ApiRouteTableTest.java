@@ -0,0 +1,87 @@
+package com.example.demo.infra.outbound.validation.route;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class ApiRouteTableTest {
+
+	@Test
+	void literalVariableAndRestSegments() {
+		ApiRouteTable<String> table = new ApiRouteTable<>();
+		table.register(null, "/api/v1/login", "login");
+		table.register(null, "/api/v1/users/{id}", "user");
+		table.register(null, "/api/v1/orders/*/items", "items");
+		table.register(null, "/api/v1/files/**", "files");
+
+		assertThat(table.match("POST", "/api/v1/login")).isEqualTo("login");
+		assertThat(table.match("GET", "/api/v1/users/42")).isEqualTo("user");
+		assertThat(table.match("GET", "/api/v1/orders/7/items")).isEqualTo("items");
+		assertThat(table.match("GET", "/api/v1/files/a/b/c.txt")).isEqualTo("files");
+		assertThat(table.match("GET", "/api/v1/files")).isEqualTo("files");
+		assertThat(table.match("GET", "/api/v1/users/42/roles")).isNull();
+		assertThat(table.match("GET", "/api/v2/login")).isNull();
+		assertThat(table.match("GET", null)).isNull();
+	}
+
+	@Test
+	void ignoresQueryStringAndEmptySegments() {
+		ApiRouteTable<String> table = new ApiRouteTable<>();
+		table.register(null, "/api/v1/auth/permissions", "permissions");
+
+		assertThat(table.match("GET", "/api/v1/auth/permissions?username=a%40b.com")).isEqualTo("permissions");
+		assertThat(table.match("GET", "//api/v1//auth/permissions/")).isEqualTo("permissions");
+		assertThat(table.match("GET", "/api/v1/auth/permissions/?x=/y")).isEqualTo("permissions");
+	}
+
+	@Test
+	void literalWinsOverVariableAndFallsBackWhenDeeperMatchFails() {
+		ApiRouteTable<String> table = new ApiRouteTable<>();
+		table.register(null, "/users/me", "me");
+		table.register(null, "/users/{id}", "user");
+		table.register(null, "/users/{id}/roles", "roles");
+		table.register(null, "/users/**", "users");
+
+		assertThat(table.match("GET", "/users/me")).isEqualTo("me");
+		assertThat(table.match("GET", "/users/1")).isEqualTo("user");
+		// literal 分支沒有 roles，退回 variable 分支
+		assertThat(table.match("GET", "/users/me/roles")).isEqualTo("roles");
+		assertThat(table.match("GET", "/users/1/settings/theme")).isEqualTo("users");
+	}
+
+	@Test
+	void specificMethodWinsOverDefault() {
+		ApiRouteTable<String> table = new ApiRouteTable<>();
+		table.register(null, "/api/items", "any");
+		table.register("post", "/api/items", "create");
+
+		assertThat(table.match("POST", "/api/items")).isEqualTo("create");
+		assertThat(table.match("get", "/api/items")).isEqualTo("any");
+		assertThat(table.match(null, "/api/items")).isEqualTo("any");
+	}
+
+	@Test
+	void manyLiteralChildrenSurviveResize() {
+		ApiRouteTable<Integer> table = new ApiRouteTable<>();
+		for (int i = 0; i < 100; i++) {
+			table.register(null, "/api/r" + i, i);
+		}
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(table.match("GET", "/api/r" + i)).isEqualTo(i);
+		}
+		assertThat(table.match("GET", "/api/r100")).isNull();
+	}
+
+	@Test
+	void rejectsDuplicatesAndMisplacedRest() {
+		ApiRouteTable<String> table = new ApiRouteTable<>();
+		table.register("GET", "/api/items/{id}", "item");
+
+		assertThatThrownBy(() -> table.register("get", "/api/items/*", "other"))
+				.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> table.register(null, "/api/**/items", "bad"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,111 @@
+package com.example.demo.infra.outbound.validation.rule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.config.properties.OutboundValidationProperties.Rule;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+class ResponseRuleTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	@Test
+	void nestedAndArrayRequiredPaths() throws IOException {
+		ResponseRule rule = rule(List.of("data.total", "data.items[].id"), Map.of());
+
+		assertThat(evaluate(rule, "{\"data\":{\"total\":1,\"items\":[{\"id\":\"a\"}]}}")).isNull();
+		assertThat(evaluate(rule, "{\"data\":{\"total\":1,\"items\":[]}}")).isEqualTo("缺少必填欄位: data.items[].id");
+		assertThat(evaluate(rule, "{\"data\":{\"items\":[{\"id\":\"a\"}]}}")).isEqualTo("缺少必填欄位: data.total");
+	}
+
+	@Test
+	void nullRequiredValueIsMissing() throws IOException {
+		ResponseRule rule = rule(List.of("data.total"), Map.of());
+
+		assertThat(evaluate(rule, "{\"data\":{\"total\":null}}")).isEqualTo("缺少必填欄位: data.total");
+		assertThat(evaluate(rule, "{\"data\":null}")).isEqualTo("缺少必填欄位: data.total");
+	}
+
+	@Test
+	void allowedValuesAreCheckedOnlyOnTheirPath() throws IOException {
+		ResponseRule rule = rule(List.of(), Map.of("status", List.of("OK")));
+
+		// 規則路徑外的子樹整段略過，同名欄位不影響結果
+		assertThat(evaluate(rule, "{\"other\":{\"status\":\"BAD\",\"list\":[{\"status\":\"BAD\"}]},\"status\":\"OK\"}"))
+				.isNull();
+		assertThat(evaluate(rule, "{\"status\":\"BAD\"}")).isEqualTo("status 值不允許: BAD");
+		assertThat(evaluate(rule, "{\"status\":null}")).isEqualTo("status 值不允許: null");
+		assertThat(evaluate(rule, "{\"status\":{\"value\":\"OK\"}}")).isEqualTo("status 應為純量值");
+	}
+
+	@Test
+	void allowedValuesInsideArrays() throws IOException {
+		ResponseRule rule = rule(List.of(), Map.of("items[].status", List.of("A", "B")));
+
+		assertThat(evaluate(rule, "{\"items\":[{\"status\":\"A\"},{\"status\":\"B\"}]}")).isNull();
+		assertThat(evaluate(rule, "{\"items\":[{\"status\":\"A\"},{\"status\":\"C\"}]}"))
+				.isEqualTo("items[].status 值不允許: C");
+	}
+
+	@Test
+	void errorCodePathMustBeSuccessCode() throws IOException {
+		Rule config = config(List.of(), Map.of());
+		config.setErrorCodePath("result.code");
+		config.setSuccessCodes(List.of("0000"));
+		ResponseRule rule = new ResponseRule(config);
+
+		assertThat(evaluate(rule, "{\"result\":{\"code\":\"0000\"}}")).isNull();
+		assertThat(evaluate(rule, "{\"result\":{\"code\":\"E001\"}}")).isEqualTo("錯誤碼 result.code=E001");
+	}
+
+	@Test
+	void malformedJsonThrows() {
+		ResponseRule rule = rule(List.of("data"), Map.of());
+
+		assertThatThrownBy(() -> evaluate(rule, "{\"data\":")).isInstanceOf(JsonProcessingException.class);
+		assertThatThrownBy(() -> evaluate(rule, "{\"data\" 1}")).isInstanceOf(JsonProcessingException.class);
+	}
+
+	@Test
+	void copiedTokensMatchOriginalDocument() throws IOException {
+		ResponseRule rule = rule(List.of("data.items[].id"), Map.of("data.items[].status", List.of("A")));
+		String json = "{\"meta\":{\"page\":[1,2,{\"x\":null}]},\"data\":{\"items\":[{\"id\":\"a\",\"status\":\"A\","
+				+ "\"extra\":{\"deep\":[true,1.5]}}]},\"tail\":\"t\"}";
+
+		try (JsonParser parser = MAPPER.createParser(json)) {
+			TokenBuffer copy = new TokenBuffer(parser);
+			assertThat(rule.evaluate(parser, copy)).isNull();
+			JsonNode replayed = MAPPER.readTree(copy.asParserOnFirstToken());
+			assertThat(replayed).isEqualTo(MAPPER.readTree(json));
+		}
+	}
+
+	private static String evaluate(ResponseRule rule, String json) throws IOException {
+		try (JsonParser parser = MAPPER.createParser(json)) {
+			return rule.evaluate(parser, null);
+		}
+	}
+
+	private static ResponseRule rule(List<String> requiredPaths, Map<String, List<String>> allowedValues) {
+		return new ResponseRule(config(requiredPaths, allowedValues));
+	}
+
+	private static Rule config(List<String> requiredPaths, Map<String, List<String>> allowedValues) {
+		Rule rule = new Rule();
+		rule.setApi("/api/test");
+		rule.setRequiredPaths(requiredPaths);
+		rule.setAllowedValues(allowedValues);
+		return rule;
+	}
+}
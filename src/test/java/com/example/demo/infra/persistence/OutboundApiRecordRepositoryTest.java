@@ -0,0 +1,94 @@
+package com.example.demo.infra.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+import com.example.demo.application.domain.log.aggregate.OutboundApiRecord;
+import com.example.demo.application.domain.log.aggregate.vo.OutboundApiStatus;
+import com.example.demo.application.domain.log.command.RecordFailedOutboundApiCommand;
+import com.example.demo.application.domain.log.command.RecordSuccessOutboundApiCommand;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:record-test;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class OutboundApiRecordRepositoryTest {
+
+	@Autowired
+	private OutboundApiRecordRepository repository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void pendingRecordTransitionsOnce() {
+		Long id = save(OutboundApiStatus.PENDING);
+
+		assertThat(repository.markSuccess(id, "{}", "/api", "GET", 10L)).isEqualTo(1);
+		assertThat(repository.markFailed(id, OutboundApiStatus.FAILED, null, "late failure", "/api", "GET", 20L))
+				.isZero();
+		assertThat(repository.markCancelled(id, "late cancel")).isZero();
+
+		assertThat(reload(id).getStatus()).isEqualTo(OutboundApiStatus.SUCCESS);
+		assertThat(reload(id).getErrorMessage()).isNull();
+	}
+
+	@Test
+	void guardedUpdateReturnsZeroForNonPendingRow() {
+		Long failed = save(OutboundApiStatus.FAILED);
+		Long cancelled = save(OutboundApiStatus.CANCELLED);
+
+		assertThat(repository.markSuccess(failed, "{}", "/api", "GET", 10L)).isZero();
+		assertThat(repository.markFailed(cancelled, OutboundApiStatus.FAILED, null, "error", "/api", "GET", 10L))
+				.isZero();
+		assertThat(repository.markSuccess(-1L, "{}", "/api", "GET", 10L)).isZero();
+
+		assertThat(reload(failed).getStatus()).isEqualTo(OutboundApiStatus.FAILED);
+		assertThat(reload(cancelled).getStatus()).isEqualTo(OutboundApiStatus.CANCELLED);
+	}
+
+	@Test
+	void batchUpdatesSkipNonPendingRows() {
+		Long pending = save(OutboundApiStatus.PENDING);
+		Long done = save(OutboundApiStatus.SUCCESS);
+		Long otherPending = save(OutboundApiStatus.PENDING);
+
+		int succeeded = repository.markSuccessInBatch(List.of(success(pending), success(done)));
+		int failed = repository.markFailedInBatch(List.of(failure(done), failure(pending), failure(otherPending)));
+
+		assertThat(succeeded).isEqualTo(1);
+		assertThat(failed).isEqualTo(1);
+		assertThat(reload(pending).getStatus()).isEqualTo(OutboundApiStatus.SUCCESS);
+		assertThat(reload(done).getStatus()).isEqualTo(OutboundApiStatus.SUCCESS);
+		assertThat(reload(otherPending).getStatus()).isEqualTo(OutboundApiStatus.FAILED);
+	}
+
+	private Long save(OutboundApiStatus status) {
+		OutboundApiRecord outboundApiRecord = new OutboundApiRecord();
+		outboundApiRecord.setSystem("TestService");
+		outboundApiRecord.setStatus(status);
+		return entityManager.persistFlushFind(outboundApiRecord).getId();
+	}
+
+	private OutboundApiRecord reload(Long id) {
+		entityManager.clear();
+		return entityManager.find(OutboundApiRecord.class, id);
+	}
+
+	private static RecordSuccessOutboundApiCommand success(Long id) {
+		return RecordSuccessOutboundApiCommand.builder().savedId(id).responseBody("{}").apiPath("/api")
+				.httpMethod("GET").durationMillis(10L).build();
+	}
+
+	private static RecordFailedOutboundApiCommand failure(Long id) {
+		return RecordFailedOutboundApiCommand.builder().savedId(id).errorMessage("error").apiPath("/api")
+				.httpMethod("GET").durationMillis(10L).build();
+	}
+}
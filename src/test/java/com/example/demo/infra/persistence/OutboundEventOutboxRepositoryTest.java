@@ -0,0 +1,89 @@
+package com.example.demo.infra.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.example.demo.infra.outbound.recording.outbox.OutboundEventOutboxEntry;
+import com.example.demo.infra.outbound.recording.outbox.OutboundEventOutboxEntry.EventType;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:outbox-test;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class OutboundEventOutboxRepositoryTest {
+
+	@Autowired
+	private OutboundEventOutboxRepository repository;
+
+	@Test
+	void onlyTheHeadOfEachRecordIsClaimable() {
+		OutboundEventOutboxEntry first = save(1L);
+		OutboundEventOutboxEntry second = save(1L);
+		OutboundEventOutboxEntry other = save(2L);
+		Instant now = Instant.now();
+
+		assertThat(claimable(now)).containsExactly(first.getId(), other.getId());
+		List<Long> ids = List.of(first.getId(), second.getId(), other.getId());
+		assertThat(repository.claim(ids, "A", now, now.minusSeconds(30))).isEqualTo(2);
+	}
+
+	@Test
+	void claimRechecksOrderingAtUpdateTime() {
+		OutboundEventOutboxEntry first = save(1L);
+		OutboundEventOutboxEntry second = save(1L);
+		Instant now = Instant.now();
+		Instant staleBefore = now.minusSeconds(30);
+
+		// 較早項目已被其他 Dispatcher 認領：以過時的查詢結果認領較晚項目不應成功
+		assertThat(repository.claim(List.of(first.getId()), "B", now, staleBefore)).isEqualTo(1);
+		assertThat(repository.claim(List.of(second.getId()), "A", now, staleBefore)).isZero();
+
+		repository.deleteAllByIdInBatch(List.of(first.getId()));
+		assertThat(claimable(now)).containsExactly(second.getId());
+		assertThat(repository.claim(List.of(second.getId()), "A", now, staleBefore)).isEqualTo(1);
+	}
+
+	@Test
+	void laterEntryWaitsWhileHeadIsScheduledForRetry() {
+		OutboundEventOutboxEntry first = save(1L);
+		OutboundEventOutboxEntry second = save(1L);
+		Instant now = Instant.now();
+		Instant staleBefore = now.minusSeconds(30);
+		repository.claim(List.of(first.getId()), "A", now, staleBefore);
+
+		repository.release(List.of(first.getId()), "A", now.plusSeconds(60));
+
+		assertThat(claimable(now)).isEmpty();
+		assertThat(repository.claim(List.of(second.getId()), "A", now, staleBefore)).isZero();
+	}
+
+	@Test
+	void staleClaimCanBeTakenOver() {
+		OutboundEventOutboxEntry entry = save(1L);
+		Instant claimedAt = Instant.now().minusSeconds(60);
+		repository.claim(List.of(entry.getId()), "A", claimedAt, claimedAt.minusSeconds(30));
+		Instant now = Instant.now();
+
+		assertThat(repository.claim(List.of(entry.getId()), "B", now, now.minusSeconds(120))).isZero();
+		assertThat(repository.claim(List.of(entry.getId()), "B", now, now.minusSeconds(30))).isEqualTo(1);
+	}
+
+	private List<Long> claimable(Instant now) {
+		return repository.findClaimableIds(now, now.minusSeconds(30), PageRequest.of(0, 10));
+	}
+
+	private OutboundEventOutboxEntry save(Long recordId) {
+		OutboundEventOutboxEntry entry = new OutboundEventOutboxEntry("TestService", recordId, EventType.SUCCEEDED,
+				"uuid-" + recordId, "{}");
+		entry.setAvailableAt(Instant.now().minusSeconds(1));
+		return repository.saveAndFlush(entry);
+	}
+}